@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+#
+# Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+#
+# This program and the accompanying materials are made
+# available under the terms of the Eclipse Public License 2.0
+# which is available at https://www.eclipse.org/legal/epl-2.0/
+#
+# SPDX-License-Identifier: EPL-2.0
+#
+# Compares two JMH json results, and fails if the score of any benchmark present in both regressed by more than
+# the given percentage, and the confidence intervals of both scores (score +/- scoreError) do not overlap, so that
+# differences within the noise of the runs are not reported. Higher scores are better in throughput mode, and lower
+# scores in all other modes. A scoreError that JMH could not compute, e.g., with a single iteration, is taken as 0.
+#
+# Usage: compare-jmh-results.sh <baseline.json> <current.json> [threshold percentage, default 20]
+
+set -euo pipefail
+
+baseline=$1
+current=$2
+threshold=${3:-20}
+
+if [ ! -s "$baseline" ]; then
+    echo "No baseline benchmark results at $baseline, skipping comparison"
+    exit 0
+fi
+
+comparison=$(jq -r -n --slurpfile base "$baseline" --slurpfile cur "$current" '
+    def key: .benchmark + " " + .mode +
+        ((.params // {}) | to_entries | map(.key + "=" + .value) | join(",") | if . == "" then "" else " " + . end);
+    def error: .primaryMetric.scoreError | if type == "number" then . else 0 end;
+    ($base[0] | map({key: key, value: {score: .primaryMetric.score, error: error}}) | from_entries) as $scores
+    | $cur[0][]
+    | key as $k
+    | select($scores[$k] != null and $scores[$k].score != 0)
+    | $scores[$k].score as $old
+    | $scores[$k].error as $oldError
+    | .primaryMetric.score as $new
+    | error as $newError
+    | ((if .mode == "thrpt" then $old - $new else $new - $old end) / $old * 100) as $regression
+    | (if .mode == "thrpt" then $new + $newError < $old - $oldError else $new - $newError > $old + $oldError end) as $significant
+    | [$k, $old, $oldError, $new, $newError, .primaryMetric.scoreUnit, $regression, $significant] | @tsv')
+
+regressions=0
+while IFS=$'\t' read -r benchmark old oldError new newError unit regression significant; do
+    [ -z "$benchmark" ] && continue
+    status=ok
+    if awk -v r="$regression" -v t="$threshold" 'BEGIN { exit !(r > t) }'; then
+        if [ "$significant" = "true" ]; then
+            status=REGRESSION
+            regressions=$((regressions + 1))
+        else
+            status=noise
+        fi
+    fi
+    printf '%-10s %s: %.3f +/- %.3f -> %.3f +/- %.3f %s, regression %+.1f%%\n' \
+        "$status" "$benchmark" "$old" "$oldError" "$new" "$newError" "$unit" "$regression"
+done <<< "$comparison"
+
+if [ "$regressions" -gt 0 ]; then
+    echo "$regressions benchmark(s) regressed by more than $threshold%, beyond their score errors"
+    exit 1
+fi
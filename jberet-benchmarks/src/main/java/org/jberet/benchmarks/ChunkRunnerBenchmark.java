@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.job.model.Job;
+import org.jberet.job.model.JobBuilder;
+import org.jberet.job.model.StepBuilder;
+import org.jberet.operations.JobOperatorImpl;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.spi.JobOperatorContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures the engine overhead per item of a chunk step with no-op reader, processor and writer, for different
+ * {@code item-count} values. The result is the average time per item, including job start and completion amortized
+ * over all items of the job.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChunkRunnerBenchmark {
+    private static final int ITEMS = 100000;
+
+    @Param({"1", "10", "100", "1000"})
+    public int itemCount;
+
+    private JobOperatorImpl jobOperator;
+
+    private Job job;
+
+    @Setup
+    public void setup() {
+        jobOperator = (JobOperatorImpl) JobOperatorContext.getJobOperatorContext().getJobOperator();
+        job = new JobBuilder("chunkRunnerBenchmark")
+                .step(new StepBuilder("chunkRunnerBenchmark.step1")
+                        .reader(NoOpItemReader.class.getName(), new String[]{"items", String.valueOf(ITEMS)})
+                        .processor(NoOpItemProcessor.class.getName())
+                        .writer(NoOpItemWriter.class.getName())
+                        .itemCount(itemCount)
+                        .build())
+                .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeJobExecutions() {
+        jobOperator.getJobRepository().removeJobExecutions(null);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public BatchStatus runChunkStep() throws Exception {
+        final long executionId = jobOperator.start(job, null);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) jobOperator.getJobExecution(executionId);
+        jobExecution.awaitTermination(5, TimeUnit.MINUTES);
+        final BatchStatus batchStatus = jobExecution.getBatchStatus();
+        if (batchStatus != BatchStatus.COMPLETED) {
+            throw new IllegalStateException("Benchmark job execution " + executionId + " ended with " + batchStatus);
+        }
+        return batchStatus;
+    }
+}
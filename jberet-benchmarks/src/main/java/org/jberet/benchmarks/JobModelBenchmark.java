@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.benchmarks;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.job.model.ExceptionClassFilter;
+import org.jberet.job.model.Job;
+import org.jberet.job.model.JobBuilder;
+import org.jberet.job.model.JobFactory;
+import org.jberet.job.model.PropertyResolver;
+import org.jberet.job.model.Step;
+import org.jberet.job.model.StepBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures operations on the job model done for every job or step execution: cloning a job or step, resolving
+ * property expressions, and matching exceptions against skippable and retryable exception classes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobModelBenchmark {
+    private Job job;
+
+    private Step step;
+
+    private Properties jobParameters;
+
+    private ExceptionClassFilter skippableExceptionClasses;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        final StepBuilder stepBuilder = new StepBuilder("jobModelBenchmark.step1")
+                .reader(NoOpItemReader.class.getName(),
+                        new String[]{"items", "#{jobParameters['items']}"},
+                        new String[]{"resource", "#{jobProperties['dir']}/#{jobParameters['file']}?:input.csv;"},
+                        new String[]{"encoding", "#{systemProperties['file.encoding']}"})
+                .processor(NoOpItemProcessor.class.getName())
+                .writer(NoOpItemWriter.class.getName(), new String[]{"batchSize", "#{jobParameters['batchSize']}"})
+                .itemCount(100)
+                .skipLimit(10)
+                .skippableExceptionsInclude(IOException.class, IllegalArgumentException.class)
+                .skippableExceptionsExclude(FileNotFoundException.class)
+                .retryableExceptionsInclude(IllegalStateException.class);
+        for (int i = 0; i < 10; i++) {
+            stepBuilder.property("property" + i, "#{jobParameters['param" + i + "']}");
+        }
+        step = stepBuilder.build();
+        job = new JobBuilder("jobModelBenchmark")
+                .property("dir", "/tmp/jberet")
+                .step(step)
+                .build();
+
+        jobParameters = new Properties();
+        jobParameters.setProperty("items", "1000");
+        jobParameters.setProperty("batchSize", "50");
+        for (int i = 0; i < 10; i++) {
+            jobParameters.setProperty("param" + i, "value" + i);
+        }
+
+        skippableExceptionClasses = step.getChunk().getSkippableExceptionClasses();
+    }
+
+    @Benchmark
+    public Job cloneJob() {
+        return JobFactory.cloneJob(job);
+    }
+
+    @Benchmark
+    public Step cloneStep() {
+        return JobFactory.cloneStep(step);
+    }
+
+    /**
+     * Clones the job and resolves all its property expressions, as done when starting a job execution. Subtract
+     * {@link #cloneJob()} to get the cost of resolving.
+     */
+    @Benchmark
+    public Job cloneAndResolveJob() {
+        final Job clone = JobFactory.cloneJob(job);
+        final PropertyResolver resolver = new PropertyResolver();
+        resolver.setJobParameters(jobParameters);
+        resolver.resolve(clone);
+        return clone;
+    }
+
+    @Benchmark
+    public boolean matchIncludedException() {
+        return skippableExceptionClasses.matches(IOException.class);
+    }
+
+    @Benchmark
+    public boolean matchExcludedSubclass() {
+        return skippableExceptionClasses.matches(FileNotFoundException.class);
+    }
+
+    @Benchmark
+    public boolean matchIncludedSuperclass() {
+        return skippableExceptionClasses.matches(UncheckedIOException.class) |
+                skippableExceptionClasses.matches(NumberFormatException.class);
+    }
+
+    @Benchmark
+    public boolean matchUnrelatedException() {
+        return skippableExceptionClasses.matches(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.benchmarks;
+
+import jakarta.batch.api.chunk.ItemProcessor;
+
+/**
+ * Item processor that returns the item unchanged.
+ */
+public class NoOpItemProcessor implements ItemProcessor {
+    @Override
+    public Object processItem(final Object item) {
+        return item;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.benchmarks;
+
+import java.io.Serializable;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.api.chunk.AbstractItemReader;
+import jakarta.inject.Inject;
+
+/**
+ * Item reader that returns the same item until the configured number of items have been read, and uses the number
+ * of items read as its checkpoint info.
+ */
+public class NoOpItemReader extends AbstractItemReader {
+    private static final Integer ITEM = 1;
+
+    @Inject
+    @BatchProperty
+    int items;
+
+    private int position;
+
+    @Override
+    public void open(final Serializable checkpoint) {
+        position = checkpoint == null ? 0 : (Integer) checkpoint;
+    }
+
+    @Override
+    public Object readItem() {
+        if (position >= items) {
+            return null;
+        }
+        position++;
+        return ITEM;
+    }
+
+    @Override
+    public Serializable checkpointInfo() {
+        return position;
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.benchmarks;
+
+import java.util.List;
+import jakarta.batch.api.chunk.AbstractItemWriter;
+
+/**
+ * Item writer that discards all items.
+ */
+public class NoOpItemWriter extends AbstractItemWriter {
+    @Override
+    public void writeItems(final List<Object> items) {
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.benchmarks;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.Metric;
+
+import org.jberet.job.model.Job;
+import org.jberet.job.model.JobBuilder;
+import org.jberet.job.model.StepBuilder;
+import org.jberet.repository.InMemoryRepository;
+import org.jberet.repository.JdbcRepository;
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.StepExecutionImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures saving checkpoint data of a step execution to job repository, as done by a chunk step at the end of
+ * each chunk, with the in-memory repository and a jdbc repository backed by an in-memory H2 database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RepositoryCheckpointBenchmark {
+    @Param({"in-memory", "jdbc"})
+    public String repositoryType;
+
+    private JobRepository repository;
+
+    private JobExecutionImpl jobExecution;
+
+    private StepExecutionImpl stepExecution;
+
+    private int offset;
+
+    @Setup
+    public void setup() {
+        if (repositoryType.equals("jdbc")) {
+            final Properties configProperties = new Properties();
+            configProperties.setProperty(JdbcRepository.DB_URL_KEY, "jdbc:h2:mem:jberet-benchmarks;DB_CLOSE_DELAY=-1");
+            repository = JdbcRepository.create(configProperties);
+        } else {
+            repository = InMemoryRepository.create();
+        }
+        final Job job = new JobBuilder("repositoryCheckpointBenchmark")
+                .step(new StepBuilder("repositoryCheckpointBenchmark.step1")
+                        .reader(NoOpItemReader.class.getName())
+                        .writer(NoOpItemWriter.class.getName())
+                        .build())
+                .build();
+        final JobInstanceImpl jobInstance = repository.createJobInstance(job, "jberet-benchmarks",
+                RepositoryCheckpointBenchmark.class.getClassLoader());
+        jobExecution = repository.createJobExecution(jobInstance, null);
+        jobExecution.setBatchStatus(BatchStatus.STARTED);
+        stepExecution = repository.createStepExecution("repositoryCheckpointBenchmark.step1");
+        stepExecution.setBatchStatus(BatchStatus.STARTED);
+        repository.addStepExecution(jobExecution, stepExecution);
+    }
+
+    @Benchmark
+    public int changedCheckpoint() {
+        offset += 10;
+        stepExecution.setReaderCheckpointInfo(offset);
+        stepExecution.setWriterCheckpointInfo(offset);
+        stepExecution.getStepMetrics().increment(Metric.MetricType.READ_COUNT, 10);
+        stepExecution.getStepMetrics().increment(Metric.MetricType.WRITE_COUNT, 10);
+        stepExecution.getStepMetrics().increment(Metric.MetricType.COMMIT_COUNT, 1);
+        return repository.savePersistentDataIfNotStopping(jobExecution, stepExecution);
+    }
+
+    @Benchmark
+    public int unchangedCheckpoint() {
+        stepExecution.setReaderCheckpointInfo(0);
+        stepExecution.setWriterCheckpointInfo(0);
+        stepExecution.getStepMetrics().increment(Metric.MetricType.COMMIT_COUNT, 1);
+        return repository.savePersistentDataIfNotStopping(jobExecution, stepExecution);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.runtime.SerializableData;
+import org.jberet.runtime.StepExecutionImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures wrapping checkpoint info and persistent user data in {@link SerializableData}, and getting their
+ * serialized form as saved to job repository.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SerializableDataBenchmark {
+    private ArrayList<Object> list;
+
+    private StepExecutionImpl stepExecution;
+
+    private int offset;
+
+    @Setup
+    public void setup() {
+        list = new ArrayList<Object>();
+        for (int i = 0; i < 10; i++) {
+            list.add("item-" + i);
+            list.add((long) i);
+        }
+        list.add(new Date(0));
+        stepExecution = new StepExecutionImpl("serializableDataBenchmark.step1");
+    }
+
+    @Benchmark
+    public SerializableData ofInteger() {
+        return SerializableData.of(offset++);
+    }
+
+    @Benchmark
+    public SerializableData ofString() {
+        return SerializableData.of("input.csv:1024");
+    }
+
+    @Benchmark
+    public SerializableData ofList() {
+        return SerializableData.of(list);
+    }
+
+    @Benchmark
+    public byte[] changedIntegerCheckpoint() {
+        stepExecution.setReaderCheckpointInfo(offset++);
+        return stepExecution.getReaderCheckpointInfoSerialized();
+    }
+
+    @Benchmark
+    public byte[] unchangedIntegerCheckpoint() {
+        stepExecution.setReaderCheckpointInfo(1024);
+        return stepExecution.getReaderCheckpointInfoSerialized();
+    }
+
+    @Benchmark
+    public List<?> listRoundTrip() {
+        stepExecution.setPersistentUserData(list);
+        return (List<?>) stepExecution.getPersistentUserData();
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.serialization;
+
+import java.io.Serializable;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Constants and class descriptors shared by {@link CompactWriter} and {@link CompactReader}.
+ * <p>
+ * An encoded value starts with {@link #MAGIC} and {@link #VERSION}, followed by one tagged item. Class references
+ * are written as a varint: ids below {@link #WELL_KNOWN_CLASSES} length refer to well-known classes, the next id
+ * introduces a new class whose name follows, and larger ids refer to classes introduced earlier in the same value.
+ */
+final class CompactFormat {
+    /**
+     * First byte of compact encoded data. Java serialization streams always start with {@code 0xACED}.
+     */
+    static final byte MAGIC = (byte) 0xCB;
+
+    static final byte VERSION = 1;
+
+    static final byte NULL = 0;
+    static final byte TRUE = 1;
+    static final byte FALSE = 2;
+    static final byte BYTE = 3;
+    static final byte SHORT = 4;
+    static final byte CHAR = 5;
+    static final byte INT = 6;
+    static final byte LONG = 7;
+    static final byte FLOAT = 8;
+    static final byte DOUBLE = 9;
+    static final byte STRING = 10;
+    static final byte BIG_INTEGER = 11;
+    static final byte BIG_DECIMAL = 12;
+    static final byte DATE = 13;
+    static final byte ENUM = 14;
+    static final byte COLLECTION = 15;
+    static final byte MAP = 16;
+    static final byte OBJECT_ARRAY = 17;
+    static final byte PRIMITIVE_ARRAY = 18;
+    static final byte RECORD = 19;
+    static final byte JAVA_SERIALIZED = 20;
+
+    /**
+     * Classes referenced by predefined ids, in id order. New classes must only be appended.
+     */
+    static final Class<?>[] WELL_KNOWN_CLASSES = {
+            ArrayList.class, LinkedList.class, HashSet.class, LinkedHashSet.class, TreeSet.class,
+            HashMap.class, LinkedHashMap.class, TreeMap.class,
+            Object.class, String.class, Integer.class, Long.class, Double.class, Serializable.class,
+            boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class
+    };
+
+    private static final Map<Class<?>, Integer> WELL_KNOWN_CLASS_IDS = new IdentityHashMap<Class<?>, Integer>();
+
+    static {
+        for (int i = 0; i < WELL_KNOWN_CLASSES.length; i++) {
+            WELL_KNOWN_CLASS_IDS.put(WELL_KNOWN_CLASSES[i], i);
+        }
+    }
+
+    private static final ClassValue<RecordDescriptor> RECORD_DESCRIPTORS = new ClassValue<RecordDescriptor>() {
+        @Override
+        protected RecordDescriptor computeValue(final Class<?> type) {
+            return RecordDescriptor.of(type);
+        }
+    };
+
+    private CompactFormat() {
+    }
+
+    /**
+     * Gets the predefined id of a well-known class.
+     *
+     * @param c the class
+     * @return the predefined id, or -1 if {@code c} is not a well-known class
+     */
+    static int getWellKnownClassId(final Class<?> c) {
+        final Integer id = WELL_KNOWN_CLASS_IDS.get(c);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Checks if {@code c} is one of the collection classes encoded natively. Subclasses are not included, since
+     * they may carry additional state.
+     */
+    static boolean isNativeCollection(final Class<?> c) {
+        return c == ArrayList.class || c == LinkedList.class || c == HashSet.class || c == LinkedHashSet.class;
+    }
+
+    static boolean isNativeMap(final Class<?> c) {
+        return c == HashMap.class || c == LinkedHashMap.class;
+    }
+
+    /**
+     * Gets the descriptor of a record class.
+     *
+     * @param c the record class
+     * @return the record descriptor, or null if {@code c} is not a record that can be encoded natively
+     */
+    static RecordDescriptor getRecordDescriptor(final Class<?> c) {
+        return c.isRecord() ? RECORD_DESCRIPTORS.get(c) : null;
+    }
+
+    /**
+     * Component accessors and canonical constructor of a serializable record class, which has no custom
+     * serialization methods.
+     */
+    static final class RecordDescriptor {
+        final Method[] accessors;
+        final Constructor<?> canonicalConstructor;
+
+        private RecordDescriptor(final Method[] accessors, final Constructor<?> canonicalConstructor) {
+            this.accessors = accessors;
+            this.canonicalConstructor = canonicalConstructor;
+        }
+
+        private static RecordDescriptor of(final Class<?> c) {
+            if (!Serializable.class.isAssignableFrom(c) ||
+                    hasDeclaredMethod(c, "writeReplace") || hasDeclaredMethod(c, "readResolve")) {
+                return null;
+            }
+            final RecordComponent[] components = c.getRecordComponents();
+            final Method[] accessors = new Method[components.length];
+            final Class<?>[] types = new Class<?>[components.length];
+            try {
+                for (int i = 0; i < components.length; i++) {
+                    accessors[i] = components[i].getAccessor();
+                    types[i] = components[i].getType();
+                    if (!accessors[i].trySetAccessible()) {
+                        return null;
+                    }
+                }
+                final Constructor<?> constructor = c.getDeclaredConstructor(types);
+                return constructor.trySetAccessible() ? new RecordDescriptor(accessors, constructor) : null;
+            } catch (final NoSuchMethodException | SecurityException e) {
+                return null;
+            }
+        }
+
+        private static boolean hasDeclaredMethod(final Class<?> c, final String name) {
+            for (final Method m : c.getDeclaredMethods()) {
+                if (m.getName().equals(name) && m.getParameterCount() == 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
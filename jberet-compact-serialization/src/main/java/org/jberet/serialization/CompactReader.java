@@ -0,0 +1,344 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.serialization;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jberet.util.BatchUtil;
+
+import static org.jberet.serialization.CompactFormat.*;
+
+/**
+ * Decodes a value encoded by {@link CompactWriter}.
+ */
+final class CompactReader {
+    private final byte[] buf;
+    private int pos;
+    private final ClassLoader classLoader;
+
+    /**
+     * Classes introduced in the current value, in the order of their ids.
+     */
+    private final List<Class<?>> classes = new ArrayList<Class<?>>();
+
+    CompactReader(final byte[] buf, final ClassLoader classLoader) {
+        this.buf = buf;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Checks if the data is encoded in compact format.
+     *
+     * @param bytes the encoded data
+     * @return true if {@code bytes} starts with the compact format header; false otherwise
+     */
+    static boolean isCompact(final byte[] bytes) {
+        return bytes.length >= 2 && bytes[0] == MAGIC;
+    }
+
+    Object read() throws IOException, ClassNotFoundException {
+        pos = 1;
+        final byte version = readByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported compact format version: " + version);
+        }
+        return readItem();
+    }
+
+    private Object readItem() throws IOException, ClassNotFoundException {
+        final byte tag = readByte();
+        switch (tag) {
+            case NULL:
+                return null;
+            case TRUE:
+                return Boolean.TRUE;
+            case FALSE:
+                return Boolean.FALSE;
+            case BYTE:
+                return readByte();
+            case SHORT:
+                return (short) unZigZag(readVarLong());
+            case CHAR:
+                return (char) readVarLong();
+            case INT:
+                return (int) unZigZag(readVarLong());
+            case LONG:
+                return unZigZag(readVarLong());
+            case FLOAT:
+                return Float.intBitsToFloat(readFixedInt());
+            case DOUBLE:
+                return Double.longBitsToDouble(readFixedLong());
+            case STRING:
+                return readString();
+            case BIG_INTEGER:
+                return new BigInteger(readBytes());
+            case BIG_DECIMAL:
+                final int scale = (int) unZigZag(readVarLong());
+                return new BigDecimal(new BigInteger(readBytes()), scale);
+            case DATE:
+                return new Date(unZigZag(readVarLong()));
+            case ENUM:
+                return readEnum();
+            case COLLECTION:
+                return readCollection();
+            case MAP:
+                return readMap();
+            case OBJECT_ARRAY:
+                return readObjectArray();
+            case PRIMITIVE_ARRAY:
+                return readPrimitiveArray();
+            case RECORD:
+                return readRecord();
+            case JAVA_SERIALIZED:
+                return BatchUtil.bytesToSerializableObject(readBytes(), classLoader);
+            default:
+                throw new StreamCorruptedException("Unknown compact format tag: " + tag);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object readEnum() throws IOException, ClassNotFoundException {
+        final Class c = readClass();
+        return Enum.valueOf(c, readString());
+    }
+
+    private Object readCollection() throws IOException, ClassNotFoundException {
+        final Class<?> c = readClass();
+        final int size = readLength();
+        final Collection<Object> collection;
+        if (c == ArrayList.class) {
+            collection = new ArrayList<Object>(size);
+        } else if (c == LinkedList.class) {
+            collection = new LinkedList<Object>();
+        } else if (c == HashSet.class) {
+            collection = new HashSet<Object>(capacityFor(size));
+        } else if (c == LinkedHashSet.class) {
+            collection = new LinkedHashSet<Object>(capacityFor(size));
+        } else if (c == TreeSet.class) {
+            collection = new TreeSet<Object>();
+        } else {
+            throw new StreamCorruptedException("Unexpected collection class: " + c.getName());
+        }
+        for (int i = 0; i < size; i++) {
+            collection.add(readItem());
+        }
+        return collection;
+    }
+
+    private Object readMap() throws IOException, ClassNotFoundException {
+        final Class<?> c = readClass();
+        final int size = readLength();
+        final Map<Object, Object> map;
+        if (c == HashMap.class) {
+            map = new HashMap<Object, Object>(capacityFor(size));
+        } else if (c == LinkedHashMap.class) {
+            map = new LinkedHashMap<Object, Object>(capacityFor(size));
+        } else if (c == TreeMap.class) {
+            map = new TreeMap<Object, Object>();
+        } else {
+            throw new StreamCorruptedException("Unexpected map class: " + c.getName());
+        }
+        for (int i = 0; i < size; i++) {
+            final Object key = readItem();
+            map.put(key, readItem());
+        }
+        return map;
+    }
+
+    private Object readObjectArray() throws IOException, ClassNotFoundException {
+        final Class<?> componentType = readClass();
+        final int length = readLength();
+        final Object[] array = (Object[]) Array.newInstance(componentType, length);
+        for (int i = 0; i < length; i++) {
+            array[i] = readItem();
+        }
+        return array;
+    }
+
+    private Object readPrimitiveArray() throws IOException, ClassNotFoundException {
+        final Class<?> componentType = readClass();
+        final int length = readLength();
+        if (componentType == byte.class) {
+            checkAvailable(length);
+            final byte[] array = Arrays.copyOfRange(buf, pos, pos + length);
+            pos += length;
+            return array;
+        } else if (componentType == int.class) {
+            final int[] array = new int[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (int) unZigZag(readVarLong());
+            }
+            return array;
+        } else if (componentType == long.class) {
+            final long[] array = new long[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = unZigZag(readVarLong());
+            }
+            return array;
+        } else if (componentType == double.class) {
+            final double[] array = new double[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = Double.longBitsToDouble(readFixedLong());
+            }
+            return array;
+        } else if (componentType == float.class) {
+            final float[] array = new float[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = Float.intBitsToFloat(readFixedInt());
+            }
+            return array;
+        } else if (componentType == boolean.class) {
+            final boolean[] array = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = readByte() == TRUE;
+            }
+            return array;
+        } else if (componentType == char.class) {
+            final char[] array = new char[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (char) readVarLong();
+            }
+            return array;
+        } else if (componentType == short.class) {
+            final short[] array = new short[length];
+            for (int i = 0; i < length; i++) {
+                array[i] = (short) unZigZag(readVarLong());
+            }
+            return array;
+        }
+        throw new StreamCorruptedException("Unexpected primitive array type: " + componentType.getName());
+    }
+
+    private Object readRecord() throws IOException, ClassNotFoundException {
+        final Class<?> c = readClass();
+        final RecordDescriptor recordDescriptor = getRecordDescriptor(c);
+        if (recordDescriptor == null) {
+            throw new StreamCorruptedException("Unexpected record class: " + c.getName());
+        }
+        final Object[] args = new Object[recordDescriptor.accessors.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = readItem();
+        }
+        try {
+            return recordDescriptor.canonicalConstructor.newInstance(args);
+        } catch (final InstantiationException | IllegalAccessException | IllegalArgumentException |
+                       InvocationTargetException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private Class<?> readClass() throws IOException, ClassNotFoundException {
+        final int id = readLength();
+        if (id < WELL_KNOWN_CLASSES.length) {
+            return WELL_KNOWN_CLASSES[id];
+        }
+        if (id == WELL_KNOWN_CLASSES.length) {
+            final Class<?> c = Class.forName(readString(), false, classLoader);
+            classes.add(c);
+            return c;
+        }
+        final int index = id - WELL_KNOWN_CLASSES.length - 1;
+        if (index >= classes.size()) {
+            throw new StreamCorruptedException("Unknown class reference: " + id);
+        }
+        return classes.get(index);
+    }
+
+    private String readString() throws IOException {
+        final int length = readLength();
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            final int b = readByte() & 0xFF;
+            if (b < 0x80) {
+                chars[i] = (char) b;
+            } else if (b < 0xE0) {
+                chars[i] = (char) (((b & 0x1F) << 6) | (readByte() & 0x3F));
+            } else {
+                chars[i] = (char) (((b & 0x0F) << 12) | ((readByte() & 0x3F) << 6) | (readByte() & 0x3F));
+            }
+        }
+        return new String(chars);
+    }
+
+    private byte[] readBytes() throws IOException {
+        final int length = readLength();
+        checkAvailable(length);
+        final byte[] bytes = Arrays.copyOfRange(buf, pos, pos + length);
+        pos += length;
+        return bytes;
+    }
+
+    private byte readByte() throws IOException {
+        checkAvailable(1);
+        return buf[pos++];
+    }
+
+    private int readLength() throws IOException {
+        final long v = readVarLong();
+        if (v < 0 || v > Integer.MAX_VALUE) {
+            throw new StreamCorruptedException("Invalid length: " + v);
+        }
+        return (int) v;
+    }
+
+    private long readVarLong() throws IOException {
+        long v = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = readByte();
+            v |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return v;
+            }
+        }
+        throw new StreamCorruptedException("Malformed varint");
+    }
+
+    private int readFixedInt() throws IOException {
+        checkAvailable(4);
+        return (buf[pos++] & 0xFF) << 24 | (buf[pos++] & 0xFF) << 16 | (buf[pos++] & 0xFF) << 8 | (buf[pos++] & 0xFF);
+    }
+
+    private long readFixedLong() throws IOException {
+        return ((long) readFixedInt() << 32) | (readFixedInt() & 0xFFFFFFFFL);
+    }
+
+    private static long unZigZag(final long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private static int capacityFor(final int size) {
+        return Math.max((int) (size / 0.75f) + 1, 16);
+    }
+
+    private void checkAvailable(final int n) throws IOException {
+        if (n > buf.length - pos) {
+            throw new StreamCorruptedException("Unexpected end of compact encoded data");
+        }
+    }
+}
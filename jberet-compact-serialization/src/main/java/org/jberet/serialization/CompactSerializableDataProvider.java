@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.serialization;
+
+import java.io.IOException;
+import java.io.Serializable;
+
+import org.jberet.spi.SerializableDataProvider;
+import org.jberet.util.BatchUtil;
+
+/**
+ * A {@link SerializableDataProvider} that encodes reader and writer checkpoint info and persistent user data in a
+ * compact binary format, instead of Java serialization. It is enabled by adding this module to the application
+ * class path, where it is discovered with {@code java.util.ServiceLoader}.
+ * <p>
+ * Common JDK value types, enums, arrays, {@code ArrayList}, {@code LinkedList}, {@code HashSet},
+ * {@code LinkedHashSet}, {@code TreeSet}, {@code HashMap}, {@code LinkedHashMap}, {@code TreeMap} and serializable
+ * records are encoded natively, with class names written once per value and common JDK classes referenced by
+ * predefined ids. Any other object nested inside is encoded with Java serialization. If the same container or
+ * object is referenced more than once in a value, the whole value is encoded with Java serialization to preserve
+ * object identity.
+ * <p>
+ * Data previously stored with Java serialization is still readable, since it is recognized by the Java
+ * serialization stream header.
+ *
+ * @since 3.2.0
+ */
+public final class CompactSerializableDataProvider implements SerializableDataProvider {
+    /**
+     * Output buffers are only kept for reuse up to this size, to avoid holding on to large buffers.
+     */
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<CompactWriter> writers = new ThreadLocal<CompactWriter>();
+
+    @Override
+    public byte[] objectToBytes(final Object obj) throws IOException {
+        if (obj == null) {
+            return null;
+        }
+        CompactWriter writer = writers.get();
+        if (writer == null || writer.inUse) {
+            writer = new CompactWriter();
+            if (writers.get() == null) {
+                writers.set(writer);
+            }
+        }
+        writer.inUse = true;
+        try {
+            return writer.write(obj);
+        } catch (final CompactWriter.UnsupportedGraphException e) {
+            return BatchUtil.objectToBytes(obj);
+        } finally {
+            writer.reset(MAX_POOLED_BUFFER_SIZE);
+            writer.inUse = false;
+        }
+    }
+
+    @Override
+    public Serializable bytesToObject(final byte[] bytes, final Class<?> klass, final ClassLoader classLoader)
+            throws IOException, ClassNotFoundException {
+        if (bytes == null) {
+            return null;
+        }
+        if (CompactReader.isCompact(bytes)) {
+            return (Serializable) new CompactReader(bytes, classLoader).read();
+        }
+        return BatchUtil.bytesToSerializableObject(bytes, classLoader);
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.serialization;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.jberet.util.BatchUtil;
+
+import static org.jberet.serialization.CompactFormat.*;
+
+/**
+ * Encodes a value in compact format into a growable buffer, which is reused across values by the same thread.
+ */
+final class CompactWriter {
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private byte[] buf = new byte[INITIAL_BUFFER_SIZE];
+    private int pos;
+
+    /**
+     * Classes introduced in the current value, mapped to their ids.
+     */
+    private final Map<Class<?>, Integer> classIds = new HashMap<Class<?>, Integer>();
+
+    /**
+     * Objects other than immutable values that have been encoded in the current value, to detect shared or
+     * circular references.
+     */
+    private final Map<Object, Object> visited = new IdentityHashMap<Object, Object>();
+
+    boolean inUse;
+
+    byte[] write(final Object obj) throws IOException {
+        writeByte(MAGIC);
+        writeByte(VERSION);
+        writeItem(obj);
+        return Arrays.copyOf(buf, pos);
+    }
+
+    void reset(final int maxBufferSize) {
+        pos = 0;
+        classIds.clear();
+        visited.clear();
+        if (buf.length > maxBufferSize) {
+            buf = new byte[INITIAL_BUFFER_SIZE];
+        }
+    }
+
+    private void writeItem(final Object obj) throws IOException {
+        if (obj == null) {
+            writeByte(NULL);
+            return;
+        }
+        final Class<?> c = obj.getClass();
+        if (c == String.class) {
+            writeByte(STRING);
+            writeString((String) obj);
+        } else if (c == Integer.class) {
+            writeByte(INT);
+            writeVarLong(zigZag((Integer) obj));
+        } else if (c == Long.class) {
+            writeByte(LONG);
+            writeVarLong(zigZag((Long) obj));
+        } else if (c == Boolean.class) {
+            writeByte((Boolean) obj ? TRUE : FALSE);
+        } else if (c == Double.class) {
+            writeByte(DOUBLE);
+            writeFixedLong(Double.doubleToRawLongBits((Double) obj));
+        } else if (c == Float.class) {
+            writeByte(FLOAT);
+            writeFixedInt(Float.floatToRawIntBits((Float) obj));
+        } else if (c == Short.class) {
+            writeByte(SHORT);
+            writeVarLong(zigZag((Short) obj));
+        } else if (c == Byte.class) {
+            writeByte(BYTE);
+            writeByte((Byte) obj);
+        } else if (c == Character.class) {
+            writeByte(CHAR);
+            writeVarLong((Character) obj);
+        } else if (c == BigInteger.class) {
+            writeByte(BIG_INTEGER);
+            writeBytes(((BigInteger) obj).toByteArray());
+        } else if (c == BigDecimal.class) {
+            writeByte(BIG_DECIMAL);
+            writeVarLong(zigZag(((BigDecimal) obj).scale()));
+            writeBytes(((BigDecimal) obj).unscaledValue().toByteArray());
+        } else if (obj instanceof Enum) {
+            writeByte(ENUM);
+            writeClass(((Enum<?>) obj).getDeclaringClass());
+            writeString(((Enum<?>) obj).name());
+        } else {
+            if (visited.put(obj, obj) != null) {
+                throw new UnsupportedGraphException();
+            }
+            if (c == Date.class) {
+                writeByte(DATE);
+                writeVarLong(zigZag(((Date) obj).getTime()));
+            } else if (isNativeCollection(c) || (c == TreeSet.class && ((TreeSet<?>) obj).comparator() == null)) {
+                writeByte(COLLECTION);
+                writeClass(c);
+                final Collection<?> collection = (Collection<?>) obj;
+                writeVarLong(collection.size());
+                for (final Object e : collection) {
+                    writeItem(e);
+                }
+            } else if (isNativeMap(c) || (c == TreeMap.class && ((TreeMap<?, ?>) obj).comparator() == null)) {
+                writeByte(MAP);
+                writeClass(c);
+                final Map<?, ?> map = (Map<?, ?>) obj;
+                writeVarLong(map.size());
+                for (final Map.Entry<?, ?> e : map.entrySet()) {
+                    writeItem(e.getKey());
+                    writeItem(e.getValue());
+                }
+            } else if (c.isArray()) {
+                writeArray(obj, c.getComponentType());
+            } else {
+                final RecordDescriptor recordDescriptor = getRecordDescriptor(c);
+                if (recordDescriptor != null) {
+                    writeRecord(obj, recordDescriptor);
+                } else {
+                    writeByte(JAVA_SERIALIZED);
+                    writeBytes(BatchUtil.objectToBytes(obj));
+                }
+            }
+        }
+    }
+
+    private void writeArray(final Object array, final Class<?> componentType) throws IOException {
+        final int length = Array.getLength(array);
+        if (componentType.isPrimitive()) {
+            writeByte(PRIMITIVE_ARRAY);
+            writeClass(componentType);
+            writeVarLong(length);
+            if (componentType == byte.class) {
+                ensureCapacity(length);
+                System.arraycopy(array, 0, buf, pos, length);
+                pos += length;
+            } else if (componentType == int.class) {
+                for (final int v : (int[]) array) {
+                    writeVarLong(zigZag(v));
+                }
+            } else if (componentType == long.class) {
+                for (final long v : (long[]) array) {
+                    writeVarLong(zigZag(v));
+                }
+            } else if (componentType == double.class) {
+                for (final double v : (double[]) array) {
+                    writeFixedLong(Double.doubleToRawLongBits(v));
+                }
+            } else if (componentType == float.class) {
+                for (final float v : (float[]) array) {
+                    writeFixedInt(Float.floatToRawIntBits(v));
+                }
+            } else if (componentType == boolean.class) {
+                for (final boolean v : (boolean[]) array) {
+                    writeByte(v ? TRUE : FALSE);
+                }
+            } else if (componentType == char.class) {
+                for (final char v : (char[]) array) {
+                    writeVarLong(v);
+                }
+            } else {
+                for (final short v : (short[]) array) {
+                    writeVarLong(zigZag(v));
+                }
+            }
+        } else {
+            writeByte(OBJECT_ARRAY);
+            writeClass(componentType);
+            writeVarLong(length);
+            for (final Object e : (Object[]) array) {
+                writeItem(e);
+            }
+        }
+    }
+
+    private void writeRecord(final Object record, final RecordDescriptor recordDescriptor) throws IOException {
+        writeByte(RECORD);
+        writeClass(record.getClass());
+        for (final Method accessor : recordDescriptor.accessors) {
+            try {
+                writeItem(accessor.invoke(record));
+            } catch (final IllegalAccessException | InvocationTargetException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    private void writeClass(final Class<?> c) {
+        final int wellKnownId = getWellKnownClassId(c);
+        if (wellKnownId >= 0) {
+            writeVarLong(wellKnownId);
+            return;
+        }
+        final Integer id = classIds.get(c);
+        if (id != null) {
+            writeVarLong(id);
+        } else {
+            final int newId = WELL_KNOWN_CLASSES.length + 1 + classIds.size();
+            classIds.put(c, newId);
+            writeVarLong(WELL_KNOWN_CLASSES.length);
+            writeString(c.getName());
+        }
+    }
+
+    /**
+     * Writes a string as its length in chars, followed by each char in modified UTF-8, so that any string,
+     * including one with unpaired surrogates, is restored exactly.
+     */
+    private void writeString(final String s) {
+        final int length = s.length();
+        writeVarLong(length);
+        ensureCapacity(length * 3);
+        for (int i = 0; i < length; i++) {
+            final char ch = s.charAt(i);
+            if (ch != 0 && ch < 0x80) {
+                buf[pos++] = (byte) ch;
+            } else if (ch < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (ch >> 6));
+                buf[pos++] = (byte) (0x80 | (ch & 0x3F));
+            } else {
+                buf[pos++] = (byte) (0xE0 | (ch >> 12));
+                buf[pos++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (ch & 0x3F));
+            }
+        }
+    }
+
+    private void writeBytes(final byte[] bytes) {
+        writeVarLong(bytes.length);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buf, pos, bytes.length);
+        pos += bytes.length;
+    }
+
+    private void writeByte(final int b) {
+        ensureCapacity(1);
+        buf[pos++] = (byte) b;
+    }
+
+    private void writeVarLong(long v) {
+        ensureCapacity(10);
+        while ((v & ~0x7FL) != 0) {
+            buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[pos++] = (byte) v;
+    }
+
+    private void writeFixedInt(final int v) {
+        ensureCapacity(4);
+        buf[pos++] = (byte) (v >>> 24);
+        buf[pos++] = (byte) (v >>> 16);
+        buf[pos++] = (byte) (v >>> 8);
+        buf[pos++] = (byte) v;
+    }
+
+    private void writeFixedLong(final long v) {
+        writeFixedInt((int) (v >>> 32));
+        writeFixedInt((int) v);
+    }
+
+    private static long zigZag(final long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private void ensureCapacity(final int n) {
+        if (pos + n > buf.length) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+        }
+    }
+
+    /**
+     * Thrown when the value contains shared or circular references, which are not supported by compact format.
+     */
+    static final class UnsupportedGraphException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedGraphException() {
+            super(null, null, false, false);
+        }
+    }
+}
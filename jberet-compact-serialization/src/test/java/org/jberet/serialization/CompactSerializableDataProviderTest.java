@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.serialization;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import org.jberet.util.BatchUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CompactSerializableDataProviderTest {
+    private final CompactSerializableDataProvider provider = new CompactSerializableDataProvider();
+
+    private final ClassLoader classLoader = CompactSerializableDataProviderTest.class.getClassLoader();
+
+    record Position(String file, long offset, int line) implements Serializable {
+    }
+
+    static final class Custom implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String value;
+
+        Custom(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Custom && ((Custom) o).value.equals(value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+    }
+
+    @Test
+    public void nullValue() throws Exception {
+        Assertions.assertNull(provider.objectToBytes(null));
+        Assertions.assertNull(provider.bytesToObject(null, null, classLoader));
+    }
+
+    @Test
+    public void scalars() throws Exception {
+        for (final Object value : new Object[]{0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, 12345678901L,
+                Long.MIN_VALUE, (short) -3, (byte) 7, 'x', true, false, 1.5f, Double.NaN, -0.25d,
+                "", "line", "\u00e9\u4e2d\0\ud83d\ude00\ud800", new BigInteger("-123456789012345678901234567890"),
+                new BigDecimal("3.14159265358979323846"), new Date(), TimeUnit.SECONDS}) {
+            assertRoundTrip(value);
+        }
+    }
+
+    @Test
+    public void collectionsAndMaps() throws Exception {
+        final ArrayList<Object> list = new ArrayList<Object>(Arrays.asList(1, "two", null, 4L));
+        assertRoundTrip(list);
+        assertRoundTrip(new LinkedHashSet<String>(Arrays.asList("c", "a", "b")));
+        assertRoundTrip(new TreeSet<String>(Arrays.asList("c", "a", "b")));
+
+        final Map<String, Object> map = new HashMap<String, Object>();
+        map.put("list", list);
+        map.put("nested", new TreeMap<Integer, String>(Map.of(2, "b", 1, "a")));
+        assertRoundTrip(map);
+
+        final LinkedHashMap<String, Integer> linked = new LinkedHashMap<String, Integer>();
+        linked.put("z", 26);
+        linked.put("a", 1);
+        final Object result = roundTrip(linked);
+        Assertions.assertEquals(LinkedHashMap.class, result.getClass());
+        Assertions.assertEquals(new ArrayList<String>(linked.keySet()),
+                new ArrayList<Object>(((Map<?, ?>) result).keySet()));
+    }
+
+    @Test
+    public void arrays() throws Exception {
+        Assertions.assertArrayEquals(new int[]{1, -2, 3}, (int[]) roundTrip(new int[]{1, -2, 3}));
+        Assertions.assertArrayEquals(new byte[]{1, -2, 3}, (byte[]) roundTrip(new byte[]{1, -2, 3}));
+        Assertions.assertArrayEquals(new double[]{1.5, -2}, (double[]) roundTrip(new double[]{1.5, -2}), 0);
+        Assertions.assertArrayEquals(new boolean[]{true, false}, (boolean[]) roundTrip(new boolean[]{true, false}));
+
+        final Object strings = roundTrip(new String[]{"a", null, "c"});
+        Assertions.assertEquals(String[].class, strings.getClass());
+        Assertions.assertArrayEquals(new String[]{"a", null, "c"}, (String[]) strings);
+    }
+
+    @Test
+    public void recordsAndOtherSerializableObjects() throws Exception {
+        assertRoundTrip(new Position("input.csv", 1024L, 17));
+        assertRoundTrip(new Custom("custom"));
+        assertRoundTrip(new ArrayList<Object>(Arrays.asList(new Position("a", 1L, 1), new Position("b", 2L, 2),
+                new Custom("c"))));
+    }
+
+    @Test
+    public void compactSmallerThanJavaSerialization() throws Exception {
+        final Position position = new Position("input.csv", 1024L, 17);
+        Assertions.assertTrue(provider.objectToBytes(position).length < BatchUtil.objectToBytes(position).length);
+        Assertions.assertTrue(provider.objectToBytes(1024).length < BatchUtil.objectToBytes(1024).length);
+    }
+
+    @Test
+    public void sharedReferenceFallsBackToJavaSerialization() throws Exception {
+        final List<String> shared = new ArrayList<String>(Arrays.asList("a", "b"));
+        final ArrayList<Object> value = new ArrayList<Object>(Arrays.asList(shared, shared));
+        final byte[] bytes = provider.objectToBytes(value);
+        Assertions.assertFalse(CompactReader.isCompact(bytes));
+
+        final List<?> result = (List<?>) provider.bytesToObject(bytes, null, classLoader);
+        Assertions.assertEquals(value, result);
+        Assertions.assertSame(result.get(0), result.get(1));
+
+        final ArrayList<Object> cyclic = new ArrayList<Object>();
+        cyclic.add(cyclic);
+        final List<?> cyclicResult = (List<?>) provider.bytesToObject(provider.objectToBytes(cyclic), null, classLoader);
+        Assertions.assertSame(cyclicResult, cyclicResult.get(0));
+    }
+
+    @Test
+    public void readJavaSerializedData() throws Exception {
+        final HashMap<String, Integer> value = new HashMap<String, Integer>(Map.of("a", 1));
+        Assertions.assertEquals(value, provider.bytesToObject(BatchUtil.objectToBytes(value), null, classLoader));
+    }
+
+    private Object roundTrip(final Object value) throws Exception {
+        final byte[] bytes = provider.objectToBytes(value);
+        Assertions.assertTrue(CompactReader.isCompact(bytes));
+        return provider.bytesToObject(bytes, null, classLoader);
+    }
+
+    private void assertRoundTrip(final Object value) throws Exception {
+        final Object result = roundTrip(value);
+        Assertions.assertEquals(value, result);
+        Assertions.assertEquals(value.getClass(), result.getClass());
+    }
+}
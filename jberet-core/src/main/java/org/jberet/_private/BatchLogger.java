@@ -162,4 +162,44 @@ public interface BatchLogger extends BasicLogger {
     @Message(id = 34, value = "The number of job executions read from the job repository is limited to %d.")
     @LogMessage(level = Logger.Level.DEBUG)
     void jobExecutionRecordsLimited(Integer limit);
+
+    @Message(id = 35, value = "Pipelined chunk processing in step %s is turned off, and will resume in regular mode from the last checkpoint")
+    @LogMessage(level = Logger.Level.INFO)
+    void pipelinedChunkFallback(@Cause Throwable cause, String stepName);
+
+    @Message(id = 36, value = "Could not start read-ahead task for pipelined chunk processing in step %s")
+    @LogMessage(level = Logger.Level.WARN)
+    void readAheadTaskNotStarted(String stepName);
+
+    @Message(id = 37, value = "Invalid value of job parameter %s: %s; the default value %d is used.")
+    @LogMessage(level = Logger.Level.WARN)
+    void invalidSchedulingParameter(String name, String value, int defaultValue);
+
+    @Message(id = 38, value = "Invalid value of partition property %s in partition %d: %s; it is ignored.")
+    @LogMessage(level = Logger.Level.WARN)
+    void invalidPartitionProperty(String name, int partition, String value);
+
+    @Message(id = 39, value = "Invalid value of step property %s in step %s: %s; the default value %d is used.")
+    @LogMessage(level = Logger.Level.WARN)
+    void invalidStepProperty(String name, String stepName, String value, int defaultValue);
+
+    @Message(id = 40, value = "Created index for batch job repository:%n %s")
+    @LogMessage(level = Logger.Level.INFO)
+    void indexCreated(String ddlEntry);
+
+    @Message(id = 41, value = "Failed to create index for batch job repository: %s")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToCreateIndex(@Cause Throwable cause, String ddlEntry);
+
+    @Message(id = 42, value = "Removed %d job executions from batch job repository, %d in total.")
+    @LogMessage(level = Logger.Level.INFO)
+    void purgedJobExecutions(int count, long total);
+
+    @Message(id = 43, value = "Evicted %d job executions from in-memory batch job repository, %d evictable job executions retained.")
+    @LogMessage(level = Logger.Level.DEBUG)
+    void evictedJobExecutions(int count, int retained);
+
+    @Message(id = 44, value = "Ignoring %s, because job repository connections are obtained from a DataSource and may be enlisted in a JTA transaction.")
+    @LogMessage(level = Logger.Level.WARN)
+    void batchCheckpointUpdatesIgnored(String key);
 }
\ No newline at end of file
@@ -13,23 +13,21 @@ package org.jberet.creation;
 import static org.jberet._private.BatchLogger.LOGGER;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import jakarta.batch.api.BatchProperty;
 import jakarta.batch.runtime.context.JobContext;
-import jakarta.batch.runtime.context.StepContext;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
-import jakarta.inject.Inject;
 import org.jberet._private.BatchMessages;
 import org.jberet.job.model.BatchArtifacts;
 import org.jberet.job.model.Properties;
@@ -44,8 +42,45 @@ import org.jberet.spi.ArtifactFactory;
  * Note that if subclasses over the {@link #destroy(Object)} method, they should invoke {@code super.destroy(instance)}
  * if the instance was not destroyed by another means, e.g. releasing the CDI context.
  * </p>
+ * <p>
+ * Resolved CDI beans and artifact classes are cached per classloader, so that creating the same artifact again, e.g.
+ * in each partition of a step, does not repeat the resolution. Classloaders and cached beans and classes are only
+ * weakly referenced, so the caches do not keep undeployed applications from being garbage collected. The caches are
+ * cleared when a CDI container shuts down, e.g., when an application is undeployed, since its beans are no longer
+ * usable. Environments may also call {@link #clearArtifactCache(ClassLoader)} with the application classloader.
+ * </p>
  */
 public abstract class AbstractArtifactFactory implements ArtifactFactory {
+    /**
+     * Marks a batch artifact ref that was resolved to no CDI bean.
+     */
+    private static final Object NOT_FOUND = new Object();
+
+    /**
+     * Number of CDI container shutdowns, incremented by {@link BatchCDIExtension}.
+     */
+    private static final AtomicInteger containerShutdowns = new AtomicInteger();
+
+    /**
+     * Value of {@link #containerShutdowns} when the caches were last cleared.
+     */
+    private volatile int cachedContainerShutdowns = containerShutdowns.get();
+
+    /**
+     * Resolved CDI beans, keyed by classloader and then by batch artifact ref name. Beans are kept alive by their
+     * bean manager, and classes by their classloader, as long as the application is deployed, so both are weakly
+     * referenced, and strong references to them would keep their classloader from being garbage collected.
+     */
+    private final Map<ClassLoader, ConcurrentMap<String, Reference<Object>>> resolvedBeans =
+            new WeakHashMap<ClassLoader, ConcurrentMap<String, Reference<Object>>>();
+
+    /**
+     * Artifact classes loaded from batch.xml-configured class name or FQCN, keyed by classloader and then by batch
+     * artifact ref name.
+     */
+    private final Map<ClassLoader, ConcurrentMap<String, Reference<Object>>> resolvedClasses =
+            new WeakHashMap<ClassLoader, ConcurrentMap<String, Reference<Object>>>();
+
     @Override
     public void destroy(final Object instance) {
         if (instance != null) {
@@ -83,9 +118,118 @@ public abstract class AbstractArtifactFactory implements ArtifactFactory {
         return beanManager.resolve(beans);
     }
 
+    /**
+     * Same as {@link #findBean(String, BeanManager, ClassLoader)}, but returns the previously resolved bean for the
+     * same batch artifact ref name and classloader, if any.
+     *
+     * @param ref batch artifact ref name
+     * @param beanManager CDI BeanManager
+     * @param classLoader current classloader
+     * @return CDI bean found
+     *
+     * @since 3.2.0
+     */
+    protected Bean<?> findCachedBean(final String ref, final BeanManager beanManager, final ClassLoader classLoader) {
+        if (classLoader == null) {
+            return resolveBean(ref, beanManager, classLoader);
+        }
+        clearCacheAfterContainerShutdown();
+        final ConcurrentMap<String, Reference<Object>> beans = getCache(resolvedBeans, classLoader);
+        Object bean = get(beans, ref);
+        if (bean == null) {
+            bean = resolveBean(ref, beanManager, classLoader);
+            beans.put(ref, new WeakReference<Object>(bean == null ? NOT_FOUND : bean));
+        }
+        return bean == NOT_FOUND ? null : (Bean<?>) bean;
+    }
+
+    /**
+     * Resolves a bean not found in the cache of {@link #findCachedBean(String, BeanManager, ClassLoader)}.
+     */
+    Bean<?> resolveBean(final String ref, final BeanManager beanManager, final ClassLoader classLoader) {
+        return findBean(ref, beanManager, classLoader);
+    }
+
+    /**
+     * Same as {@link #getClassFromBatchXmlOrClassLoader(String, ClassLoader)}, but returns the previously loaded
+     * class for the same batch artifact ref name and classloader, if any.
+     *
+     * @param ref batch artifact ref name
+     * @param classLoader current classloader
+     * @return the artifact class
+     */
+    Class<?> getCachedClassFromBatchXmlOrClassLoader(final String ref, final ClassLoader classLoader) {
+        clearCacheAfterContainerShutdown();
+        final ConcurrentMap<String, Reference<Object>> classes = getCache(resolvedClasses, classLoader);
+        Class<?> cls = (Class<?>) get(classes, ref);
+        if (cls == null) {
+            cls = getClassFromBatchXmlOrClassLoader(ref, classLoader);
+            classes.put(ref, new WeakReference<Object>(cls));
+        }
+        return cls;
+    }
+
+    /**
+     * Clears cached CDI beans and artifact classes resolved with the classloader, typically when the application
+     * associated with the classloader is undeployed.
+     *
+     * @param classLoader the classloader whose cached artifacts are to be removed, or {@code null} to clear all
+     *
+     * @since 3.2.0
+     */
+    public void clearArtifactCache(final ClassLoader classLoader) {
+        synchronized (resolvedBeans) {
+            if (classLoader == null) {
+                resolvedBeans.clear();
+            } else {
+                resolvedBeans.remove(classLoader);
+            }
+        }
+        synchronized (resolvedClasses) {
+            if (classLoader == null) {
+                resolvedClasses.clear();
+            } else {
+                resolvedClasses.remove(classLoader);
+            }
+        }
+    }
+
+    /**
+     * Invoked when a CDI container shuts down, so that all artifact factories clear their caches before the next use.
+     */
+    static void containerShutdown() {
+        containerShutdowns.incrementAndGet();
+    }
+
+    private void clearCacheAfterContainerShutdown() {
+        final int shutdowns = containerShutdowns.get();
+        if (shutdowns != cachedContainerShutdowns) {
+            cachedContainerShutdowns = shutdowns;
+            clearArtifactCache(null);
+        }
+    }
+
+    private static ConcurrentMap<String, Reference<Object>> getCache(
+            final Map<ClassLoader, ConcurrentMap<String, Reference<Object>>> caches, final ClassLoader classLoader) {
+        synchronized (caches) {
+            ConcurrentMap<String, Reference<Object>> cache = caches.get(classLoader);
+            if (cache == null) {
+                cache = new ConcurrentHashMap<String, Reference<Object>>();
+                caches.put(classLoader, cache);
+            }
+            return cache;
+        }
+    }
+
+    private static Object get(final ConcurrentMap<String, Reference<Object>> cache, final String ref) {
+        final Reference<Object> reference = cache.get(ref);
+        return reference == null ? null : reference.get();
+    }
+
     static Class<?> getClassFromBatchXmlOrClassLoader(final String ref, final ClassLoader classLoader) {
         Class<?> cls = null;
-        BatchArtifacts batchArtifacts = ArtifactCreationContext.getCurrentArtifactCreationContext().jobContext.getBatchArtifacts();
+        final JobContextImpl jobContext = ArtifactCreationContext.getCurrentArtifactCreationContext().jobContext;
+        BatchArtifacts batchArtifacts = jobContext == null ? null : jobContext.getBatchArtifacts();
         String className = null;
         if (batchArtifacts != null) {
             className = batchArtifacts.getClassNameForRef(ref);
@@ -107,90 +251,26 @@ public abstract class AbstractArtifactFactory implements ArtifactFactory {
                              final StepContextImpl stepContext,
                              final Properties batchProps) throws Exception {
         final boolean hasBatchProps = batchProps != null && batchProps.size() > 0;
-        while (cls != null && cls != Object.class && cls.getPackage() != null && !cls.getPackage().getName().startsWith("jakarta.batch")) {
-            for (final Field f : cls.getDeclaredFields()) {
-                if (!f.isSynthetic()) {
-                    Object fieldVal = null;
-                    if (f.getAnnotation(Inject.class) != null) {
-                        final Class<?> fType = f.getType();
-                        if (fType == JobContext.class) {
-                            fieldVal = jobContext;
-                        } else if (fType == StepContext.class) {
-                            //fieldVal may be null when StepContext was not stored in data map, as in job listeners
-                            fieldVal = stepContext;
-                        } else if (hasBatchProps) {
-                            final BatchProperty batchPropertyAnn = f.getAnnotation(BatchProperty.class);
-                            if (batchPropertyAnn != null) {
-                                String propName = batchPropertyAnn.name();
-                                if (propName.equals("")) {
-                                    propName = f.getName();
-                                }
-                                final String sVal = batchProps.get(propName);
-                                if (sVal != null) {
-                                    if (sVal.length() == 0) {
-                                        fieldVal = null;
-                                    } else if (!fType.isAssignableFrom(String.class)) {
-                                        fieldVal = ValueConverter.convertInjectionValue(sVal, fType, f, classLoader);
-                                    } else {
-                                        fieldVal = sVal;
-                                    }
-                                }
-                            }
-                        }
-                        if (fieldVal != null) {
-                            doInjection(obj, f, fieldVal);
-                        }
-                    }
+        for (final InjectionPlan.InjectionPoint point : InjectionPlan.of(cls).injectionPoints) {
+            Object fieldVal = null;
+            if (point.propertyName == null) {
+                //fieldVal may be null when StepContext was not stored in data map, as in job listeners
+                fieldVal = point.field.getType() == JobContext.class ? jobContext : stepContext;
+            } else if (hasBatchProps) {
+                final String sVal = batchProps.get(point.propertyName);
+                if (sVal != null && sVal.length() > 0) {
+                    fieldVal = point.convert(sVal, classLoader);
                 }
             }
-            cls = cls.getSuperclass();
+            if (fieldVal != null) {
+                point.inject(obj, fieldVal);
+            }
         }
     }
 
     protected void invokeAnnotatedLifecycleMethod(final Object obj, Class<?> cls, final Class<? extends Annotation> annCls) throws Exception{
-        final List<Method> lifecycleMethods = new ArrayList<Method>();
-        while (cls != null && cls != Object.class && cls.getPackage() != null && !cls.getPackage().getName().startsWith("jakarta.batch")) {
-            final Method[] methods = cls.getDeclaredMethods();
-            for (final Method m : methods) {
-                if (m.getAnnotation(annCls) != null) {  //the lifecyle annotation is present
-                    final int modifiers = m.getModifiers();
-                    final String mName = m.getName();
-                    if (Modifier.isPrivate(modifiers)) {
-                        lifecycleMethods.add(m);
-                    } else {
-                        boolean alreadyAdded = false;
-                        for (final Method lm : lifecycleMethods) {
-                            if (lm.getName().equals(mName)) {
-                                if (Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)) {
-                                    alreadyAdded = true;
-                                    break;
-                                } else { // package default access
-                                    if (m.getDeclaringClass().getPackage().getName().equals(lm.getDeclaringClass().getPackage().getName())) {
-                                        alreadyAdded = true;
-                                        break;
-                                    }
-                                    //there can be multiple methods of the same name in lifecycleMethods, some are its
-                                    //super method and some are not.  So need to continue.
-                                }
-                            }
-                        }
-                        if (!alreadyAdded) {
-                            lifecycleMethods.add(m);
-                        }
-                    }
-                }
-            }
-            cls = cls.getSuperclass();
-        }
-        if (annCls == PostConstruct.class) {
-            Collections.reverse(lifecycleMethods);
-        }
-        for(final Method m : lifecycleMethods) {
+        for(final Method m : InjectionPlan.of(cls).getLifecycleMethods(annCls)) {
             SecurityActions.invokeMethod(m, obj);
         }
     }
-
-    private void doInjection(final Object obj, final Field field, final Object val) throws Exception {
-        SecurityActions.setFieldValue(field, obj, val);
-    }
 }
@@ -12,9 +12,17 @@ package org.jberet.creation;
 
 import static org.jberet._private.BatchMessages.MESSAGES;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
 import javax.xml.stream.XMLResolver;
 import javax.xml.stream.XMLStreamException;
 
@@ -25,6 +33,7 @@ import org.jberet.job.model.Job;
 import org.jberet.job.model.JobMerger;
 import org.jberet.job.model.JobParser;
 import org.jberet.spi.JobXmlResolver;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 public class ArchiveXmlLoader {
     public final static String ARCHIVE_JOB_XML_DIR = "META-INF/batch-jobs/";
@@ -33,8 +42,33 @@ public class ArchiveXmlLoader {
     //public static final String JOB_XML_SCHEMA = "jobXML_1_0.xsd";
     //public static final String BATCH_XML_SCHEMA = "batchXML_1_0.xsd";
 
-//    since inheritance is deferred from 1.0, this cache is not needed.
-//    private static ConcurrentMap<String, Object> loadedJobsByName = new ConcurrentHashMap<String, Object>();
+    /**
+     * System property to specify the maximum number of parsed jobs kept by {@link #loadJobXml(String, ClassLoader, JobXmlResolver)}.
+     * Its value defaults to 256, and 0 disables caching.
+     *
+     * @since 3.2.0
+     */
+    public static final String JOB_XML_CACHE_SIZE = "jberet.job.xml.cache.size";
+
+    private static final int jobXmlCacheSize =
+            Integer.parseInt(WildFlySecurityManager.getPropertyPrivileged(JOB_XML_CACHE_SIZE, "256"));
+
+    /**
+     * Parsed and merged jobs, in least recently used order.
+     */
+    private static final Map<JobXmlKey, CachedJob> jobCache = Collections.synchronizedMap(
+            new LinkedHashMap<JobXmlKey, CachedJob>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<JobXmlKey, CachedJob> eldest) {
+                    return size() > jobXmlCacheSize;
+                }
+            });
+
+    /**
+     * Checksums of job XML documents read by the current thread while loading a job to cache, keyed by the job XML
+     * name with {@code .xml} suffix.
+     */
+    private static final ThreadLocal<Map<String, Long>> jobXmlChecksums = new ThreadLocal<Map<String, Long>>();
 
     /**
      * Gets the batch artifacts definition object, loaded from the archive batch.xml if available.
@@ -114,6 +148,47 @@ public class ArchiveXmlLoader {
         return job;
     }
 
+    /**
+     * Gets the job root element for a given job name, reusing the job previously parsed from the same job XML by the
+     * same class loader and job XML resolver, if the content of the job XML, and any job XML it inherits from or
+     * includes, is unchanged.
+     * <p>
+     * The returned job may be shared with other callers, and should not be modified.
+     *
+     * @param jobXmlName     base name of the job xml document
+     * @param classLoader    the class loader used to locate the job
+     * @param jobXmlResolver the job XML resolver
+     *
+     * @return the job root element
+     *
+     * @throws jakarta.batch.operations.JobStartException if the job failed to start
+     * @see #JOB_XML_CACHE_SIZE
+     * @since 3.2.0
+     */
+    public static Job loadJobXml(final String jobXmlName, final ClassLoader classLoader, final JobXmlResolver jobXmlResolver)
+            throws JobStartException {
+        if (jobXmlCacheSize <= 0 || classLoader == null || jobXmlResolver == null) {
+            return loadJobXml(jobXmlName, classLoader, new ArrayList<Job>(), jobXmlResolver);
+        }
+        final JobXmlKey key = new JobXmlKey(jobXmlName, classLoader, jobXmlResolver);
+        final CachedJob cached = jobCache.get(key);
+        if (cached != null && cached.isCurrent(classLoader, jobXmlResolver)) {
+            return cached.job;
+        }
+
+        final Map<String, Long> previousChecksums = jobXmlChecksums.get();
+        final Map<String, Long> checksums = new HashMap<String, Long>();
+        jobXmlChecksums.set(checksums);
+        final Job job;
+        try {
+            job = loadJobXml(jobXmlName, classLoader, new ArrayList<Job>(), jobXmlResolver);
+        } finally {
+            jobXmlChecksums.set(previousChecksums);
+        }
+        jobCache.put(key, new CachedJob(job, checksums));
+        return job;
+    }
+
     private static InputStream getJobXml(String jobXmlName, final ClassLoader classLoader, final JobXmlResolver jobXmlResolver) throws IOException {
         if (!jobXmlName.endsWith(".xml")) {
             jobXmlName += ".xml";
@@ -122,11 +197,93 @@ public class ArchiveXmlLoader {
         // Use the SPI to locate the job XML
         final InputStream is = jobXmlResolver.resolveJobXml(jobXmlName, classLoader);
         if (is != null) {
-            return is;
+            final Map<String, Long> checksums = jobXmlChecksums.get();
+            if (checksums == null) {
+                return is;
+            }
+            final byte[] content;
+            try {
+                content = is.readAllBytes();
+            } finally {
+                is.close();
+            }
+            checksums.put(jobXmlName, checksum(content));
+            return new ByteArrayInputStream(content);
         }
         throw BatchMessages.MESSAGES.failToGetJobXml(jobXmlName);
     }
 
+    private static long checksum(final byte[] content) {
+        final CRC32C crc = new CRC32C();
+        crc.update(content);
+        return ((long) content.length << 32) ^ crc.getValue();
+    }
+
+    /**
+     * Key of a cached job, which does not prevent its class loader or job XML resolver from being garbage collected.
+     */
+    private static final class JobXmlKey {
+        private final String jobXmlName;
+        private final WeakReference<ClassLoader> classLoader;
+        private final WeakReference<JobXmlResolver> jobXmlResolver;
+        private final int hash;
+
+        private JobXmlKey(final String jobXmlName, final ClassLoader classLoader, final JobXmlResolver jobXmlResolver) {
+            this.jobXmlName = jobXmlName;
+            this.classLoader = new WeakReference<ClassLoader>(classLoader);
+            this.jobXmlResolver = new WeakReference<JobXmlResolver>(jobXmlResolver);
+            this.hash = (jobXmlName.hashCode() * 31 + System.identityHashCode(classLoader)) * 31 +
+                    System.identityHashCode(jobXmlResolver);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof JobXmlKey)) {
+                return false;
+            }
+            final JobXmlKey other = (JobXmlKey) o;
+            final ClassLoader cl = classLoader.get();
+            final JobXmlResolver resolver = jobXmlResolver.get();
+            return hash == other.hash && jobXmlName.equals(other.jobXmlName) &&
+                    cl != null && cl == other.classLoader.get() &&
+                    resolver != null && resolver == other.jobXmlResolver.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached job, along with checksums of all job XML documents read to load it.
+     */
+    private static final class CachedJob {
+        private final Job job;
+        private final Map<String, Long> checksums;
+
+        private CachedJob(final Job job, final Map<String, Long> checksums) {
+            this.job = job;
+            this.checksums = checksums;
+        }
+
+        private boolean isCurrent(final ClassLoader classLoader, final JobXmlResolver jobXmlResolver) {
+            for (final Map.Entry<String, Long> e : checksums.entrySet()) {
+                try (InputStream is = jobXmlResolver.resolveJobXml(e.getKey(), classLoader)) {
+                    if (is == null || checksum(is.readAllBytes()) != e.getValue()) {
+                        return false;
+                    }
+                } catch (final IOException ex) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static class JobXmlEntityResolver implements XMLResolver {
         private final ClassLoader classLoader;
         private final JobXmlResolver jobXmlResolver;
@@ -29,7 +29,7 @@ public final class ArtifactFactoryWrapper extends AbstractArtifactFactory {
     public Class<?> getArtifactClass(final String ref, final ClassLoader classLoader) {
         Class<?> cls = factory.getArtifactClass(ref, classLoader);
         if (cls == null) {
-            cls = getClassFromBatchXmlOrClassLoader(ref, classLoader);
+            cls = getCachedClassFromBatchXmlOrClassLoader(ref, classLoader);
         }
         return cls;
     }
@@ -38,7 +38,7 @@ public final class ArtifactFactoryWrapper extends AbstractArtifactFactory {
     public Object create(final String ref, Class<?> cls, final ClassLoader classLoader) throws Exception {
         Object obj = factory.create(ref, cls, classLoader);
         if (obj == null) {
-            final Class<?> c = getClassFromBatchXmlOrClassLoader(ref, classLoader);
+            final Class<?> c = getCachedClassFromBatchXmlOrClassLoader(ref, classLoader);
             if (c != null) {
                 obj = c.getDeclaredConstructor().newInstance();
                 ArtifactCreationContext acc = ArtifactCreationContext.getCurrentArtifactCreationContext();
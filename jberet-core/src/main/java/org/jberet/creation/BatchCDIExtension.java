@@ -17,6 +17,7 @@ import jakarta.enterprise.inject.spi.AnnotatedType;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.BeforeShutdown;
 import jakarta.enterprise.inject.spi.ProcessBean;
 import org.jberet._private.BatchLogger;
 
@@ -55,4 +56,9 @@ public class BatchCDIExtension implements jakarta.enterprise.inject.spi.Extensio
             abd.addBean(new JobOperatorProducer());
         }
     }
+
+    public void beforeShutdown(final @Observes BeforeShutdown beforeShutdown) {
+        //beans resolved from this container, e.g., of an undeployed application, are no longer usable
+        AbstractArtifactFactory.containerShutdown();
+    }
 }
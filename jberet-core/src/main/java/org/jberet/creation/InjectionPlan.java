@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.creation;
+
+import java.io.File;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.runtime.context.JobContext;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.inject.Inject;
+
+/**
+ * Injection plan of a batch artifact class that is not managed by CDI: the fields to inject and the lifecycle
+ * methods to invoke, collected once by walking the class hierarchy and reused for each instance of the class.
+ */
+final class InjectionPlan {
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<InjectionPlan>() {
+        @Override
+        protected InjectionPlan computeValue(final Class<?> type) {
+            return new InjectionPlan(type);
+        }
+    };
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> artifactClass;
+
+    /**
+     * Fields annotated with {@code @Inject}, in the order they are injected.
+     */
+    final InjectionPoint[] injectionPoints;
+
+    private final ConcurrentMap<Class<? extends Annotation>, Method[]> lifecycleMethods =
+            new ConcurrentHashMap<Class<? extends Annotation>, Method[]>();
+
+    private InjectionPlan(final Class<?> artifactClass) {
+        this.artifactClass = artifactClass;
+        final List<InjectionPoint> points = new ArrayList<InjectionPoint>();
+        Class<?> cls = artifactClass;
+        while (isInjectable(cls)) {
+            for (final Field f : cls.getDeclaredFields()) {
+                if (!f.isSynthetic() && f.getAnnotation(Inject.class) != null) {
+                    final InjectionPoint point = InjectionPoint.of(f);
+                    if (point != null) {
+                        points.add(point);
+                    }
+                }
+            }
+            cls = cls.getSuperclass();
+        }
+        injectionPoints = points.toArray(new InjectionPoint[points.size()]);
+    }
+
+    /**
+     * Gets the injection plan for the batch artifact class.
+     *
+     * @param cls the batch artifact class
+     * @return the injection plan, built on first use
+     */
+    static InjectionPlan of(final Class<?> cls) {
+        return PLANS.get(cls);
+    }
+
+    /**
+     * Gets the methods annotated with the lifecycle annotation, in the order they should be invoked.
+     *
+     * @param annCls lifecycle annotation, e.g., {@code @PostConstruct} or {@code @PreDestroy}
+     * @return the lifecycle methods, may be empty
+     */
+    Method[] getLifecycleMethods(final Class<? extends Annotation> annCls) {
+        Method[] methods = lifecycleMethods.get(annCls);
+        if (methods == null) {
+            methods = findLifecycleMethods(annCls);
+            lifecycleMethods.putIfAbsent(annCls, methods);
+        }
+        return methods;
+    }
+
+    private Method[] findLifecycleMethods(final Class<? extends Annotation> annCls) {
+        final List<Method> result = new ArrayList<Method>();
+        Class<?> cls = artifactClass;
+        while (isInjectable(cls)) {
+            final Method[] methods = cls.getDeclaredMethods();
+            for (final Method m : methods) {
+                if (m.getAnnotation(annCls) != null) {  //the lifecyle annotation is present
+                    final int modifiers = m.getModifiers();
+                    final String mName = m.getName();
+                    if (Modifier.isPrivate(modifiers)) {
+                        result.add(m);
+                    } else {
+                        boolean alreadyAdded = false;
+                        for (final Method lm : result) {
+                            if (lm.getName().equals(mName)) {
+                                if (Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers)) {
+                                    alreadyAdded = true;
+                                    break;
+                                } else { // package default access
+                                    if (m.getDeclaringClass().getPackage().getName().equals(lm.getDeclaringClass().getPackage().getName())) {
+                                        alreadyAdded = true;
+                                        break;
+                                    }
+                                    //there can be multiple methods of the same name in result, some are its
+                                    //super method and some are not.  So need to continue.
+                                }
+                            }
+                        }
+                        if (!alreadyAdded) {
+                            result.add(m);
+                        }
+                    }
+                }
+            }
+            cls = cls.getSuperclass();
+        }
+        if (annCls == PostConstruct.class) {
+            Collections.reverse(result);
+        }
+        return result.toArray(new Method[result.size()]);
+    }
+
+    private static boolean isInjectable(final Class<?> cls) {
+        return cls != null && cls != Object.class && cls.getPackage() != null && !cls.getPackage().getName().startsWith("jakarta.batch");
+    }
+
+    /**
+     * A field to inject with {@code JobContext}, {@code StepContext} or a batch property.
+     */
+    static final class InjectionPoint {
+        final Field field;
+
+        /**
+         * Batch property name if this field is annotated with {@code @BatchProperty}, otherwise null.
+         */
+        final String propertyName;
+
+        /**
+         * Converter of the batch property string value to the field type, or null if the value needs no conversion.
+         */
+        private final ValueConverter.Converter converter;
+
+        /**
+         * Whether the converted value is immutable and can be reused for the same batch property string value.
+         */
+        private final boolean reuseConverted;
+
+        private volatile MethodHandle setter;
+
+        private volatile ConvertedValue lastConverted;
+
+        private InjectionPoint(final Field field, final String propertyName) {
+            this.field = field;
+            this.propertyName = propertyName;
+            final Class<?> fType = field.getType();
+            this.converter = propertyName == null || fType.isAssignableFrom(String.class) ? null :
+                    ValueConverter.getConverter(fType, field);
+            this.reuseConverted = converter != null && isImmutable(fType);
+        }
+
+        private static InjectionPoint of(final Field f) {
+            final Class<?> fType = f.getType();
+            if (fType == JobContext.class || fType == StepContext.class) {
+                return new InjectionPoint(f, null);
+            }
+            final BatchProperty batchPropertyAnn = f.getAnnotation(BatchProperty.class);
+            if (batchPropertyAnn != null) {
+                String propName = batchPropertyAnn.name();
+                if (propName.equals("")) {
+                    propName = f.getName();
+                }
+                return new InjectionPoint(f, propName);
+            }
+            return null;
+        }
+
+        /**
+         * Converts the batch property string value to the field type.
+         *
+         * @param sVal non-empty batch property value
+         * @param classLoader current classloader
+         * @return the converted value
+         */
+        Object convert(final String sVal, final ClassLoader classLoader) {
+            if (converter == null) {
+                return sVal;
+            }
+            if (reuseConverted) {
+                final ConvertedValue last = lastConverted;
+                if (last != null && last.rawValue.equals(sVal)) {
+                    return last.value;
+                }
+            }
+            final Object value = converter.convert(sVal, classLoader);
+            if (reuseConverted) {
+                lastConverted = new ConvertedValue(sVal, value);
+            }
+            return value;
+        }
+
+        void inject(final Object obj, final Object value) throws Exception {
+            MethodHandle h = setter;
+            if (h == null) {
+                h = SecurityActions.unreflectSetter(field).asType(SETTER_TYPE);
+                setter = h;
+            }
+            try {
+                h.invokeExact(obj, value);
+            } catch (final Exception | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static boolean isImmutable(final Class<?> t) {
+            return t.isPrimitive() || t == Integer.class || t == Long.class || t == Double.class ||
+                    t == Boolean.class || t == Float.class || t == Character.class || t == Byte.class ||
+                    t == Short.class || t == BigDecimal.class || t == BigInteger.class || t == File.class ||
+                    t == URI.class || t == Pattern.class || t.isEnum();
+        }
+    }
+
+    private static final class ConvertedValue {
+        final String rawValue;
+        final Object value;
+
+        ConvertedValue(final String rawValue, final Object value) {
+            this.rawValue = rawValue;
+            this.value = value;
+        }
+    }
+}
@@ -10,6 +10,8 @@
 
 package org.jberet.creation;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.security.AccessController;
@@ -19,21 +21,21 @@ import org.jberet._private.BatchMessages;
 
 class SecurityActions {
 
-    static void setFieldValue(final Field field, final Object obj, final Object value) throws Exception {
+    static MethodHandle unreflectSetter(final Field field) throws Exception {
         if(System.getSecurityManager() != null){
-            AccessController.doPrivileged(
-                (PrivilegedExceptionAction <Void>) () -> {
+            return AccessController.doPrivileged(
+                (PrivilegedExceptionAction<MethodHandle>) () -> {
                     if(field.trySetAccessible()){
-                        field.set(obj,value);
+                        return MethodHandles.lookup().unreflectSetter(field);
                     } else {
                         throw BatchMessages.MESSAGES.unableToMakeFieldorMethodAccessible("Field", field);
                     }
-                    return null;
-                });
+                }
+            );
         }
         else {
             if(field.trySetAccessible()){
-                field.set(obj,value);
+                return MethodHandles.lookup().unreflectSetter(field);
             } else {
                 throw BatchMessages.MESSAGES.unableToMakeFieldorMethodAccessible("Field", field);
             }
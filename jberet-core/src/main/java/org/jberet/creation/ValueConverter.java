@@ -48,6 +48,7 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.Vector;
 import java.util.WeakHashMap;
+import java.util.function.Supplier;
 import java.util.jar.JarFile;
 import java.util.logging.Logger;
 import java.util.regex.Pattern;
@@ -139,28 +140,58 @@ public final class ValueConverter {
     // order from longest to shortest to make sure input date strings are not truncated by shorter format styles.
     private static final int[] dateFormatCodes = {DateFormat.FULL, DateFormat.LONG, DateFormat.MEDIUM, DateFormat.SHORT};
 
+    /**
+     * Converts batch property string values to a specific injection type. A converter is resolved once for an
+     * injection target with {@link #getConverter(Class, AnnotatedElement)}, and reused for all its values.
+     */
+    interface Converter {
+        /**
+         * Converts a batch property string value.
+         *
+         * @param rawValue batch property string value
+         * @param classLoader current classloader
+         * @return the converted value
+         */
+        Object convert(String rawValue, ClassLoader classLoader);
+    }
+
+    private static final Converter NULL_CONVERTER = (rawValue, classLoader) -> null;
+
     public static Object convertInjectionValue(final String rawValue, final Class<?> t, final AnnotatedElement f, final ClassLoader classLoader) {
-        final Object result = convertSingleValue(rawValue, t, f, classLoader);
-        if (result != null) {
-            return result;
+        return getConverter(t, f).convert(rawValue, classLoader);
+    }
+
+    /**
+     * Resolves the converter of batch property string values to the injection type. If the type is not supported,
+     * the returned converter fails on any value.
+     *
+     * @param t the injection type
+     * @param f the field or parameter in the batch artifact (the injection target)
+     * @return the converter to the injection type
+     */
+    static Converter getConverter(final Class<?> t, final AnnotatedElement f) {
+        final Converter singleValueConverter = getSingleValueConverter(t, f);
+        if (singleValueConverter != null) {
+            return singleValueConverter;
         }
-        final String v = rawValue.trim();
         Class<?> elementValueType = null;
 
         if (t.isArray()) {
-            elementValueType = t.getComponentType();
-            if (elementValueType.isPrimitive()) {
-                return parsePrimitiveArray(v, elementValueType, f);
+            final Class<?> componentType = t.getComponentType();
+            if (componentType.isPrimitive()) {
+                return (rawValue, classLoader) -> parsePrimitiveArray(rawValue.trim(), componentType, f);
             } else {
-                final List tempList = parseList(v, new ArrayList(), elementValueType, f, classLoader);
-                final Object[] tempArray = (Object[]) Array.newInstance(elementValueType, tempList.size());
-                return tempList.toArray(tempArray);
+                final Converter elementConverter = getListElementConverter(componentType, f);
+                return (rawValue, classLoader) -> {
+                    final List tempList = parseList(rawValue.trim(), new ArrayList(), elementConverter, classLoader);
+                    final Object[] tempArray = (Object[]) Array.newInstance(componentType, tempList.size());
+                    return tempList.toArray(tempArray);
+                };
             }
         }
 
         if (t == java.util.Properties.class) {
-            final java.util.Properties p = new java.util.Properties();
-            return parseMap(v, p, String.class, f, classLoader);
+            return (rawValue, classLoader) -> parseMap(rawValue.trim(), new java.util.Properties(), null, f, classLoader);
         }
 
         if (f instanceof Field) {
@@ -193,156 +224,200 @@ public final class ValueConverter {
         }
 
         if (List.class.isAssignableFrom(t) || t == Collection.class) {
-            final List l;
+            final Converter elementConverter = getListElementConverter(elementValueType, f);
             if (t == List.class || t == ArrayList.class || t == Collection.class) {
-                l = new ArrayList();
+                return (rawValue, classLoader) -> parseList(rawValue.trim(), new ArrayList(), elementConverter, classLoader);
             } else if (t == LinkedList.class) {
-                l = new LinkedList();
+                return (rawValue, classLoader) -> parseList(rawValue.trim(), new LinkedList(), elementConverter, classLoader);
             } else if (t == Vector.class) {
-                l = new Vector();
+                return (rawValue, classLoader) -> parseList(rawValue.trim(), new Vector(), elementConverter, classLoader);
             } else {
-                throw MESSAGES.unsupportedInjectionType(v, f, t);
+                return getUnsupportedConverter(t, f);
             }
-            return parseList(v, l, elementValueType, f, classLoader);
         }
         if (Map.class.isAssignableFrom(t)) {
-            final Map<String, String> m;
+            final Converter valueConverter = elementValueType == String.class ? null : getElementConverter(elementValueType, f);
             if (t == Map.class || t == HashMap.class) {
-                m = new HashMap();
+                return (rawValue, classLoader) -> parseMap(rawValue.trim(), new HashMap(), valueConverter, f, classLoader);
             } else if (t == LinkedHashMap.class) {
-                m = new LinkedHashMap();
+                return (rawValue, classLoader) -> parseMap(rawValue.trim(), new LinkedHashMap(), valueConverter, f, classLoader);
             } else if (t == IdentityHashMap.class) {
-                m = new IdentityHashMap();
+                return (rawValue, classLoader) -> parseMap(rawValue.trim(), new IdentityHashMap(), valueConverter, f, classLoader);
             } else if (t == Hashtable.class) {
-                m = new Hashtable();
+                return (rawValue, classLoader) -> parseMap(rawValue.trim(), new Hashtable(), valueConverter, f, classLoader);
             } else if (t == TreeMap.class || t == SortedMap.class) {
-                m = new TreeMap();
+                return (rawValue, classLoader) -> parseMap(rawValue.trim(), new TreeMap(), valueConverter, f, classLoader);
             } else if (t == WeakHashMap.class) {
-                m = new WeakHashMap();
+                return (rawValue, classLoader) -> parseMap(rawValue.trim(), new WeakHashMap(), valueConverter, f, classLoader);
             } else {
-                throw MESSAGES.unsupportedInjectionType(v, f, t);
+                return getUnsupportedConverter(t, f);
             }
-            return parseMap(v, m, elementValueType, f, classLoader);
         }
         if (Set.class.isAssignableFrom(t)) {
-            final Set set;
+            final Converter elementConverter = getListElementConverter(elementValueType, f);
+            final Supplier<Set> setFactory;
             if (t == Set.class || t == HashSet.class) {
-                set = new HashSet();
+                setFactory = HashSet::new;
             } else if (t == SortedSet.class || t == TreeSet.class) {
-                set = new TreeSet();
+                setFactory = TreeSet::new;
             } else if (t == LinkedHashSet.class) {
-                set = new LinkedHashSet();
+                setFactory = LinkedHashSet::new;
             } else {
-                throw MESSAGES.unsupportedInjectionType(v, f, t);
+                return getUnsupportedConverter(t, f);
             }
-            set.addAll(parseList(v, new ArrayList(), elementValueType, f, classLoader));
-            return set;
+            return (rawValue, classLoader) -> {
+                final Set set = setFactory.get();
+                set.addAll(parseList(rawValue.trim(), new ArrayList(), elementConverter, classLoader));
+                return set;
+            };
         }
 
-        throw MESSAGES.unsupportedInjectionType(v, f, t);
+        return getUnsupportedConverter(t, f);
+    }
+
+    private static Converter getUnsupportedConverter(final Class<?> t, final AnnotatedElement f) {
+        return (rawValue, classLoader) -> {
+            throw MESSAGES.unsupportedInjectionType(rawValue.trim(), f, t);
+        };
+    }
+
+    /**
+     * Resolves the converter of collection or array elements, which is null if elements are kept as strings.
+     */
+    private static Converter getListElementConverter(final Class<?> elementValueType, final AnnotatedElement f) {
+        return elementValueType.isAssignableFrom(String.class) ? null : getElementConverter(elementValueType, f);
+    }
+
+    /**
+     * Resolves the converter of collection, array or map elements, which converts elements of unsupported types to
+     * null.
+     */
+    private static Converter getElementConverter(final Class<?> elementValueType, final AnnotatedElement f) {
+        final Converter converter = getSingleValueConverter(elementValueType, f);
+        return converter != null ? converter : NULL_CONVERTER;
     }
 
-    private static Object convertSingleValue(final String rawValue, final Class<?> t, final AnnotatedElement f, final ClassLoader classLoader) {
-        final String v = rawValue.trim();
+    private static Converter getSingleValueConverter(final Class<?> t, final AnnotatedElement f) {
         if (t == int.class || t == Integer.class) {
-            return Integer.valueOf(v);
+            return (rawValue, classLoader) -> Integer.valueOf(rawValue.trim());
         }
         if (t == long.class || t == Long.class) {
-            return Long.valueOf(v);
+            return (rawValue, classLoader) -> Long.valueOf(rawValue.trim());
         }
         if (t == double.class || t == Double.class) {
-            return Double.valueOf(v);
+            return (rawValue, classLoader) -> Double.valueOf(rawValue.trim());
         }
         if (t == boolean.class || t == Boolean.class) {
-            return Boolean.valueOf(v);
+            return (rawValue, classLoader) -> Boolean.valueOf(rawValue.trim());
         }
         if (t == float.class || t == Float.class) {
-            return Float.valueOf(v);
+            return (rawValue, classLoader) -> Float.valueOf(rawValue.trim());
         }
         if (t == char.class || t == Character.class) {
-            return rawValue.charAt(0);
+            return (rawValue, classLoader) -> rawValue.charAt(0);
         }
         if (t == byte.class || t == Byte.class) {
-            return Byte.valueOf(v);
+            return (rawValue, classLoader) -> Byte.valueOf(rawValue.trim());
         }
         if (t == short.class || t == Short.class) {
-            return Short.valueOf(v);
+            return (rawValue, classLoader) -> Short.valueOf(rawValue.trim());
         }
         if (t == File.class) {
-            return new File(v);
+            return (rawValue, classLoader) -> new File(rawValue.trim());
         }
         if (t == ZipFile.class) {
-            try {
-                return new ZipFile(v);
-            } catch (IOException e) {
-                throw MESSAGES.failToInjectProperty(e, v, f);
-            }
+            return (rawValue, classLoader) -> {
+                final String v = rawValue.trim();
+                try {
+                    return new ZipFile(v);
+                } catch (IOException e) {
+                    throw MESSAGES.failToInjectProperty(e, v, f);
+                }
+            };
         }
         if (t == JarFile.class) {
-            try {
-                return new JarFile(v);
-            } catch (IOException e) {
-                throw MESSAGES.failToInjectProperty(e, v, f);
-            }
+            return (rawValue, classLoader) -> {
+                final String v = rawValue.trim();
+                try {
+                    return new JarFile(v);
+                } catch (IOException e) {
+                    throw MESSAGES.failToInjectProperty(e, v, f);
+                }
+            };
         }
         if (t == URL.class) {
-            try {
-                return new URI(v).toURL();
-            } catch (Exception e) {
-                throw MESSAGES.failToInjectProperty(e, v, f);
-            }
+            return (rawValue, classLoader) -> {
+                final String v = rawValue.trim();
+                try {
+                    return new URI(v).toURL();
+                } catch (Exception e) {
+                    throw MESSAGES.failToInjectProperty(e, v, f);
+                }
+            };
         }
         if (t == URI.class) {
-            try {
-                return new URI(v);
-            } catch (Exception e) {
-                throw MESSAGES.failToInjectProperty(e, v, f);
-            }
+            return (rawValue, classLoader) -> {
+                final String v = rawValue.trim();
+                try {
+                    return new URI(v);
+                } catch (Exception e) {
+                    throw MESSAGES.failToInjectProperty(e, v, f);
+                }
+            };
         }
         if (t == InetAddress.class || t == Inet4Address.class || t == Inet6Address.class) {
-            try {
-                return InetAddress.getByName(v);
-            } catch (Exception e) {
-                throw MESSAGES.failToInjectProperty(e, v, f);
-            }
+            return (rawValue, classLoader) -> {
+                final String v = rawValue.trim();
+                try {
+                    return InetAddress.getByName(v);
+                } catch (Exception e) {
+                    throw MESSAGES.failToInjectProperty(e, v, f);
+                }
+            };
         }
         if (t == BigDecimal.class) {
-            return new BigDecimal(v);
+            return (rawValue, classLoader) -> new BigDecimal(rawValue.trim());
         }
         if (t == BigInteger.class) {
-            return new BigInteger(v);
+            return (rawValue, classLoader) -> new BigInteger(rawValue.trim());
         }
         if (t == java.util.Date.class) {
-            return parseDate(v, f);
+            return (rawValue, classLoader) -> parseDate(rawValue.trim(), f);
         }
         if (t == Class.class) {
-            try {
-                return Class.forName(v, false, classLoader);
-            } catch (ClassNotFoundException e) {
-                throw MESSAGES.failToInjectProperty(e, v, f);
-            }
+            return (rawValue, classLoader) -> {
+                final String v = rawValue.trim();
+                try {
+                    return Class.forName(v, false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    throw MESSAGES.failToInjectProperty(e, v, f);
+                }
+            };
         }
         if (t.isEnum()) {
-            return Enum.valueOf((Class<? extends Enum>) t, v);
+            return (rawValue, classLoader) -> Enum.valueOf((Class<? extends Enum>) t, rawValue.trim());
         }
         if (t == Pattern.class) {
-            return Pattern.compile(v);
+            return (rawValue, classLoader) -> Pattern.compile(rawValue.trim());
         }
         if (t == java.util.logging.Logger.class) {
-            return Logger.getLogger(v);
+            return (rawValue, classLoader) -> Logger.getLogger(rawValue.trim());
         }
         if (t == StringBuilder.class) {
-            return new StringBuilder(rawValue);
+            return (rawValue, classLoader) -> new StringBuilder(rawValue);
         }
         if (t == StringBuffer.class) {
-            return new StringBuffer(rawValue);
+            return (rawValue, classLoader) -> new StringBuffer(rawValue);
         }
         if (t == ObjectName.class) {
-            try {
-                return new ObjectName(v);
-            } catch (MalformedObjectNameException e) {
-                throw MESSAGES.failToInjectProperty(e, v, f);
-            }
+            return (rawValue, classLoader) -> {
+                final String v = rawValue.trim();
+                try {
+                    return new ObjectName(v);
+                } catch (MalformedObjectNameException e) {
+                    throw MESSAGES.failToInjectProperty(e, v, f);
+                }
+            };
         }
         return null;
     }
@@ -412,20 +487,20 @@ public final class ValueConverter {
         throw MESSAGES.failToInjectProperty(null, v, f);
     }
 
-    private static List parseList(final String v, final List l, final Class<?> elementValueType, final AnnotatedElement f, final ClassLoader classLoader) {
+    private static List parseList(final String v, final List l, final Converter elementConverter, final ClassLoader classLoader) {
         final StringTokenizer st = new StringTokenizer(v, delimiter);
         while (st.hasMoreTokens()) {
             final String s = st.nextToken().trim();
-            if (elementValueType.isAssignableFrom(String.class)) {
+            if (elementConverter == null) {
                 l.add(s.equals("null") ? null : s);
             } else {
-                l.add(convertSingleValue(s, elementValueType, f, classLoader));
+                l.add(elementConverter.convert(s, classLoader));
             }
         }
         return l;
     }
 
-    private static Map parseMap(final String v, final Map map, final Class<?> elementValueType, final AnnotatedElement f, final ClassLoader classLoader) {
+    private static Map parseMap(final String v, final Map map, final Converter valueConverter, final AnnotatedElement f, final ClassLoader classLoader) {
         final StringTokenizer st = new StringTokenizer(v, delimiter);
         while (st.hasMoreTokens()) {
             final String pair = st.nextToken().trim();
@@ -441,10 +516,10 @@ public final class ValueConverter {
             } else {
                 throw MESSAGES.failToInjectProperty(null, v, f);
             }
-            if (elementValueType == String.class) {
+            if (valueConverter == null) {
                 map.put(key, value);
             } else {
-                map.put(key, convertSingleValue(value, elementValueType, f, classLoader));
+                map.put(key, valueConverter.convert(value, classLoader));
             }
         }
         return map;
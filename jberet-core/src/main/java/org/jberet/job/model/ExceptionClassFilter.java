@@ -12,7 +12,11 @@ package org.jberet.job.model;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Corresponds to {@code jsl:ExceptionClassFilter} job XML element type.
@@ -25,6 +29,8 @@ public final class ExceptionClassFilter extends MergeableElement implements Seri
     List<String> include = new ArrayList<String>();
     List<String> exclude = new ArrayList<String>();
 
+    private transient volatile Matcher matcher;
+
     public List<String> getInclude() {
         return include;
     }
@@ -56,74 +62,113 @@ public final class ExceptionClassFilter extends MergeableElement implements Seri
 
     /**
      * Checks if an exception should be included or excluded.
+     * <p>
+     * The decision for each exception class is cached, and the cache is discarded when the include or exclude list
+     * is replaced or changes size. The contents of include and exclude list should not be otherwise modified after
+     * this method is first called.
      *
      * @param clazz the exception to check
      * @return {@code true} if the exception should be include, otherwise {@code false}
      */
     public boolean matches(final Class<? extends Throwable> clazz) {
-        if (include.isEmpty()) {  //nothing is included, and exclude is ignored
-            return false;
-        }
-        final String clazzName = clazz.getName();
-        if (include.contains(clazzName)) {
-            return true;
-        }
-        if (exclude.contains(clazzName)) {
-            return false;
+        Matcher m = matcher;
+        if (m == null || !m.isCurrent(include, exclude)) {
+            m = new Matcher(include, exclude);
+            matcher = m;
         }
-        //by now the exception class itself is not contained in either include or exclude list.
-        //check its superclass against each element in include and exclude list.
-        final int shortestDistanceToInclude = getShortestDistance(clazz, include);
-        if (shortestDistanceToInclude == Integer.MAX_VALUE) {
-            return false;
-        } else if (shortestDistanceToInclude == 1) {
-            return true;
-        } else if (exclude.isEmpty()) {
-            return true;
-        }
-        return shortestDistanceToInclude < getShortestDistance(clazz, exclude);
+        return m.matches(clazz);
+    }
+
+    @Override
+    protected ExceptionClassFilter clone() {
+        //merge attribute from super class is not copied over
+        final ExceptionClassFilter c = new ExceptionClassFilter();
+        c.include.addAll(this.include);
+        c.exclude.addAll(this.exclude);
+        return c;
     }
 
     /**
-     * Calculates the distance from clazz to each element of filterClasses, and return the min.
-     *
-     * @param clazz         the exception class to check all of its super classes
-     * @param filterClasses the list of filter classes
-     * @return the shortest distance
+     * Matches exception classes against a snapshot of include and exclude list, and caches the decision for each
+     * exception class.
      */
-    private int getShortestDistance(final Class<? extends Throwable> clazz, final List<String> filterClasses) {
-        int result = Integer.MAX_VALUE;
-        for (final String filterClass : filterClasses) {
+    private static final class Matcher {
+        private final List<String> include;
+        private final List<String> exclude;
+        private final int includeSize;
+        private final int excludeSize;
+
+        private final Set<String> includeSet;
+        private final Set<String> excludeSet;
+
+        private final ConcurrentMap<Class<?>, Boolean> decisions = new ConcurrentHashMap<Class<?>, Boolean>();
+
+        private Matcher(final List<String> include, final List<String> exclude) {
+            this.include = include;
+            this.exclude = exclude;
+            this.includeSize = include.size();
+            this.excludeSize = exclude.size();
+            this.includeSet = new HashSet<String>(include);
+            this.excludeSet = new HashSet<String>(exclude);
+        }
+
+        private boolean isCurrent(final List<String> include, final List<String> exclude) {
+            return this.include == include && this.exclude == exclude &&
+                    includeSize == include.size() && excludeSize == exclude.size();
+        }
+
+        private boolean matches(final Class<? extends Throwable> clazz) {
+            final Boolean decision = decisions.get(clazz);
+            if (decision != null) {
+                return decision;
+            }
+            final boolean result = decide(clazz);
+            decisions.put(clazz, result);
+            return result;
+        }
+
+        private boolean decide(final Class<? extends Throwable> clazz) {
+            if (includeSet.isEmpty()) {  //nothing is included, and exclude is ignored
+                return false;
+            }
+            final String clazzName = clazz.getName();
+            if (includeSet.contains(clazzName)) {
+                return true;
+            }
+            if (excludeSet.contains(clazzName)) {
+                return false;
+            }
+            //by now the exception class itself is not contained in either include or exclude list.
+            //check its superclasses against include and exclude list.
+            final int shortestDistanceToInclude = getShortestDistance(clazz, includeSet);
+            if (shortestDistanceToInclude == Integer.MAX_VALUE) {
+                return false;
+            } else if (shortestDistanceToInclude == 1) {
+                return true;
+            } else if (excludeSet.isEmpty()) {
+                return true;
+            }
+            return shortestDistanceToInclude < getShortestDistance(clazz, excludeSet);
+        }
+
+        /**
+         * Calculates the distance from clazz to its nearest superclass contained in filterClasses.
+         *
+         * @param clazz         the exception class to check all of its super classes
+         * @param filterClasses the set of filter classes
+         * @return the shortest distance, or {@code Integer.MAX_VALUE} if no superclass is contained in filterClasses
+         */
+        private static int getShortestDistance(final Class<? extends Throwable> clazz, final Set<String> filterClasses) {
             int distance = 0;
-            boolean found = false;
             Class<?> superclass = clazz.getSuperclass();
             while (superclass != Throwable.class && superclass != Object.class) {
                 distance++;
-                if (superclass.getName().equals(filterClass)) {
-                    found = true;
-                    break;
-                }
-                superclass = superclass.getSuperclass();
-            }
-
-            if (found) {
-                if (distance == 1) {
+                if (filterClasses.contains(superclass.getName())) {
                     return distance;
                 }
-                if (distance < result) {
-                    result = distance;
-                }
+                superclass = superclass.getSuperclass();
             }
+            return Integer.MAX_VALUE;
         }
-        return result;
-    }
-
-    @Override
-    protected ExceptionClassFilter clone() {
-        //merge attribute from super class is not copied over
-        final ExceptionClassFilter c = new ExceptionClassFilter();
-        c.include.addAll(this.include);
-        c.exclude.addAll(this.exclude);
-        return c;
     }
 }
@@ -14,6 +14,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Corresponds to {@code jsl:Job} type, the root element of job XML.
@@ -49,10 +51,38 @@ public final class Job extends InheritableJobElement implements Serializable, Pr
      */
     final List<InheritableJobElement> inheritingJobElements = new ArrayList<InheritableJobElement>();
 
+    /**
+     * Property templates compiled from the raw values in this job, shared with the copies of this job made for each
+     * job execution, and freed along with this job.
+     */
+    private transient volatile ConcurrentMap<String, PropertyTemplate> propertyTemplates;
+
     public Job(final String id) {
         super(id);
     }
 
+    /**
+     * Gets the property templates compiled from the raw values in this job, keyed by raw value.
+     *
+     * @return the compiled property templates
+     */
+    ConcurrentMap<String, PropertyTemplate> getPropertyTemplates() {
+        ConcurrentMap<String, PropertyTemplate> templates = propertyTemplates;
+        if (templates == null) {
+            synchronized (this) {
+                templates = propertyTemplates;
+                if (templates == null) {
+                    propertyTemplates = templates = new ConcurrentHashMap<String, PropertyTemplate>();
+                }
+            }
+        }
+        return templates;
+    }
+
+    void setPropertyTemplates(final ConcurrentMap<String, PropertyTemplate> propertyTemplates) {
+        this.propertyTemplates = propertyTemplates;
+    }
+
     /**
      * Gets the job's {@code restartable} attribute value as string.
      *
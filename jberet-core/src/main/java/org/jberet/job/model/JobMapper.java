@@ -53,7 +53,10 @@ public interface JobMapper {
 
         @ObjectFactory
         static Job createJob(Job job) {
-            return new Job(job.getId());
+            final Job copy = new Job(job.getId());
+            //property templates compiled for one job execution are reused by the next ones
+            copy.setPropertyTemplates(job.getPropertyTemplates());
+            return copy;
         }
 
         @ObjectFactory
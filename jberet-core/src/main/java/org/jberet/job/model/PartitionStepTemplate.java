@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.job.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates the step of each partition from the step of a partitioned step execution, whose properties have been
+ * resolved except {@code partitionPlan} properties.
+ * <p>
+ * Only {@code partitionPlan} property expressions remain in the template step, and they typically appear in
+ * batch properties. So instead of deep-copying and resolving the whole step for each partition, this class finds
+ * the batch properties that still contain expressions once, and for each partition copies and resolves only those
+ * batch properties, along with shallow copies of the elements that hold them. All other elements are shared with
+ * the template step, and must not be modified. If the template step contains expressions in other places, e.g.,
+ * artifact ref names or chunk attributes, each partition gets a deep copy of the step resolved as a whole.
+ *
+ * @since 3.2.0
+ */
+public final class PartitionStepTemplate {
+    private static final String expressionPrefix = "#{";
+
+    private final Step template;
+
+    /**
+     * Batch properties in the template step that contain expressions.
+     */
+    private final Set<Properties> dependentProperties = Collections.newSetFromMap(new IdentityHashMap<Properties, Boolean>());
+
+    /**
+     * Whether the template step contains expressions in places other than batch properties.
+     */
+    private boolean resolveWholeStep;
+
+    /**
+     * Property templates compiled from the raw values in the template step, reused by all partitions.
+     */
+    private final ConcurrentMap<String, PropertyTemplate> templates = new ConcurrentHashMap<String, PropertyTemplate>();
+
+    /**
+     * Creates a template from the step of a partitioned step execution.
+     *
+     * @param template the step whose properties, except {@code partitionPlan} properties, have been resolved
+     */
+    public PartitionStepTemplate(final Step template) {
+        this.template = template;
+        scan(template.getPartition());
+        scan(template.getAttributeNext(), template.getAllowStartIfComplete(), template.getStartLimit());
+        scan(template.getProperties());
+        scan(template.getListeners());
+        scan(template.getBatchlet());
+        scan(template.getChunk());
+        for (final Transition t : template.getTransitionElements()) {
+            scan(t.getOn());
+            if (t instanceof Transition.Next) {
+                scan(((Transition.Next<?>) t).getTo());
+            } else if (t instanceof Transition.Termination) {
+                scan(((Transition.Termination<?>) t).getExitStatus());
+                if (t instanceof Transition.Stop) {
+                    scan(((Transition.Stop<?>) t).getRestart());
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the step for a partition, with {@code partitionPlan} property expressions resolved.
+     *
+     * @param partitionPlanProperties the partition plan properties of the partition, may be null
+     * @return the step for the partition, which may share elements with the template step, or the template step
+     * itself if it does not contain any expression
+     */
+    public Step createPartitionStep(final java.util.Properties partitionPlanProperties) {
+        final PropertyResolver resolver = new PropertyResolver();
+        resolver.setTemplates(templates);
+        resolver.setPartitionPlanProperties(partitionPlanProperties);
+        resolver.setResolvePartitionPlanProperties(true);
+
+        if (resolveWholeStep) {
+            final Step step = SecurityActions.cloneStep(template);
+            resolver.resolve(step);
+            return step;
+        }
+        if (dependentProperties.isEmpty()) {
+            return template;
+        }
+
+        //resolve in the same order as PropertyResolver.resolve(Step), so that jobProperties references in
+        //partition plan property values see the same properties
+        final Step step = copy(template);
+        final Partition partition = template.getPartition();
+        if (partition != null) {
+            final Partition p = new Partition();
+            p.setMapper(partition.getMapper());
+            p.setPlan(partition.getPlan());
+            p.setAnalyzer(resolve(partition.getAnalyzer(), resolver));
+            p.setCollector(resolve(partition.getCollector(), resolver));
+            p.setReducer(resolve(partition.getReducer(), resolver));
+            step.setPartition(p);
+        }
+
+        final Properties stepProps = template.getProperties();
+        if (stepProps != null) {
+            if (dependentProperties.contains(stepProps)) {
+                final Properties resolved = stepProps.clone();
+                resolver.resolve(resolved, false);
+                step.setProperties(resolved);
+            } else {
+                resolver.push(stepProps);
+            }
+        }
+
+        final Listeners listeners = template.getListeners();
+        if (listeners != null) {
+            final List<RefArtifact> listenerList = new ArrayList<RefArtifact>(listeners.getListeners().size());
+            for (final RefArtifact l : listeners.getListeners()) {
+                listenerList.add(resolve(l, resolver));
+            }
+            final Listeners ls = new Listeners();
+            ls.setListeners(listenerList);
+            step.setListeners(ls);
+        }
+
+        step.setBatchlet(resolve(template.getBatchlet(), resolver));
+
+        final Chunk chunk = template.getChunk();
+        if (chunk != null) {
+            final Chunk c = new Chunk();
+            c.skippableExceptionClasses = chunk.skippableExceptionClasses;
+            c.retryableExceptionClasses = chunk.retryableExceptionClasses;
+            c.noRollbackExceptionClasses = chunk.noRollbackExceptionClasses;
+            c.checkpointPolicy = chunk.checkpointPolicy;
+            c.itemCount = chunk.itemCount;
+            c.timeLimit = chunk.timeLimit;
+            c.skipLimit = chunk.skipLimit;
+            c.retryLimit = chunk.retryLimit;
+            c.reader = resolve(chunk.reader, resolver);
+            c.writer = resolve(chunk.writer, resolver);
+            c.processor = resolve(chunk.processor, resolver);
+            c.checkpointAlgorithm = resolve(chunk.checkpointAlgorithm, resolver);
+            step.setChunk(c);
+        }
+        return step;
+    }
+
+    private RefArtifact resolve(final RefArtifact artifact, final PropertyResolver resolver) {
+        if (artifact == null) {
+            return null;
+        }
+        final Properties props = artifact.getProperties();
+        if (props == null || !dependentProperties.contains(props)) {
+            return artifact;
+        }
+        final Properties resolved = props.clone();
+        resolver.resolve(resolved, true);
+        return artifact.copyWithProperties(resolved);
+    }
+
+    private static Step copy(final Step template) {
+        final Step step = new Step(template.getId());
+        step.setProperties(template.getProperties());
+        step.setListeners(template.getListeners());
+        for (final Transition t : template.getTransitionElements()) {
+            step.addTransitionElement(t);
+        }
+        if (template.isAbstract()) {
+            step.setAbstract(Boolean.TRUE.toString());
+        }
+        step.setParentAndJslName(template.getParent(), template.getJslName());
+        step.startLimit = template.startLimit;
+        step.allowStartIfComplete = template.allowStartIfComplete;
+        step.next = template.next;
+        step.batchlet = template.batchlet;
+        step.chunk = template.chunk;
+        step.partition = template.partition;
+        return step;
+    }
+
+    private void scan(final Partition partition) {
+        if (partition == null) {
+            return;
+        }
+        //mapper properties and partition plan properties are not resolved for each partition
+        if (partition.getMapper() != null) {
+            scan(partition.getMapper().getRef());
+        }
+        final PartitionPlan plan = partition.getPlan();
+        if (plan != null) {
+            scan(plan.getPartitions(), plan.getThreads());
+        }
+        scan(partition.getAnalyzer());
+        scan(partition.getCollector());
+        scan(partition.getReducer());
+    }
+
+    private void scan(final Listeners listeners) {
+        if (listeners != null) {
+            for (final RefArtifact l : listeners.getListeners()) {
+                scan(l);
+            }
+        }
+    }
+
+    private void scan(final Chunk chunk) {
+        if (chunk == null) {
+            return;
+        }
+        scan(chunk.skippableExceptionClasses);
+        scan(chunk.retryableExceptionClasses);
+        scan(chunk.noRollbackExceptionClasses);
+        scan(chunk.checkpointPolicy, chunk.itemCount, chunk.timeLimit, chunk.skipLimit, chunk.retryLimit);
+        scan(chunk.reader);
+        scan(chunk.writer);
+        scan(chunk.processor);
+        scan(chunk.checkpointAlgorithm);
+    }
+
+    private void scan(final ExceptionClassFilter filter) {
+        if (filter != null) {
+            scan(filter.include.toArray(new String[0]));
+            scan(filter.exclude.toArray(new String[0]));
+        }
+    }
+
+    private void scan(final RefArtifact artifact) {
+        if (artifact != null) {
+            scan(artifact.getRef());
+            scan(artifact.getProperties());
+        }
+    }
+
+    private void scan(final Properties props) {
+        if (props == null) {
+            return;
+        }
+        if (containsExpression(props.getPartition())) {
+            dependentProperties.add(props);
+            return;
+        }
+        for (final Map.Entry<String, String> e : props.getNameValues().entrySet()) {
+            if (containsExpression(e.getKey()) || containsExpression(e.getValue())) {
+                dependentProperties.add(props);
+                return;
+            }
+        }
+    }
+
+    private void scan(final String... values) {
+        for (final String v : values) {
+            if (containsExpression(v)) {
+                resolveWholeStep = true;
+                return;
+            }
+        }
+    }
+
+    private static boolean containsExpression(final String value) {
+        return value != null && value.contains(expressionPrefix);
+    }
+}
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentMap;
 import jakarta.batch.operations.BatchRuntimeException;
 
 import org.jberet.job.model.Transition.End;
@@ -45,18 +46,17 @@ public final class PropertyResolver {
      */
     protected static final String environmentVariablesToken = "environmentVariables";
 
-    private static final String prefix = "#{";
-    private static final String defaultValuePrefix = "?:";
-
-    private static final int shortestTemplateLen = "#{jobProperties['x']}".length();
-    private static final int prefixLen = prefix.length();
-
     private Properties jobParameters;
     private Properties partitionPlanProperties;
     private final Deque<org.jberet.job.model.Properties> jobPropertiesStack = new ArrayDeque<org.jberet.job.model.Properties>();
 
     private boolean resolvePartitionPlanProperties;
 
+    /**
+     * Compiled templates of the raw values being resolved, or null if they are not cached.
+     */
+    private ConcurrentMap<String, PropertyTemplate> templates;
+
     /**
      * Sets job parameters to be used for resolving expressions referencing job parameters.
      *
@@ -75,6 +75,16 @@ public final class PropertyResolver {
         this.partitionPlanProperties = partitionPlanProperties;
     }
 
+    /**
+     * Sets the map in which templates compiled from raw values are cached, which should only hold values from job
+     * XML, so that it does not grow with values obtained at runtime.
+     *
+     * @param templates the compiled templates keyed by raw value
+     */
+    void setTemplates(final ConcurrentMap<String, PropertyTemplate> templates) {
+        this.templates = templates;
+    }
+
     void pushJobProperties(final org.jberet.job.model.Properties jobProps) {
         this.jobPropertiesStack.push(jobProps);
     }
@@ -98,6 +108,7 @@ public final class PropertyResolver {
      * @param job the job element whose properties need to be resolved
      */
     public void resolve(final Job job) {
+        templates = job.getPropertyTemplates();
         final String oldVal;
         final String newVal;
         oldVal = job.getRestartable();
@@ -391,7 +402,7 @@ public final class PropertyResolver {
         resolveJobElements(flow.jobElements);
     }
 
-    private void resolve(final org.jberet.job.model.Properties props, final boolean popProps) {
+    void resolve(final org.jberet.job.model.Properties props, final boolean popProps) {
         if (props == null) {
             return;
         }
@@ -433,6 +444,15 @@ public final class PropertyResolver {
         }
     }
 
+    /**
+     * Makes already resolved properties visible to {@code jobProperties} expressions resolved subsequently.
+     *
+     * @param props resolved properties
+     */
+    void push(final org.jberet.job.model.Properties props) {
+        jobPropertiesStack.push(props);
+    }
+
     private void resolve(final Listeners listeners) {
         if (listeners == null) {
             return;
@@ -537,162 +557,91 @@ public final class PropertyResolver {
      *                                     and the system property permission is not set.
      */
     String resolve(final String rawVale) {
-        if (rawVale.length() < shortestTemplateLen || !rawVale.contains(prefix)) {
+        if (rawVale.length() < PropertyTemplate.shortestTemplateLen) {
+            return rawVale;
+        }
+        final PropertyTemplate template = PropertyTemplate.of(rawVale, templates);
+        if (template.isLiteral() || (template.partitionPlanOnly && !resolvePartitionPlanProperties)) {
             return rawVale;
         }
-        final StringBuilder sb = new StringBuilder(rawVale);
         try {
-            resolve(sb, 0, true, null);
+            return evaluate(template, null);
         } catch (final BatchRuntimeException e) {
             LOGGER.unresolvableExpression(e.getMessage());
             return null;
         }
-        return sb.toString();
     }
 
     /**
-     * Resolves a JSL batch property value that may contain a JSL expression.
+     * Evaluates a compiled JSL batch property value that may contain JSL expressions.
      *
-     * @param sb the batch property value as StringBuilder
-     * @param start starting position to track recursive calls of this method
-     * @param defaultAllowed whether there is a default value
+     * @param template the compiled batch property value
      * @param referringExpressions referring expression for tracking cyclic references
+     * @return the resolved value
      *
      * @throws BatchRuntimeException if there is a cyclic reference
      * @throws IllegalArgumentException for invalid JSL property expressions such as missing ', [, or ]
      */
-    private void resolve(final StringBuilder sb,
-                         final int start,
-                         final boolean defaultAllowed,
-                         final LinkedList<String> referringExpressions)
+    private String evaluate(final PropertyTemplate template, final LinkedList<String> referringExpressions)
                         throws BatchRuntimeException, IllegalArgumentException {
-        //distance-to-end doesn't have space for any template, so no variable referenced
-        if (sb.length() - start < shortestTemplateLen) {
-            return;
-        }
-        final int startExpression = sb.indexOf(prefix, start);
-        if (startExpression < 0) {    //doesn't reference any variable
-            return;
-        }
-        final int startPropCategory = startExpression + prefixLen;
-        final int openBracket = sb.indexOf("[", startPropCategory);
-        if (openBracket < 0) {
-            throw MESSAGES.invalidPropertyExpression(sb.toString());
-        }
-
-        final char startQuote = sb.charAt(openBracket + 1);
-        if (startQuote != '\'' && startQuote != '"') {
-            throw MESSAGES.invalidPropertyExpression(sb.toString());
-        }
-
-        final String propCategory = sb.substring(startPropCategory, openBracket);
-        final int startVariableName = openBracket + 2;  //jump to the next char after ', the start of variable name
-        final int endBracket = sb.indexOf("]", startVariableName + 1);
-        if (endBracket < 1) {
-            throw MESSAGES.invalidPropertyExpression(sb.toString());
+        if (template.isLiteral()) {
+            return template.raw;
         }
-
-        final char endQuote = sb.charAt(endBracket - 1);
-        if (endQuote != '\'' && endQuote != '"') {
-            throw MESSAGES.invalidPropertyExpression(sb.toString());
-        }
-
-        int endExpression = endBracket + 1;
-        if (endExpression >= sb.length()) {
-            //this can happen when missing an ending } (e.g.,   #{jobProperties['step-prop']   )
-            LOGGER.possibleSyntaxErrorInProperty(sb.toString());
-            endExpression = sb.length() - 1;
-        }
-
-        int endCurrentPass = endExpression;
-        final String expression = sb.substring(startExpression, endExpression + 1);
-        if (referringExpressions != null && referringExpressions.contains(expression)) {
-            throw MESSAGES.cycleInPropertyReference(referringExpressions);
-        }
-
-        if (!resolvePartitionPlanProperties && propCategory.equals(partitionPlanToken)) {
-            resolve(sb, endCurrentPass + 1, true, null);
-            return;
-        }
-
-        final String variableName = sb.substring(startVariableName, endBracket - 1);  // ['abc']
-        String val = getPropertyValue(variableName, propCategory, sb);
-        if (val != null) {
-            val = reresolve(expression, val, defaultAllowed, referringExpressions);
-        }
-
-        if (!defaultAllowed) {  //a default expression should not have default again
-            if (val == null) {
-                //not resolved:
-                //in xml space, unresolved properties is set to "",for example, a#{jobProperties['no.such.prop']}b => ab
-                //when injecting unresolved properties to artifact class, null is injected for property value "".
-                //throw LOGGER.unresolvableExpressionException(sb.toString());
-                val = "";
+        final StringBuilder sb = new StringBuilder();
+        for (final Object part : template.parts) {
+            if (part instanceof String) {
+                sb.append((String) part);
+                continue;
             }
-            endCurrentPass = replaceAndGetEndPosition(sb, startExpression, endExpression, val);
-        } else {
-            final int startDefaultMarker = endExpression + 1;
-            final int endDefaultMarker = startDefaultMarker + 1;  //?:
-            String next2Chars = null;
-            if (endDefaultMarker >= sb.length()) {
-                //no default value expression
-            } else {
-                next2Chars = sb.substring(startDefaultMarker, endDefaultMarker + 1);
+            final PropertyTemplate.Expression expression = (PropertyTemplate.Expression) part;
+            final LinkedList<String> referring = expression.first ? referringExpressions : null;
+            if (referring != null && referring.contains(expression.text)) {
+                throw MESSAGES.cycleInPropertyReference(referring);
             }
-            final boolean hasDefault = defaultValuePrefix.equals(next2Chars);
 
-            int endDefaultExpressionMarker = sb.indexOf(";", endDefaultMarker + 1);
-            if (endDefaultExpressionMarker < 0) {
-                endDefaultExpressionMarker = sb.length();
+            if (!resolvePartitionPlanProperties && expression.category.equals(partitionPlanToken)) {
+                //leave the expression as is, and resolve the rest, including any default value expression, on its own
+                sb.append(expression.text).append(evaluate(expression.getRest(), null));
+                break;
             }
 
+            String val = getPropertyValue(expression.variableName, expression.category, template.raw);
             if (val != null) {
-                if (!hasDefault) {  //resolved, no default: replace the expression with value
-                    endCurrentPass = replaceAndGetEndPosition(sb, startExpression, endExpression, val);
-                } else {  //resolved, has default: replace    the expression and the default expression    with value
-                    endCurrentPass = replaceAndGetEndPosition(sb, startExpression, endDefaultExpressionMarker, val);
-                }
-            } else {
-                if (!hasDefault) {  //not resolved, no default:
-                    //throw LOGGER.unresolvableExpressionException(sb.toString());
-                    endCurrentPass = replaceAndGetEndPosition(sb, startExpression, endExpression, "");
-                } else {  //not resolved, has default: resolve and apply the default
-                    final StringBuilder sb4DefaultExpression = new StringBuilder(sb.substring(endDefaultMarker + 1, endDefaultExpressionMarker));
-                    resolve(sb4DefaultExpression, 0, false, null);
-                    endCurrentPass = replaceAndGetEndPosition(sb, startExpression, endDefaultExpressionMarker, sb4DefaultExpression.toString());
-                }
+                val = reresolve(expression.text, val, expression.defaultAllowed, referring);
             }
-        }
 
-        resolve(sb, endCurrentPass + 1, true, null);
+            if (val != null) {
+                sb.append(val);
+            } else if (expression.hasDefault()) {  //not resolved, has default: resolve and apply the default
+                sb.append(evaluate(expression.getDefault(), null));
+            }
+            //not resolved, no default:
+            //in xml space, unresolved properties is set to "",for example, a#{jobProperties['no.such.prop']}b => ab
+            //when injecting unresolved properties to artifact class, null is injected for property value "".
+        }
+        return sb.toString();
     }
 
     private String reresolve(final String expression, final String currentlyResolvedToVal, final boolean defaultAllowed, LinkedList<String> referringExpressions)
                                 throws BatchRuntimeException {
-        if (currentlyResolvedToVal.length() < shortestTemplateLen || !currentlyResolvedToVal.contains(prefix)) {
+        if (currentlyResolvedToVal.length() < PropertyTemplate.shortestTemplateLen || !currentlyResolvedToVal.contains(PropertyTemplate.prefix)) {
             return currentlyResolvedToVal;
         }
         if (referringExpressions == null) {
             referringExpressions = new LinkedList<String>();
         }
         referringExpressions.add(expression);
-        final StringBuilder sb = new StringBuilder(currentlyResolvedToVal);
 
         try {
-            resolve(sb, 0, defaultAllowed, referringExpressions);
+            //resolved at runtime, so not cached
+            return evaluate(PropertyTemplate.compile(currentlyResolvedToVal, defaultAllowed), referringExpressions);
         } catch (final BatchRuntimeException e) {
             LOGGER.unresolvableExpression(e.getMessage());
             return null;
         }
-        return sb.toString();
-    }
-
-    private int replaceAndGetEndPosition(final StringBuilder sb, final int startExpression, final int endExpression, final String replacingVal) {
-        sb.replace(startExpression, endExpression + 1, replacingVal);
-        return startExpression - 1 + replacingVal.length();
     }
 
-    private String getPropertyValue(final String variableName, final String propCategory, final StringBuilder sb) {
+    private String getPropertyValue(final String variableName, final String propCategory, final String propVal) {
         String val = null;
         if (propCategory.equals(jobParametersToken)) {
             if (jobParameters != null) {
@@ -730,7 +679,7 @@ public final class PropertyResolver {
                 val = System.getenv(variableName);
             }
         } else {
-            LOGGER.unrecognizedPropertyReference(propCategory, variableName, sb.toString());
+            LOGGER.unrecognizedPropertyReference(propCategory, variableName, propVal);
         }
         return val;
     }
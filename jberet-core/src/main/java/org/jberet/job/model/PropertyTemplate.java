@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.job.model;
+
+import static org.jberet._private.BatchLogger.LOGGER;
+import static org.jberet._private.BatchMessages.MESSAGES;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A property value compiled into literal text and property expressions, so that it is parsed only once, and
+ * evaluated by {@link PropertyResolver} each time it is resolved.
+ * <p>
+ * Templates compiled from job XML are cached in a map owned by the parsed {@link Job}, or by the
+ * {@link PartitionStepTemplate} of a partitioned step, so they are freed along with it. The parsing follows the rules
+ * of the original string-based resolution: only the first expression of a value is subject to the
+ * {@code defaultAllowed} flag and cycle detection, and the default value expression following {@code ?:} is compiled
+ * only when it is needed.
+ */
+final class PropertyTemplate {
+    static final String prefix = "#{";
+    private static final String defaultValuePrefix = "?:";
+    static final int shortestTemplateLen = "#{jobProperties['x']}".length();
+    private static final int prefixLen = prefix.length();
+
+    final String raw;
+
+    /**
+     * The literal text and {@link Expression} parts of the raw value, or null if it contains no expression.
+     */
+    final Object[] parts;
+
+    /**
+     * Whether all expressions in this template reference partition plan properties, and no expression has a
+     * default value containing other expressions.
+     */
+    final boolean partitionPlanOnly;
+
+    private PropertyTemplate(final String raw, final Object[] parts, final boolean partitionPlanOnly) {
+        this.raw = raw;
+        this.parts = parts;
+        this.partitionPlanOnly = partitionPlanOnly;
+    }
+
+    /**
+     * Gets the compiled template for a raw property value, in which the first expression may have a default value.
+     *
+     * @param raw the raw property value
+     * @param templates the templates compiled so far, keyed by raw value, or null if the template is not to be cached
+     * @return the compiled template
+     * @throws IllegalArgumentException for invalid property expressions such as missing ', [, or ]
+     */
+    static PropertyTemplate of(final String raw, final ConcurrentMap<String, PropertyTemplate> templates) {
+        if (templates == null) {
+            return compile(raw, true);
+        }
+        PropertyTemplate t = templates.get(raw);
+        if (t == null) {
+            t = compile(raw, true);
+            final PropertyTemplate existing = templates.putIfAbsent(raw, t);
+            if (existing != null) {
+                t = existing;
+            }
+        }
+        return t;
+    }
+
+    /**
+     * Checks if this template contains no expression.
+     *
+     * @return true if the raw value is to be used as is; false otherwise
+     */
+    boolean isLiteral() {
+        return parts == null;
+    }
+
+    /**
+     * Compiles a raw property value, without caching.
+     *
+     * @param s the raw property value
+     * @param defaultAllowed whether the first expression may have a default value
+     * @return the compiled template
+     * @throws IllegalArgumentException for invalid property expressions such as missing ', [, or ]
+     */
+    static PropertyTemplate compile(final String s, final boolean defaultAllowed) {
+        final int length = s.length();
+        final List<Object> parts = new ArrayList<Object>();
+        boolean partitionPlanOnly = true;
+        boolean first = true;
+        int start = 0;
+
+        //distance-to-end doesn't have space for any template, so no variable referenced
+        while (length - start >= shortestTemplateLen) {
+            final int startExpression = s.indexOf(prefix, start);
+            if (startExpression < 0) {    //doesn't reference any variable
+                break;
+            }
+            final int startPropCategory = startExpression + prefixLen;
+            final int openBracket = s.indexOf("[", startPropCategory);
+            if (openBracket < 0) {
+                throw MESSAGES.invalidPropertyExpression(s);
+            }
+
+            final char startQuote = s.charAt(openBracket + 1);
+            if (startQuote != '\'' && startQuote != '"') {
+                throw MESSAGES.invalidPropertyExpression(s);
+            }
+
+            final String propCategory = s.substring(startPropCategory, openBracket);
+            final int startVariableName = openBracket + 2;  //jump to the next char after ', the start of variable name
+            final int endBracket = s.indexOf("]", startVariableName + 1);
+            if (endBracket < 1) {
+                throw MESSAGES.invalidPropertyExpression(s);
+            }
+
+            final char endQuote = s.charAt(endBracket - 1);
+            if (endQuote != '\'' && endQuote != '"') {
+                throw MESSAGES.invalidPropertyExpression(s);
+            }
+
+            int endExpression = endBracket + 1;
+            if (endExpression >= length) {
+                //this can happen when missing an ending } (e.g.,   #{jobProperties['step-prop']   )
+                LOGGER.possibleSyntaxErrorInProperty(s);
+                endExpression = length - 1;
+            }
+
+            final boolean expressionDefaultAllowed = !first || defaultAllowed;
+            int startDefault = -1;
+            int endDefault = -1;
+            int next = endExpression + 1;
+            if (expressionDefaultAllowed) {
+                final int startDefaultMarker = endExpression + 1;
+                final int endDefaultMarker = startDefaultMarker + 1;  //?:
+                if (endDefaultMarker < length && defaultValuePrefix.equals(s.substring(startDefaultMarker, endDefaultMarker + 1))) {
+                    int endDefaultExpressionMarker = s.indexOf(";", endDefaultMarker + 1);
+                    if (endDefaultExpressionMarker < 0) {
+                        endDefaultExpressionMarker = length;
+                    }
+                    startDefault = endDefaultMarker + 1;
+                    endDefault = endDefaultExpressionMarker;
+                    next = endDefaultExpressionMarker + 1;
+                }
+            }
+
+            if (startExpression > start) {
+                parts.add(s.substring(start, startExpression));
+            }
+            final Expression expression = new Expression(s, s.substring(startExpression, endExpression + 1), propCategory,
+                    s.substring(startVariableName, endBracket - 1), first, expressionDefaultAllowed,
+                    startDefault, endDefault, Math.min(endExpression + 1, length));
+            parts.add(expression);
+            if (!propCategory.equals(PropertyResolver.partitionPlanToken) ||
+                    (startDefault >= 0 && s.substring(startDefault, endDefault).contains(prefix))) {
+                partitionPlanOnly = false;
+            }
+
+            first = false;
+            start = next;
+        }
+
+        if (parts.isEmpty()) {
+            return new PropertyTemplate(s, null, false);
+        }
+        if (start < length) {
+            parts.add(s.substring(start));
+        }
+        return new PropertyTemplate(s, parts.toArray(), partitionPlanOnly);
+    }
+
+    /**
+     * A property expression, e.g., {@code #{jobParameters['name']}?:default;}.
+     */
+    static final class Expression {
+        /**
+         * The expression text, without any default value expression.
+         */
+        final String text;
+
+        final String category;
+
+        final String variableName;
+
+        /**
+         * Whether this is the first expression of the raw value, which is checked for cyclic references.
+         */
+        final boolean first;
+
+        final boolean defaultAllowed;
+
+        /**
+         * The raw value containing this expression. Other parts of the raw value are referenced by their offsets, so
+         * that the size of a template is linear in the length of its raw value.
+         */
+        private final String source;
+
+        /**
+         * Start (inclusive) and end (exclusive) offsets in {@link #source} of the default value expression following
+         * {@code ?:}, or -1 if there is none.
+         */
+        private final int startDefault;
+        private final int endDefault;
+
+        /**
+         * Offset in {@link #source} of the rest of the raw value following this expression, including any default
+         * value expression, which is resolved on its own if this expression is left unresolved.
+         */
+        private final int startRest;
+
+        /**
+         * The compiled default value expression, compiled when first needed.
+         */
+        private volatile PropertyTemplate defaultTemplate;
+
+        private Expression(final String source, final String text, final String category, final String variableName,
+                           final boolean first, final boolean defaultAllowed,
+                           final int startDefault, final int endDefault, final int startRest) {
+            this.source = source;
+            this.text = text;
+            this.category = category;
+            this.variableName = variableName;
+            this.first = first;
+            this.defaultAllowed = defaultAllowed;
+            this.startDefault = startDefault;
+            this.endDefault = endDefault;
+            this.startRest = startRest;
+        }
+
+        boolean hasDefault() {
+            return startDefault >= 0;
+        }
+
+        PropertyTemplate getDefault() {
+            PropertyTemplate t = defaultTemplate;
+            if (t == null) {
+                defaultTemplate = t = compile(source.substring(startDefault, endDefault), false);
+            }
+            return t;
+        }
+
+        /**
+         * Compiles the rest of the raw value following this expression. It is only needed when partition plan
+         * properties are not resolved, and is not kept, since the templates of all rests of a value would take
+         * space quadratic in its length.
+         */
+        PropertyTemplate getRest() {
+            return compile(source.substring(startRest), true);
+        }
+    }
+}
@@ -98,6 +98,19 @@ public class RefArtifact implements Serializable, Cloneable, PropertiesHolder {
         }
     }
 
+    /**
+     * Creates a copy of this batch artifact with different properties, sharing the script, if any.
+     *
+     * @param properties properties of the copy
+     * @return a copy of this batch artifact
+     */
+    RefArtifact copyWithProperties(final Properties properties) {
+        final RefArtifact c = new RefArtifact(this.ref);
+        c.properties = properties;
+        c.script = this.script;
+        return c;
+    }
+
     @Override
     protected RefArtifact clone() {
         final RefArtifact c = new RefArtifact(this.ref);
@@ -24,4 +24,14 @@ class SecurityActions {
             return JobFactory.cloneJobElements(jobElements);
         }
     }
+
+    static Step cloneStep(final Step step) {
+        if(System.getSecurityManager() != null) {
+            return AccessController.doPrivileged(
+                (PrivilegedAction<Step>) () -> JobFactory.cloneStep(step));
+        }
+        else {
+            return JobFactory.cloneStep(step);
+        }
+    }
 }
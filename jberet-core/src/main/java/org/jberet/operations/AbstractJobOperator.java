@@ -12,7 +12,6 @@ package org.jberet.operations;
 
 import static org.jberet._private.BatchMessages.MESSAGES;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
@@ -98,7 +97,7 @@ public abstract class AbstractJobOperator implements JobOperator {
     public long start(final String jobXMLName, final Properties jobParameters, final String user) throws JobStartException, JobSecurityException {
         final BatchEnvironment batchEnvironment = getBatchEnvironment();
         final Job jobDefined = ArchiveXmlLoader.loadJobXml(jobXMLName, batchEnvironment.getClassLoader(),
-                new ArrayList<Job>(), batchEnvironment.getJobXmlResolver());
+                batchEnvironment.getJobXmlResolver());
         return start(jobDefined, jobParameters, user);
     }
 
@@ -191,12 +190,12 @@ public abstract class AbstractJobOperator implements JobOperator {
             throw MESSAGES.noSuchJobException(null);
         }
         final JobRepository repository = getJobRepository();
-        final List<JobInstance> instances = repository.getJobInstances(jobName);
-        final int size = instances.size();
-        if (size == 0 && !repository.jobExists(jobName)) {
+        final List<JobInstance> instances = repository.getJobInstances(jobName, start, count);
+        if (instances.isEmpty() && !repository.jobExists(jobName) &&
+                (start <= 0 || repository.getJobInstanceCount(jobName) == 0)) {
             throw MESSAGES.noSuchJobException(jobName);
         }
-        return instances.subList(Math.min(start, size), Math.min(start + count, size));
+        return instances;
     }
 
     @Override
@@ -323,6 +322,19 @@ public abstract class AbstractJobOperator implements JobOperator {
         return getJobRepository().getJobExecutionsByJob(jobName);
     }
 
+    /**
+     * Gets a page of the job execution ids belonging to the job identified by the {@code jobName}, most recent
+     * first.
+     * @param jobName the job name identifying the job
+     * @param start the number of most recent job execution ids to skip
+     * @param count the maximum number of job execution ids to return
+     * @return job execution ids belonging to the job
+     * @since 3.2.0
+     */
+    public List<Long> getJobExecutionsByJob(final String jobName, final int start, final int count) {
+        return getJobRepository().getJobExecutionsByJob(jobName, start, count);
+    }
+
     @Override
     public JobExecution getJobExecution(final long executionId) throws NoSuchJobExecutionException, JobSecurityException {
         return getJobExecutionImpl(executionId);
@@ -410,7 +422,7 @@ public abstract class AbstractJobOperator implements JobOperator {
                         oldJobParameters = null;
                     }
                 }
-                jobDefined = ArchiveXmlLoader.loadJobXml(jobXmlName, batchEnvironment.getClassLoader(), new ArrayList<Job>(), batchEnvironment.getJobXmlResolver());
+                jobDefined = ArchiveXmlLoader.loadJobXml(jobXmlName, batchEnvironment.getClassLoader(), batchEnvironment.getJobXmlResolver());
                 repository.addJob(applicationAndJobName, jobDefined);
             }
             jobInstance.setUnsubstitutedJob(jobDefined);
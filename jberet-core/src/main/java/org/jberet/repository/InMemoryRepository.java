@@ -10,19 +10,26 @@
 
 package org.jberet.repository;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import jakarta.batch.runtime.BatchStatus;
 import jakarta.batch.runtime.JobExecution;
@@ -30,20 +37,140 @@ import jakarta.batch.runtime.JobInstance;
 import jakarta.batch.runtime.StepExecution;
 
 import org.jberet._private.BatchLogger;
+import org.jberet._private.BatchMessages;
 import org.jberet.job.model.Job;
 import org.jberet.runtime.JobExecutionImpl;
 import org.jberet.runtime.JobInstanceImpl;
 import org.jberet.runtime.StepExecutionImpl;
 
-public final class InMemoryRepository extends AbstractRepository {
-    private final ConcurrentMap<Long, JobInstanceImpl> jobInstances = new ConcurrentHashMap<Long, JobInstanceImpl>();
+/**
+ * A job repository that keeps job data in memory.
+ * <p>
+ * Besides the job instances and job executions by id, this repository keeps secondary indexes of job instances and
+ * job executions by job name, ordered from the most recent, and of job executions that may still be running, so that
+ * listing and counting operations take time proportional to the size of their result, rather than to all job data
+ * ever kept in this repository. Job executions of a job instance are found from the job instance itself.
+ * <p>
+ * An in-memory job repository may also be created with a retention policy, configured with
+ * {@value #MAX_JOB_EXECUTIONS_PER_JOB_KEY}, {@value #MAX_JOB_EXECUTIONS_KEY} and {@value #MAX_AGE_MINUTES_KEY}.
+ * Finished job executions are then kept in queues in the order they finish, and the oldest ones beyond any limit are
+ * evicted by a background thread, along with their step executions, and their job instance when it has no more job
+ * executions. Job executions of a job instance that may still be running or restarted, i.e., whose latest job
+ * execution is not {@code COMPLETED} or {@code ABANDONED}, are never evicted, nor counted against the limits.
+ * The background thread is stopped with {@link #close()}, after which job executions are no longer evicted.
+ */
+public final class InMemoryRepository extends AbstractRepository implements AutoCloseable {
+    /**
+     * The key of the configuration property for the maximum number of finished job executions kept for each job name.
+     * Its value should be a non-negative integer, and 0 (default) means no limit.
+     *
+     * @since 3.2.0
+     */
+    public static final String MAX_JOB_EXECUTIONS_PER_JOB_KEY = "in-memory-max-job-executions-per-job";
+
+    /**
+     * The key of the configuration property for the maximum number of finished job executions kept in total, to
+     * bound the memory used by the repository. Its value should be a non-negative integer, and 0 (default) means no
+     * limit.
+     *
+     * @since 3.2.0
+     */
+    public static final String MAX_JOB_EXECUTIONS_KEY = "in-memory-max-job-executions";
+
+    /**
+     * The key of the configuration property for the number of minutes finished job executions are kept. Its value
+     * should be a non-negative integer, and 0 (default) means no limit.
+     *
+     * @since 3.2.0
+     */
+    public static final String MAX_AGE_MINUTES_KEY = "in-memory-max-age-minutes";
+
+    private final ConcurrentNavigableMap<Long, JobInstanceImpl> jobInstances =
+            new ConcurrentSkipListMap<Long, JobInstanceImpl>(Comparator.reverseOrder());
     private final ConcurrentMap<Long, JobExecutionImpl> jobExecutions = new ConcurrentHashMap<Long, JobExecutionImpl>();
 
+    /**
+     * Job instances by job name, each ordered from the most recent.
+     */
+    private final ConcurrentMap<String, ConcurrentNavigableMap<Long, JobInstanceImpl>> jobInstancesByJobName =
+            new ConcurrentHashMap<String, ConcurrentNavigableMap<Long, JobInstanceImpl>>();
+
+    /**
+     * Job executions by job name, each ordered from the most recent.
+     */
+    private final ConcurrentMap<String, ConcurrentNavigableMap<Long, JobExecutionImpl>> jobExecutionsByJobName =
+            new ConcurrentHashMap<String, ConcurrentNavigableMap<Long, JobExecutionImpl>>();
+
+    /**
+     * Job executions that have not been seen in a final batch status yet. Since batch status changes are not all
+     * reported to the repository, this is a superset of the running job executions, which is pruned when updated job
+     * executions or running job executions are checked.
+     */
+    private final ConcurrentMap<Long, JobExecutionImpl> unfinishedJobExecutions =
+            new ConcurrentHashMap<Long, JobExecutionImpl>();
+
     private final AtomicLong jobInstanceIdSequence = new AtomicLong();
     private final AtomicLong jobExecutionIdSequence = new AtomicLong();
     private final AtomicLong stepExecutionIdSequence = new AtomicLong();
 
+    private final int maxJobExecutionsPerJob;
+    private final int maxJobExecutions;
+    private final long maxAgeMillis;
+
+    /**
+     * Single thread that evicts finished job executions, or null if there is no retention policy. The retention
+     * queues below are only accessed by this thread.
+     */
+    private final ScheduledExecutorService evictionExecutor;
+
+    /**
+     * Evictable finished job executions, in the order they finish.
+     */
+    private final ArrayDeque<RetainedJobExecution> retained = new ArrayDeque<RetainedJobExecution>();
+
+    /**
+     * Evictable finished job executions by job name, in the order they finish.
+     */
+    private final Map<String, RetainedQueue> retainedByJobName = new HashMap<String, RetainedQueue>();
+
+    /**
+     * Evictable finished job executions by id, to forget those removed from this repository otherwise.
+     */
+    private final Map<Long, RetainedJobExecution> retainedById = new HashMap<Long, RetainedJobExecution>();
+
+    /**
+     * Finished job executions kept because their job instance may still be running or restarted, by job instance id.
+     */
+    private final Map<Long, List<JobExecutionImpl>> heldByJobInstance = new HashMap<Long, List<JobExecutionImpl>>();
+
     public InMemoryRepository() {
+        this(null);
+    }
+
+    /**
+     * Creates an in-memory job repository with the retention policy configured in {@code configProperties}.
+     *
+     * @param configProperties configuration properties, may be null
+     *
+     * @since 3.2.0
+     */
+    public InMemoryRepository(final Properties configProperties) {
+        maxJobExecutionsPerJob = getIntProperty(configProperties, MAX_JOB_EXECUTIONS_PER_JOB_KEY);
+        maxJobExecutions = getIntProperty(configProperties, MAX_JOB_EXECUTIONS_KEY);
+        maxAgeMillis = TimeUnit.MINUTES.toMillis(getIntProperty(configProperties, MAX_AGE_MINUTES_KEY));
+        if (maxJobExecutionsPerJob > 0 || maxJobExecutions > 0 || maxAgeMillis > 0) {
+            evictionExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "jberet-in-memory-repository-eviction");
+                thread.setDaemon(true);
+                return thread;
+            });
+            if (maxAgeMillis > 0) {
+                final long period = Math.min(maxAgeMillis, TimeUnit.MINUTES.toMillis(1));
+                evictionExecutor.scheduleWithFixedDelay(this::evict, period, period, TimeUnit.MILLISECONDS);
+            }
+        } else {
+            evictionExecutor = null;
+        }
     }
 
     private static class Holder {
@@ -69,27 +196,81 @@ public final class InMemoryRepository extends AbstractRepository {
         return new InMemoryRepository();
     }
 
+    /**
+     * Creates a new in-memory job repository with the retention policy configured in {@code configProperties}.
+     *
+     * @param configProperties configuration properties, may be null
+     * @return a new in-memory job repository
+     *
+     * @see #MAX_JOB_EXECUTIONS_PER_JOB_KEY
+     * @see #MAX_JOB_EXECUTIONS_KEY
+     * @see #MAX_AGE_MINUTES_KEY
+     * @since 3.2.0
+     */
+    public static InMemoryRepository create(final Properties configProperties) {
+        return new InMemoryRepository(configProperties);
+    }
+
+    /**
+     * Checks if any retention policy is configured in {@code configProperties}.
+     *
+     * @param configProperties configuration properties, may be null
+     * @return true if any retention policy is configured; false otherwise
+     *
+     * @since 3.2.0
+     */
+    public static boolean hasRetentionPolicy(final Properties configProperties) {
+        return getIntProperty(configProperties, MAX_JOB_EXECUTIONS_PER_JOB_KEY) > 0 ||
+                getIntProperty(configProperties, MAX_JOB_EXECUTIONS_KEY) > 0 ||
+                getIntProperty(configProperties, MAX_AGE_MINUTES_KEY) > 0;
+    }
+
+    /**
+     * Stops evicting finished job executions, if a retention policy is configured. Job data already kept in this
+     * repository remain available.
+     *
+     * @since 3.2.0
+     */
+    @Override
+    public void close() {
+        if (evictionExecutor != null) {
+            evictionExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Evicts finished job executions beyond the configured limits, after all job executions finished so far have been
+     * added to the retention queues, and waits till it is done.
+     */
+    void evictNow() throws InterruptedException, ExecutionException {
+        if (evictionExecutor != null) {
+            evictionExecutor.submit(() -> evict()).get();
+        }
+    }
+
     @Override
     public void removeJob(final String jobId) {
         super.removeJob(jobId);
 
         //perform cascade delete
-        for (final Iterator<Map.Entry<Long, JobInstanceImpl>> it = jobInstances.entrySet().iterator(); it.hasNext(); ) {
-            final JobInstance ji = it.next().getValue();
-            if (ji.getJobName().equals(jobId)) {
-                BatchLogger.LOGGER.removing(JobInstance.class.getName(), String.valueOf(ji.getInstanceId()));
-                it.remove();
+        final Map<Long, JobInstanceImpl> instancesToRemove = jobInstancesByJobName.remove(jobId);
+        if (instancesToRemove != null) {
+            for (final Long id : instancesToRemove.keySet()) {
+                BatchLogger.LOGGER.removing(JobInstance.class.getName(), String.valueOf(id));
+                jobInstances.remove(id);
             }
         }
 
-        for (final Iterator<Map.Entry<Long, JobExecutionImpl>> it = jobExecutions.entrySet().iterator(); it.hasNext(); ) {
-            final JobExecution je = it.next().getValue();
-            if (je.getJobName().equals(jobId)) {
+        final Map<Long, JobExecutionImpl> executionsToRemove = jobExecutionsByJobName.remove(jobId);
+        if (executionsToRemove != null) {
+            for (final JobExecutionImpl je : executionsToRemove.values()) {
                 if (je.getJobParameters() != null) {
                     je.getJobParameters().clear();
                 }
                 BatchLogger.LOGGER.removing(JobExecution.class.getName(), String.valueOf(je.getExecutionId()));
-                it.remove();
+                jobExecutions.remove(je.getExecutionId());
+                unfinishedJobExecutions.remove(je.getExecutionId());
+                forgetRetained(je);
             }
         }
     }
@@ -114,6 +295,18 @@ public final class InMemoryRepository extends AbstractRepository {
         // do nothing
     }
 
+    @Override
+    public void updateJobExecution(final JobExecutionImpl jobExecution, final boolean fullUpdate, final boolean saveJobParameters) {
+        super.updateJobExecution(jobExecution, fullUpdate, saveJobParameters);
+        if (!isUnfinished(jobExecution.getBatchStatus())) {
+            if (!finished(jobExecution) && evictionExecutor != null) {
+                //e.g., abandoned, which may make its held job executions evictable
+                final long jobInstanceId = jobExecution.getJobInstance().getInstanceId();
+                executeEviction(() -> release(jobInstanceId));
+            }
+        }
+    }
+
     @Override
     public int countStepStartTimes(final String stepName, final long jobInstanceId) {
         int count = 0;
@@ -134,14 +327,13 @@ public final class InMemoryRepository extends AbstractRepository {
     @Override
     public void removeJobExecutions(final JobExecutionSelector jobExecutionSelector) {
         final Collection<Long> allJobExecutionIds = jobExecutions.keySet();
-        for (final Iterator<Map.Entry<Long, JobExecutionImpl>> it = jobExecutions.entrySet().iterator(); it.hasNext(); ) {
-            final JobExecutionImpl je = it.next().getValue();
+        for (final JobExecutionImpl je : jobExecutions.values()) {
             if (jobExecutionSelector == null || jobExecutionSelector.select(je, allJobExecutionIds)) {
                 if (je.getJobParameters() != null) {
                     je.getJobParameters().clear();
                 }
                 BatchLogger.LOGGER.removing(JobExecution.class.getName(), String.valueOf(je.getExecutionId()));
-                it.remove();
+                removeJobExecution(je);
             }
         }
     }
@@ -151,13 +343,17 @@ public final class InMemoryRepository extends AbstractRepository {
         final JobInstanceImpl jobInstance = new JobInstanceImpl(job, applicationName, job.getId());
         insertJobInstance(jobInstance);
         jobInstances.put(jobInstance.getInstanceId(), jobInstance);
+        addToIndex(jobInstancesByJobName, jobInstance.getJobName(), jobInstance.getInstanceId(), jobInstance);
         return jobInstance;
     }
 
     @Override
     public void removeJobInstance(final long jobInstanceIdToRemove) {
         BatchLogger.LOGGER.removing(JobInstance.class.getName(), String.valueOf(jobInstanceIdToRemove));
-        jobInstances.remove(jobInstanceIdToRemove);
+        final JobInstanceImpl jobInstance = jobInstances.remove(jobInstanceIdToRemove);
+        if (jobInstance != null) {
+            removeFromIndex(jobInstancesByJobName, jobInstance.getJobName(), jobInstanceIdToRemove);
+        }
     }
 
     @Override
@@ -167,28 +363,22 @@ public final class InMemoryRepository extends AbstractRepository {
 
     @Override
     public List<JobInstance> getJobInstances(final String jobName) {
-        final List<JobInstance> result = new ArrayList<JobInstance>();
-        final long largestJobInstanceId = jobInstanceIdSequence.get();
-
-        final boolean selectAll = jobName == null || jobName.equals("*");
-        for (long i = largestJobInstanceId; i > 0; i--) {
-            final JobInstanceImpl e = jobInstances.get(i);
-            if (e != null && (selectAll || jobName.equals(e.getJobName()))) {
-                result.add(e);
-            }
-        }
-        return result;
+        return getJobInstances(jobName, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        final Map<Long, JobInstanceImpl> instances = jobName == null || jobName.equals("*") ?
+                jobInstances : jobInstancesByJobName.get(jobName);
+        return instances == null ? new ArrayList<JobInstance>() :
+                instances.values().stream().skip(Math.max(start, 0)).limit(Math.max(count, 0))
+                        .collect(Collectors.<JobInstance>toList());
     }
 
     @Override
     public int getJobInstanceCount(final String jobName) {
-        int count = 0;
-        for (final JobInstance e : jobInstances.values()) {
-            if (e.getJobName().equals(jobName)) {
-                count++;
-            }
-        }
-        return count;
+        final Map<Long, JobInstanceImpl> instances = jobInstancesByJobName.get(jobName);
+        return instances == null ? 0 : instances.size();
     }
 
     @Override
@@ -196,6 +386,8 @@ public final class InMemoryRepository extends AbstractRepository {
         final JobExecutionImpl jobExecution = new JobExecutionImpl(jobInstance, jobParameters);
         insertJobExecution(jobExecution);
         jobExecutions.put(jobExecution.getExecutionId(), jobExecution);
+        addToIndex(jobExecutionsByJobName, jobExecution.getJobName(), jobExecution.getExecutionId(), jobExecution);
+        unfinishedJobExecutions.put(jobExecution.getExecutionId(), jobExecution);
         jobInstance.addJobExecution(jobExecution);
         return jobExecution;
     }
@@ -238,11 +430,11 @@ public final class InMemoryRepository extends AbstractRepository {
         StepExecutionImpl result = null;
         // the same-named StepExecution is not found in the jobExecutionToRestart.  It's still possible the same-named
         // StepExecution may exit in JobExecution earlier than jobExecutionToRestart for the same JobInstance.
-        final long instanceId = jobExecutionToRestart.getJobInstance().getInstanceId();
-        for (final JobExecutionImpl jobExecutionImpl : jobExecutions.values()) {
-            //skip the JobExecution that has already been checked above
-            if (instanceId == jobExecutionImpl.getJobInstance().getInstanceId() &&
-                    jobExecutionImpl.getExecutionId() != jobExecutionToRestart.getExecutionId()) {
+        for (final JobExecution jobExecution : jobExecutionToRestart.getJobInstance().getJobExecutions()) {
+            final JobExecutionImpl jobExecutionImpl = (JobExecutionImpl) jobExecution;
+            //skip the JobExecution that has already been checked above, and those removed from this repository
+            if (jobExecutionImpl.getExecutionId() != jobExecutionToRestart.getExecutionId() &&
+                    jobExecutions.containsKey(jobExecutionImpl.getExecutionId())) {
                 for (final StepExecution stepExecution : jobExecutionImpl.getStepExecutions()) {
                     if (stepExecution.getStepName().equals(stepName)) {
                         if (result == null || result.getStepExecutionId() < stepExecution.getStepExecutionId()) {
@@ -259,12 +451,12 @@ public final class InMemoryRepository extends AbstractRepository {
     public List<Long> getRunningExecutions(final String jobName) {
         final List<Long> result = new ArrayList<Long>();
 
-        for (final Map.Entry<Long, JobExecutionImpl> e : jobExecutions.entrySet()) {
-            if (e.getValue().getJobName().equals(jobName)) {
-                final BatchStatus s = e.getValue().getBatchStatus();
-                if (s == BatchStatus.STARTING || s == BatchStatus.STARTED) {
-                    result.add(e.getKey());
-                }
+        for (final JobExecutionImpl e : unfinishedJobExecutions.values()) {
+            final BatchStatus s = e.getBatchStatus();
+            if (!isUnfinished(s)) {
+                finished(e);
+            } else if ((s == BatchStatus.STARTING || s == BatchStatus.STARTED) && e.getJobName().equals(jobName)) {
+                result.add(e.getExecutionId());
             }
         }
         return result;
@@ -280,13 +472,271 @@ public final class InMemoryRepository extends AbstractRepository {
 
     @Override
     public List<Long> getJobExecutionsByJob(String jobName, Integer limit) {
-        Stream<Long> stream = jobExecutions.values().stream().filter(e -> e.getJobName().equals(jobName))
-                .map(JobExecution::getExecutionId)
-                .sorted(Comparator.reverseOrder());
         if (limit != null) {
             BatchLogger.LOGGER.jobExecutionRecordsLimited(limit);
-            stream = stream.limit(limit);
         }
-        return stream.collect(Collectors.toList());
+        return getJobExecutionsByJob(jobName, 0, limit == null ? Integer.MAX_VALUE : limit);
+    }
+
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final int start, final int count) {
+        final Map<Long, JobExecutionImpl> executions = jobExecutionsByJobName.get(jobName);
+        return executions == null ? new ArrayList<Long>() :
+                executions.keySet().stream().skip(Math.max(start, 0)).limit(Math.max(count, 0))
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * Removes a job execution from this repository and its indexes.
+     *
+     * @param jobExecution the job execution to remove
+     */
+    private void removeJobExecution(final JobExecutionImpl jobExecution) {
+        final long id = jobExecution.getExecutionId();
+        jobExecutions.remove(id);
+        unfinishedJobExecutions.remove(id);
+        removeFromIndex(jobExecutionsByJobName, jobExecution.getJobName(), id);
+        forgetRetained(jobExecution);
+    }
+
+    /**
+     * Removes a job execution from the unfinished job executions, and hands it over to the eviction thread, if it has
+     * not been done yet.
+     *
+     * @param jobExecution a job execution in a final batch status
+     * @return true if the job execution was unfinished; false otherwise
+     */
+    private boolean finished(final JobExecutionImpl jobExecution) {
+        if (!unfinishedJobExecutions.remove(jobExecution.getExecutionId(), jobExecution)) {
+            return false;
+        }
+        if (evictionExecutor != null) {
+            final long finishedTime = System.currentTimeMillis();
+            executeEviction(() -> retain(jobExecution, finishedTime));
+        }
+        return true;
+    }
+
+    private void forgetRetained(final JobExecutionImpl jobExecution) {
+        if (evictionExecutor != null) {
+            executeEviction(() -> {
+                final RetainedJobExecution r = retainedById.get(jobExecution.getExecutionId());
+                if (r != null) {
+                    markRemoved(r);
+                }
+                final List<JobExecutionImpl> held = heldByJobInstance.get(jobExecution.getJobInstance().getInstanceId());
+                if (held != null && held.remove(jobExecution) && held.isEmpty()) {
+                    heldByJobInstance.remove(jobExecution.getJobInstance().getInstanceId());
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs a task in the eviction thread, unless this repository has been closed.
+     */
+    private void executeEviction(final Runnable task) {
+        try {
+            evictionExecutor.execute(task);
+        } catch (final RejectedExecutionException e) {
+            //closed, and no longer evicting job executions
+        }
+    }
+
+    /**
+     * Adds a finished job execution to the retention queues, or holds it if its job instance may still be running or
+     * restarted, and evicts job executions beyond the limits. Runs in the eviction thread.
+     */
+    private void retain(final JobExecutionImpl jobExecution, final long finishedTime) {
+        if (!jobExecutions.containsKey(jobExecution.getExecutionId())) {
+            return;
+        }
+        final long jobInstanceId = jobExecution.getJobInstance().getInstanceId();
+        if (isHeld(jobExecution.getJobInstance())) {
+            heldByJobInstance.computeIfAbsent(jobInstanceId, k -> new ArrayList<JobExecutionImpl>()).add(jobExecution);
+            return;
+        }
+        final RetainedQueue queue = retainedByJobName.computeIfAbsent(jobExecution.getJobName(), RetainedQueue::new);
+        final RetainedJobExecution r = new RetainedJobExecution(jobExecution, finishedTime, queue);
+        if (maxAgeMillis > 0 || maxJobExecutions > 0) {
+            retained.add(r);
+        }
+        queue.add(r);
+        queue.retainedCount++;
+        retainedById.put(jobExecution.getExecutionId(), r);
+
+        int evicted = 0;
+        if (maxJobExecutionsPerJob > 0) {
+            RetainedJobExecution oldest;
+            while (queue.retainedCount > maxJobExecutionsPerJob && (oldest = queue.peek()) != null) {
+                evict(oldest);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            BatchLogger.LOGGER.evictedJobExecutions(evicted, retainedById.size());
+        }
+        release(jobInstanceId);
+    }
+
+    /**
+     * Adds the held job executions of a job instance to the retention queues, if it may no longer be running or
+     * restarted, and evicts job executions beyond the limits. Runs in the eviction thread.
+     */
+    private void release(final long jobInstanceId) {
+        final List<JobExecutionImpl> held = heldByJobInstance.get(jobInstanceId);
+        if (held != null && !isHeld(held.get(0).getJobInstance())) {
+            heldByJobInstance.remove(jobInstanceId);
+            final long now = System.currentTimeMillis();
+            for (final JobExecutionImpl e : held) {
+                retain(e, now);
+            }
+        }
+        evict();
+    }
+
+    /**
+     * Checks if the job executions of a job instance must be kept, because its latest job execution is still
+     * running, or may be restarted.
+     */
+    private static boolean isHeld(final JobInstanceImpl jobInstance) {
+        final List<JobExecution> executions = jobInstance.getJobExecutions();
+        if (executions.isEmpty()) {
+            return false;
+        }
+        final BatchStatus s = executions.get(executions.size() - 1).getBatchStatus();
+        return s != BatchStatus.COMPLETED && s != BatchStatus.ABANDONED;
+    }
+
+    /**
+     * Evicts the oldest finished job executions beyond the configured limits. Runs in the eviction thread.
+     */
+    private void evict() {
+        int evicted = 0;
+        final long oldest = maxAgeMillis > 0 ? System.currentTimeMillis() - maxAgeMillis : Long.MIN_VALUE;
+        RetainedJobExecution r;
+        while ((r = retained.peek()) != null &&
+                (r.jobExecution == null || r.finishedTime < oldest ||
+                        (maxJobExecutions > 0 && retainedById.size() > maxJobExecutions))) {
+            retained.poll();
+            if (r.jobExecution != null) {
+                evict(r);
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            BatchLogger.LOGGER.evictedJobExecutions(evicted, retainedById.size());
+        }
+    }
+
+    /**
+     * Evicts a retained job execution from this repository, and its job instance if it has no more job executions.
+     */
+    private void evict(final RetainedJobExecution r) {
+        final JobExecutionImpl je = r.jobExecution;
+        markRemoved(r);
+        jobExecutions.remove(je.getExecutionId());
+        removeFromIndex(jobExecutionsByJobName, je.getJobName(), je.getExecutionId());
+
+        final JobInstanceImpl jobInstance = je.getJobInstance();
+        jobInstance.getJobExecutions().remove(je);
+        if (jobInstance.getJobExecutions().isEmpty()) {
+            jobInstances.remove(jobInstance.getInstanceId());
+            removeFromIndex(jobInstancesByJobName, jobInstance.getJobName(), jobInstance.getInstanceId());
+        }
+    }
+
+    /**
+     * Marks a retained job execution as no longer in this repository. Its entry in the queue of all job executions is
+     * left to be skipped later, and entries at the head of the queue of its job name are dropped, so that queues do not
+     * keep references to removed job executions.
+     */
+    private void markRemoved(final RetainedJobExecution r) {
+        retainedById.remove(r.jobExecution.getExecutionId());
+        r.jobExecution = null;
+        final RetainedQueue queue = r.queue;
+        queue.retainedCount--;
+        while (!queue.isEmpty() && queue.peek().jobExecution == null) {
+            queue.poll();
+        }
+        if (queue.retainedCount == 0) {
+            retainedByJobName.remove(queue.jobName, queue);
+        }
+    }
+
+    private static int getIntProperty(final Properties configProperties, final String key) {
+        final String val = configProperties == null ? null : configProperties.getProperty(key);
+        if (val == null || val.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(val.trim()));
+        } catch (final NumberFormatException e) {
+            throw BatchMessages.MESSAGES.invalidConfigProperty(e, key, val);
+        }
+    }
+
+    private static boolean isUnfinished(final BatchStatus batchStatus) {
+        return batchStatus == BatchStatus.STARTING || batchStatus == BatchStatus.STARTED ||
+                batchStatus == BatchStatus.STOPPING;
+    }
+
+    /**
+     * Adds a value to the index map of a job name, creating the index map if needed. Index maps are only created and
+     * removed inside {@code compute} calls, so that values are never added to an index map that has been removed.
+     */
+    private static <T> void addToIndex(final ConcurrentMap<String, ConcurrentNavigableMap<Long, T>> index,
+                                       final String jobName, final long id, final T value) {
+        index.compute(jobName, (k, v) -> {
+            final ConcurrentNavigableMap<Long, T> map = v != null ? v :
+                    new ConcurrentSkipListMap<Long, T>(Comparator.reverseOrder());
+            map.put(id, value);
+            return map;
+        });
+    }
+
+    /**
+     * Removes a value from the index map of a job name, and removes the index map if it becomes empty.
+     */
+    private static <T> void removeFromIndex(final ConcurrentMap<String, ConcurrentNavigableMap<Long, T>> index,
+                                            final String jobName, final long id) {
+        index.computeIfPresent(jobName, (k, v) -> {
+            v.remove(id);
+            return v.isEmpty() ? null : v;
+        });
+    }
+
+    private static final class RetainedJobExecution {
+        /**
+         * The retained job execution, or null if it has been evicted or removed from the repository, and this entry
+         * is only left in queues.
+         */
+        JobExecutionImpl jobExecution;
+        final long finishedTime;
+        final RetainedQueue queue;
+
+        RetainedJobExecution(final JobExecutionImpl jobExecution, final long finishedTime, final RetainedQueue queue) {
+            this.jobExecution = jobExecution;
+            this.finishedTime = finishedTime;
+            this.queue = queue;
+        }
+    }
+
+    /**
+     * Queue of the retained job executions of a job name, which may also contain entries of removed job executions.
+     */
+    private static final class RetainedQueue extends ArrayDeque<RetainedJobExecution> {
+        private static final long serialVersionUID = 1L;
+
+        final String jobName;
+
+        /**
+         * The number of job executions in this queue that are still in the repository.
+         */
+        int retainedCount;
+
+        RetainedQueue(final String jobName) {
+            this.jobName = jobName;
+        }
     }
 }
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jberet._private.BatchLogger;
+
+/**
+ * A lightweight pool of JDBC connections obtained from {@code java.sql.DriverManager}, used by {@link JdbcRepository}
+ * when it is configured with a database url instead of a {@code javax.sql.DataSource}.
+ * <p>
+ * This is only a cache of idle connections: the pool size limits the number of connections kept open for reuse,
+ * not the number of connections open at the same time, which grows with the number of concurrent repository
+ * operations, e.g., one for each thread running a job, step or partition. The pool never blocks, since a repository
+ * operation may hold a connection while obtaining another one: if no idle connection is available, a new connection
+ * is opened. Where the number of open connections must be limited, use a {@code DataSource} with a connection pool
+ * instead. When a connection is
+ * released, its auto-commit mode, transaction isolation and read-only mode are restored to those it was opened
+ * with, and it is kept open for reuse if the number of idle connections is less than the pool size, otherwise it
+ * is closed. A connection whose state cannot be restored, or that has been idle longer than
+ * {@link #MAX_IDLE_MILLIS}, is closed, and an idle connection is validated before being handed out again. Each
+ * connection obtained from this pool keeps a cache of its prepared statements, keyed by sql, so that repeated
+ * repository calls on the same connection do not prepare the same sql again.
+ * <p>
+ * A connection obtained from this pool must only be used by one thread at a time, and must be returned to this pool
+ * with {@link #release(Connection)}. A statement obtained with {@link #prepareStatement(Connection, String)} must be
+ * given back with {@link #releaseStatement(Statement)} instead of being closed. After {@link #close()}, connections
+ * are no longer pooled.
+ *
+ * @since 3.2.0
+ */
+final class JdbcConnectionPool {
+    /**
+     * A connection that has been idle longer than this interval is validated before being handed out.
+     */
+    private static final long VALIDATION_INTERVAL_MILLIS = 30000;
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    /**
+     * A connection that has been idle longer than this interval is closed.
+     */
+    static final long MAX_IDLE_MILLIS = 600000;
+
+    private final String dbUrl;
+    private final Properties dbProperties;
+    private final int poolSize;
+    private final int statementCacheSize;
+
+    //guarded by this; the most recently released connection first
+    private final ArrayDeque<IdleConnection> idleConnections = new ArrayDeque<IdleConnection>();
+    private boolean closed;
+
+    private final Map<Connection, ConnectionState> connectionStates = new ConcurrentHashMap<Connection, ConnectionState>();
+    private final Set<Statement> cachedStatements = ConcurrentHashMap.newKeySet();
+
+    JdbcConnectionPool(final String dbUrl, final Properties dbProperties, final int poolSize, final int statementCacheSize) {
+        this.dbUrl = dbUrl;
+        this.dbProperties = dbProperties;
+        this.poolSize = poolSize;
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    /**
+     * Gets an idle connection from this pool if available, otherwise opens a new connection.
+     *
+     * @return a connection that must be returned with {@link #release(Connection)}
+     * @throws SQLException if failed to open a new connection
+     */
+    Connection getConnection() throws SQLException {
+        IdleConnection idleConnection;
+        while ((idleConnection = pollIdleConnection()) != null) {
+            if (isUsable(idleConnection)) {
+                return idleConnection.connection;
+            }
+            closeConnection(idleConnection.connection);
+        }
+        final Connection connection = DriverManager.getConnection(dbUrl, dbProperties);
+        try {
+            connectionStates.put(connection, new ConnectionState(connection));
+        } catch (final SQLException e) {
+            closeConnection(connection);
+            throw e;
+        }
+        return connection;
+    }
+
+    /**
+     * Returns the connection to this pool after restoring its initial state, or closes it if its state cannot be
+     * restored, or this pool already has enough idle connections, or this pool has been closed. Connections that
+     * have been idle longer than {@link #MAX_IDLE_MILLIS} are closed.
+     *
+     * @param connection the connection obtained from {@link #getConnection()}
+     */
+    void release(final Connection connection) {
+        if (!restoreState(connection)) {
+            closeConnection(connection);
+            return;
+        }
+        final List<Connection> toClose = new ArrayList<Connection>();
+        synchronized (this) {
+            if (!closed && idleConnections.size() < poolSize) {
+                idleConnections.push(new IdleConnection(connection));
+            } else {
+                toClose.add(connection);
+            }
+            final long now = System.currentTimeMillis();
+            while (!idleConnections.isEmpty() && now - idleConnections.peekLast().idleSince > MAX_IDLE_MILLIS) {
+                toClose.add(idleConnections.pollLast().connection);
+            }
+        }
+        for (final Connection c : toClose) {
+            closeConnection(c);
+        }
+    }
+
+    /**
+     * Closes all idle connections of this pool. Connections in use are closed when released.
+     */
+    void close() {
+        final List<IdleConnection> toClose;
+        synchronized (this) {
+            closed = true;
+            toClose = new ArrayList<IdleConnection>(idleConnections);
+            idleConnections.clear();
+        }
+        for (final IdleConnection c : toClose) {
+            closeConnection(c.connection);
+        }
+    }
+
+    /**
+     * Gets a prepared statement for the {@code sql} from the statement cache of the connection, or prepares a new
+     * one and adds it to the cache.
+     *
+     * @param connection the connection obtained from {@link #getConnection()}
+     * @param sql the sql to prepare
+     * @return a prepared statement that must be given back with {@link #releaseStatement(Statement)}
+     * @throws SQLException if failed to prepare the statement
+     */
+    PreparedStatement prepareStatement(final Connection connection, final String sql) throws SQLException {
+        final ConnectionState state = connectionStates.get(connection);
+        final Map<String, PreparedStatement> cache = state == null ? null : state.statements;
+        if (cache == null) {
+            return connection.prepareStatement(sql);
+        }
+        PreparedStatement statement = cache.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            cache.put(sql, statement);
+            cachedStatements.add(statement);
+        }
+        return statement;
+    }
+
+    /**
+     * Gives back the statement to the statement cache it belongs to, after clearing its parameters and batch.
+     *
+     * @param statement the statement to give back
+     * @return true if the statement is kept in the cache and should not be closed; false otherwise
+     */
+    boolean releaseStatement(final Statement statement) {
+        if (!cachedStatements.contains(statement)) {
+            return false;
+        }
+        try {
+            ((PreparedStatement) statement).clearParameters();
+            statement.clearBatch();
+            return true;
+        } catch (final SQLException e) {
+            //the statement will be closed by the caller, and prepared again next time
+            cachedStatements.remove(statement);
+            return false;
+        }
+    }
+
+    private synchronized IdleConnection pollIdleConnection() {
+        return idleConnections.poll();
+    }
+
+    /**
+     * Restores the auto-commit mode, transaction isolation and read-only mode the connection was opened with,
+     * rolling back any uncommitted work.
+     *
+     * @param connection the connection to restore
+     * @return true if the state of the connection has been restored; false if it is not from this pool or failed
+     */
+    private boolean restoreState(final Connection connection) {
+        final ConnectionState state = connectionStates.get(connection);
+        if (state == null) {
+            return false;
+        }
+        try {
+            if (connection.getAutoCommit() != state.autoCommit) {
+                if (!connection.getAutoCommit()) {
+                    connection.rollback();
+                }
+                connection.setAutoCommit(state.autoCommit);
+            }
+            if (connection.getTransactionIsolation() != state.transactionIsolation) {
+                connection.setTransactionIsolation(state.transactionIsolation);
+            }
+            if (connection.isReadOnly() != state.readOnly) {
+                connection.setReadOnly(state.readOnly);
+            }
+            connection.clearWarnings();
+            return true;
+        } catch (final SQLException e) {
+            return false;
+        }
+    }
+
+    private static boolean isUsable(final IdleConnection idleConnection) {
+        try {
+            if (idleConnection.connection.isClosed()) {
+                return false;
+            }
+            return System.currentTimeMillis() - idleConnection.idleSince < VALIDATION_INTERVAL_MILLIS ||
+                    idleConnection.connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (final SQLException e) {
+            return false;
+        }
+    }
+
+    private void closeConnection(final Connection connection) {
+        final ConnectionState state = connectionStates.remove(connection);
+        if (state != null && state.statements != null) {
+            cachedStatements.removeAll(state.statements.values());
+        }
+        try {
+            //closing the connection also closes all its statements
+            connection.close();
+        } catch (final SQLException e) {
+            BatchLogger.LOGGER.failToClose(e, Connection.class, connection);
+        }
+    }
+
+    private static final class IdleConnection {
+        private final Connection connection;
+        private final long idleSince = System.currentTimeMillis();
+
+        private IdleConnection(final Connection connection) {
+            this.connection = connection;
+        }
+    }
+
+    /**
+     * The state a connection was opened with, restored when it is released, and its statement cache, if any.
+     */
+    private final class ConnectionState {
+        private final boolean autoCommit;
+        private final int transactionIsolation;
+        private final boolean readOnly;
+        private final StatementCache statements;
+
+        private ConnectionState(final Connection connection) throws SQLException {
+            autoCommit = connection.getAutoCommit();
+            transactionIsolation = connection.getTransactionIsolation();
+            readOnly = connection.isReadOnly();
+            statements = statementCacheSize > 0 ? new StatementCache() : null;
+        }
+    }
+
+    /**
+     * Cache of prepared statements of one connection, which evicts and closes the least recently used statement
+     * when its size exceeds {@link #statementCacheSize}. It is only accessed by the thread holding the connection.
+     */
+    private final class StatementCache extends LinkedHashMap<String, PreparedStatement> {
+        private static final long serialVersionUID = 1L;
+
+        private StatementCache() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, PreparedStatement> eldest) {
+            if (size() <= statementCacheSize) {
+                return false;
+            }
+            final PreparedStatement statement = eldest.getValue();
+            cachedStatements.remove(statement);
+            try {
+                statement.close();
+            } catch (final SQLException e) {
+                BatchLogger.LOGGER.failToClose(e, PreparedStatement.class, statement);
+            }
+            return true;
+        }
+    }
+}
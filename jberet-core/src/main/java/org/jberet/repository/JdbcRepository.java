@@ -22,8 +22,14 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.naming.InitialContext;
@@ -44,7 +50,7 @@ import org.jberet.runtime.PartitionExecutionImpl;
 import org.jberet.runtime.StepExecutionImpl;
 import org.jberet.util.BatchUtil;
 
-public final class JdbcRepository extends AbstractPersistentRepository {
+public final class JdbcRepository extends AbstractPersistentRepository implements AutoCloseable {
     //keys used in jberet.properties
     public static final String DDL_FILE_NAME_KEY = "ddl-file";
     public static final String SQL_FILE_NAME_KEY = "sql-file";
@@ -57,12 +63,71 @@ public final class JdbcRepository extends AbstractPersistentRepository {
     public static final String DB_TABLE_PREFIX_KEY = "db-table-prefix";
     public static final String DB_TABLE_SUFFIX_KEY = "db-table-suffix";
 
+    /**
+     * Key used in jberet.properties to specify the maximum number of idle connections kept open for reuse, when
+     * the job repository connects to the database with {@value #DB_URL_KEY}. Its value should be a non-negative
+     * integer, and defaults to 0, i.e., a new connection is opened for each repository operation and closed
+     * afterwards. This only caches idle connections, and does not limit the number of connections open at the
+     * same time, which grows with the number of concurrent repository operations. It has no effect when
+     * {@value #DATASOURCE_JNDI_KEY} or a {@code DataSource} is used, in which case connection pooling, including any
+     * limit on open connections, is provided by the data source.
+     *
+     * @since 3.2.0
+     */
+    public static final String DB_POOL_SIZE_KEY = "db-pool-size";
+
+    /**
+     * Key used in jberet.properties to specify the maximum number of prepared statements cached per pooled
+     * connection, when {@value #DB_POOL_SIZE_KEY} is greater than 0. Its value should be a non-negative integer,
+     * and defaults to {@value #DEFAULT_DB_STATEMENT_CACHE_SIZE}. 0 disables statement caching.
+     *
+     * @since 3.2.0
+     */
+    public static final String DB_STATEMENT_CACHE_SIZE_KEY = "db-statement-cache-size";
+
+    /**
+     * Key used in jberet.properties to enable group commit of checkpoint updates. When its value is {@code true},
+     * concurrent updates of step and partition executions issued by {@link #savePersistentData(JobExecution, AbstractStepExecution)}
+     * and {@link #savePersistentDataIfNotStopping(JobExecution, AbstractStepExecution)} are coalesced into JDBC batch
+     * updates executed on one connection. Each caller still waits for its own update to complete, and receives its
+     * own update count.
+     * <p>
+     * Since batched updates from different threads share one connection, they are not enlisted in the transaction
+     * of each calling thread. This option therefore only applies when the job repository connects to the database
+     * with {@value #DB_URL_KEY}, and is ignored with a warning when a {@code DataSource} is used, whose connections
+     * may be managed by a JTA transaction manager.
+     *
+     * @since 3.2.0
+     */
+    public static final String BATCH_CHECKPOINT_UPDATES_KEY = "batch-checkpoint-updates";
+
+    /**
+     * Key used in jberet.properties to create the secondary indexes of the job repository tables when the tables
+     * already exist, e.g., when they were created by an earlier version without those indexes. When its value is
+     * {@code true}, each {@code CREATE INDEX} entry in the ddl file that is not yet present in the database is
+     * executed on startup. Indexes are always created along with the tables, so this key is only needed once to
+     * upgrade an existing schema. Creating an index on a large table may take a long time and block writes to it.
+     *
+     * @since 3.2.0
+     */
+    public static final String DB_CREATE_INDEXES_KEY = "db-create-indexes";
+
     //defaults for entries in jberet.properties
     //private static final String DEFAULT_DATASOURCE = "java:jboss/datasources/ExampleDS";
     //    private static final String DEFAULT_DB_URL = "jdbc:h2:mem:test;DB_CLOSE_DELAY=-1";
     private static final String DEFAULT_DB_URL = "jdbc:h2:~/jberet-repo";
     private static final String DEFAULT_SQL_FILE = "sql/jberet-sql.properties";
     private static final String DEFAULT_DDL_FILE = "sql/jberet.ddl";
+    private static final Pattern CREATE_INDEX_PATTERN = Pattern.compile(
+            "^CREATE\\s+INDEX\\s+(?:IF\\s+NOT\\s+EXISTS\\s+)?(\\S+)\\s+ON\\s+(\\S+)", Pattern.CASE_INSENSITIVE);
+    private static final int DEFAULT_DB_STATEMENT_CACHE_SIZE = 32;
+
+    /**
+     * The maximum number of job executions removed in one transaction by
+     * {@link #removeJobExecutions(DefaultJobExecutionSelector, int)}, which also keeps the number of parameters of
+     * each delete statement within the limits of all supported databases.
+     */
+    public static final int MAX_PURGE_CHUNK_SIZE = 1000;
 
     //keys used in *.sql files
     private static final String SELECT_ALL_JOB_INSTANCES = "select-all-job-instances";
@@ -101,14 +166,43 @@ public final class JdbcRepository extends AbstractPersistentRepository {
     private static final String UPDATE_PARTITION_EXECUTION_IF_NOT_STOPPING = "update-partition-execution-if-not-stopping";
     private static final String STOP_PARTITION_EXECUTION = "stop-partition-execution";
 
+    private static final String SELECT_JOB_EXECUTION_IDS_TO_PURGE = "select-job-execution-ids-to-purge";
+    private static final String SELECT_RECENT_JOB_EXECUTION_IDS = "select-recent-job-execution-ids";
+    private static final String JOB_EXECUTION_IDS_BY_JOB_NAMES_CONDITION = "job-execution-ids-by-job-names-condition";
+    private static final String DELETE_PARTITION_EXECUTIONS_BY_JOB_EXECUTION_IDS = "delete-partition-executions-by-job-execution-ids";
+    private static final String DELETE_STEP_EXECUTIONS_BY_JOB_EXECUTION_IDS = "delete-step-executions-by-job-execution-ids";
+    private static final String DELETE_JOB_EXECUTIONS_BY_IDS = "delete-job-executions-by-ids";
+
+    //markers in purge sqls, replaced at runtime
+    private static final String CONDITION_MARKER = "{condition}";
+    private static final String IDS_MARKER = "{ids}";
+
+    //bit flags of data columns that have not changed since last saved, and can be left out of update sql
+    private static final int UNCHANGED_PERSISTENT_USER_DATA = 1;
+    private static final int UNCHANGED_READER_CHECKPOINT_INFO = 2;
+    private static final int UNCHANGED_WRITER_CHECKPOINT_INFO = 4;
+
     private final DataSource dataSource;
     private final String dbUrl;
     private final String userDefinedDdlFile;
     private final Properties dbProperties;
+    private final JdbcConnectionPool connectionPool;
     private final Properties sqls = new Properties();
+
+    /**
+     * Update sqls derived from the configured update sqls by leaving out unchanged data columns, keyed by sql key
+     * and unchanged data flags. An empty string value means the update sql could not be derived.
+     */
+    private final Map<String, String> partialUpdateSqls = new ConcurrentHashMap<String, String>();
     private boolean isOracle;
     private int[] idIndexInOracle;
 
+    private final boolean batchCheckpointUpdates;
+    private final ReentrantLock pendingUpdatesLock = new ReentrantLock();
+    private final Condition pendingUpdatesExecuted = pendingUpdatesLock.newCondition();
+    private List<PendingUpdate> pendingUpdates = new ArrayList<PendingUpdate>();
+    private boolean executingPendingUpdates;
+
     public static JdbcRepository create(final Properties configProperties) {
         return new JdbcRepository(configProperties);
     }
@@ -131,6 +225,8 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             } catch (final NamingException e) {
                 throw BatchMessages.MESSAGES.failToLookupDataSource(e, dataSourceName);
             }
+            connectionPool = null;
+            batchCheckpointUpdates = isBatchCheckpointUpdates(configProperties, true);
         } else {
             String dbUrl = configProperties.getProperty(DB_URL_KEY);
             dataSource = null;
@@ -159,6 +255,10 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                     }
                 }
             }
+            final int poolSize = getIntProperty(configProperties, DB_POOL_SIZE_KEY, 0);
+            connectionPool = poolSize > 0 ? new JdbcConnectionPool(dbUrl, dbProperties, poolSize,
+                    getIntProperty(configProperties, DB_STATEMENT_CACHE_SIZE_KEY, DEFAULT_DB_STATEMENT_CACHE_SIZE)) : null;
+            batchCheckpointUpdates = isBatchCheckpointUpdates(configProperties, false);
         }
         createTables(configProperties);
     }
@@ -187,11 +287,27 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         }
         dbProperties = new Properties();
         userDefinedDdlFile = configProperties.getProperty(DDL_FILE_NAME_KEY);
+        batchCheckpointUpdates = isBatchCheckpointUpdates(configProperties, true);
         this.dataSource = dataSource;
         dbUrl = null;
+        connectionPool = null;
         createTables(configProperties);
     }
 
+    /**
+     * Checks if group commit of checkpoint updates is enabled with {@value #BATCH_CHECKPOINT_UPDATES_KEY}. It is
+     * ignored when connections are obtained from a {@code DataSource}, since updates from other threads would then
+     * run in the transaction enlisted by the thread executing them.
+     */
+    private static boolean isBatchCheckpointUpdates(final Properties configProperties, final boolean usingDataSource) {
+        final boolean enabled = Boolean.parseBoolean(configProperties.getProperty(BATCH_CHECKPOINT_UPDATES_KEY, "").trim());
+        if (enabled && usingDataSource) {
+            BatchLogger.LOGGER.batchCheckpointUpdatesIgnored(BATCH_CHECKPOINT_UPDATES_KEY);
+            return false;
+        }
+        return enabled;
+    }
+
     private void createTables(final Properties configProperties) {
         String sqlFile = configProperties.getProperty(SQL_FILE_NAME_KEY);
         if (sqlFile != null) {
@@ -250,9 +366,11 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             idIndexInOracle = new int[]{1};
         }
 
+        boolean tablesExisted = false;
         try {
-            countPartitionExecutionStatement = connection1.prepareStatement(countPartitionExecutions);
+            countPartitionExecutionStatement = prepareStatement(connection1, countPartitionExecutions);
             rs = countPartitionExecutionStatement.executeQuery();
+            tablesExisted = true;
         } catch (final SQLException e) {
             final String ddlFile = getDDLLocation(databaseProductName);
             ddlResource = getClassLoader(true).getResourceAsStream(ddlFile);
@@ -282,7 +400,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                 //check if the tables have just been created by another concurrent client in the interim
                 try {
                     final String countJobInstances = sqls.getProperty(COUNT_JOB_INSTANCES_BY_JOB_NAME);
-                    countJobInstancesStatement = connection1.prepareStatement(countJobInstances);
+                    countJobInstancesStatement = prepareStatement(connection1, countJobInstances);
                     countJobInstancesStatement.setString(1, "A");
                     rs = countJobInstancesStatement.executeQuery();
                     BatchLogger.LOGGER.tracef(
@@ -304,6 +422,84 @@ public final class JdbcRepository extends AbstractPersistentRepository {
                 BatchLogger.LOGGER.failToClose(e, InputStream.class, ddlResource);
             }
         }
+        if (tablesExisted && Boolean.parseBoolean(configProperties.getProperty(DB_CREATE_INDEXES_KEY, "").trim())) {
+            createMissingIndexes(databaseProductName, tablePrefix, tableSuffix, tableNamesPattern);
+        }
+    }
+
+    /**
+     * Executes the {@code CREATE INDEX} entries of the ddl file whose indexes do not exist yet in the database.
+     * Failure to create an index is logged and does not prevent the job repository from being used.
+     */
+    private void createMissingIndexes(final String databaseProductName, final String tablePrefix,
+                                      final String tableSuffix, final Pattern tableNamesPattern) {
+        final String ddlFile = getDDLLocation(databaseProductName);
+        final InputStream ddlResource = getClassLoader(true).getResourceAsStream(ddlFile);
+        if (ddlResource == null) {
+            throw BatchMessages.MESSAGES.failToLoadDDL(ddlFile);
+        }
+        final List<String> indexEntries = new ArrayList<String>();
+        try (java.util.Scanner scanner = new java.util.Scanner(ddlResource).useDelimiter("!!")) {
+            while (scanner.hasNext()) {
+                String ddlEntry = scanner.next().trim();
+                if (CREATE_INDEX_PATTERN.matcher(ddlEntry).find()) {
+                    if (tableNamesPattern != null) {
+                        ddlEntry = addPrefixSuffix(ddlEntry, tablePrefix, tableSuffix, tableNamesPattern);
+                    }
+                    indexEntries.add(ddlEntry);
+                }
+            }
+        }
+
+        final Connection connection = getConnection();
+        Statement statement = null;
+        try {
+            final java.sql.DatabaseMetaData metaData = connection.getMetaData();
+            final List<String> checkedTables = new ArrayList<String>();
+            final List<String> existingIndexes = new ArrayList<String>();
+            statement = connection.createStatement();
+            for (final String ddlEntry : indexEntries) {
+                final Matcher matcher = CREATE_INDEX_PATTERN.matcher(ddlEntry);
+                matcher.find();
+                final String indexName = matcher.group(1).toUpperCase(Locale.ROOT);
+                final String tableName = matcher.group(2);
+                if (!checkedTables.contains(tableName)) {
+                    checkedTables.add(tableName);
+                    addIndexNames(metaData, connection.getCatalog(), tableName, existingIndexes);
+                }
+                if (!existingIndexes.contains(indexName)) {
+                    try {
+                        statement.execute(ddlEntry);
+                        BatchLogger.LOGGER.indexCreated(ddlEntry);
+                    } catch (final SQLException e) {
+                        BatchLogger.LOGGER.failToCreateIndex(e, ddlEntry);
+                    }
+                }
+            }
+        } catch (final SQLException e) {
+            BatchLogger.LOGGER.failToCreateIndex(e, ddlFile);
+        } finally {
+            close(connection, statement, null, null);
+        }
+    }
+
+    /**
+     * Adds the upper-case names of the indexes of a table to {@code indexNames}. Since the case of unquoted
+     * identifiers stored in database metadata varies among database products, the table name is looked up as
+     * is, in upper case and in lower case.
+     */
+    private static void addIndexNames(final java.sql.DatabaseMetaData metaData, final String catalog,
+                                      final String tableName, final List<String> indexNames) throws SQLException {
+        for (final String name : new String[]{tableName, tableName.toUpperCase(Locale.ROOT), tableName.toLowerCase(Locale.ROOT)}) {
+            try (ResultSet rs = metaData.getIndexInfo(catalog, null, name, false, true)) {
+                while (rs.next()) {
+                    final String indexName = rs.getString("INDEX_NAME");
+                    if (indexName != null) {
+                        indexNames.add(indexName.toUpperCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
     }
 
     @Override
@@ -331,6 +527,17 @@ public final class JdbcRepository extends AbstractPersistentRepository {
 
     @Override
     public List<JobInstance> getJobInstances(final String jobName) {
+        return getJobInstances(jobName, 0, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The maximum number of rows of the query is limited to {@code start + count}, so that the database and the
+     * JDBC driver can stop after the requested page, and no job instance is created for the skipped rows.
+     */
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
         final boolean selectAll = jobName == null || jobName.equals("*");
         final String select = selectAll ? sqls.getProperty(SELECT_ALL_JOB_INSTANCES) :
                 sqls.getProperty(SELECT_JOB_INSTANCES_BY_JOB_NAME);
@@ -339,12 +546,16 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         PreparedStatement preparedStatement = null;
         final List<JobInstance> result = new ArrayList<JobInstance>();
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             if (!selectAll) {
                 preparedStatement.setString(1, jobName);
             }
+            preparedStatement.setMaxRows(getMaxRows(start, count));
             rs = preparedStatement.executeQuery();
-            while (rs.next()) {
+            for (int skipped = 0; skipped < start && rs.next(); skipped++) {
+                //skip rows before the requested page
+            }
+            while (result.size() < count && rs.next()) {
                 final long i = rs.getLong(TableColumns.JOBINSTANCEID);
                 final SoftReference<JobInstanceImpl, Long> ref = jobInstances.get(i);
                 JobInstanceImpl jobInstance1 = (ref != null) ? ref.get() : null;
@@ -382,7 +593,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         ResultSet rs = null;
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             preparedStatement.setLong(1, jobInstanceId);
             rs = preparedStatement.executeQuery();
             while (rs.next()) {
@@ -414,7 +625,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         PreparedStatement preparedStatement = null;
         int count = 0;
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             preparedStatement.setString(1, jobName);
             rs = preparedStatement.executeQuery();
 
@@ -472,7 +683,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         final Connection connection = getConnection();
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(update);
+            preparedStatement = prepareStatement(connection, update);
 
             if (fullUpdate) {
                 preparedStatement.setTimestamp(1, createTimestamp(jobExecution.getEndTime()));
@@ -537,7 +748,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         ResultSet rs = null;
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             preparedStatement.setLong(1, jobExecutionId);
             rs = preparedStatement.executeQuery();
             while (rs.next()) {
@@ -600,7 +811,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         ResultSet rs = null;
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             if (jobInstance != null) {
                 preparedStatement.setLong(1, jobInstanceId);
             }
@@ -679,6 +890,46 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         return getJobExecutions0(select, jobName, false, limit);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The maximum number of rows of the query is limited to {@code start + count}, so that the database and the
+     * JDBC driver can stop after the requested page.
+     */
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final int start, final int count) {
+        final String select = sqls.getProperty(SELECT_JOB_EXECUTIONS_BY_JOB_NAME);
+        final List<Long> result = new ArrayList<Long>();
+        final Connection connection = getConnection();
+        ResultSet rs = null;
+        PreparedStatement preparedStatement = null;
+        try {
+            preparedStatement = prepareStatement(connection, select);
+            preparedStatement.setString(1, jobName);
+            preparedStatement.setMaxRows(getMaxRows(start, count));
+            rs = preparedStatement.executeQuery();
+            for (int skipped = 0; skipped < start && rs.next(); skipped++) {
+                //skip rows before the requested page
+            }
+            while (result.size() < count && rs.next()) {
+                result.add(rs.getLong(1));
+            }
+        } catch (final Exception e) {
+            throw BatchMessages.MESSAGES.failToRunQuery(e, select);
+        } finally {
+            close(connection, preparedStatement, null, rs);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the maximum number of rows of a query for a page, or 0 for no limit.
+     */
+    private static int getMaxRows(final int start, final int count) {
+        final long maxRows = (long) Math.max(start, 0) + Math.max(count, 0);
+        return maxRows >= Integer.MAX_VALUE ? 0 : (int) maxRows;
+    }
+
     @Override
     void insertStepExecution(final StepExecutionImpl stepExecution, final JobExecutionImpl jobExecution) {
         final String insert = sqls.getProperty(INSERT_STEP_EXECUTION);
@@ -706,31 +957,180 @@ public final class JdbcRepository extends AbstractPersistentRepository {
 
     @Override
     public void updateStepExecution(final StepExecution stepExecution) {
-        updateStepExecution0(stepExecution, sqls.getProperty(UPDATE_STEP_EXECUTION));
+        updateStepExecution0(stepExecution, sqls.getProperty(UPDATE_STEP_EXECUTION), 0);
     }
 
     @Override
     public int savePersistentDataIfNotStopping(final JobExecution jobExecution, final AbstractStepExecution stepOrPartitionExecution) {
-        if (stepOrPartitionExecution instanceof StepExecutionImpl) {
-            //stepExecution is for the main step, and should map to the STEP_EXECUTIOIN table
-            return updateStepExecution0(stepOrPartitionExecution, sqls.getProperty(UPDATE_STEP_EXECUTION_IF_NOT_STOPPING));
-        } else {
-            //stepExecutionId is for a partition execution, and should map to the PARTITION_EXECUTION table
-            return updatePartitionExecution((PartitionExecutionImpl) stepOrPartitionExecution, sqls.getProperty(UPDATE_PARTITION_EXECUTION_IF_NOT_STOPPING));
-        }
+        return saveStepOrPartitionExecution(stepOrPartitionExecution, true);
     }
 
     @Override
     public void savePersistentData(final JobExecution jobExecution, final AbstractStepExecution stepOrPartitionExecution) {
         //super.savePersistentData() serialize persistent data and checkpoint info to avoid further modification
         super.savePersistentData(jobExecution, stepOrPartitionExecution);
-        if (stepOrPartitionExecution instanceof StepExecutionImpl) {
-            //stepExecution is for the main step, and should map to the STEP_EXECUTIOIN table
-            updateStepExecution(stepOrPartitionExecution);
+        saveStepOrPartitionExecution(stepOrPartitionExecution, false);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The updates are executed in JDBC batches on one connection, obtained on the calling thread. An update that
+     * fails in a batch is executed again individually, and the first update that still fails is rethrown after all
+     * others have been executed, so that one failed execution does not prevent the others from being saved.
+     */
+    @Override
+    public void savePersistentData(final JobExecution jobExecution,
+                                   final List<? extends AbstractStepExecution> stepOrPartitionExecutions) {
+        if (stepOrPartitionExecutions.size() <= 1) {
+            super.savePersistentData(jobExecution, stepOrPartitionExecutions);
+            return;
+        }
+        final List<PendingUpdate> updates = new ArrayList<PendingUpdate>(stepOrPartitionExecutions.size());
+        for (final AbstractStepExecution e : stepOrPartitionExecutions) {
+            super.savePersistentData(jobExecution, e);
+            updates.add(newPendingUpdate(e, false));
+        }
+        executePendingUpdates(updates);
+        RuntimeException failure = null;
+        for (final PendingUpdate u : updates) {
+            if (u.failure != null) {
+                if (failure == null) {
+                    failure = u.failure;
+                }
+            } else if (u.updateCount > 0) {
+                u.execution.markPersistentDataSaved();
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Saves the step or partition execution to job repository. Persistent user data, reader and writer checkpoint
+     * info that have not changed since last saved are left out of the update sql.
+     *
+     * @param stepOrPartitionExecution the step or partition execution to save
+     * @param ifNotStopping if true, saves the execution only if its batch status in job repository is not {@code STOPPING}
+     * @return the number of rows affected
+     */
+    private int saveStepOrPartitionExecution(final AbstractStepExecution stepOrPartitionExecution, final boolean ifNotStopping) {
+        final PendingUpdate update = newPendingUpdate(stepOrPartitionExecution, ifNotStopping);
+        final int updateCount;
+        if (batchCheckpointUpdates) {
+            updateCount = executeInBatch(update);
+        } else if (stepOrPartitionExecution instanceof StepExecutionImpl) {
+            updateCount = updateStepExecution0(stepOrPartitionExecution, update.updateSql, update.unchangedData);
         } else {
-            //stepExecutionId is for a partition execution, and should map to the PARTITION_EXECUTION table
-            updatePartitionExecution((PartitionExecutionImpl) stepOrPartitionExecution, sqls.getProperty(UPDATE_PARTITION_EXECUTION));
+            updateCount = updatePartitionExecution((PartitionExecutionImpl) stepOrPartitionExecution, update.updateSql, update.unchangedData);
+        }
+        if (updateCount > 0) {
+            stepOrPartitionExecution.markPersistentDataSaved();
         }
+        return updateCount;
+    }
+
+    /**
+     * Creates the update of the step or partition execution, leaving out of the update sql persistent user data,
+     * reader and writer checkpoint info that have not changed since last saved.
+     *
+     * @param stepOrPartitionExecution the step or partition execution to save
+     * @param ifNotStopping if true, saves the execution only if its batch status in job repository is not {@code STOPPING}
+     * @return the update to execute
+     */
+    private PendingUpdate newPendingUpdate(final AbstractStepExecution stepOrPartitionExecution, final boolean ifNotStopping) {
+        //stepExecution is for the main step, and should map to the STEP_EXECUTIOIN table;
+        //otherwise it is for a partition execution, and should map to the PARTITION_EXECUTION table
+        final boolean isStepExecution = stepOrPartitionExecution instanceof StepExecutionImpl;
+        final String sqlKey = isStepExecution ?
+                (ifNotStopping ? UPDATE_STEP_EXECUTION_IF_NOT_STOPPING : UPDATE_STEP_EXECUTION) :
+                (ifNotStopping ? UPDATE_PARTITION_EXECUTION_IF_NOT_STOPPING : UPDATE_PARTITION_EXECUTION);
+        int unchangedData = 0;
+        if (!stepOrPartitionExecution.isPersistentUserDataChanged()) {
+            unchangedData |= UNCHANGED_PERSISTENT_USER_DATA;
+        }
+        if (!stepOrPartitionExecution.isReaderCheckpointInfoChanged()) {
+            unchangedData |= UNCHANGED_READER_CHECKPOINT_INFO;
+        }
+        if (!stepOrPartitionExecution.isWriterCheckpointInfoChanged()) {
+            unchangedData |= UNCHANGED_WRITER_CHECKPOINT_INFO;
+        }
+        String updateSql = getUpdateSql(sqlKey, unchangedData);
+        if (updateSql == null) {
+            unchangedData = 0;
+            updateSql = sqls.getProperty(sqlKey);
+        }
+        return new PendingUpdate(stepOrPartitionExecution, ifNotStopping, updateSql, unchangedData);
+    }
+
+    /**
+     * Gets the update sql for the {@code sqlKey}, leaving out the data columns flagged in {@code unchangedData}.
+     *
+     * @param sqlKey the key of the update sql
+     * @param unchangedData bit flags of unchanged data columns
+     * @return the update sql, or null if it cannot be derived from the configured update sql
+     */
+    private String getUpdateSql(final String sqlKey, final int unchangedData) {
+        if (unchangedData == 0) {
+            return sqls.getProperty(sqlKey);
+        }
+        final String cacheKey = sqlKey + ':' + unchangedData;
+        String updateSql = partialUpdateSqls.get(cacheKey);
+        if (updateSql == null) {
+            updateSql = omitColumns(sqls.getProperty(sqlKey), unchangedData);
+            partialUpdateSqls.put(cacheKey, updateSql);
+        }
+        return updateSql.isEmpty() ? null : updateSql;
+    }
+
+    /**
+     * Removes the assignments of unchanged data columns from the SET clause of {@code updateSql}.
+     *
+     * @param updateSql the configured update sql
+     * @param unchangedData bit flags of unchanged data columns
+     * @return the update sql without assignments of unchanged data columns, or an empty string if any of them
+     * is not found in {@code updateSql}
+     */
+    private static String omitColumns(final String updateSql, final int unchangedData) {
+        final String upperCaseSql = updateSql.toUpperCase(Locale.ROOT);
+        final int set = upperCaseSql.indexOf(" SET ");
+        final int where = upperCaseSql.lastIndexOf(" WHERE ");
+        if (set < 0 || where < set) {
+            return "";
+        }
+        final List<String> omittedColumns = new ArrayList<String>(3);
+        if ((unchangedData & UNCHANGED_PERSISTENT_USER_DATA) != 0) {
+            omittedColumns.add(TableColumns.PERSISTENTUSERDATA);
+        }
+        if ((unchangedData & UNCHANGED_READER_CHECKPOINT_INFO) != 0) {
+            omittedColumns.add(TableColumns.READERCHECKPOINTINFO);
+        }
+        if ((unchangedData & UNCHANGED_WRITER_CHECKPOINT_INFO) != 0) {
+            omittedColumns.add(TableColumns.WRITERCHECKPOINTINFO);
+        }
+
+        final StringBuilder sb = new StringBuilder(updateSql.length()).append(updateSql, 0, set + 5);
+        int omitted = 0;
+        boolean first = true;
+        for (final String s : updateSql.substring(set + 5, where).split(",")) {
+            final String assignment = s.trim();
+            final int equalSign = assignment.indexOf('=');
+            if (equalSign > 0 &&
+                    omittedColumns.contains(assignment.substring(0, equalSign).trim().toUpperCase(Locale.ROOT))) {
+                omitted++;
+                continue;
+            }
+            if (!first) {
+                sb.append(", ");
+            }
+            sb.append(assignment);
+            first = false;
+        }
+        if (omitted != omittedColumns.size()) {
+            return "";
+        }
+        return sb.append(updateSql, where, updateSql.length()).toString();
     }
 
     /*
@@ -741,7 +1141,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         PreparedStatement preparedStatement = null;
         final List<StepExecution> result = new ArrayList<StepExecution>();
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             preparedStatement.setLong(1, stepExecutionId);
             rs = preparedStatement.executeQuery();
             createStepExecutionsFromResultSet(rs, result, false, classLoader);
@@ -771,7 +1171,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         PreparedStatement preparedStatement = null;
         final List<StepExecution> result = new ArrayList<StepExecution>();
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             if (jobExecutionId != null) {
                 preparedStatement.setLong(1, jobExecutionId);
             }
@@ -792,7 +1192,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         final Connection connection = getConnection();
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(insert);
+            preparedStatement = prepareStatement(connection, insert);
             preparedStatement.setInt(1, partitionExecution.getPartitionId());
             preparedStatement.setLong(2, partitionExecution.getStepExecutionId());
             preparedStatement.setString(3, partitionExecution.getBatchStatus().name());
@@ -818,7 +1218,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         final List<StepExecution> results = new ArrayList<StepExecution>();
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             preparedStatement.setLong(1, jobExecutionToRestart.getJobInstance().getInstanceId());
             preparedStatement.setString(2, stepName);
             rs = preparedStatement.executeQuery();
@@ -846,7 +1246,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         PreparedStatement preparedStatement = null;
         result = new ArrayList<PartitionExecutionImpl>();
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             preparedStatement.setLong(1, stepExecutionId);
             rs = preparedStatement.executeQuery();
             while (rs.next()) {
@@ -877,22 +1277,16 @@ public final class JdbcRepository extends AbstractPersistentRepository {
      * Updates the partition execution in job repository, using the {@code updateSql} passed in.
      * @param partitionExecution the partition execution to update to job repository
      * @param updateSql the update sql to use
+     * @param unchangedData bit flags of unchanged data columns left out of {@code updateSql}
      * @return the number of rows affected by this update sql execution
      */
-    private int updatePartitionExecution(final PartitionExecutionImpl partitionExecution, final String updateSql) {
+    private int updatePartitionExecution(final PartitionExecutionImpl partitionExecution, final String updateSql,
+                                         final int unchangedData) {
         final Connection connection = getConnection();
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(updateSql);
-            preparedStatement.setString(1, partitionExecution.getBatchStatus().name());
-            preparedStatement.setString(2, partitionExecution.getExitStatus());
-            preparedStatement.setString(3, TableColumns.formatException(partitionExecution.getException()));
-            preparedStatement.setBytes(4, partitionExecution.getPersistentUserDataSerialized());
-            preparedStatement.setBytes(5, partitionExecution.getReaderCheckpointInfoSerialized());
-            preparedStatement.setBytes(6, partitionExecution.getWriterCheckpointInfoSerialized());
-            preparedStatement.setInt(7, partitionExecution.getPartitionId());
-            preparedStatement.setLong(8, partitionExecution.getStepExecutionId());
-
+            preparedStatement = prepareStatement(connection, updateSql);
+            setPartitionExecutionUpdateParameters(preparedStatement, partitionExecution, unchangedData);
             return preparedStatement.executeUpdate();
         } catch (final Exception e) {
             throw BatchMessages.MESSAGES.failToRunQuery(e, updateSql);
@@ -905,32 +1299,15 @@ public final class JdbcRepository extends AbstractPersistentRepository {
      * Updates the step execution in job repository, using the {@code updateSql} passed in.
      * @param stepExecution the step execution to update to job repository
      * @param updateSql the update sql to use
+     * @param unchangedData bit flags of unchanged data columns left out of {@code updateSql}
      * @return the number of rows affected by this update sql execution
      */
-    private int updateStepExecution0(final StepExecution stepExecution, final String updateSql) {
+    private int updateStepExecution0(final StepExecution stepExecution, final String updateSql, final int unchangedData) {
         final Connection connection = getConnection();
-        final StepExecutionImpl stepExecutionImpl = (StepExecutionImpl) stepExecution;
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(updateSql);
-            preparedStatement.setTimestamp(1, createTimestamp(stepExecution.getEndTime()));
-            preparedStatement.setString(2, stepExecution.getBatchStatus().name());
-            preparedStatement.setString(3, stepExecution.getExitStatus());
-            preparedStatement.setString(4, TableColumns.formatException(stepExecutionImpl.getException()));
-            preparedStatement.setBytes(5, stepExecutionImpl.getPersistentUserDataSerialized());
-            preparedStatement.setLong(6, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_COUNT));
-            preparedStatement.setLong(7, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_COUNT));
-            preparedStatement.setLong(8, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.COMMIT_COUNT));
-            preparedStatement.setLong(9, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.ROLLBACK_COUNT));
-            preparedStatement.setLong(10, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_SKIP_COUNT));
-            preparedStatement.setLong(11, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.PROCESS_SKIP_COUNT));
-            preparedStatement.setLong(12, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.FILTER_COUNT));
-            preparedStatement.setLong(13, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_SKIP_COUNT));
-            preparedStatement.setBytes(14, stepExecutionImpl.getReaderCheckpointInfoSerialized());
-            preparedStatement.setBytes(15, stepExecutionImpl.getWriterCheckpointInfoSerialized());
-
-            preparedStatement.setLong(16, stepExecution.getStepExecutionId());
-
+            preparedStatement = prepareStatement(connection, updateSql);
+            setStepExecutionUpdateParameters(preparedStatement, (StepExecutionImpl) stepExecution, unchangedData);
             return preparedStatement.executeUpdate();
         } catch (final Exception e) {
             throw BatchMessages.MESSAGES.failToRunQuery(e, updateSql);
@@ -939,6 +1316,185 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         }
     }
 
+    private static void setPartitionExecutionUpdateParameters(final PreparedStatement preparedStatement,
+                                                              final PartitionExecutionImpl partitionExecution,
+                                                              final int unchangedData) throws SQLException {
+        int i = 1;
+        preparedStatement.setString(i++, partitionExecution.getBatchStatus().name());
+        preparedStatement.setString(i++, partitionExecution.getExitStatus());
+        preparedStatement.setString(i++, TableColumns.formatException(partitionExecution.getException()));
+        if ((unchangedData & UNCHANGED_PERSISTENT_USER_DATA) == 0) {
+            preparedStatement.setBytes(i++, partitionExecution.getPersistentUserDataSerialized());
+        }
+        if ((unchangedData & UNCHANGED_READER_CHECKPOINT_INFO) == 0) {
+            preparedStatement.setBytes(i++, partitionExecution.getReaderCheckpointInfoSerialized());
+        }
+        if ((unchangedData & UNCHANGED_WRITER_CHECKPOINT_INFO) == 0) {
+            preparedStatement.setBytes(i++, partitionExecution.getWriterCheckpointInfoSerialized());
+        }
+        preparedStatement.setInt(i++, partitionExecution.getPartitionId());
+        preparedStatement.setLong(i, partitionExecution.getStepExecutionId());
+    }
+
+    private static void setStepExecutionUpdateParameters(final PreparedStatement preparedStatement,
+                                                         final StepExecutionImpl stepExecution,
+                                                         final int unchangedData) throws SQLException {
+        int i = 1;
+        preparedStatement.setTimestamp(i++, createTimestamp(stepExecution.getEndTime()));
+        preparedStatement.setString(i++, stepExecution.getBatchStatus().name());
+        preparedStatement.setString(i++, stepExecution.getExitStatus());
+        preparedStatement.setString(i++, TableColumns.formatException(stepExecution.getException()));
+        if ((unchangedData & UNCHANGED_PERSISTENT_USER_DATA) == 0) {
+            preparedStatement.setBytes(i++, stepExecution.getPersistentUserDataSerialized());
+        }
+        preparedStatement.setLong(i++, stepExecution.getStepMetrics().get(Metric.MetricType.READ_COUNT));
+        preparedStatement.setLong(i++, stepExecution.getStepMetrics().get(Metric.MetricType.WRITE_COUNT));
+        preparedStatement.setLong(i++, stepExecution.getStepMetrics().get(Metric.MetricType.COMMIT_COUNT));
+        preparedStatement.setLong(i++, stepExecution.getStepMetrics().get(Metric.MetricType.ROLLBACK_COUNT));
+        preparedStatement.setLong(i++, stepExecution.getStepMetrics().get(Metric.MetricType.READ_SKIP_COUNT));
+        preparedStatement.setLong(i++, stepExecution.getStepMetrics().get(Metric.MetricType.PROCESS_SKIP_COUNT));
+        preparedStatement.setLong(i++, stepExecution.getStepMetrics().get(Metric.MetricType.FILTER_COUNT));
+        preparedStatement.setLong(i++, stepExecution.getStepMetrics().get(Metric.MetricType.WRITE_SKIP_COUNT));
+        if ((unchangedData & UNCHANGED_READER_CHECKPOINT_INFO) == 0) {
+            preparedStatement.setBytes(i++, stepExecution.getReaderCheckpointInfoSerialized());
+        }
+        if ((unchangedData & UNCHANGED_WRITER_CHECKPOINT_INFO) == 0) {
+            preparedStatement.setBytes(i++, stepExecution.getWriterCheckpointInfoSerialized());
+        }
+
+        preparedStatement.setLong(i, stepExecution.getStepExecutionId());
+    }
+
+    /**
+     * Adds the update to the pending updates, and waits till it has been executed. The first calling thread that
+     * finds no pending updates being executed takes all pending updates, including those added by other threads,
+     * and executes them in JDBC batches. Updates added in the meantime are executed in the next round by one of
+     * their calling threads.
+     *
+     * @param update the update to execute
+     * @return the number of rows affected by the update
+     */
+    private int executeInBatch(final PendingUpdate update) {
+        pendingUpdatesLock.lock();
+        try {
+            pendingUpdates.add(update);
+            while (!update.executed) {
+                if (executingPendingUpdates) {
+                    pendingUpdatesExecuted.awaitUninterruptibly();
+                } else {
+                    executingPendingUpdates = true;
+                    final List<PendingUpdate> updates = pendingUpdates;
+                    pendingUpdates = new ArrayList<PendingUpdate>();
+                    pendingUpdatesLock.unlock();
+                    try {
+                        executePendingUpdates(updates);
+                    } finally {
+                        pendingUpdatesLock.lock();
+                        for (final PendingUpdate u : updates) {
+                            u.executed = true;
+                        }
+                        executingPendingUpdates = false;
+                        pendingUpdatesExecuted.signalAll();
+                    }
+                }
+            }
+        } finally {
+            pendingUpdatesLock.unlock();
+        }
+        if (update.failure != null) {
+            throw update.failure;
+        }
+        return update.updateCount;
+    }
+
+    /**
+     * Gets the number of updates waiting to be executed in the next round of {@link #executeInBatch(PendingUpdate)}.
+     */
+    int getPendingUpdateCount() {
+        pendingUpdatesLock.lock();
+        try {
+            return pendingUpdates.size();
+        } finally {
+            pendingUpdatesLock.unlock();
+        }
+    }
+
+    private void executePendingUpdates(final List<PendingUpdate> updates) {
+        final Map<String, List<PendingUpdate>> updatesBySql = new LinkedHashMap<String, List<PendingUpdate>>();
+        for (final PendingUpdate u : updates) {
+            updatesBySql.computeIfAbsent(u.updateSql, k -> new ArrayList<PendingUpdate>()).add(u);
+        }
+        final Connection connection;
+        try {
+            connection = getConnection();
+        } catch (final RuntimeException e) {
+            for (final PendingUpdate u : updates) {
+                u.failure = e;
+            }
+            return;
+        }
+        try {
+            for (final Map.Entry<String, List<PendingUpdate>> e : updatesBySql.entrySet()) {
+                executeBatch(connection, e.getKey(), e.getValue());
+            }
+        } finally {
+            close(connection, null, null, null);
+        }
+    }
+
+    /**
+     * Executes updates sharing the same {@code updateSql} as one JDBC batch. Any update whose update count is not
+     * available from the batch result, because the batch failed, or the driver does not report update count for
+     * a conditional update, is executed again individually. This is safe since these updates are idempotent.
+     */
+    private void executeBatch(final Connection connection, final String updateSql, final List<PendingUpdate> updates) {
+        int[] updateCounts = null;
+        if (updates.size() > 1) {
+            PreparedStatement preparedStatement = null;
+            try {
+                preparedStatement = prepareStatement(connection, updateSql);
+                for (final PendingUpdate u : updates) {
+                    setUpdateParameters(preparedStatement, u);
+                    preparedStatement.addBatch();
+                }
+                updateCounts = preparedStatement.executeBatch();
+            } catch (final Exception e) {
+                BatchLogger.LOGGER.tracef(e, "Failed to execute %s updates in batch, and will execute them individually: %s",
+                        updates.size(), updateSql);
+            } finally {
+                close(null, preparedStatement, null, null);
+            }
+        }
+        for (int i = 0; i < updates.size(); i++) {
+            final PendingUpdate u = updates.get(i);
+            final int updateCount = updateCounts != null && i < updateCounts.length ? updateCounts[i] : Statement.EXECUTE_FAILED;
+            if (updateCount >= 0) {
+                u.updateCount = updateCount;
+            } else if (updateCount == Statement.SUCCESS_NO_INFO && !u.ifNotStopping) {
+                u.updateCount = 1;
+            } else {
+                PreparedStatement preparedStatement = null;
+                try {
+                    preparedStatement = prepareStatement(connection, updateSql);
+                    setUpdateParameters(preparedStatement, u);
+                    u.updateCount = preparedStatement.executeUpdate();
+                } catch (final Exception e) {
+                    u.failure = BatchMessages.MESSAGES.failToRunQuery(e, updateSql);
+                } finally {
+                    close(null, preparedStatement, null, null);
+                }
+            }
+        }
+    }
+
+    private static void setUpdateParameters(final PreparedStatement preparedStatement, final PendingUpdate update) throws SQLException {
+        if (update.execution instanceof StepExecutionImpl) {
+            setStepExecutionUpdateParameters(preparedStatement, (StepExecutionImpl) update.execution, update.unchangedData);
+        } else {
+            setPartitionExecutionUpdateParameters(preparedStatement, (PartitionExecutionImpl) update.execution, update.unchangedData);
+        }
+    }
+
     private void createStepExecutionsFromResultSet(final ResultSet rs,
                                                    final List<StepExecution> result,
                                                    final boolean top1,
@@ -979,7 +1535,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         PreparedStatement preparedStatement = null;
         int count = 0;
         try {
-            preparedStatement = connection.prepareStatement(select);
+            preparedStatement = prepareStatement(connection, select);
             preparedStatement.setString(1, stepName);
             preparedStatement.setLong(2, jobInstanceId);
             rs = preparedStatement.executeQuery();
@@ -996,6 +1552,241 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         return count;
     }
 
+    /**
+     * Removes the job executions selected by {@code selector} from the database, along with their step executions
+     * and partition executions, and from the cache of this repository.
+     * <p>
+     * Instead of evaluating the selector against each job execution, its criteria are translated into a sql
+     * condition with the same precedence as {@link DefaultJobExecutionSelector#select(JobExecution, java.util.Collection)}.
+     * Job executions are then removed in chunks of at most {@code chunkSize} ids, each chunk in its own local
+     * transaction, so that no transaction grows with the number of job executions to remove. Progress is logged
+     * after each chunk.
+     * <p>
+     * The job execution of the selector's job context, if any, is never removed, even when running job executions
+     * are not excluded. Like other sql statements of this repository, the statements used are loaded from the
+     * configured sql file.
+     *
+     * @param selector the selector whose criteria to apply
+     * @param chunkSize the maximum number of job executions to remove in one transaction, between 1 and
+     *                  {@value #MAX_PURGE_CHUNK_SIZE}
+     * @return the number of job executions removed
+     * @throws SQLException if failed to remove job executions
+     *
+     * @since 3.2.0
+     */
+    public long removeJobExecutions(final DefaultJobExecutionSelector selector, final int chunkSize) throws SQLException {
+        final int chunk = Math.max(1, Math.min(chunkSize, MAX_PURGE_CHUNK_SIZE));
+        final List<Object> params = new ArrayList<Object>();
+        final String condition = getPurgeCondition(selector, params);
+        if (condition == null) {
+            return 0;
+        }
+        final String select = sqls.getProperty(SELECT_JOB_EXECUTION_IDS_TO_PURGE).replace(CONDITION_MARKER, condition);
+        final long currentJobExecutionId = selector.getJobContext() == null ? 0 :
+                selector.getJobContext().getExecutionId();
+
+        final Connection connection = getConnection();
+        final boolean autoCommit = connection.getAutoCommit();
+        PreparedStatement selectStatement = null;
+        ResultSet rs = null;
+        long total = 0;
+        long lastId = 0;
+        try {
+            connection.setAutoCommit(false);
+            selectStatement = connection.prepareStatement(select);
+            selectStatement.setMaxRows(chunk);
+            final List<Long> ids = new ArrayList<Long>(chunk);
+            do {
+                ids.clear();
+                selectStatement.setLong(1, lastId);
+                selectStatement.setLong(2, currentJobExecutionId);
+                for (int i = 0; i < params.size(); i++) {
+                    selectStatement.setObject(i + 3, params.get(i));
+                }
+                rs = selectStatement.executeQuery();
+                while (rs.next()) {
+                    ids.add(rs.getLong(1));
+                }
+                rs.close();
+                rs = null;
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                deleteJobExecutions(connection, ids);
+                connection.commit();
+                lastId = ids.get(ids.size() - 1);
+                total += ids.size();
+                for (final Long id : ids) {
+                    jobExecutions.remove(id);
+                }
+                BatchLogger.LOGGER.purgedJobExecutions(ids.size(), total);
+            } while (ids.size() == chunk);
+        } catch (final SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            try {
+                connection.setAutoCommit(autoCommit);
+            } catch (final SQLException e) {
+                BatchLogger.LOGGER.failToClose(e, Connection.class, connection);
+            }
+            close(connection, selectStatement, null, rs);
+        }
+        return total;
+    }
+
+    /**
+     * Deletes job executions, and their step executions and partition executions, without relying on cascading
+     * deletes, which are not available with all databases.
+     */
+    private void deleteJobExecutions(final Connection connection, final List<Long> ids) throws SQLException {
+        final StringBuilder placeholders = new StringBuilder(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            placeholders.append(i == 0 ? "?" : ",?");
+        }
+        final String[] deletes = {
+                sqls.getProperty(DELETE_PARTITION_EXECUTIONS_BY_JOB_EXECUTION_IDS),
+                sqls.getProperty(DELETE_STEP_EXECUTIONS_BY_JOB_EXECUTION_IDS),
+                sqls.getProperty(DELETE_JOB_EXECUTIONS_BY_IDS)
+        };
+        for (final String delete : deletes) {
+            try (PreparedStatement statement = connection.prepareStatement(delete.replace(IDS_MARKER, placeholders))) {
+                for (int i = 0; i < ids.size(); i++) {
+                    statement.setLong(i + 1, ids.get(i));
+                }
+                statement.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Translates the criteria of a {@code DefaultJobExecutionSelector} into a sql condition on {@code JOB_EXECUTION}.
+     * Like {@link DefaultJobExecutionSelector#select(JobExecution, java.util.Collection)}, only the first criterion
+     * present applies, except that end time criteria only apply to job executions with an end time, and the next
+     * criterion applies to those without.
+     *
+     * @param selector the selector whose criteria to translate
+     * @param params to add the parameters of the condition to
+     * @return the sql condition, or null if no job execution is selected
+     */
+    private String getPurgeCondition(final DefaultJobExecutionSelector selector, final List<Object> params)
+            throws SQLException {
+        final StringBuilder condition = new StringBuilder();
+        if (selector.excludeRunningJobExecutions) {
+            condition.append("BATCHSTATUS IN ('COMPLETED', 'FAILED', 'STOPPED', 'ABANDONED') AND ");
+        }
+
+        if (selector.jobExecutionIds != null && !selector.jobExecutionIds.isEmpty()) {
+            condition.append("JOBEXECUTIONID IN (").append(inList(selector.jobExecutionIds, params)).append(')');
+            return condition.toString();
+        }
+
+        if (selector.numberOfRecentJobExecutionsToExclude != null && selector.numberOfRecentJobExecutionsToExclude > 0) {
+            final Long oldestToKeep = getOldestOfRecentJobExecutions(selector.numberOfRecentJobExecutionsToExclude);
+            if (oldestToKeep == null) {
+                return null;
+            }
+            params.add(oldestToKeep);
+            condition.append("JOBEXECUTIONID < ?");
+            return condition.toString();
+        }
+
+        if (selector.jobExecutionIdFrom != null || selector.jobExecutionIdTo != null) {
+            if (selector.jobExecutionIdFrom != null) {
+                params.add(selector.jobExecutionIdFrom);
+                condition.append("JOBEXECUTIONID >= ?");
+            }
+            if (selector.jobExecutionIdTo != null) {
+                params.add(selector.jobExecutionIdTo);
+                condition.append(selector.jobExecutionIdFrom != null ? " AND " : "").append("JOBEXECUTIONID <= ?");
+            }
+            return condition.toString();
+        }
+
+        String endTimeCondition = null;
+        final List<Object> endTimeParams = new ArrayList<Object>();
+        if (selector.withinPastMinutes != null) {
+            //ended no more than withinPastMinutes whole minutes ago
+            endTimeParams.add(new Timestamp(System.currentTimeMillis() -
+                    java.util.concurrent.TimeUnit.MINUTES.toMillis(selector.withinPastMinutes + 1L)));
+            endTimeCondition = "ENDTIME > ?";
+        } else if (selector.jobExecutionEndTimeFrom != null || selector.jobExecutionEndTimeTo != null) {
+            endTimeCondition = "";
+            if (selector.jobExecutionEndTimeFrom != null) {
+                endTimeParams.add(new Timestamp(selector.jobExecutionEndTimeFrom.getTime()));
+                endTimeCondition = "ENDTIME >= ?";
+            }
+            if (selector.jobExecutionEndTimeTo != null) {
+                endTimeParams.add(new Timestamp(selector.jobExecutionEndTimeTo.getTime()));
+                endTimeCondition += (endTimeCondition.isEmpty() ? "" : " AND ") + "ENDTIME <= ?";
+            }
+        }
+
+        String otherCondition = null;
+        final List<Object> otherParams = new ArrayList<Object>();
+        if (selector.batchStatuses != null) {
+            otherCondition = selector.batchStatuses.isEmpty() ? null :
+                    "BATCHSTATUS IN (" + inList(selector.batchStatuses, otherParams) + ")";
+        } else if (selector.exitStatuses != null) {
+            otherCondition = selector.exitStatuses.isEmpty() ? null :
+                    "EXITSTATUS IN (" + inList(selector.exitStatuses, otherParams) + ")";
+        } else if (selector.jobExecutionsByJobNames != null) {
+            otherCondition = selector.jobExecutionsByJobNames.isEmpty() ? null :
+                    sqls.getProperty(JOB_EXECUTION_IDS_BY_JOB_NAMES_CONDITION)
+                            .replace(IDS_MARKER, inList(selector.jobExecutionsByJobNames, otherParams));
+        }
+
+        if (endTimeCondition != null) {
+            condition.append("((ENDTIME IS NOT NULL AND ").append(endTimeCondition).append(')');
+            params.addAll(endTimeParams);
+            if (otherCondition != null) {
+                condition.append(" OR (ENDTIME IS NULL AND ").append(otherCondition).append(')');
+                params.addAll(otherParams);
+            }
+            condition.append(')');
+        } else if (otherCondition != null) {
+            condition.append(otherCondition);
+            params.addAll(otherParams);
+        } else {
+            return null;
+        }
+        return condition.toString();
+    }
+
+    /**
+     * Gets the id of the oldest of the most recent job executions, or null if there are fewer job executions.
+     */
+    private Long getOldestOfRecentJobExecutions(final int numberOfRecentJobExecutions) throws SQLException {
+        final String select = sqls.getProperty(SELECT_RECENT_JOB_EXECUTION_IDS);
+        final Connection connection = getConnection();
+        PreparedStatement preparedStatement = null;
+        ResultSet rs = null;
+        try {
+            preparedStatement = connection.prepareStatement(select);
+            preparedStatement.setMaxRows(numberOfRecentJobExecutions);
+            rs = preparedStatement.executeQuery();
+            int count = 0;
+            long id = 0;
+            while (rs.next()) {
+                id = rs.getLong(1);
+                count++;
+            }
+            return count < numberOfRecentJobExecutions ? null : id;
+        } finally {
+            close(connection, preparedStatement, null, rs);
+        }
+    }
+
+    private static String inList(final java.util.Collection<?> values, final List<Object> params) {
+        final StringBuilder sb = new StringBuilder();
+        for (final Object v : values) {
+            sb.append(sb.length() == 0 ? "?" : ",?");
+            params.add(v);
+        }
+        return sb.toString();
+    }
+
     /**
      * Executes a series of sql statements.
      *
@@ -1062,8 +1853,10 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         PreparedStatement preparedStatement = null;
         try {
             connection = getConnection();
-            preparedStatement = connection.prepareStatement(selectSql);
+            preparedStatement = prepareStatement(connection, selectSql);
             preparedStatement.setString(1, jobName);
+            //the statement may be a cached one that was last used for a page of job executions
+            preparedStatement.setMaxRows(0);
             BatchLogger.LOGGER.debugf("Executing query to load job executions: %s", selectSql);
             rs = preparedStatement.executeQuery();
             BatchLogger.LOGGER.debugf("Reading job execution records");
@@ -1098,6 +1891,20 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         return result;
     }
 
+    /**
+     * Closes the idle connections pooled by this repository when it is configured with {@value #DB_POOL_SIZE_KEY}.
+     * Connections in use are closed once the current repository operations complete, and connections opened
+     * afterwards are no longer pooled. It has no effect when a {@code DataSource} is used.
+     *
+     * @since 3.2.0
+     */
+    @Override
+    public void close() {
+        if (connectionPool != null) {
+            connectionPool.close();
+        }
+    }
+
     private Connection getConnection() {
         if (dataSource != null) {
             try {
@@ -1107,13 +1914,18 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             }
         } else {
             try {
-                return DriverManager.getConnection(dbUrl, dbProperties);
+                return connectionPool != null ? connectionPool.getConnection() :
+                        DriverManager.getConnection(dbUrl, dbProperties);
             } catch (final Exception e) {
                 throw BatchMessages.MESSAGES.failToObtainConnection(e, dbUrl, "<db props> masked");
             }
         }
     }
 
+    private PreparedStatement prepareStatement(final Connection connection, final String sql) throws SQLException {
+        return connectionPool != null ? connectionPool.prepareStatement(connection, sql) : connection.prepareStatement(sql);
+    }
+
     private void close(final Connection conn, final Statement stmt1, final Statement stmt2, final ResultSet rs) {
         if (rs != null) {
             try {
@@ -1123,7 +1935,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             }
         }
 
-        if (stmt1 != null) {
+        if (stmt1 != null && (connectionPool == null || !connectionPool.releaseStatement(stmt1))) {
             try {
                 stmt1.close();
             } catch (final SQLException e) {
@@ -1131,7 +1943,7 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             }
         }
 
-        if (stmt2 != null) {
+        if (stmt2 != null && (connectionPool == null || !connectionPool.releaseStatement(stmt2))) {
             try {
                 stmt2.close();
             } catch (final SQLException e) {
@@ -1139,7 +1951,9 @@ public final class JdbcRepository extends AbstractPersistentRepository {
             }
         }
 
-        if (conn != null) {
+        if (conn != null && connectionPool != null) {
+            connectionPool.release(conn);
+        } else if (conn != null) {
             try {
                 conn.close();
             } catch (final SQLException e) {
@@ -1189,6 +2003,18 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         return ddlFile;
     }
 
+    private static int getIntProperty(final Properties configProperties, final String key, final int defaultValue) {
+        final String val = configProperties.getProperty(key);
+        if (val == null || val.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(val.trim());
+        } catch (final NumberFormatException e) {
+            throw BatchMessages.MESSAGES.invalidConfigProperty(e, key, val);
+        }
+    }
+
     private static ClassLoader getClassLoader(final boolean isContextClassLoader) {
         return isContextClassLoader ? SecurityActions.getContextClassLoader() :
               SecurityActions.getClassLoader(JdbcRepository.class);
@@ -1225,4 +2051,27 @@ public final class JdbcRepository extends AbstractPersistentRepository {
         matcher.appendTail(sb);
         return sb.toString();
     }
+
+    /**
+     * A step or partition execution update waiting to be executed in batch.
+     */
+    private static final class PendingUpdate {
+        private final AbstractStepExecution execution;
+        private final boolean ifNotStopping;
+        private final String updateSql;
+        private final int unchangedData;
+
+        //set by the executing thread, and published to the calling thread through pendingUpdatesLock
+        private boolean executed;
+        private int updateCount;
+        private RuntimeException failure;
+
+        private PendingUpdate(final AbstractStepExecution execution, final boolean ifNotStopping,
+                              final String updateSql, final int unchangedData) {
+            this.execution = execution;
+            this.ifNotStopping = ifNotStopping;
+            this.updateSql = updateSql;
+            this.unchangedData = unchangedData;
+        }
+    }
 }
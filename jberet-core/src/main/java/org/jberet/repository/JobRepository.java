@@ -52,6 +52,24 @@ public interface JobRepository {
     void removeJobInstance(long jobInstanceId);
     JobInstance getJobInstance(long jobInstanceId);
     List<JobInstance> getJobInstances(String jobName);
+
+    /**
+     * Gets a page of the job instances belonging to the job identified by the {@code jobName}, most recent first.
+     * <p>
+     * The default implementation gets all job instances of the job and returns the requested page of them.
+     * Implementations should override it to load only the requested job instances.
+     *
+     * @param jobName the job name identifying the job, or {@code *} or null for all jobs
+     * @param start the number of most recent job instances to skip
+     * @param count the maximum number of job instances to return
+     * @return job instances belonging to the job, most recent first
+     *
+     * @since 3.2.0
+     */
+    default List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        return page(getJobInstances(jobName), start, count);
+    }
+
     int getJobInstanceCount(String jobName);
 
     JobExecutionImpl createJobExecution(JobInstanceImpl jobInstance, Properties jobParameters);
@@ -77,6 +95,24 @@ public interface JobRepository {
      */
     List<Long> getJobExecutionsByJob(String jobName, Integer limit);
 
+    /**
+     * Gets a page of the job execution ids belonging to the job identified by the {@code jobName}, most recent
+     * first.
+     * <p>
+     * The default implementation gets all job execution ids of the job and returns the requested page of them.
+     * Implementations should override it to load only the requested job execution ids.
+     *
+     * @param jobName the job name identifying the job
+     * @param start the number of most recent job execution ids to skip
+     * @param count the maximum number of job execution ids to return
+     * @return job execution ids belonging to the job, most recent first
+     *
+     * @since 3.2.0
+     */
+    default List<Long> getJobExecutionsByJob(final String jobName, final int start, final int count) {
+        return page(getJobExecutionsByJob(jobName), start, count);
+    }
+
     void updateJobExecution(JobExecutionImpl jobExecution, boolean fullUpdate, boolean saveJobParameters);
 
     /**
@@ -120,6 +156,28 @@ public interface JobRepository {
 
     void savePersistentData(JobExecution jobExecution, AbstractStepExecution stepOrPartitionExecution);
 
+    /**
+     * Saves the data of several step or partition executions to job repository. This is equivalent to calling
+     * {@link #savePersistentData(JobExecution, AbstractStepExecution)} for each of them, and implementations may save
+     * them together, e.g., in a batch update.
+     * <p>
+     * Like the single execution variant, this method does not begin or end any transaction. Whether the data are
+     * saved as part of a transaction active on the calling thread depends on the repository, e.g., a JDBC repository
+     * only takes part in it with a data source enlisted in global transactions. The batch runtime calls this method
+     * with no partition analyzer transaction active.
+     *
+     * @param jobExecution the current job execution
+     * @param stepOrPartitionExecutions the steps or partitions to save
+     *
+     * @since 3.2.0
+     */
+    default void savePersistentData(final JobExecution jobExecution,
+                                    final List<? extends AbstractStepExecution> stepOrPartitionExecutions) {
+        for (final AbstractStepExecution e : stepOrPartitionExecutions) {
+            savePersistentData(jobExecution, e);
+        }
+    }
+
     /**
      * Saves the step or partition execution data to job repository if its
      * batch status is not {@code STOPPING}.
@@ -131,4 +189,18 @@ public interface JobRepository {
      * @since 1.3.8.Final
      */
     int savePersistentDataIfNotStopping(JobExecution jobExecution, AbstractStepExecution stepOrPartitionExecution);
+
+    /**
+     * Gets a page of a list.
+     *
+     * @param list the list to get the page from
+     * @param start the index of the first element of the page
+     * @param count the maximum number of elements in the page
+     * @return the page, a view of {@code list}
+     */
+    private static <T> List<T> page(final List<T> list, final int start, final int count) {
+        final int size = list.size();
+        final int from = Math.min(Math.max(start, 0), size);
+        return list.subList(from, (int) Math.min((long) from + Math.max(count, 0), size));
+    }
 }
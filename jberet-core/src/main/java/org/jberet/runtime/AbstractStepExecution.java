@@ -35,6 +35,16 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
 
     StepMetrics stepMetrics = new StepMetrics();
 
+    /**
+     * Persistent user data, reader and writer checkpoint info as of the last time they were saved to the job
+     * repository, used to detect which of them have changed since. Only valid when {@link #persistentDataSaved}
+     * is true.
+     */
+    private transient SerializableData savedPersistentUserData;
+    private transient SerializableData savedReaderCheckpointInfo;
+    private transient SerializableData savedWriterCheckpointInfo;
+    private transient boolean persistentDataSaved;
+
     public abstract List<PartitionExecutionImpl> getPartitionExecutions();
 
     AbstractStepExecution() {
@@ -86,7 +96,7 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
     }
 
     public void setPersistentUserData(final Serializable persistentUserData) {
-        this.persistentUserData = SerializableData.of(persistentUserData);
+        this.persistentUserData = SerializableData.of(persistentUserData, this.persistentUserData);
     }
 
     @Override
@@ -125,7 +135,7 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
     }
 
     public void setReaderCheckpointInfo(final Serializable readerCheckpointInfo) {
-        this.readerCheckpointInfo = SerializableData.of(readerCheckpointInfo);
+        this.readerCheckpointInfo = SerializableData.of(readerCheckpointInfo, this.readerCheckpointInfo);
     }
 
     public Serializable getWriterCheckpointInfo() {
@@ -137,7 +147,7 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
     }
 
     public void setWriterCheckpointInfo(final Serializable writerCheckpointInfo) {
-        this.writerCheckpointInfo = SerializableData.of(writerCheckpointInfo);
+        this.writerCheckpointInfo = SerializableData.of(writerCheckpointInfo, this.writerCheckpointInfo);
     }
 
     @Override
@@ -160,6 +170,75 @@ public abstract class AbstractStepExecution extends AbstractExecution implements
         return result;
     }
 
+    /**
+     * Checks if the persistent user data has changed since it was last saved to the job repository, as marked by
+     * {@link #markPersistentDataSaved()}.
+     *
+     * @return true if the persistent user data has changed, or it is unknown whether it has changed; false otherwise
+     */
+    public boolean isPersistentUserDataChanged() {
+        return !persistentDataSaved || !sameData(savedPersistentUserData, persistentUserData);
+    }
+
+    /**
+     * Checks if the reader checkpoint info has changed since it was last saved to the job repository, as marked by
+     * {@link #markPersistentDataSaved()}.
+     *
+     * @return true if the reader checkpoint info has changed, or it is unknown whether it has changed; false otherwise
+     */
+    public boolean isReaderCheckpointInfoChanged() {
+        return !persistentDataSaved || !sameData(savedReaderCheckpointInfo, readerCheckpointInfo);
+    }
+
+    /**
+     * Checks if the writer checkpoint info has changed since it was last saved to the job repository, as marked by
+     * {@link #markPersistentDataSaved()}.
+     *
+     * @return true if the writer checkpoint info has changed, or it is unknown whether it has changed; false otherwise
+     */
+    public boolean isWriterCheckpointInfoChanged() {
+        return !persistentDataSaved || !sameData(savedWriterCheckpointInfo, writerCheckpointInfo);
+    }
+
+    /**
+     * Marks the current persistent user data, reader and writer checkpoint info as saved to the job repository.
+     * A job repository calls this method after it has successfully updated this execution, so that subsequent
+     * updates can skip any of them that have not changed.
+     */
+    public void markPersistentDataSaved() {
+        savedPersistentUserData = persistentUserData;
+        savedReaderCheckpointInfo = readerCheckpointInfo;
+        savedWriterCheckpointInfo = writerCheckpointInfo;
+        persistentDataSaved = true;
+    }
+
+    /**
+     * Discards what has been marked as saved with {@link #markPersistentDataSaved()}, so that the next update
+     * will save all of persistent user data, reader and writer checkpoint info. This method should be called when
+     * a previous update may have been rolled back.
+     */
+    public void resetPersistentDataSaved() {
+        savedPersistentUserData = savedReaderCheckpointInfo = savedWriterCheckpointInfo = null;
+        persistentDataSaved = false;
+    }
+
+    /**
+     * Checks if the saved data are the same as the current data. Arrays kept as raw data may have been changed in
+     * place since they were saved, so they are always considered changed.
+     */
+    private static boolean sameData(final SerializableData saved, final SerializableData current) {
+        if (current != null && current.isRawArray()) {
+            return false;
+        }
+        if (saved == current) {
+            return true;
+        }
+        if (saved == null || current == null) {
+            return false;
+        }
+        return saved.equals(current);
+    }
+
     private static Serializable deserialize(final SerializableData data) {
         if (data == null){
             return null;
@@ -34,6 +34,13 @@ public class SerializableData implements Serializable {
     private final Serializable raw;
     private final Class<?> klass;
 
+    /**
+     * Serialized form of {@link #raw}, computed on first request. Raw data other than arrays are of immutable JDK
+     * types, and never need to be serialized again. Raw arrays may be changed in place, so their serialized form is
+     * not kept.
+     */
+    private transient volatile byte[] rawSerialized;
+
     private SerializableData(final byte[] serialized, final Serializable raw, final Class<?> klass) {
         this.serialized = serialized;
         this.raw = raw;
@@ -88,6 +95,36 @@ public class SerializableData implements Serializable {
         return new SerializableData(null, data, c);
     }
 
+    /**
+     * Creates a new instance, or reuses {@code current} if it holds data of immutable JDK types, or a byte array,
+     * equal to {@code data}. Arrays kept as raw data may have been changed in place, and are never reused. Reusing the current instance keeps its serialized form, so unchanged data such as the
+     * same checkpoint offset is not serialized again.
+     *
+     * @param data the data to be serialized
+     * @param current the instance currently holding the data, may be {@code null}
+     *
+     * @return {@code current} if it holds equal data, otherwise a new instance
+     *
+     * @throws BatchRuntimeException if a failure to serialize the data occurs
+     */
+    static SerializableData of(final Serializable data, final SerializableData current) {
+        if (current != null) {
+            if (data == null) {
+                if (current.raw == null && current.serialized == null) {
+                    return current;
+                }
+            } else if (current.raw != null && !current.isRawArray()) {
+                if (current.raw.getClass() == data.getClass() && current.raw.equals(data)) {
+                    return current;
+                }
+            } else if (data instanceof byte[] && current.klass == byte[].class &&
+                    Arrays.equals((byte[]) data, current.serialized)) {
+                return current;
+            }
+        }
+        return of(data);
+    }
+
     /**
      * If the data was previously serialized it's deserialized using the TCCL. If the TCCL is not set the class loader
      * for this class will be used.
@@ -120,13 +157,31 @@ public class SerializableData implements Serializable {
         if (serialized != null) {
             return serialized;
         }
+        byte[] bytes = rawSerialized;
+        if (bytes != null) {
+            return bytes;
+        }
         try {
-            return provider.objectToBytes(raw);
+            bytes = provider.objectToBytes(raw);
+            if (!isRawArray()) {
+                rawSerialized = bytes;
+            }
+            return bytes;
         } catch (final IOException e) {
             throw BatchMessages.MESSAGES.failedToSerialize(e, raw);
         }
     }
 
+    /**
+     * Checks if this instance holds an array as raw data, which may be changed in place after this instance was
+     * created.
+     *
+     * @return true if the raw data is an array; false otherwise
+     */
+    boolean isRawArray() {
+        return raw != null && raw.getClass().isArray();
+    }
+
     @Override
     public int hashCode() {
         int hash = 17;
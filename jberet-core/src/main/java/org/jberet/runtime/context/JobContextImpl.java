@@ -44,6 +44,11 @@ public class JobContextImpl extends AbstractContext implements JobContext, Clone
     final BatchEnvironment batchEnvironment;
     BatchArtifacts batchArtifacts;
 
+    /**
+     * Scheduling priority and weight from job parameters, or null if not yet read.
+     */
+    private volatile int[] schedulingParameters;
+
     public JobContextImpl(final JobExecutionImpl jobExecution,
                           final JobExecutionImpl originalToRestart,
                           final ArtifactFactory artifactFactory,
@@ -108,6 +113,62 @@ public class JobContextImpl extends AbstractContext implements JobContext, Clone
         return jobExecution.getJobParameters();
     }
 
+    /**
+     * Gets the scheduling priority of this job execution.
+     *
+     * @return the scheduling priority
+     * @see PropertyKey#SCHEDULING_PRIORITY
+     * @since 3.2.0
+     */
+    public int getSchedulingPriority() {
+        return getSchedulingParameters()[0];
+    }
+
+    /**
+     * Gets the scheduling weight of this job execution.
+     *
+     * @return the scheduling weight, greater than 0
+     * @see PropertyKey#SCHEDULING_WEIGHT
+     * @since 3.2.0
+     */
+    public int getSchedulingWeight() {
+        return getSchedulingParameters()[1];
+    }
+
+    private int[] getSchedulingParameters() {
+        int[] params = schedulingParameters;
+        if (params == null) {
+            final Properties jobParameters = getJobParameters();
+            params = new int[]{0, 1};
+            if (jobParameters != null) {
+                final String priority = jobParameters.getProperty(PropertyKey.SCHEDULING_PRIORITY);
+                if (priority != null) {
+                    try {
+                        params[0] = Integer.parseInt(priority.trim());
+                    } catch (final NumberFormatException e) {
+                        BatchLogger.LOGGER.invalidSchedulingParameter(PropertyKey.SCHEDULING_PRIORITY, priority, params[0]);
+                    }
+                }
+                final String weight = jobParameters.getProperty(PropertyKey.SCHEDULING_WEIGHT);
+                if (weight != null) {
+                    int w = 0;
+                    try {
+                        w = Integer.parseInt(weight.trim());
+                    } catch (final NumberFormatException e) {
+                        //handled below
+                    }
+                    if (w > 0) {
+                        params[1] = w;
+                    } else {
+                        BatchLogger.LOGGER.invalidSchedulingParameter(PropertyKey.SCHEDULING_WEIGHT, weight, params[1]);
+                    }
+                }
+            }
+            schedulingParameters = params;
+        }
+        return params;
+    }
+
     @Override
     public AbstractContext[] getOuterContexts() {
         return EMPTY_ABSTRACT_CONTEXT_ARRAY;
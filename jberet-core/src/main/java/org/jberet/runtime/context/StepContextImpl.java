@@ -92,6 +92,18 @@ public class StepContextImpl extends AbstractContext implements StepContext, Clo
 
     @Override
     public StepContextImpl clone() {
+        return clone(SecurityActions.cloneStep(step));
+    }
+
+    /**
+     * Clones this step context for a partition, with the step already prepared for the partition.
+     *
+     * @param partitionStep the step of the partition
+     * @return the cloned step context
+     *
+     * @since 3.2.0
+     */
+    public StepContextImpl clone(final Step partitionStep) {
         StepContextImpl c = null;
         try {
             c = (StepContextImpl) super.clone();
@@ -101,7 +113,7 @@ public class StepContextImpl extends AbstractContext implements StepContext, Clo
             for (int i = 1; i < c.outerContexts.length; i++) {
                 c.outerContexts[i] = outerContexts[i];
             }
-            c.step = SecurityActions.cloneStep(step);
+            c.step = partitionStep;
             c.partitionScopedBeans = new ConcurrentHashMap<Contextual<?>, JobScopedContextImpl.ScopedInstance<?>>();
         } catch (CloneNotSupportedException e) {
             BatchLogger.LOGGER.failToClone(e, this, getJobContext().getJobName(), getStepName());
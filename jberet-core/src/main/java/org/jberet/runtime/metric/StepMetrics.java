@@ -10,54 +10,167 @@
 
 package org.jberet.runtime.metric;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.HashMap;
 import java.util.Map;
 import jakarta.batch.runtime.Metric;
 
 /**
  * Maintains execution metrics for a single step.
+ * <p>
+ * Metric values are kept in a {@code long} array indexed by {@link Metric.MetricType} ordinal. Metrics of a step or
+ * partition execution are only updated by the thread running it, or by the thread collecting partition results, so
+ * updates are plain stores without locking. Other threads, e.g., for monitoring, may read metrics at any time:
+ * {@link #getMetrics()} and {@link #getValues()} return a consistent snapshot of all metrics, using a sequence
+ * counter that is incremented before and after each update.
  */
 final public class StepMetrics implements Serializable {
 
     private static final long serialVersionUID = -4854359401644105419L;
-    private final Map<Metric.MetricType, MetricImpl> metricsMapping = new HashMap<Metric.MetricType, MetricImpl>();
 
-    public StepMetrics() {
-        for (final Metric.MetricType m : Metric.MetricType.values()) {
-            metricsMapping.put(m, new MetricImpl(m));
+    /**
+     * Keeps the serialized form of earlier versions, which held a {@code HashMap<Metric.MetricType, MetricImpl>}.
+     */
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("metricsMapping", Map.class)
+    };
+
+    private static final Metric.MetricType[] METRIC_TYPES = Metric.MetricType.values();
+
+    private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private static final VarHandle SEQUENCE;
+
+    static {
+        try {
+            SEQUENCE = MethodHandles.lookup().findVarHandle(StepMetrics.class, "sequence", int.class);
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
         }
     }
 
+    private transient long[] values = new long[METRIC_TYPES.length];
+
+    /**
+     * Odd while an update is in progress, and incremented again when it completes.
+     */
+    private transient volatile int sequence;
+
+    public StepMetrics() {
+    }
+
     public Metric[] getMetrics() {
-        return metricsMapping.values().toArray(new Metric[metricsMapping.size()]);
+        final long[] snapshot = getValues();
+        final Metric[] metrics = new Metric[snapshot.length];
+        for (int i = 0; i < snapshot.length; i++) {
+            final MetricImpl metric = new MetricImpl(METRIC_TYPES[i]);
+            metric.setValue(snapshot[i]);
+            metrics[i] = metric;
+        }
+        return metrics;
+    }
+
+    /**
+     * Gets a consistent snapshot of all metric values.
+     *
+     * @return a new array of metric values, indexed by {@link Metric.MetricType} ordinal
+     *
+     * @since 3.2.0
+     */
+    public long[] getValues() {
+        long[] snapshot;
+        int seq;
+        do {
+            while (((seq = (int) SEQUENCE.getAcquire(this)) & 1) != 0) {
+                Thread.onSpinWait();
+            }
+            snapshot = new long[values.length];
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = (long) VALUES.getOpaque(values, i);
+            }
+            VarHandle.acquireFence();
+        } while (seq != (int) SEQUENCE.getOpaque(this));
+        return snapshot;
     }
 
     public void set(final Metric.MetricType name, final long value) {
-        final MetricImpl targetMetric = metricsMapping.get(name);
-        targetMetric.setValue(value);
+        beginUpdate();
+        VALUES.setOpaque(values, name.ordinal(), value);
+        endUpdate();
     }
 
     public long get(final Metric.MetricType name) {
-        return metricsMapping.get(name).getValue();
+        return (long) VALUES.getOpaque(values, name.ordinal());
     }
 
     public void increment(final Metric.MetricType name, final long value) {
-        final MetricImpl targetMetric = metricsMapping.get(name);
-        targetMetric.increment(value);
+        final int i = name.ordinal();
+        beginUpdate();
+        VALUES.setOpaque(values, i, (long) VALUES.getOpaque(values, i) + value);
+        endUpdate();
     }
 
     public void addStepMetrics(final StepMetrics other) {
-        for (final Map.Entry<Metric.MetricType, MetricImpl> e : other.metricsMapping.entrySet()) {
-            final long number = e.getValue().getValue();
-            if (number > 0) {
-                increment(e.getKey(), number);
+        final long[] otherValues = other.getValues();
+        beginUpdate();
+        for (int i = 0; i < otherValues.length; i++) {
+            if (otherValues[i] > 0) {
+                VALUES.setOpaque(values, i, (long) VALUES.getOpaque(values, i) + otherValues[i]);
+            }
+        }
+        endUpdate();
+    }
+
+    private void beginUpdate() {
+        SEQUENCE.setOpaque(this, (int) SEQUENCE.getOpaque(this) + 1);
+        VarHandle.storeStoreFence();
+    }
+
+    private void endUpdate() {
+        SEQUENCE.setRelease(this, (int) SEQUENCE.getOpaque(this) + 1);
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final long[] snapshot = getValues();
+        final Map<Metric.MetricType, MetricImpl> metricsMapping = new HashMap<Metric.MetricType, MetricImpl>();
+        for (int i = 0; i < snapshot.length; i++) {
+            final MetricImpl metric = new MetricImpl(METRIC_TYPES[i]);
+            metric.setValue(snapshot[i]);
+            metricsMapping.put(METRIC_TYPES[i], metric);
+        }
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("metricsMapping", metricsMapping);
+        out.writeFields();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final Map<?, ?> metricsMapping = (Map<?, ?>) fields.get("metricsMapping", null);
+        values = new long[METRIC_TYPES.length];
+        if (metricsMapping != null) {
+            for (final Object metric : metricsMapping.values()) {
+                final MetricImpl m = (MetricImpl) metric;
+                values[m.getType().ordinal()] = m.getValue();
             }
         }
     }
 
     @Override
     public String toString() {
-        return "StepMetrics: " + metricsMapping;
+        final long[] snapshot = getValues();
+        final StringBuilder sb = new StringBuilder("StepMetrics: {");
+        for (int i = 0; i < snapshot.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(METRIC_TYPES[i]).append('=').append(snapshot[i]);
+        }
+        return sb.append('}').toString();
     }
 }
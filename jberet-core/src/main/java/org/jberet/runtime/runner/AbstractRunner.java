@@ -70,6 +70,26 @@ public abstract class AbstractRunner<C extends AbstractContext> implements JobTa
         return 0;
     }
 
+    @Override
+    public long getJobExecutionId() {
+        return jobContext.getExecutionId();
+    }
+
+    @Override
+    public String getApplicationName() {
+        return jobContext.getJobExecution().getJobInstance().getApplicationName();
+    }
+
+    @Override
+    public int getSchedulingPriority() {
+        return jobContext.getSchedulingPriority();
+    }
+
+    @Override
+    public int getSchedulingWeight() {
+        return jobContext.getSchedulingWeight();
+    }
+
     /**
      * Resolves a list of next, end, stop and fail elements to determine the next job element.
      *
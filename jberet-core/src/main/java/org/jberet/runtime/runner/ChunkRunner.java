@@ -16,7 +16,15 @@ import static org.jberet._private.BatchMessages.MESSAGES;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import jakarta.batch.api.chunk.CheckpointAlgorithm;
 import jakarta.batch.api.chunk.ItemProcessor;
@@ -40,6 +48,7 @@ import jakarta.transaction.Status;
 import jakarta.transaction.SystemException;
 import jakarta.transaction.TransactionManager;
 import org.jberet._private.BatchLogger;
+import org.jberet.creation.ArtifactCreationContext;
 import org.jberet.creation.JobScopedContextImpl;
 import org.jberet.job.model.Chunk;
 import org.jberet.job.model.ExceptionClassFilter;
@@ -51,7 +60,9 @@ import org.jberet.runtime.context.StepContextImpl;
 import org.jberet.runtime.metric.StepMetrics;
 import org.jberet.spi.JobTask;
 import org.jberet.spi.PartitionWorker;
+import org.jberet.spi.PropertyKey;
 import org.jboss.logging.Logger;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * This runner class is responsible for running a chunk-type step (not just a chunk range of a step).  In a partitioned
@@ -97,6 +108,12 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
     private int skipCount;
     private int retryCount;
 
+    private boolean pipelined;
+    private int pipelineDepth = 1;
+
+    private int processorThreads = 1;
+    private ParallelItems parallelItems;
+
     private Object itemRead;
     private final List<Object> outputList = new ArrayList<Object>();
 
@@ -187,6 +204,22 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 }
             }
             tm.setTransactionTimeout(globalTimeout);
+
+            if (stepProps != null) {
+                //pipelined mode only applies to item checkpoint policy
+                if (checkpointAlgorithm == null) {
+                    pipelined = Boolean.parseBoolean(stepProps.get(PropertyKey.CHUNK_PIPELINED));
+                    final String pipelineDepthProp = stepProps.get(PropertyKey.CHUNK_PIPELINE_DEPTH);
+                    if (pipelineDepthProp != null) {
+                        pipelineDepth = Math.max(1, Integer.parseInt(pipelineDepthProp));
+                    }
+                }
+                final String processorThreadsProp = stepProps.get(PropertyKey.CHUNK_PROCESSOR_THREADS);
+                if (processorThreadsProp != null) {
+                    processorThreads = Integer.parseInt(processorThreadsProp);
+                }
+            }
+
             tm.begin();
             try {
                 itemReaderClosed.set(false);
@@ -201,7 +234,9 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 throw e;
             }
 
-            readProcessWriteItems();
+            if (!pipelined || !readProcessWriteItemsPipelined()) {
+                readProcessWriteItems();
+            }
 
             tm.begin();
             try {
@@ -345,7 +380,11 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 }
 
                 if (itemRead != null && processingInfo.itemState != ItemState.RETRYING_WRITE) {
-                    processItem(processingInfo);
+                    if (processInParallel(processingInfo)) {
+                        addParallelItem();
+                    } else {
+                        processItem(processingInfo);
+                    }
                 }
 
                 if (processingInfo.toStopItem()) {
@@ -353,6 +392,14 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 }
 
                 if (isReadyToCheckpoint(processingInfo)) {
+                    if (parallelItems != null) {
+                        collectParallelItems(processingInfo);
+
+                        //if processing failure caused the chunk to roll back, do not checkpoint
+                        if (processingInfo.chunkState == ChunkState.TO_RETRY) {
+                            continue;
+                        }
+                    }
                     doCheckpoint(processingInfo);
 
                     //errors may happen during the above doCheckpoint (e.g., in writer.write method).  If so, need
@@ -367,6 +414,7 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                     //}
                 }
             } catch (final Exception e) {
+                cancelParallelItems();
                 for (final ChunkListener l : chunkListeners) {
                     l.onError(e);
                 }
@@ -376,6 +424,144 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         }
     }
 
+    /**
+     * The pipelined read-process-write loop, where items of the next chunk(s) are read and processed by a
+     * {@link ReadAheadTask} on a separate thread, while the current chunk is written and committed on the current
+     * thread.
+     * <p>
+     * If any failure occurs, the read-ahead task is stopped, the reader and writer are re-opened from the last
+     * checkpoint, and the remainder of the items should be processed by {@link #readProcessWriteItems()}, which
+     * applies the configured skip and retry rules.
+     *
+     * @return true if all items have been processed, or the job has been stopped; false if the remainder of the
+     * items should be processed by {@link #readProcessWriteItems()}
+     * @throws Exception
+     */
+    private boolean readProcessWriteItemsPipelined() throws Exception {
+        final ReadAheadTask readAheadTask = new ReadAheadTask(pipelineDepth);
+        jobContext.getBatchEnvironment().submitTask(readAheadTask);
+        try {
+            while (true) {
+                final ReadAheadChunk readAheadChunk = readAheadTask.take();
+                if (readAheadChunk == null) {
+                    //the read-ahead task has not started, and no item has been read yet
+                    LOGGER.readAheadTaskNotStarted(batchContext.getStepName());
+                    return false;
+                }
+                if (readAheadChunk.failed) {
+                    LOGGER.pipelinedChunkFallback(readAheadChunk.failure, batchContext.getStepName());
+                    readAheadTask.stop();
+                    reopenReaderAndWriter();
+                    return false;
+                }
+
+                final Exception writeFailure = writeReadAheadChunk(readAheadChunk);
+                if (writeFailure != null) {
+                    LOGGER.pipelinedChunkFallback(writeFailure, batchContext.getStepName());
+                    readAheadTask.stop();
+                    reopenReaderAndWriter();
+                    return false;
+                }
+
+                if (jobContext.getJobExecution().isStopRequested()) {
+                    batchContext.setBatchStatus(BatchStatus.STOPPED);
+                    return true;
+                }
+                if (readAheadChunk.depleted) {
+                    return true;
+                }
+            }
+        } finally {
+            readAheadTask.stop();
+        }
+    }
+
+    /**
+     * Writes and commits a chunk of items that has been read and processed by {@link ReadAheadTask}.
+     *
+     * @param readAheadChunk the chunk to write
+     * @return null if the chunk has been successfully committed, otherwise the exception that caused the chunk
+     * to be rolled back
+     * @throws Exception if the transaction cannot be started or rolled back
+     */
+    private Exception writeReadAheadChunk(final ReadAheadChunk readAheadChunk) throws Exception {
+        final List<Object> items = readAheadChunk.outputList;
+        final boolean nothingToWrite = items.size() == 0 && readAheadChunk.depleted;
+        final Serializable backupReaderCheckpointInfo = stepOrPartitionExecution.getReaderCheckpointInfo();
+        final Serializable backupWriterCheckpointInfo = stepOrPartitionExecution.getWriterCheckpointInfo();
+        boolean countsAdded = false;
+        int writeCount = 0;
+
+        if (tm.getStatus() != Status.STATUS_ACTIVE) {
+            //other part of the app might have marked the transaction as rollback only, so roll it back
+            if (tm.getStatus() == Status.STATUS_MARKED_ROLLBACK) {
+                tm.rollback();
+            }
+            tm.begin();
+        }
+        try {
+            for (final ChunkListener l : chunkListeners) {
+                l.beforeChunk();
+            }
+            if (!nothingToWrite) {
+                for (final ItemWriteListener l : itemWriteListeners) {
+                    l.beforeWrite(items);
+                }
+                itemWriter.writeItems(items);
+                stepMetrics.increment(Metric.MetricType.WRITE_COUNT, items.size());
+                writeCount = items.size();
+                for (final ItemWriteListener l : itemWriteListeners) {
+                    l.afterWrite(items);
+                }
+            }
+            for (final ChunkListener l : chunkListeners) {
+                l.afterChunk();
+            }
+
+            //count the items read ahead together with the checkpoint saved in this transaction, so that they are not
+            //counted again when re-read after falling back to regular chunk processing
+            stepMetrics.increment(Metric.MetricType.READ_COUNT, readAheadChunk.readCount);
+            stepMetrics.increment(Metric.MetricType.FILTER_COUNT, readAheadChunk.filterCount);
+            countsAdded = true;
+            stepOrPartitionExecution.setReaderCheckpointInfo(readAheadChunk.readerCheckpointInfo);
+            stepOrPartitionExecution.setWriterCheckpointInfo(itemWriter.checkpointInfo());
+            final int savedCount = batchContext.savePersistentData(false);
+            if (savedCount == 0) {
+                // the step or partition execution was not saved, because the batch status in job repository has been
+                // changed to STOPPING
+                batchContext.savePersistentData(true);
+                jobContext.getJobExecution().stop();
+            }
+            tm.commit();
+        } catch (final Exception e) {
+            //restore reader and writer checkpointInfo to previous valid state
+            stepOrPartitionExecution.setReaderCheckpointInfo(backupReaderCheckpointInfo);
+            stepOrPartitionExecution.setWriterCheckpointInfo(backupWriterCheckpointInfo);
+            //these items will be read, processed and written again from the restored checkpoint
+            stepMetrics.increment(Metric.MetricType.WRITE_COUNT, -writeCount);
+            if (countsAdded) {
+                stepMetrics.increment(Metric.MetricType.READ_COUNT, -readAheadChunk.readCount);
+                stepMetrics.increment(Metric.MetricType.FILTER_COUNT, -readAheadChunk.filterCount);
+            }
+
+            //any update to job repository in this transaction may have been rolled back
+            stepOrPartitionExecution.resetPersistentDataSaved();
+
+            //when chunk commit failed, the transaction was already rolled back and its status is STATUS_NO_TRANSACTION (6)
+            if (tm.getStatus() != Status.STATUS_NO_TRANSACTION) {
+                tm.rollback();
+            }
+            stepMetrics.increment(Metric.MetricType.ROLLBACK_COUNT, 1);
+            return e;
+        }
+
+        stepMetrics.increment(Metric.MetricType.COMMIT_COUNT, 1);
+        if (collector != null && !nothingToWrite) {
+            partitionWorker.reportData(collector.collectPartitionData(), stepOrPartitionExecution);
+        }
+        return null;
+    }
+
     private void readItem(final ProcessingInfo processingInfo) throws Exception {
         try {
             for (final ItemReadListener l : itemReadListeners) {
@@ -435,6 +621,10 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
     }
 
     private void processItem(final ProcessingInfo processingInfo) throws Exception {
+        processItem(processingInfo, false);
+    }
+
+    private void processItem(final ProcessingInfo processingInfo, final boolean processedInParallel) throws Exception {
         Object output;
         if (itemProcessor != null) {
             try {
@@ -449,40 +639,8 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                     stepMetrics.increment(Metric.MetricType.FILTER_COUNT, 1);
                 }
             } catch (Exception e) {
-                for (final ItemProcessListener l : itemProcessListeners) {
-                    l.onProcessError(itemRead, e);
-                }
-                toSkipOrRetry(e, processingInfo);
-                if (processingInfo.itemState == ItemState.TO_SKIP) {
-                    for (final SkipProcessListener l : skipProcessListeners) {
-                        l.onSkipProcessItem(itemRead, e);
-                    }
-                    stepMetrics.increment(Metric.MetricType.PROCESS_SKIP_COUNT, 1);
-                    skipCount++;
-                    output = null;
-                    processingInfo.checkpointPosition = processingInfo.readPosition;
-                    stepOrPartitionExecution.setReaderCheckpointInfo(itemReader.checkpointInfo());
-
-                    if (tm.getStatus() == Status.STATUS_MARKED_ROLLBACK || tm.getStatus() == Status.STATUS_ROLLEDBACK) {
-                        tm.rollback();
-                        if (processingInfo.chunkState == ChunkState.RUNNING) {
-                            processingInfo.chunkState = ChunkState.TO_START_NEW;
-                        }
-                    }
-                } else if (processingInfo.itemState == ItemState.TO_RETRY) {
-                    for (final RetryProcessListener l : retryProcessListeners) {
-                        l.onRetryProcessException(itemRead, e);
-                    }
-                    retryCount++;
-                    if (needRollbackBeforeRetry(e)) {
-                        rollbackCheckpoint(processingInfo, e);
-                    } else {
-                        processingInfo.itemState = ItemState.TO_RETRY_PROCESS;
-                    }
-                    output = null;
-                } else {
-                    throw e;
-                }
+                handleProcessError(e, processingInfo, processedInParallel);
+                output = null;
             }
         } else {
             output = itemRead;
@@ -500,6 +658,137 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         }
     }
 
+    /**
+     * Applies skip and retry rules to an exception from {@code ItemProcessor} when processing {@link #itemRead}.
+     *
+     * @param e the exception from {@code ItemProcessor}
+     * @param processingInfo the current processing info
+     * @param processedInParallel true if the item was processed in parallel with subsequent reads, in which case the
+     *                            reader has moved past this item
+     * @throws Exception if the exception cannot be skipped or retried, or other errors
+     */
+    private void handleProcessError(final Exception e,
+                                    final ProcessingInfo processingInfo,
+                                    final boolean processedInParallel) throws Exception {
+        for (final ItemProcessListener l : itemProcessListeners) {
+            l.onProcessError(itemRead, e);
+        }
+        toSkipOrRetry(e, processingInfo);
+        if (processingInfo.itemState == ItemState.TO_SKIP) {
+            for (final SkipProcessListener l : skipProcessListeners) {
+                l.onSkipProcessItem(itemRead, e);
+            }
+            stepMetrics.increment(Metric.MetricType.PROCESS_SKIP_COUNT, 1);
+            skipCount++;
+            if (!processedInParallel) {
+                processingInfo.checkpointPosition = processingInfo.readPosition;
+                stepOrPartitionExecution.setReaderCheckpointInfo(itemReader.checkpointInfo());
+            }
+
+            if (tm.getStatus() == Status.STATUS_MARKED_ROLLBACK || tm.getStatus() == Status.STATUS_ROLLEDBACK) {
+                tm.rollback();
+                if (processedInParallel) {
+                    //outputs of the other items of the current chunk are to be written in a new transaction
+                    tm.begin();
+                } else if (processingInfo.chunkState == ChunkState.RUNNING) {
+                    processingInfo.chunkState = ChunkState.TO_START_NEW;
+                }
+            }
+        } else if (processingInfo.itemState == ItemState.TO_RETRY) {
+            for (final RetryProcessListener l : retryProcessListeners) {
+                l.onRetryProcessException(itemRead, e);
+            }
+            retryCount++;
+            if (needRollbackBeforeRetry(e)) {
+                rollbackCheckpoint(processingInfo, e);
+            } else {
+                processingInfo.itemState = ItemState.TO_RETRY_PROCESS;
+            }
+        } else {
+            throw e;
+        }
+    }
+
+    private boolean processInParallel(final ProcessingInfo processingInfo) {
+        return processorThreads > 1 && itemProcessor != null &&
+                processingInfo.chunkState == ChunkState.RUNNING &&
+                processingInfo.itemState != ItemState.RETRYING_PROCESS;
+    }
+
+    /**
+     * Adds {@link #itemRead} to the items of the current chunk to be processed in parallel, and starts helper tasks
+     * for the first item of the chunk.
+     */
+    private void addParallelItem() {
+        if (parallelItems == null) {
+            parallelItems = new ParallelItems();
+            final int helpers = (checkpointAlgorithm == null ? Math.min(processorThreads, itemCount) : processorThreads) - 1;
+            for (int i = 0; i < helpers; i++) {
+                try {
+                    jobContext.getBatchEnvironment().submitTask(parallelItems);
+                } catch (final RejectedExecutionException e) {
+                    //the step thread will process the remaining items
+                    LOGGER.tracef(e, "Started %s of %s item processing helper tasks", i, helpers);
+                    break;
+                }
+            }
+        }
+        parallelItems.add(itemRead);
+        itemRead = null;
+    }
+
+    /**
+     * Waits for all items of the current chunk that are processed in parallel, and appends their outputs to
+     * {@link #outputList} in read order. Processing failures are handled with the same skip and retry rules as in
+     * {@link #processItem(ProcessingInfo)}, one item at a time in read order.
+     *
+     * @param processingInfo the current processing info
+     * @throws Exception
+     */
+    private void collectParallelItems(final ProcessingInfo processingInfo) throws Exception {
+        final ParallelItems items = parallelItems;
+        items.finish();
+        parallelItems = null;
+
+        for (int i = 0; i < items.size(); i++) {
+            final Exception failure = items.failures.get(i);
+            if (failure == null) {
+                final Object output = items.outputs.get(i);
+                if (output == null) {
+                    stepMetrics.increment(Metric.MetricType.FILTER_COUNT, 1);
+                } else {
+                    outputList.add(output);
+                }
+                continue;
+            }
+
+            itemRead = items.items.get(i);
+            handleProcessError(failure, processingInfo, true);
+            if (processingInfo.chunkState == ChunkState.TO_RETRY) {
+                //the current chunk has been rolled back, and is to be retried
+                itemRead = null;
+                return;
+            }
+            while (processingInfo.itemState == ItemState.TO_RETRY_PROCESS) {
+                processingInfo.itemState = ItemState.RETRYING_PROCESS;
+                processItem(processingInfo, true);
+                if (processingInfo.chunkState == ChunkState.TO_RETRY) {
+                    itemRead = null;
+                    return;
+                }
+            }
+            itemRead = null;
+            processingInfo.itemState = ItemState.RUNNING;
+        }
+    }
+
+    private void cancelParallelItems() {
+        if (parallelItems != null) {
+            parallelItems.cancel();
+            parallelItems = null;
+        }
+    }
+
     private void checkIfEndRetry(final ProcessingInfo processingInfo) {
         if (processingInfo.chunkState == ChunkState.RETRYING &&
                 processingInfo.itemState != ItemState.TO_RETRY_READ &&
@@ -609,6 +898,8 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
                 stepOrPartitionExecution.setReaderCheckpointInfo(backupReaderCheckpointInfo);
                 stepOrPartitionExecution.setWriterCheckpointInfo(backupWriterCheckpointInfo);
             }
+            //any update to job repository in this transaction may have been rolled back
+            stepOrPartitionExecution.resetPersistentDataSaved();
 
             for (final ItemWriteListener l : itemWriteListeners) {
                 l.onWriteError(outputList, e);
@@ -678,6 +969,7 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
      */
     private void rollbackCheckpoint(final ProcessingInfo processingInfo,
                                     final Exception exception) throws Exception {
+        cancelParallelItems();
         outputList.clear();
         processingInfo.failurePoint = processingInfo.readPosition;
 
@@ -691,6 +983,22 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         }
 
         stepMetrics.increment(Metric.MetricType.ROLLBACK_COUNT, 1);
+        reopenReaderAndWriter();
+        processingInfo.readPosition = processingInfo.checkpointPosition;
+        processingInfo.chunkState = ChunkState.TO_RETRY;
+        processingInfo.itemState = ItemState.RUNNING;
+        if (collector != null) {
+            partitionWorker.reportData(collector.collectPartitionData(), stepOrPartitionExecution);
+        }
+    }
+
+    /**
+     * Closes the reader and writer, and re-opens them with the reader and writer checkpoint info from the last
+     * checkpoint.
+     *
+     * @throws Exception
+     */
+    private void reopenReaderAndWriter() throws Exception {
         // Close the reader and writer
         try {
             closeItemWriter();
@@ -706,7 +1014,6 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
             // Open the reader and writer
             itemReaderClosed.set(false);
             itemReader.open(stepOrPartitionExecution.getReaderCheckpointInfo());
-            processingInfo.readPosition = processingInfo.checkpointPosition;
             itemWriterClosed.set(false);
             itemWriter.open(stepOrPartitionExecution.getWriterCheckpointInfo());
             tm.commit();
@@ -716,11 +1023,6 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
             safeClose();
             throw e;
         }
-        processingInfo.chunkState = ChunkState.TO_RETRY;
-        processingInfo.itemState = ItemState.RUNNING;
-        if (collector != null) {
-            partitionWorker.reportData(collector.collectPartitionData(), stepOrPartitionExecution);
-        }
     }
 
     private boolean needSkip(final Exception e) {
@@ -841,6 +1143,304 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
     }
 
 
+    /**
+     * A chunk of items read and processed by {@link ReadAheadTask}, along with the reader checkpoint info taken
+     * right after the last item of this chunk was read.
+     */
+    private static final class ReadAheadChunk {
+        final List<Object> outputList = new ArrayList<Object>();
+        Serializable readerCheckpointInfo;
+        int readCount;
+        int filterCount;
+
+        /**
+         * Whether the reader has no more items
+         */
+        boolean depleted;
+
+        /**
+         * Whether read or process failed, or the read-ahead task ended without completing this chunk
+         */
+        boolean failed;
+        Exception failure;
+    }
+
+    /**
+     * Reads and processes items ahead of the chunk being written, and hands over each chunk of items to the step
+     * thread through a bounded queue.
+     */
+    private final class ReadAheadTask extends HelperTask {
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int CANCELLED = 2;
+
+        private final BlockingQueue<ReadAheadChunk> readAheadChunks;
+        private final AtomicInteger state = new AtomicInteger(NEW);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile boolean stopRequested;
+
+        private ReadAheadTask(final int depth) {
+            readAheadChunks = new ArrayBlockingQueue<ReadAheadChunk>(depth);
+        }
+
+        @Override
+        void runHelper() {
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                return;
+            }
+            try {
+                ReadAheadChunk readAheadChunk;
+                do {
+                    readAheadChunk = readChunk();
+                } while (offer(readAheadChunk) && !readAheadChunk.depleted && !readAheadChunk.failed &&
+                        !jobContext.getJobExecution().isStopRequested());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finished.countDown();
+            }
+        }
+
+        private ReadAheadChunk readChunk() {
+            final ReadAheadChunk readAheadChunk = new ReadAheadChunk();
+            final long expiresAt = timeLimit > 0 ? System.currentTimeMillis() + timeLimit * 1000L : 0;
+            try {
+                while (!stopRequested) {
+                    for (final ItemReadListener l : itemReadListeners) {
+                        l.beforeRead();
+                    }
+                    final Object item = itemReader.readItem();
+                    for (final ItemReadListener l : itemReadListeners) {
+                        l.afterRead(item);
+                    }
+                    if (item == null) {
+                        readAheadChunk.depleted = true;
+                        break;
+                    }
+                    readAheadChunk.readCount++;
+
+                    Object output = item;
+                    if (itemProcessor != null) {
+                        for (final ItemProcessListener l : itemProcessListeners) {
+                            l.beforeProcess(item);
+                        }
+                        output = itemProcessor.processItem(item);
+                        for (final ItemProcessListener l : itemProcessListeners) {
+                            l.afterProcess(item, output);
+                        }
+                    }
+                    if (output == null) {
+                        readAheadChunk.filterCount++;
+                    } else {
+                        readAheadChunk.outputList.add(output);
+                    }
+
+                    if (readAheadChunk.readCount >= itemCount ||
+                            (expiresAt > 0 && System.currentTimeMillis() > expiresAt) ||
+                            jobContext.getJobExecution().isStopRequested()) {
+                        break;
+                    }
+                }
+                readAheadChunk.readerCheckpointInfo = itemReader.checkpointInfo();
+            } catch (final Throwable e) {
+                readAheadChunk.failed = true;
+                readAheadChunk.failure = e instanceof Exception ? (Exception) e : new BatchRuntimeException(e);
+            }
+            return readAheadChunk;
+        }
+
+        private boolean offer(final ReadAheadChunk readAheadChunk) throws InterruptedException {
+            while (!stopRequested) {
+                if (readAheadChunks.offer(readAheadChunk, 100, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Takes the next chunk of read and processed items.
+         *
+         * @return the next chunk, or null if this task has not started and is now cancelled
+         * @throws InterruptedException if interrupted while waiting
+         */
+        private ReadAheadChunk take() throws InterruptedException {
+            while (true) {
+                final ReadAheadChunk readAheadChunk = readAheadChunks.poll(1, TimeUnit.SECONDS);
+                if (readAheadChunk != null) {
+                    return readAheadChunk;
+                }
+                if (state.compareAndSet(NEW, CANCELLED)) {
+                    return null;
+                }
+                if (finished.getCount() == 0 && readAheadChunks.isEmpty()) {
+                    final ReadAheadChunk incomplete = new ReadAheadChunk();
+                    incomplete.failed = true;
+                    return incomplete;
+                }
+            }
+        }
+
+        /**
+         * Stops this task, and waits for it to finish if it is running, so the reader and processor are no longer
+         * accessed from the read-ahead thread.
+         *
+         * @throws InterruptedException if interrupted while waiting
+         */
+        private void stop() throws InterruptedException {
+            stopRequested = true;
+            if (!state.compareAndSet(NEW, CANCELLED) && state.get() == RUNNING) {
+                finished.await();
+            }
+        }
+    }
+
+    /**
+     * Items of the current chunk to be processed by the step thread and helper tasks concurrently, with outputs and
+     * failures kept in read order. Items can be added while others are being processed.
+     */
+    private final class ParallelItems extends HelperTask {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final List<Object> items = new ArrayList<Object>();
+        private final List<Object> outputs = new ArrayList<Object>();
+        private final List<Exception> failures = new ArrayList<Exception>();
+
+        /**
+         * Index of the next item to be claimed for processing
+         */
+        private int next;
+        private int completed;
+        private boolean closed;
+        private boolean cancelled;
+
+        /**
+         * Processes items as they are added, until no more item is to be added and all items have been claimed.
+         */
+        @Override
+        void runHelper() {
+            try {
+                int i;
+                while ((i = claim(true)) >= 0) {
+                    process(i);
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private int size() {
+            return items.size();
+        }
+
+        private void add(final Object item) {
+            lock.lock();
+            try {
+                items.add(item);
+                outputs.add(null);
+                failures.add(null);
+                changed.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int claim(final boolean waitForItems) throws InterruptedException {
+            lock.lock();
+            try {
+                while (waitForItems && !cancelled && !closed && next >= items.size()) {
+                    changed.await();
+                }
+                if (cancelled || next >= items.size()) {
+                    return -1;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void process(final int i) {
+            final Object item;
+            lock.lock();
+            try {
+                item = items.get(i);
+            } finally {
+                lock.unlock();
+            }
+
+            Object output = null;
+            Exception failure = null;
+            try {
+                for (final ItemProcessListener l : itemProcessListeners) {
+                    l.beforeProcess(item);
+                }
+                output = itemProcessor.processItem(item);
+                for (final ItemProcessListener l : itemProcessListeners) {
+                    l.afterProcess(item, output);
+                }
+            } catch (final Exception e) {
+                failure = e;
+            } catch (final Throwable e) {
+                failure = new BatchRuntimeException(e);
+            }
+
+            lock.lock();
+            try {
+                outputs.set(i, output);
+                failures.set(i, failure);
+                completed++;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Stops accepting new items, processes all unclaimed items in the current thread, and waits for items being
+         * processed by helper tasks.
+         *
+         * @throws InterruptedException if interrupted while waiting
+         */
+        private void finish() throws InterruptedException {
+            lock.lock();
+            try {
+                closed = true;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            int i;
+            while ((i = claim(false)) >= 0) {
+                process(i);
+            }
+            lock.lock();
+            try {
+                while (completed < next) {
+                    changed.await();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Discards all unclaimed items, and waits for items being processed by helper tasks.
+         */
+        private void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                changed.signalAll();
+                while (completed < next) {
+                    changed.awaitUninterruptibly();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
     private static final class ProcessingInfo {
         /**
          * Number of items completed in during a checkpoint interval
@@ -927,4 +1527,55 @@ public final class ChunkRunner extends AbstractRunner<StepContextImpl> implement
         JOB_STOPPED
     }
 
+    /**
+     * A task helping the step thread, which is scheduled as part of the same job execution.
+     * <p>
+     * Batch artifacts called by a helper task may use step-scoped and job-scoped beans, so it runs with the artifact
+     * creation context of the step, and with the context class loader of the step thread that created it.
+     */
+    private abstract class HelperTask implements JobTask {
+        private final ClassLoader contextClassLoader = WildFlySecurityManager.getCurrentContextClassLoaderPrivileged();
+
+        @Override
+        public final void run() {
+            final ClassLoader previousClassLoader = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(contextClassLoader);
+            ArtifactCreationContext.resetArtifactCreationContext(jobContext, batchContext, null);
+            try {
+                runHelper();
+            } finally {
+                ArtifactCreationContext.removeCurrentArtifactCreationContext();
+                WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(previousClassLoader);
+            }
+        }
+
+        /**
+         * Does the work of this task in the context of the step.
+         */
+        abstract void runHelper();
+
+        @Override
+        public int getRequiredRemainingPermits() {
+            return 0;
+        }
+
+        @Override
+        public long getJobExecutionId() {
+            return ChunkRunner.this.getJobExecutionId();
+        }
+
+        @Override
+        public String getApplicationName() {
+            return ChunkRunner.this.getApplicationName();
+        }
+
+        @Override
+        public int getSchedulingPriority() {
+            return ChunkRunner.this.getSchedulingPriority();
+        }
+
+        @Override
+        public int getSchedulingWeight() {
+            return ChunkRunner.this.getSchedulingWeight();
+        }
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.io.Serializable;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded queue of collector data and partition executions reported by the partitions of a partitioned step.
+ * <p>
+ * Once the step thread no longer takes elements from the queue, e.g., after the partition analyzer failed, it closes
+ * the queue, and elements put by partitions that are still running are discarded, so that they never block on a
+ * full queue.
+ */
+final class CollectorDataQueue extends LinkedBlockingQueue<Serializable> {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How long a partition waits for space in the queue before checking again if the queue has been closed.
+     */
+    private static final long PUT_CHECK_INTERVAL_MILLIS = 100;
+
+    private volatile boolean closed;
+
+    CollectorDataQueue(final int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Puts an element into this queue, waiting for space if necessary, or discards it if this queue is closed.
+     *
+     * @param e the element to put
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public void put(final Serializable e) throws InterruptedException {
+        while (!closed) {
+            if (offer(e, PUT_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Closes this queue and discards its elements. Elements put afterwards are discarded.
+     */
+    void close() {
+        closed = true;
+        clear();
+    }
+}
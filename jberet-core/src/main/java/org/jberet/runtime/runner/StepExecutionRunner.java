@@ -17,9 +17,8 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import jakarta.transaction.SystemException;
+import jakarta.transaction.Transaction;
 import jakarta.transaction.TransactionManager;
 
 import jakarta.batch.api.listener.StepListener;
@@ -34,8 +33,8 @@ import org.jberet.job.model.Chunk;
 import org.jberet.job.model.Listeners;
 import org.jberet.job.model.Partition;
 import org.jberet.job.model.PartitionPlan;
+import org.jberet.job.model.PartitionStepTemplate;
 import org.jberet.job.model.Properties;
-import org.jberet.job.model.PropertyResolver;
 import org.jberet.job.model.RefArtifact;
 import org.jberet.job.model.Step;
 import org.jberet.runtime.JobStopNotificationListener;
@@ -44,13 +43,20 @@ import org.jberet.runtime.StepExecutionImpl;
 import org.jberet.runtime.context.AbstractContext;
 import org.jberet.runtime.context.JobContextImpl;
 import org.jberet.runtime.context.StepContextImpl;
+import org.jberet.spi.AdaptivePartitionSchedulingPolicy;
+import org.jberet.spi.CoalescingPartitionAnalyzer;
+import org.jberet.spi.InOrderPartitionSchedulingPolicy;
 import org.jberet.spi.JobTask;
+import org.jberet.spi.LargestFirstPartitionSchedulingPolicy;
 import org.jberet.spi.PartitionHandler;
 import org.jberet.spi.PartitionHandlerFactory;
+import org.jberet.spi.PartitionSchedulingPolicy;
 import org.jberet.spi.PropertyKey;
 import org.jberet.tx.LocalTransactionManager;
 
 public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> implements JobTask {
+    private static final int DEFAULT_COLLECTOR_QUEUE_CAPACITY = 1024;
+
     Step step;
     private final List<StepListener> stepListeners = new ArrayList<StepListener>();
 
@@ -284,97 +290,120 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
             numOfPartitions = abortedPartitionExecutionsFromPrevious.size();
         }
 
-        BlockingQueue<Boolean> completedPartitionThreads = null;
-        if (numOfPartitions > numOfThreads) {
-            completedPartitionThreads = new ArrayBlockingQueue<Boolean>(numOfPartitions);
-        }
-
-        BlockingQueue<Serializable> collectorDataQueue = new LinkedBlockingQueue<Serializable>();
+        final CollectorDataQueue collectorDataQueue = new CollectorDataQueue(getCollectorQueueCapacity());
         final PartitionHandlerFactory partitionHandlerFactory = getPartitionHandlerFactory();
         final PartitionHandler partitionHandler =
                 partitionHandlerFactory.createPartitionHandler(batchContext, this);
-        partitionHandler.setResourceTracker(completedPartitionThreads);
+        //partitions are submitted as earlier partitions complete, so no resource tracker is needed
+        partitionHandler.setResourceTracker(null);
         partitionHandler.setCollectorDataQueue(collectorDataQueue);
 
         if (partitionHandler instanceof JobStopNotificationListener) {
             jobContext.getJobExecution().registerJobStopNotifier((JobStopNotificationListener) partitionHandler);
         }
 
-        for (int i = 0; i < numOfPartitions; i++) {
-            final PartitionExecutionImpl partitionExecution = isRestartNotOverride ? abortedPartitionExecutionsFromPrevious.get(i) : null;
-            final int partitionIndex = isRestartNotOverride ? partitionExecution.getPartitionId() : i;
-
-            final StepContextImpl stepContext1 = batchContext.clone();
-            final Step step1 = stepContext1.getStep();
-            final PartitionExecutionImpl partitionExecution1 = (PartitionExecutionImpl) stepContext1.getStepExecution();
-
-            final PropertyResolver resolver = new PropertyResolver();
-            if (partitionIndex >= 0 && partitionIndex < partitionProperties.length) {
-                resolver.setPartitionPlanProperties(partitionProperties[partitionIndex]);
-
-                //associate this partition represented by this StepExecutionImpl with this partition properties index.  If this
-                //partition fails or is stopped, the restart process can select this partition properties.
-                partitionExecution1.setPartitionId(partitionIndex);
-            } else {
-                //some partitioned steps may not have any partition properties
-                partitionExecution1.setPartitionId(i);
-            }
-            resolver.setResolvePartitionPlanProperties(true);
-            resolver.resolve(step1);
-
-            if (isRestartNotOverride) {
-                stepContext1.setPersistentUserData(partitionExecution.getPersistentUserData());
-                stepContext1.getStepExecution().setReaderCheckpointInfo(partitionExecution.getReaderCheckpointInfo());
-                stepContext1.getStepExecution().setWriterCheckpointInfo(partitionExecution.getWriterCheckpointInfo());
-            }
-
-            if (isStepRestart && isOverride && reducer != null) {
-                reducer.rollbackPartitionedStep();
-            }
+        if (isStepRestart && isOverride && reducer != null) {
+            reducer.rollbackPartitionedStep();
+        }
 
-            if (i >= numOfThreads) {
-                completedPartitionThreads.take();
-            }
-            jobContext.getJobRepository().addPartitionExecution(stepExecution, partitionExecution1);
-            partitionHandler.submitPartitionTask(stepContext1, i, numOfPartitions);
+        final List<java.util.Properties> propertiesOfPartitions = new ArrayList<java.util.Properties>(numOfPartitions);
+        for (int i = 0; i < numOfPartitions; i++) {
+            final int partitionIndex = isRestartNotOverride ? abortedPartitionExecutionsFromPrevious.get(i).getPartitionId() : i;
+            propertiesOfPartitions.add(partitionIndex >= 0 && partitionIndex < partitionProperties.length ?
+                    partitionProperties[partitionIndex] : null);
+        }
+        final PartitionSchedulingPolicy schedulingPolicy = createPartitionSchedulingPolicy();
+        schedulingPolicy.init(batchContext, propertiesOfPartitions, numOfThreads);
+
+        final PartitionStepTemplate partitionStepTemplate = new PartitionStepTemplate(step);
+        int submitted = 0;
+        while (submitted < numOfPartitions && submitted < schedulingPolicy.getThreads()) {
+            submitted++;
+            submitPartition(schedulingPolicy.nextPartition(), partitionStepTemplate,
+                    abortedPartitionExecutionsFromPrevious, partitionHandler);
         }
 
         BatchStatus consolidatedBatchStatus = BatchStatus.STARTED;
         final List<PartitionExecutionImpl> fromAllPartitions = new ArrayList<PartitionExecutionImpl>();
+        final List<Serializable> events = new ArrayList<Serializable>();
+        final List<PartitionExecutionImpl> completed = new ArrayList<PartitionExecutionImpl>();
+        final List<Serializable> collectorData = new ArrayList<Serializable>();
 
         if (analyzer != null && analyzerTxEnabled) {
             tm.begin();
         }
         try {
             while (fromAllPartitions.size() < numOfPartitions) {
-                final Serializable data = collectorDataQueue.take();
-                if (data instanceof PartitionExecutionImpl) {
-                    final PartitionExecutionImpl s = (PartitionExecutionImpl) data;
-
-                    if (step.getChunk() != null) {
-                        stepExecution.getStepMetrics().addStepMetrics(s.getStepMetrics());
+                //wait for the next collector data or partition completion, and handle all that have arrived together
+                events.add(collectorDataQueue.take());
+                collectorDataQueue.drainTo(events);
+                for (final Serializable data : events) {
+                    if (data instanceof PartitionExecutionImpl) {
+                        final PartitionExecutionImpl s = (PartitionExecutionImpl) data;
+                        if (step.getChunk() != null) {
+                            stepExecution.getStepMetrics().addStepMetrics(s.getStepMetrics());
+                        }
+                        completed.add(s);
+                        schedulingPolicy.partitionEnded(s);
+                    }
+                }
+                //save status and data for the terminated partitions, outside the analyzer transaction so that they
+                //are kept when it rolls back
+                if (!completed.isEmpty()) {
+                    final Transaction suspended = suspendAnalyzerTransaction();
+                    try {
+                        jobContext.getJobRepository().savePersistentData(jobContext.getJobExecution(), completed);
+                    } finally {
+                        if (suspended != null) {
+                            tm.resume(suspended);
+                        }
                     }
-                    //save status and data for the terminated partition
-                    jobContext.getJobRepository().savePersistentData(jobContext.getJobExecution(), s);
+                }
 
-                    fromAllPartitions.add(s);
-                    final BatchStatus bs = s.getBatchStatus();
+                for (final Serializable data : events) {
+                    if (data instanceof PartitionExecutionImpl) {
+                        analyzeCollectorData(collectorData);
+                        final PartitionExecutionImpl s = (PartitionExecutionImpl) data;
+                        fromAllPartitions.add(s);
+                        final BatchStatus bs = s.getBatchStatus();
 
-                    if (bs == BatchStatus.FAILED || bs == BatchStatus.STOPPED) {
-                        if (consolidatedBatchStatus != BatchStatus.FAILED) {
-                            consolidatedBatchStatus = bs;
+                        if (bs == BatchStatus.FAILED || bs == BatchStatus.STOPPED) {
+                            if (consolidatedBatchStatus != BatchStatus.FAILED) {
+                                consolidatedBatchStatus = bs;
+                            }
+                            if (batchContext.getException() == null && s.getException() != null) {
+                                batchContext.setException(s.getException());
+                            }
                         }
-                        if (batchContext.getException() == null && s.getException() != null) {
-                            batchContext.setException(s.getException());
+
+                        if (analyzer != null) {
+                            analyzer.analyzeStatus(bs, s.getExitStatus());
                         }
+                    } else if (analyzer != null) {
+                        collectorData.add(data);
                     }
-
-                    if (analyzer != null) {
-                        analyzer.analyzeStatus(bs, s.getExitStatus());
+                }
+                analyzeCollectorData(collectorData);
+
+                //start pending partitions up to the number of threads allowed by the scheduling policy
+                final int running = submitted - fromAllPartitions.size();
+                if (submitted < numOfPartitions && running < schedulingPolicy.getThreads()) {
+                    final int toSubmit = Math.min(schedulingPolicy.getThreads() - running, numOfPartitions - submitted);
+                    final Transaction suspended = suspendAnalyzerTransaction();
+                    try {
+                        for (int n = 0; n < toSubmit; n++) {
+                            submitted++;
+                            submitPartition(schedulingPolicy.nextPartition(), partitionStepTemplate,
+                                    abortedPartitionExecutionsFromPrevious, partitionHandler);
+                        }
+                    } finally {
+                        if (suspended != null) {
+                            tm.resume(suspended);
+                        }
                     }
-                } else if (analyzer != null) {
-                    analyzer.analyzeCollectorData(data);
                 }
+                events.clear();
+                completed.clear();
             }
 
             if (analyzer != null && analyzerTxEnabled &&
@@ -411,6 +440,9 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
                 reducer.rollbackPartitionedStep();
                 reducer.afterPartitionedStepCompletion(PartitionReducer.PartitionStatus.ROLLBACK);
             }
+        } finally {
+            //partitions that are still running must not block on the full queue once it is no longer taken from
+            collectorDataQueue.close();
         }
         batchContext.setBatchStatus(consolidatedBatchStatus);
 
@@ -420,6 +452,117 @@ public final class StepExecutionRunner extends AbstractRunner<StepContextImpl> i
         partitionHandler.close(batchContext);
     }
 
+    /**
+     * Creates the step context and partition execution of a partition, adds the partition execution to job
+     * repository, and submits the partition for execution.
+     *
+     * @param i the index of the partition among all partitions to run
+     * @param partitionStepTemplate the template to create the step of the partition
+     * @param partitionsToRestart partition executions from the previous run of the step to restart, or null if not
+     *                            restarting partitions
+     * @param partitionHandler the partition handler to submit the partition
+     * @throws Exception if failed to submit the partition
+     */
+    private void submitPartition(final int i,
+                                 final PartitionStepTemplate partitionStepTemplate,
+                                 final List<PartitionExecutionImpl> partitionsToRestart,
+                                 final PartitionHandler partitionHandler) throws Exception {
+        final PartitionExecutionImpl partitionExecution = partitionsToRestart != null ? partitionsToRestart.get(i) : null;
+        final int partitionIndex = partitionExecution != null ? partitionExecution.getPartitionId() : i;
+
+        final boolean hasPartitionProperties = partitionIndex >= 0 && partitionIndex < partitionProperties.length;
+        final Step step1 = partitionStepTemplate.createPartitionStep(
+                hasPartitionProperties ? partitionProperties[partitionIndex] : null);
+        final StepContextImpl stepContext1 = batchContext.clone(step1);
+        final PartitionExecutionImpl partitionExecution1 = (PartitionExecutionImpl) stepContext1.getStepExecution();
+
+        if (hasPartitionProperties) {
+            //associate this partition represented by this StepExecutionImpl with this partition properties index.  If this
+            //partition fails or is stopped, the restart process can select this partition properties.
+            partitionExecution1.setPartitionId(partitionIndex);
+        } else {
+            //some partitioned steps may not have any partition properties
+            partitionExecution1.setPartitionId(i);
+        }
+
+        if (partitionExecution != null) {
+            stepContext1.setPersistentUserData(partitionExecution.getPersistentUserData());
+            stepContext1.getStepExecution().setReaderCheckpointInfo(partitionExecution.getReaderCheckpointInfo());
+            stepContext1.getStepExecution().setWriterCheckpointInfo(partitionExecution.getWriterCheckpointInfo());
+        }
+
+        jobContext.getJobRepository().addPartitionExecution(stepExecution, partitionExecution1);
+        partitionHandler.submitPartitionTask(stepContext1, i, numOfPartitions);
+    }
+
+    /**
+     * Suspends the global transaction around partition analyzer calls, if any, so that partitions submitted or
+     * terminated while it is active are not added to or saved in job repository as part of it.
+     *
+     * @return the suspended transaction, or null if no transaction was suspended
+     * @throws SystemException if failed to suspend the transaction
+     */
+    private Transaction suspendAnalyzerTransaction() throws SystemException {
+        if (analyzer == null || !analyzerTxEnabled || tm instanceof LocalTransactionManager) {
+            return null;
+        }
+        return tm.suspend();
+    }
+
+    /**
+     * Passes collector data that arrived together to the partition analyzer, combined into one if the analyzer is a
+     * {@link CoalescingPartitionAnalyzer}, and clears {@code collectorData}.
+     *
+     * @param collectorData collector data in the order they were reported
+     * @throws Exception if the analyzer fails
+     */
+    private void analyzeCollectorData(final List<Serializable> collectorData) throws Exception {
+        if (collectorData.isEmpty()) {
+            return;
+        }
+        if (collectorData.size() > 1 && analyzer instanceof CoalescingPartitionAnalyzer) {
+            analyzer.analyzeCollectorData(((CoalescingPartitionAnalyzer) analyzer).coalesceCollectorData(collectorData));
+        } else {
+            for (final Serializable data : collectorData) {
+                analyzer.analyzeCollectorData(data);
+            }
+        }
+        collectorData.clear();
+    }
+
+    private int getCollectorQueueCapacity() {
+        final String capacity = step.getProperties() == null ? null :
+                step.getProperties().get(PropertyKey.COLLECTOR_QUEUE_CAPACITY);
+        if (capacity != null) {
+            try {
+                final int value = Integer.parseInt(capacity.trim());
+                if (value > 0) {
+                    return value;
+                }
+            } catch (final NumberFormatException e) {
+                //handled below
+            }
+            BatchLogger.LOGGER.invalidStepProperty(PropertyKey.COLLECTOR_QUEUE_CAPACITY, step.getId(), capacity,
+                    DEFAULT_COLLECTOR_QUEUE_CAPACITY);
+        }
+        return DEFAULT_COLLECTOR_QUEUE_CAPACITY;
+    }
+
+    private PartitionSchedulingPolicy createPartitionSchedulingPolicy() {
+        final String policy = step.getProperties() == null ? null :
+                step.getProperties().get(PropertyKey.PARTITION_SCHEDULING_POLICY);
+        if (policy == null || policy.equals("inOrder")) {
+            return new InOrderPartitionSchedulingPolicy();
+        }
+        if (policy.equals("largestFirst")) {
+            return new LargestFirstPartitionSchedulingPolicy();
+        }
+        if (policy.equals("adaptive")) {
+            return new AdaptivePartitionSchedulingPolicy();
+        }
+        return jobContext.createArtifact(policy, null, null, batchContext);
+    }
+
     private void initPartitionConfig() {
         final Partition partition = step.getPartition();
         if (partition != null) {
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.List;
+import java.util.Properties;
+import jakarta.batch.runtime.Metric;
+import jakarta.batch.runtime.StepExecution;
+import jakarta.batch.runtime.context.StepContext;
+
+import org.jberet._private.BatchLogger;
+
+/**
+ * A {@link PartitionSchedulingPolicy} that starts the largest partitions first like
+ * {@link LargestFirstPartitionSchedulingPolicy}, and adjusts the number of partitions running at the same time to the
+ * observed throughput.
+ * <p>
+ * It starts with the number of threads in the partition plan. Each time as many partitions have ended as the current
+ * number of threads, it measures the throughput since the previous measurement, in items read per second (partitions
+ * that read no items, such as batchlet partitions, count as 1 item). It then changes the number of threads by 1 in
+ * the same direction as the previous change, or in the opposite direction if the throughput has dropped by more than
+ * 5%. The number of threads stays between 1 and the step property {@link PropertyKey#PARTITION_MAX_THREADS}, which
+ * defaults to the number of threads in the partition plan.
+ *
+ * @since 3.2.0
+ */
+public class AdaptivePartitionSchedulingPolicy extends LargestFirstPartitionSchedulingPolicy {
+    private int maxThreads;
+
+    private int direction;
+
+    private long windowStart;
+
+    private long windowItems;
+
+    private int windowPartitions;
+
+    private double lastThroughput;
+
+    @Override
+    public void init(final StepContext stepContext, final List<Properties> partitionProperties, final int threads) {
+        super.init(stepContext, partitionProperties, threads);
+        maxThreads = this.threads;
+        final Properties stepProperties = stepContext.getProperties();
+        final String maxThreadsProp = stepProperties == null ? null :
+                stepProperties.getProperty(PropertyKey.PARTITION_MAX_THREADS);
+        if (maxThreadsProp != null) {
+            int value = 0;
+            try {
+                value = Integer.parseInt(maxThreadsProp.trim());
+            } catch (final NumberFormatException e) {
+                //handled below
+            }
+            if (value > 0) {
+                maxThreads = value;
+            } else {
+                BatchLogger.LOGGER.invalidStepProperty(PropertyKey.PARTITION_MAX_THREADS, stepContext.getStepName(),
+                        maxThreadsProp, maxThreads);
+            }
+        }
+        this.threads = Math.min(this.threads, maxThreads);
+        direction = this.threads < maxThreads ? 1 : -1;
+        windowStart = System.nanoTime();
+        windowItems = 0;
+        windowPartitions = 0;
+        lastThroughput = 0;
+    }
+
+    @Override
+    public void partitionEnded(final StepExecution partitionExecution) {
+        windowItems += Math.max(1, getReadCount(partitionExecution));
+        if (++windowPartitions < threads) {
+            return;
+        }
+
+        final long now = System.nanoTime();
+        final double throughput = windowItems * 1e9 / Math.max(1, now - windowStart);
+        if (lastThroughput > 0 && throughput < lastThroughput * 0.95) {
+            direction = -direction;
+        }
+        final int newThreads = threads + direction;
+        if (newThreads >= 1 && newThreads <= maxThreads) {
+            threads = newThreads;
+        } else {
+            direction = -direction;
+        }
+        lastThroughput = throughput;
+        windowStart = now;
+        windowItems = 0;
+        windowPartitions = 0;
+    }
+
+    private static long getReadCount(final StepExecution partitionExecution) {
+        final Metric[] metrics = partitionExecution.getMetrics();
+        if (metrics != null) {
+            for (final Metric metric : metrics) {
+                if (metric.getType() == Metric.MetricType.READ_COUNT) {
+                    return metric.getValue();
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.io.Serializable;
+import java.util.List;
+import jakarta.batch.api.partition.PartitionAnalyzer;
+
+/**
+ * A {@code PartitionAnalyzer} that can combine several collector data into one, so that it is called once for the
+ * collector data that arrive together, instead of once for each.
+ * <p>
+ * Collector data from partitions are queued until the step thread can analyze them. When more than one collector
+ * data are waiting in the queue at the same time, the step thread passes them to
+ * {@link #coalesceCollectorData(List)}, and then passes the result to {@code analyzeCollectorData}. Collector data
+ * are never combined across the end of a partition, so {@code analyzeStatus} of a partition is still called after
+ * all collector data of the partition have been analyzed.
+ *
+ * @see PropertyKey#COLLECTOR_QUEUE_CAPACITY
+ * @since 3.2.0
+ */
+public interface CoalescingPartitionAnalyzer extends PartitionAnalyzer {
+    /**
+     * Combines collector data into one.
+     *
+     * @param collectorData the collector data to combine, in the order they were reported, at least 2 of them
+     * @return the combined collector data to pass to {@code analyzeCollectorData}
+     * @throws Exception if an error occurs
+     */
+    Serializable coalesceCollectorData(List<Serializable> collectorData) throws Exception;
+}
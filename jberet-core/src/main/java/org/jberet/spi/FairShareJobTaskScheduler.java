@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link JobTaskScheduler} that keeps a queue of waiting tasks for each job execution, or for each application,
+ * and shares permits among the queues, so that a job execution with many partitions does not hold up other job
+ * executions.
+ * <p>
+ * Queues with higher {@linkplain JobTask#getSchedulingPriority() priority} are always served first. Among queues
+ * with the same priority, permits are shared in proportion to their {@linkplain JobTask#getSchedulingWeight() weight}
+ * with stride scheduling: each queue has a virtual time that advances by the inverse of its weight each time one of
+ * its tasks is run, and the queue with the smallest virtual time is served next. A queue that becomes non-empty starts
+ * at the current virtual time, so it does not get credit for the time it was empty. Tasks in the same queue run in
+ * the order they are submitted. The priority and weight of a queue are those of the task that creates it.
+ * <p>
+ * The number of queues is the number of job executions, or applications, with waiting tasks, which is expected to be
+ * small, so the next queue is found by linear search.
+ *
+ * @see org.jberet.spi.PropertyKey#SCHEDULING_PRIORITY
+ * @see org.jberet.spi.PropertyKey#SCHEDULING_WEIGHT
+ * @since 3.2.0
+ */
+public class FairShareJobTaskScheduler implements JobTaskScheduler {
+    private static final long STRIDE = 1L << 20;
+
+    private final boolean byApplication;
+
+    private final Map<Object, TaskQueue> queuesByKey = new HashMap<Object, TaskQueue>();
+
+    private final List<TaskQueue> queues = new ArrayList<TaskQueue>();
+
+    private long virtualTime;
+
+    /**
+     * Creates a scheduler with a queue for each job execution.
+     */
+    public FairShareJobTaskScheduler() {
+        this(false);
+    }
+
+    /**
+     * Creates a scheduler.
+     *
+     * @param byApplication true to keep a queue for each application; false to keep a queue for each job execution
+     */
+    public FairShareJobTaskScheduler(final boolean byApplication) {
+        this.byApplication = byApplication;
+    }
+
+    @Override
+    public void add(final JobTask task) {
+        final Object key = byApplication ? String.valueOf(task.getApplicationName()) : task.getJobExecutionId();
+        TaskQueue queue = queuesByKey.get(key);
+        if (queue == null) {
+            queue = new TaskQueue(key, task.getSchedulingPriority(), task.getSchedulingWeight(), virtualTime);
+            queuesByKey.put(key, queue);
+            queues.add(queue);
+        }
+        queue.tasks.add(task);
+    }
+
+    @Override
+    public JobTask poll(final int maxRequiredPermits) {
+        TaskQueue next = null;
+        JobTask nextTask = null;
+        for (final TaskQueue queue : queues) {
+            if (next != null && (queue.priority < next.priority ||
+                    (queue.priority == next.priority && queue.pass >= next.pass))) {
+                continue;
+            }
+            final JobTask task = queue.peek(maxRequiredPermits);
+            if (task != null) {
+                next = queue;
+                nextTask = task;
+            }
+        }
+        if (next == null) {
+            return null;
+        }
+
+        next.tasks.remove(nextTask);
+        virtualTime = next.pass;
+        next.pass += next.stride;
+        if (next.tasks.isEmpty()) {
+            queuesByKey.remove(next.key);
+            queues.remove(next);
+        }
+        return nextTask;
+    }
+
+    private static final class TaskQueue {
+        final Object key;
+        final int priority;
+        final long stride;
+        final ArrayDeque<JobTask> tasks = new ArrayDeque<JobTask>();
+        long pass;
+
+        TaskQueue(final Object key, final int priority, final int weight, final long pass) {
+            this.key = key;
+            this.priority = priority;
+            this.stride = Math.max(1, STRIDE / Math.max(1, weight));
+            this.pass = pass;
+        }
+
+        /**
+         * Gets the first task in this queue that can run now.
+         */
+        JobTask peek(final int maxRequiredPermits) {
+            for (final JobTask task : tasks) {
+                if (task.getRequiredRemainingPermits() <= maxRequiredPermits) {
+                    return task;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * A {@link JobTaskScheduler} that runs waiting tasks in the order they are submitted, regardless of the job
+ * executions they belong to. This is the default scheduler of {@link JobExecutor}.
+ *
+ * @since 3.2.0
+ */
+public class FifoJobTaskScheduler implements JobTaskScheduler {
+    private final Deque<JobTask> queuedTasks = new ArrayDeque<JobTask>();
+
+    @Override
+    public void add(final JobTask task) {
+        queuedTasks.add(task);
+    }
+
+    @Override
+    public JobTask poll(final int maxRequiredPermits) {
+        for (final Iterator<JobTask> it = queuedTasks.iterator(); it.hasNext(); ) {
+            final JobTask task = it.next();
+            if (task.getRequiredRemainingPermits() <= maxRequiredPermits) {
+                it.remove();
+                return task;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.List;
+import java.util.Properties;
+import jakarta.batch.runtime.StepExecution;
+import jakarta.batch.runtime.context.StepContext;
+
+/**
+ * A {@link PartitionSchedulingPolicy} that starts partitions in partition order, and runs as many partitions at the
+ * same time as the number of threads in the partition plan. This is the default policy.
+ *
+ * @since 3.2.0
+ */
+public class InOrderPartitionSchedulingPolicy implements PartitionSchedulingPolicy {
+    /**
+     * The order in which partitions are started.
+     */
+    protected int[] order;
+
+    /**
+     * The number of partitions that have been started.
+     */
+    protected int started;
+
+    /**
+     * The maximum number of partitions to run at the same time.
+     */
+    protected int threads;
+
+    @Override
+    public void init(final StepContext stepContext, final List<Properties> partitionProperties, final int threads) {
+        order = new int[partitionProperties.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        started = 0;
+        this.threads = Math.max(1, threads);
+    }
+
+    @Override
+    public int nextPartition() {
+        return order[started++];
+    }
+
+    @Override
+    public int getThreads() {
+        return threads;
+    }
+
+    @Override
+    public void partitionEnded(final StepExecution partitionExecution) {
+    }
+}
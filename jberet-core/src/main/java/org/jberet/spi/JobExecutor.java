@@ -10,9 +10,10 @@
 
 package org.jberet.spi;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jberet._private.BatchMessages;
@@ -24,115 +25,220 @@ import org.jberet._private.BatchMessages;
  * Partition jobs require some special handling with executors. Extending this in implementations will give the desired
  * behavior to the implementing class. Note that {@link #getMaximumPoolSize()} should return a value greater than 2.
  * </p>
+ * <p>
+ * Each running task uses one permit, and tasks submitted when all permits are used wait in a
+ * {@link JobTaskScheduler}, which decides the order in which they run when permits are released. Tasks are admitted
+ * without locking while no task is waiting.
+ * </p>
+ * <p>
+ * If the delegate executor starts a new thread for each task without limit, e.g., with virtual threads,
+ * {@link #getMaximumPoolSize()} should return {@link #UNBOUNDED}, and all tasks are passed directly to the delegate
+ * executor without counting permits.
+ * </p>
  *
  * @author <a href="mailto:jperkins@redhat.com">James R. Perkins</a>
  */
 public abstract class JobExecutor implements Executor {
+    /**
+     * The value returned by {@link #getMaximumPoolSize()} when the delegate executor runs every task on its own thread
+     * as soon as it is submitted, so that no task needs to wait for permits.
+     *
+     * @since 3.2.0
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
     private final ReentrantLock lock;
     private final Executor delegate;
-    private final Deque<JobTask> queuedTasks;
-    private int usedPermits;
+    private final JobTaskScheduler scheduler;
 
     /**
-     * Creates a new executor.
+     * Number of running tasks.
+     */
+    private final AtomicInteger usedPermits = new AtomicInteger();
+
+    /**
+     * Number of tasks waiting in the scheduler.
+     */
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    /**
+     * Number of running tasks that require remaining permits, guarded by {@link #lock}.
+     */
+    private int usedPermitsRequiringRemaining;
+
+    /**
+     * Creates a new executor, which runs waiting tasks in the order they are submitted.
      *
      * @param delegate the executor that tasks should be submitted to when they are able to run
      */
     protected JobExecutor(final Executor delegate) {
-        lock = new ReentrantLock(true);
+        this(delegate, new FifoJobTaskScheduler());
+    }
+
+    /**
+     * Creates a new executor.
+     *
+     * @param delegate  the executor that tasks should be submitted to when they are able to run
+     * @param scheduler the scheduler deciding the order in which waiting tasks run
+     * @since 3.2.0
+     */
+    protected JobExecutor(final Executor delegate, final JobTaskScheduler scheduler) {
+        lock = new ReentrantLock();
         this.delegate = delegate;
-        queuedTasks = new ArrayDeque<JobTask>();
-        usedPermits = 0;
+        this.scheduler = scheduler;
     }
 
     /**
      * Returns the maximum number of threads allowed to be executed. The value returned must be greater than 0.
      *
-     * @return the maximum number of threads allowed to be executed
+     * @return the maximum number of threads allowed to be executed, or {@link #UNBOUNDED} if the number of threads is
+     * not limited
      */
     protected abstract int getMaximumPoolSize();
 
     @Override
     public final void execute(final Runnable runnable) {
-        execute(wrap(runnable), false);
+        execute(wrap(runnable));
     }
 
     /**
      * Executes the given task at some time in the future.
      *
      * <p>
-     * If the {@link JobTask#getRequiredRemainingPermits()} is any value greater than {@code 0} then the task may be
-     * queued for later execution if the number of permits used is greater than the maximum permits allowed plus the
-     * number of remaining permits required.
+     * The task is queued for later execution if all permits are used. If the
+     * {@link JobTask#getRequiredRemainingPermits()} is any value greater than {@code 0}, the task typically waits for
+     * other tasks it submits, and is also queued if the number of running tasks that require remaining permits plus
+     * the number of remaining permits required is greater than the maximum permits allowed. This ensures that such
+     * tasks never use all permits, and the tasks they wait for can always run.
      * </p>
      *
      * <p>
-     * As an example if the maximum number of permits allowed is 5 and 4 threads are executing an invocation with 2
-     * {@link JobTask#getRequiredRemainingPermits()} would be queued.
+     * As an example if the maximum number of permits allowed is 5 and 4 threads are executing tasks requiring remaining
+     * permits, an invocation with 2 {@link JobTask#getRequiredRemainingPermits()} would be queued.
      * </p>
      *
      * @param task the task to run
      */
     public final void execute(final JobTask task) {
-        execute(task, false);
-    }
-
-    private void execute(final JobTask task, final boolean reentry) {
-        final int requiredRemainingPermits = (task.getRequiredRemainingPermits() < 0 ? 0 : task.getRequiredRemainingPermits());
-        Runnable r = null;
+        final int requiredRemainingPermits = getRequiredRemainingPermits(task);
         final int maxPermits = getMaximumPoolSize();
+        if (maxPermits == UNBOUNDED) {
+            // every task gets its own thread, so tasks waiting for other tasks can never starve them
+            delegate.execute(task);
+            return;
+        }
         if (requiredRemainingPermits > maxPermits) {
             throw BatchMessages.MESSAGES.insufficientPermits(requiredRemainingPermits, maxPermits);
         }
-        lock.lock();
-        try {
-            // Compare the max permits allowed and the number of used permits, queue if the requiredRemainPermits is
-            // greater than the max permits, otherwise execute the task. If all permits can be used,
-            // requiredRemainingPermits == 0, then just use the delegate executor to queue the tasks as it sees fit.
-            // Note that if this executor needs to act as a thread-pool then two arrays will be needed for tasks that
-            // require permits to stay open and tasks that don't require permits to stay open.
-            if ((usedPermits + requiredRemainingPermits) <= maxPermits || requiredRemainingPermits == 0) {
-                ++usedPermits;
-                r = new Runnable() {
-                    @Override
-                    public void run() {
-                        try {
-                            task.run();
-                        } finally {
-                            release();
-                        }
-                    }
-                };
-            } else {
-                // If the entry was already from the queue, but there's not enough permits add the task to the top of
-                // the queue
-                if (reentry) {
-                    queuedTasks.addFirst(task);
-                } else {
-                    queuedTasks.add(task);
+
+        // fast path without locking, when no task is waiting and the task does not require remaining permits
+        if (requiredRemainingPermits == 0 && queuedTasks.get() == 0) {
+            int used;
+            while ((used = usedPermits.get()) < maxPermits) {
+                if (usedPermits.compareAndSet(used, used + 1)) {
+                    run(task, requiredRemainingPermits);
+                    return;
                 }
             }
+        }
+
+        final List<JobTask> tasksToRun;
+        lock.lock();
+        try {
+            scheduler.add(task);
+            queuedTasks.incrementAndGet();
+            tasksToRun = pollTasks(maxPermits);
         } finally {
             lock.unlock();
         }
-        if (r != null) {
+        runAll(tasksToRun);
+    }
+
+    /**
+     * Removes from the scheduler the tasks that can run with the available permits, and acquires permits for them.
+     * Must be called while holding {@link #lock}.
+     *
+     * @param maxPermits the maximum number of permits
+     * @return the tasks to run, may be null
+     */
+    private List<JobTask> pollTasks(final int maxPermits) {
+        List<JobTask> tasksToRun = null;
+        while (queuedTasks.get() > 0) {
+            final int used = usedPermits.get();
+            if (used >= maxPermits) {
+                break;
+            }
+            if (!usedPermits.compareAndSet(used, used + 1)) {
+                continue;
+            }
+            final JobTask next = scheduler.poll(maxPermits - usedPermitsRequiringRemaining);
+            if (next == null) {
+                usedPermits.decrementAndGet();
+                break;
+            }
+            queuedTasks.decrementAndGet();
+            if (getRequiredRemainingPermits(next) > 0) {
+                usedPermitsRequiringRemaining++;
+            }
+            if (tasksToRun == null) {
+                tasksToRun = new ArrayList<JobTask>();
+            }
+            tasksToRun.add(next);
+        }
+        return tasksToRun;
+    }
+
+    private void runAll(final List<JobTask> tasksToRun) {
+        if (tasksToRun != null) {
+            for (final JobTask t : tasksToRun) {
+                run(t, getRequiredRemainingPermits(t));
+            }
+        }
+    }
+
+    /**
+     * Submits a task, for which a permit has been acquired, to the delegate executor.
+     */
+    private void run(final JobTask task, final int requiredRemainingPermits) {
+        final Runnable r = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    task.run();
+                } finally {
+                    release(requiredRemainingPermits);
+                }
+            }
+        };
+        try {
             delegate.execute(r);
+        } catch (final RuntimeException | Error e) {
+            release(requiredRemainingPermits);
+            throw e;
         }
     }
 
-    private void release() {
-        final JobTask next;
+    private void release(final int requiredRemainingPermits) {
+        usedPermits.decrementAndGet();
+        if (requiredRemainingPermits == 0 && queuedTasks.get() == 0) {
+            return;
+        }
+        final List<JobTask> tasksToRun;
         lock.lock();
         try {
-            --usedPermits;
-            if (usedPermits < 0) usedPermits = 0;
-            next = queuedTasks.poll();
+            if (requiredRemainingPermits > 0) {
+                usedPermitsRequiringRemaining--;
+            }
+            tasksToRun = pollTasks(getMaximumPoolSize());
         } finally {
             lock.unlock();
         }
-        if (next != null) {
-            execute(next, true);
-        }
+        runAll(tasksToRun);
+    }
+
+    private static int getRequiredRemainingPermits(final JobTask task) {
+        final int requiredRemainingPermits = task.getRequiredRemainingPermits();
+        return requiredRemainingPermits < 0 ? 0 : requiredRemainingPermits;
     }
 
     /**
@@ -24,4 +24,46 @@ public interface JobTask extends Runnable {
      * @return the number of threads that should be available
      */
     int getRequiredRemainingPermits();
+
+    /**
+     * Gets the id of the job execution this task belongs to.
+     *
+     * @return the job execution id, or 0 if this task does not belong to a job execution
+     * @since 3.2.0
+     */
+    default long getJobExecutionId() {
+        return 0;
+    }
+
+    /**
+     * Gets the name of the application of the job execution this task belongs to.
+     *
+     * @return the application name, may be null
+     * @since 3.2.0
+     */
+    default String getApplicationName() {
+        return null;
+    }
+
+    /**
+     * Gets the scheduling priority of this task.
+     *
+     * @return the scheduling priority
+     * @see PropertyKey#SCHEDULING_PRIORITY
+     * @since 3.2.0
+     */
+    default int getSchedulingPriority() {
+        return 0;
+    }
+
+    /**
+     * Gets the scheduling weight of this task, which is greater than 0.
+     *
+     * @return the scheduling weight
+     * @see PropertyKey#SCHEDULING_WEIGHT
+     * @since 3.2.0
+     */
+    default int getSchedulingWeight() {
+        return 1;
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+/**
+ * Decides the order in which {@link JobTask}s waiting for a permit of a {@link JobExecutor} are run.
+ * <p>
+ * A {@code JobExecutor} only queues tasks in its scheduler when all its permits are used, and invokes the scheduler
+ * while holding its lock, so implementations need not be thread-safe.
+ *
+ * @see FifoJobTaskScheduler
+ * @see FairShareJobTaskScheduler
+ * @since 3.2.0
+ */
+public interface JobTaskScheduler {
+    /**
+     * Adds a task waiting for a permit.
+     *
+     * @param task the task to add
+     */
+    void add(JobTask task);
+
+    /**
+     * Removes and returns the next task to run. Tasks whose {@link JobTask#getRequiredRemainingPermits()} is greater
+     * than {@code maxRequiredPermits} cannot run yet, and must be left in the scheduler.
+     *
+     * @param maxRequiredPermits the maximum number of required remaining permits of a task that can run now
+     * @return the next task to run, or null if no waiting task can run now
+     */
+    JobTask poll(int maxRequiredPermits);
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import jakarta.batch.runtime.context.StepContext;
+
+import org.jberet._private.BatchLogger;
+
+/**
+ * A {@link PartitionSchedulingPolicy} that starts the largest partitions first, so that the largest partitions do not
+ * run long after the other partitions have ended. The size of a partition is taken from its partition property
+ * {@link PropertyKey#PARTITION_SIZE}. Partitions without a size are started after all partitions with a size, and
+ * partitions of the same size are started in partition order.
+ *
+ * @since 3.2.0
+ */
+public class LargestFirstPartitionSchedulingPolicy extends InOrderPartitionSchedulingPolicy {
+    @Override
+    public void init(final StepContext stepContext, final List<Properties> partitionProperties, final int threads) {
+        super.init(stepContext, partitionProperties, threads);
+        final long[] sizes = new long[order.length];
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = getSize(partitionProperties.get(i), i);
+        }
+        final Integer[] sorted = new Integer[order.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+        }
+        //stable sort keeps partitions of the same size in partition order
+        Arrays.sort(sorted, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer i1, final Integer i2) {
+                return Long.compare(sizes[i2], sizes[i1]);
+            }
+        });
+        for (int i = 0; i < sorted.length; i++) {
+            order[i] = sorted[i];
+        }
+    }
+
+    private static long getSize(final Properties partitionProperties, final int partition) {
+        final String size = partitionProperties == null ? null : partitionProperties.getProperty(PropertyKey.PARTITION_SIZE);
+        if (size != null) {
+            try {
+                return Long.parseLong(size.trim());
+            } catch (final NumberFormatException e) {
+                BatchLogger.LOGGER.invalidPartitionProperty(PropertyKey.PARTITION_SIZE, partition, size);
+            }
+        }
+        return -1;
+    }
+}
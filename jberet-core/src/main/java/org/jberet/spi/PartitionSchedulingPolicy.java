@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.List;
+import java.util.Properties;
+import jakarta.batch.runtime.StepExecution;
+import jakarta.batch.runtime.context.StepContext;
+
+/**
+ * Decides the order in which the partitions of a partitioned step are started, and how many of them run at the same
+ * time. A new instance is used for each execution of a partitioned step, and all its methods are invoked by the step
+ * thread, so implementations need not be thread-safe.
+ * <p>
+ * The policy of a step is specified with the step property {@link PropertyKey#PARTITION_SCHEDULING_POLICY}.
+ *
+ * @see InOrderPartitionSchedulingPolicy
+ * @see LargestFirstPartitionSchedulingPolicy
+ * @see AdaptivePartitionSchedulingPolicy
+ * @since 3.2.0
+ */
+public interface PartitionSchedulingPolicy {
+    /**
+     * Initializes this policy before any partition is started.
+     *
+     * @param stepContext the step context of the partitioned step
+     * @param partitionProperties the partition properties of each partition to run, in partition order. An element
+     *                            is null if the partition has no partition properties.
+     * @param threads the number of threads specified in the partition plan
+     */
+    void init(StepContext stepContext, List<Properties> partitionProperties, int threads);
+
+    /**
+     * Gets the next partition to start. Each partition is returned once.
+     *
+     * @return the index of the next partition to start in {@code partitionProperties} passed to
+     * {@link #init(StepContext, List, int)}
+     */
+    int nextPartition();
+
+    /**
+     * Gets the maximum number of partitions that may run at the same time from now on.
+     *
+     * @return the maximum number of partitions to run at the same time, at least 1
+     */
+    int getThreads();
+
+    /**
+     * Notifies this policy that a partition has ended.
+     *
+     * @param partitionExecution the execution of the partition that has ended
+     */
+    void partitionEnded(StepExecution partitionExecution);
+}
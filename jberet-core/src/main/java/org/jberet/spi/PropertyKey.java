@@ -86,4 +86,109 @@ public interface PropertyKey {
      * be prevented by disabling the transaction using this property.
      */
     String ANALYZER_TX_DISABLED = "jberet.analyzer.txDisabled";
+
+    /**
+     * A step property key used to enable pipelined execution of a chunk-type step. When its value is set to
+     * {@code true}, items of the next chunk are read and processed on a separate thread, while the current chunk
+     * is being written and committed on the step thread.
+     * <p>
+     * Reading and processing in pipelined mode happen outside of the chunk transaction, and before
+     * {@code ChunkListener#beforeChunk()} of the corresponding chunk. If any exception occurs during read,
+     * process or write, pipelining is turned off, the reader and writer are re-opened from the last checkpoint,
+     * and the remainder of the step (or partition) is executed in the regular mode with the configured skip and
+     * retry rules. Pipelined mode does not apply to steps with {@code custom} checkpoint policy.
+     *
+     * @since 3.2.0
+     */
+    String CHUNK_PIPELINED = "jberet.chunk.pipelined";
+
+    /**
+     * A step property key used to specify the maximum number of chunks that may be read and processed ahead of
+     * the chunk being written, when {@link #CHUNK_PIPELINED} is enabled. Its value should be a positive integer,
+     * and defaults to 1.
+     *
+     * @since 3.2.0
+     */
+    String CHUNK_PIPELINE_DEPTH = "jberet.chunk.pipeline.depth";
+
+    /**
+     * A step property key used to specify the number of threads to process items of a chunk concurrently in a
+     * chunk-type step. Its value should be a positive integer, and defaults to 1, i.e., all items are processed on
+     * the step thread.
+     * <p>
+     * When greater than 1, items are still read one after another on the step thread, and are handed over to the
+     * step thread and up to {@code value - 1} helper tasks for processing, as soon as they are read. Before the chunk
+     * is written, the outputs are collected in read order, and any processing failure is handled in read order with
+     * the configured skip and retry rules. The {@code ItemProcessor} and any {@code ItemProcessListener} must be
+     * thread-safe, since they are invoked outside of the chunk transaction by helper tasks. Items of a chunk being
+     * retried after a rollback are processed on the step thread only.
+     *
+     * @since 3.2.0
+     */
+    String CHUNK_PROCESSOR_THREADS = "jberet.chunk.processor.threads";
+
+    /**
+     * A job parameter key used to specify the scheduling priority of a job execution. Its value should be an
+     * integer, and defaults to 0. When tasks are waiting for threads, tasks of job executions with higher priority
+     * are run before those of job executions with lower priority.
+     *
+     * @see JobTaskScheduler
+     * @since 3.2.0
+     */
+    String SCHEDULING_PRIORITY = "jberet.scheduling.priority";
+
+    /**
+     * A job parameter key used to specify the scheduling weight of a job execution. Its value should be a positive
+     * integer, and defaults to 1. When tasks of job executions with the same priority are waiting for threads, each
+     * job execution gets a share of the threads in proportion to its weight.
+     *
+     * @see JobTaskScheduler
+     * @since 3.2.0
+     */
+    String SCHEDULING_WEIGHT = "jberet.scheduling.weight";
+
+    /**
+     * A step property key used to specify the {@link PartitionSchedulingPolicy} of a partitioned step, which decides
+     * the order in which partitions are started, and how many of them run at the same time. Valid values are:
+     * <ul>
+     * <li>inOrder: partitions are started in partition order ({@link InOrderPartitionSchedulingPolicy}). This is the
+     *              default value;
+     * <li>largestFirst: the largest partitions are started first ({@link LargestFirstPartitionSchedulingPolicy});
+     * <li>adaptive: the largest partitions are started first, and the number of partitions running at the same time
+     *               is adjusted to the observed throughput ({@link AdaptivePartitionSchedulingPolicy});
+     * <li>the ref name or fully-qualified class name of a custom {@code PartitionSchedulingPolicy}.
+     * </ul>
+     *
+     * @since 3.2.0
+     */
+    String PARTITION_SCHEDULING_POLICY = "jberet.partition.scheduling.policy";
+
+    /**
+     * A partition property key used to specify the size of a partition, for example, the number of items it is
+     * expected to read. Its value should be a non-negative integer. It is used by
+     * {@link LargestFirstPartitionSchedulingPolicy} and {@link AdaptivePartitionSchedulingPolicy}.
+     *
+     * @since 3.2.0
+     */
+    String PARTITION_SIZE = "jberet.partition.size";
+
+    /**
+     * A step property key used to specify the maximum number of partitions that
+     * {@link AdaptivePartitionSchedulingPolicy} may run at the same time. Its value should be a positive integer,
+     * and defaults to the number of threads in the partition plan.
+     *
+     * @since 3.2.0
+     */
+    String PARTITION_MAX_THREADS = "jberet.partition.max.threads";
+
+    /**
+     * A step property key used to specify the maximum number of collector data and partition completions of a
+     * partitioned step that may be waiting to be analyzed by the step thread. Its value should be a positive integer,
+     * and defaults to 1024. When the limit is reached, partitions reporting collector data wait until the step thread
+     * has caught up, so that the memory held by waiting collector data stays bounded however many partitions run.
+     *
+     * @see CoalescingPartitionAnalyzer
+     * @since 3.2.0
+     */
+    String COLLECTOR_QUEUE_CAPACITY = "jberet.partition.collector.queue.capacity";
 }
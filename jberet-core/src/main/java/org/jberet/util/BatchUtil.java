@@ -25,6 +25,14 @@ public final class BatchUtil {
     public static final String NL = WildFlySecurityManager.getPropertyPrivileged("line.separator", "\n");
     private static final String keyValDelimiter = " = ";
 
+    /**
+     * Serialization output buffers are only kept for reuse up to this size, to avoid holding on to large buffers.
+     */
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final ThreadLocal<ReusableByteArrayOutputStream> outputBuffers =
+            ThreadLocal.withInitial(ReusableByteArrayOutputStream::new);
+
     public static String propertiesToString(final Properties properties) {
         if (properties == null) {
             return "";
@@ -56,21 +64,27 @@ public final class BatchUtil {
         if (obj == null) {
             return null;
         }
-        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ReusableByteArrayOutputStream bos = outputBuffers.get();
+        if (bos.inUse) {
+            //called again while serializing, e.g., from a custom writeObject method
+            bos = new ReusableByteArrayOutputStream();
+        }
+        bos.inUse = true;
         ObjectOutputStream out = null;
         try {
             out = new ObjectOutputStream(bos);
             out.writeObject(obj);
+            out.flush();
             return bos.toByteArray();
         } finally {
             try {
                 if (out != null) {
                     out.close();
                 }
-                bos.close();
             } catch (IOException e2) {
                 //ignore
             }
+            bos.release();
         }
     }
 
@@ -95,4 +109,25 @@ public final class BatchUtil {
             }
         }
     }
+
+    /**
+     * A {@code ByteArrayOutputStream} whose buffer is reused by subsequent serializations on the same thread.
+     */
+    private static final class ReusableByteArrayOutputStream extends ByteArrayOutputStream {
+        private static final int INITIAL_SIZE = 512;
+
+        private boolean inUse;
+
+        private ReusableByteArrayOutputStream() {
+            super(INITIAL_SIZE);
+        }
+
+        private void release() {
+            reset();
+            if (buf.length > MAX_POOLED_BUFFER_SIZE) {
+                buf = new byte[INITIAL_SIZE];
+            }
+            inUse = false;
+        }
+    }
 }
@@ -10,11 +10,24 @@
 
 package org.jberet.creation;
 
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.enterprise.inject.spi.BeanManager;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class AbstractArtifactFactoryTest {
 
+    private final Bean<?> bean = (Bean<?>) Proxy.newProxyInstance(Bean.class.getClassLoader(), new Class<?>[]{Bean.class},
+            (proxy, method, args) -> null);
+
+    private final List<String> resolvedRefs = new CopyOnWriteArrayList<String>();
+
     private AbstractArtifactFactory factory = new AbstractArtifactFactory() {
         @Override
         public Object create(String ref, Class<?> cls, ClassLoader classLoader) throws Exception {
@@ -25,6 +38,12 @@ public class AbstractArtifactFactoryTest {
         public Class<?> getArtifactClass(String ref, ClassLoader classLoader) {
             return null;
         }
+
+        @Override
+        Bean<?> resolveBean(final String ref, final BeanManager beanManager, final ClassLoader classLoader) {
+            resolvedRefs.add(ref);
+            return ref.equals("batchlet") ? bean : null;
+        }
     };
 
     private Class noPackageBatchletClass;
@@ -45,4 +64,54 @@ public class AbstractArtifactFactoryTest {
     public void testDoInjectionShouldNotFailForDefaultPackage() throws Exception {
         factory.doInjection(noPackageBatchlet, noPackageBatchletClass, null, null, null, null);
     }
+
+    @Test
+    public void testCachedClassResolvesOncePerClassLoader() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Class<?> loadClass(final String name) throws ClassNotFoundException {
+                loads.incrementAndGet();
+                return super.loadClass(name);
+            }
+        };
+
+        Assertions.assertSame(noPackageBatchletClass, factory.getCachedClassFromBatchXmlOrClassLoader("NoPackageBatchlet", classLoader));
+        Assertions.assertSame(noPackageBatchletClass, factory.getCachedClassFromBatchXmlOrClassLoader("NoPackageBatchlet", classLoader));
+        Assertions.assertEquals(1, loads.get());
+
+        factory.clearArtifactCache(classLoader);
+        Assertions.assertSame(noPackageBatchletClass, factory.getCachedClassFromBatchXmlOrClassLoader("NoPackageBatchlet", classLoader));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testCachedBeanResolvesOncePerClassLoader() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        Assertions.assertSame(bean, factory.findCachedBean("batchlet", null, classLoader));
+        Assertions.assertSame(bean, factory.findCachedBean("batchlet", null, classLoader));
+        Assertions.assertEquals(List.of("batchlet"), resolvedRefs);
+
+        //a ref without bean is cached as not found
+        Assertions.assertNull(factory.findCachedBean("missing", null, classLoader));
+        Assertions.assertNull(factory.findCachedBean("missing", null, classLoader));
+        Assertions.assertEquals(List.of("batchlet", "missing"), resolvedRefs);
+
+        //resolved again after the cache for the classloader is cleared, or with another classloader
+        factory.clearArtifactCache(classLoader);
+        Assertions.assertSame(bean, factory.findCachedBean("batchlet", null, classLoader));
+        Assertions.assertNull(factory.findCachedBean("missing", null, new ClassLoader(classLoader) {}));
+        Assertions.assertEquals(List.of("batchlet", "missing", "batchlet", "missing"), resolvedRefs);
+    }
+
+    @Test
+    public void testContainerShutdownClearsCache() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        Assertions.assertSame(bean, factory.findCachedBean("batchlet", null, classLoader));
+
+        new BatchCDIExtension().beforeShutdown(null);
+        Assertions.assertSame(bean, factory.findCachedBean("batchlet", null, classLoader));
+        Assertions.assertSame(bean, factory.findCachedBean("batchlet", null, classLoader));
+        Assertions.assertEquals(List.of("batchlet", "batchlet"), resolvedRefs);
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.creation;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jberet.job.model.Job;
+import org.jberet.job.model.Step;
+import org.jberet.tools.AbstractJobXmlResolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ArchiveXmlLoaderCacheTest {
+    private static final String parentJob =
+            "<job id=\"parent-job\" abstract=\"true\" xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\">" +
+            "<step id=\"step1\"><batchlet ref=\"%s\"/></step></job>";
+
+    private static final String childJob =
+            "<job id=\"child-job\" parent=\"parent-job\" xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\">" +
+            "<step id=\"step1\"><batchlet ref=\"%s\"/></step></job>";
+
+    private static final String simpleJob =
+            "<job id=\"simple-job\" xmlns=\"https://jakarta.ee/xml/ns/jakartaee\" version=\"2.0\">" +
+            "<step id=\"step1\"><batchlet ref=\"%s\"/></step></job>";
+
+    private final ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+    };
+
+    @Test
+    public void unchangedJobIsReused() {
+        final InMemoryJobXmlResolver resolver = new InMemoryJobXmlResolver();
+        resolver.put("simple-job", String.format(simpleJob, "batchlet1"));
+
+        final Job job = ArchiveXmlLoader.loadJobXml("simple-job", classLoader, resolver);
+        Assertions.assertSame(job, ArchiveXmlLoader.loadJobXml("simple-job", classLoader, resolver));
+        Assertions.assertNotSame(job, ArchiveXmlLoader.loadJobXml("simple-job", classLoader, new InMemoryJobXmlResolver(resolver)));
+    }
+
+    @Test
+    public void changedJobIsParsedAgain() {
+        final InMemoryJobXmlResolver resolver = new InMemoryJobXmlResolver();
+        resolver.put("simple-job", String.format(simpleJob, "batchlet1"));
+        final Job job = ArchiveXmlLoader.loadJobXml("simple-job", classLoader, resolver);
+
+        resolver.put("simple-job", String.format(simpleJob, "batchlet2"));
+        final Job changed = ArchiveXmlLoader.loadJobXml("simple-job", classLoader, resolver);
+        Assertions.assertNotSame(job, changed);
+        Assertions.assertEquals("batchlet2", ((Step) changed.getJobElements().get(0)).getBatchlet().getRef());
+        Assertions.assertSame(changed, ArchiveXmlLoader.loadJobXml("simple-job", classLoader, resolver));
+    }
+
+    @Test
+    public void changedParentJobIsDetected() {
+        final InMemoryJobXmlResolver resolver = new InMemoryJobXmlResolver();
+        resolver.put("parent-job", String.format(parentJob, "batchlet1"));
+        resolver.put("child-job", String.format(childJob, "batchlet1"));
+        final Job job = ArchiveXmlLoader.loadJobXml("child-job", classLoader, resolver);
+        Assertions.assertSame(job, ArchiveXmlLoader.loadJobXml("child-job", classLoader, resolver));
+
+        resolver.put("parent-job", String.format(parentJob, "batchlet2"));
+        Assertions.assertNotSame(job, ArchiveXmlLoader.loadJobXml("child-job", classLoader, resolver));
+    }
+
+    private static final class InMemoryJobXmlResolver extends AbstractJobXmlResolver {
+        private final Map<String, byte[]> jobXmls;
+
+        private InMemoryJobXmlResolver() {
+            jobXmls = new HashMap<String, byte[]>();
+        }
+
+        private InMemoryJobXmlResolver(final InMemoryJobXmlResolver other) {
+            jobXmls = new HashMap<String, byte[]>(other.jobXmls);
+        }
+
+        private void put(final String jobXmlName, final String content) {
+            jobXmls.put(jobXmlName + ".xml", content.getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public InputStream resolveJobXml(final String jobXml, final ClassLoader classLoader) {
+            final byte[] content = jobXmls.get(jobXml);
+            return content == null ? null : new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public Collection<String> getJobXmlNames(final ClassLoader classLoader) {
+            return jobXmls.keySet();
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.creation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.batch.api.BatchProperty;
+import jakarta.batch.operations.BatchRuntimeException;
+import jakarta.inject.Inject;
+import org.jberet.job.model.Properties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class InjectionPlanTest {
+    private final AbstractArtifactFactory factory = new AbstractArtifactFactory() {
+        @Override
+        public Object create(String ref, Class<?> cls, ClassLoader classLoader) throws Exception {
+            return null;
+        }
+
+        @Override
+        public Class<?> getArtifactClass(String ref, ClassLoader classLoader) {
+            return null;
+        }
+    };
+
+    static class BaseArtifact {
+        final List<String> events = new ArrayList<String>();
+
+        @Inject
+        @BatchProperty
+        private int count;
+
+        @PostConstruct
+        private void baseInit() {
+            events.add("baseInit");
+        }
+    }
+
+    static class Artifact extends BaseArtifact {
+        @Inject
+        @BatchProperty(name = "time.unit")
+        TimeUnit timeUnit;
+
+        @Inject
+        @BatchProperty
+        List<Integer> numbers;
+
+        @Inject
+        @BatchProperty
+        String name = "default";
+
+        @PostConstruct
+        void init() {
+            events.add("init");
+        }
+
+        @PreDestroy
+        void destroy() {
+            events.add("destroy");
+        }
+    }
+
+    @Test
+    public void injectBatchProperties() throws Exception {
+        final Properties batchProps = new Properties();
+        final LinkedHashMap<String, String> nameValues = new LinkedHashMap<String, String>();
+        nameValues.put("count", "3");
+        nameValues.put("time.unit", "SECONDS");
+        nameValues.put("numbers", "1, 2");
+        nameValues.put("name", "");
+        batchProps.setNameValues(nameValues);
+
+        for (int i = 0; i < 2; i++) {
+            final Artifact artifact = new Artifact();
+            factory.doInjection(artifact, Artifact.class, getClass().getClassLoader(), null, null, batchProps);
+            Assertions.assertEquals(3, ((BaseArtifact) artifact).count);
+            Assertions.assertEquals(TimeUnit.SECONDS, artifact.timeUnit);
+            Assertions.assertEquals(Arrays.asList(1, 2), artifact.numbers);
+            Assertions.assertEquals("default", artifact.name);
+        }
+    }
+
+    static class CollectionArtifact {
+        @Inject
+        @BatchProperty
+        int[] ints;
+
+        @Inject
+        @BatchProperty
+        TimeUnit[] units;
+
+        @Inject
+        @BatchProperty
+        TreeSet<TimeUnit> unitSet;
+
+        @Inject
+        @BatchProperty
+        TreeMap<String, Integer> sizes;
+
+        @Inject
+        @BatchProperty
+        Thread thread;
+    }
+
+    @Test
+    public void injectConvertedCollections() throws Exception {
+        final Properties batchProps = new Properties();
+        final LinkedHashMap<String, String> nameValues = new LinkedHashMap<String, String>();
+        nameValues.put("ints", "1, 2");
+        nameValues.put("units", "SECONDS, DAYS");
+        nameValues.put("unitSet", "DAYS, SECONDS, DAYS");
+        nameValues.put("sizes", "a=1, b=2");
+        batchProps.setNameValues(nameValues);
+
+        //each injection point reuses its converter, and creates new collections for each instance
+        final CollectionArtifact first = new CollectionArtifact();
+        factory.doInjection(first, CollectionArtifact.class, getClass().getClassLoader(), null, null, batchProps);
+        final CollectionArtifact second = new CollectionArtifact();
+        factory.doInjection(second, CollectionArtifact.class, getClass().getClassLoader(), null, null, batchProps);
+        for (final CollectionArtifact artifact : List.of(first, second)) {
+            Assertions.assertArrayEquals(new int[]{1, 2}, artifact.ints);
+            Assertions.assertArrayEquals(new TimeUnit[]{TimeUnit.SECONDS, TimeUnit.DAYS}, artifact.units);
+            Assertions.assertEquals(Set.of(TimeUnit.SECONDS, TimeUnit.DAYS), artifact.unitSet);
+            Assertions.assertEquals(Map.of("a", 1, "b", 2), artifact.sizes);
+        }
+        Assertions.assertNotSame(first.unitSet, second.unitSet);
+        Assertions.assertNotSame(first.sizes, second.sizes);
+
+        nameValues.put("thread", "main");
+        Assertions.assertThrows(BatchRuntimeException.class, () -> factory.doInjection(new CollectionArtifact(),
+                CollectionArtifact.class, getClass().getClassLoader(), null, null, batchProps));
+    }
+
+    @Test
+    public void invokeLifecycleMethods() throws Exception {
+        final Artifact artifact = new Artifact();
+        factory.invokeAnnotatedLifecycleMethod(artifact, Artifact.class, PostConstruct.class);
+        factory.destroy(artifact);
+        Assertions.assertEquals(Arrays.asList("baseInit", "init", "destroy"), artifact.events);
+    }
+}
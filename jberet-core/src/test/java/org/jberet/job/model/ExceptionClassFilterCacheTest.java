@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.job.model;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ExceptionClassFilterCacheTest {
+    @Test
+    public void nearestSuperclassDecides() {
+        final ExceptionClassFilter filter = new ExceptionClassFilter();
+        filter.include.add(Exception.class.getName());
+        filter.exclude.add(IOException.class.getName());
+
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertTrue(filter.matches(Exception.class));
+            Assertions.assertTrue(filter.matches(RuntimeException.class));
+            Assertions.assertTrue(filter.matches(IllegalStateException.class));
+            Assertions.assertFalse(filter.matches(IOException.class));
+            Assertions.assertFalse(filter.matches(FileNotFoundException.class));
+            Assertions.assertFalse(filter.matches(Error.class));
+        }
+    }
+
+    @Test
+    public void cacheIsDiscardedWhenFilterChanges() {
+        final ExceptionClassFilter filter = new ExceptionClassFilter();
+        Assertions.assertFalse(filter.matches(IOException.class));
+
+        filter.include.add(Exception.class.getName());
+        Assertions.assertTrue(filter.matches(IOException.class));
+
+        filter.exclude.add(IOException.class.getName());
+        Assertions.assertFalse(filter.matches(IOException.class));
+
+        filter.setExclude(new ArrayList<String>());
+        Assertions.assertTrue(filter.matches(IOException.class));
+
+        filter.setInclude(new ArrayList<String>(Arrays.asList(RuntimeException.class.getName())));
+        Assertions.assertFalse(filter.matches(IOException.class));
+        Assertions.assertTrue(filter.matches(IllegalArgumentException.class));
+    }
+}
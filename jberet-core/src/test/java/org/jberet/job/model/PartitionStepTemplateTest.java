@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.job.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PartitionStepTemplateTest {
+    @Test
+    public void resolveOnlyDependentProperties() {
+        final Step template = createStep();
+        final java.util.Properties partitionPlanProperties = new java.util.Properties();
+        partitionPlanProperties.setProperty("start", "10");
+        partitionPlanProperties.setProperty("suffix", "a");
+
+        final Step step = new PartitionStepTemplate(template).createPartitionStep(partitionPlanProperties);
+
+        final Step expected = createStep();
+        final PropertyResolver resolver = new PropertyResolver();
+        resolver.setPartitionPlanProperties(partitionPlanProperties);
+        resolver.setResolvePartitionPlanProperties(true);
+        resolver.resolve(expected);
+
+        Assertions.assertEquals(expected.getProperties().getNameValues(), step.getProperties().getNameValues());
+        Assertions.assertEquals(expected.getChunk().getReader().getProperties().getNameValues(),
+                step.getChunk().getReader().getProperties().getNameValues());
+        Assertions.assertEquals("10", step.getChunk().getReader().getProperties().get("start"));
+        Assertions.assertEquals("step-a", step.getChunk().getReader().getProperties().get("fromStep"));
+        Assertions.assertEquals("reader", step.getChunk().getReader().getRef());
+
+        //elements without expressions are shared with the template, which is left unresolved
+        Assertions.assertSame(template.getChunk().getWriter(), step.getChunk().getWriter());
+        Assertions.assertSame(template.getListeners().getListeners().get(0), step.getListeners().getListeners().get(0));
+        Assertions.assertEquals("#{partitionPlan['start']}", template.getChunk().getReader().getProperties().get("start"));
+        Assertions.assertEquals(template.getAttributeNext(), step.getAttributeNext());
+    }
+
+    @Test
+    public void shareStepWithoutExpressions() {
+        final Step template = new StepBuilder("step1").reader("reader", new String[]{"start", "0"}).writer("writer").build();
+        Assertions.assertSame(template, new PartitionStepTemplate(template).createPartitionStep(null));
+    }
+
+    private static Step createStep() {
+        return new StepBuilder("step1")
+                .property("stepProp", "step-#{partitionPlan['suffix']}")
+                .listener("listener1", new String[]{"k", "v"})
+                .reader("reader", new String[]{"start", "#{partitionPlan['start']}"},
+                        new String[]{"fromStep", "#{jobProperties['stepProp']}"})
+                .writer("writer", new String[]{"k", "v"})
+                .next("step2")
+                .build();
+    }
+}
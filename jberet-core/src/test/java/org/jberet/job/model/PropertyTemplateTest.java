@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.job.model;
+
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import jakarta.batch.operations.BatchRuntimeException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PropertyTemplateTest {
+    @Test
+    public void literalValue() {
+        final ConcurrentMap<String, PropertyTemplate> templates = new ConcurrentHashMap<String, PropertyTemplate>();
+        final PropertyTemplate template = PropertyTemplate.of("no expression in this value", templates);
+        Assertions.assertTrue(template.isLiteral());
+        Assertions.assertSame(template, PropertyTemplate.of("no expression in this value", templates));
+        Assertions.assertNotSame(template, PropertyTemplate.of("no expression in this value", null));
+    }
+
+    @Test
+    public void compiledParts() {
+        final PropertyTemplate template = PropertyTemplate.compile("a#{jobParameters['x']}?:#{jobProperties['y']};b#{partitionPlan['z']}", true);
+        Assertions.assertFalse(template.isLiteral());
+        Assertions.assertFalse(template.partitionPlanOnly);
+        Assertions.assertEquals(4, template.parts.length);
+        Assertions.assertEquals("a", template.parts[0]);
+        Assertions.assertEquals("b", template.parts[2]);
+
+        final PropertyTemplate.Expression x = (PropertyTemplate.Expression) template.parts[1];
+        Assertions.assertEquals("jobParameters", x.category);
+        Assertions.assertEquals("x", x.variableName);
+        Assertions.assertTrue(x.hasDefault());
+        Assertions.assertEquals("jobProperties", ((PropertyTemplate.Expression) x.getDefault().parts[0]).category);
+        Assertions.assertSame(x.getDefault(), x.getDefault());
+        Assertions.assertEquals("?:#{jobProperties['y']};b#{partitionPlan['z']}", x.getRest().raw);
+
+        final PropertyTemplate.Expression z = (PropertyTemplate.Expression) template.parts[3];
+        Assertions.assertEquals("#{partitionPlan['z']}", z.text);
+        Assertions.assertFalse(z.hasDefault());
+    }
+
+    @Test
+    public void partitionPlanOnly() {
+        Assertions.assertTrue(PropertyTemplate.compile("#{partitionPlan['a']}-#{partitionPlan['b']}?:c;", true).partitionPlanOnly);
+        Assertions.assertFalse(PropertyTemplate.compile("#{partitionPlan['a']}?:#{jobParameters['b']};", true).partitionPlanOnly);
+
+        final PropertyResolver resolver = new PropertyResolver();
+        Assertions.assertEquals("#{partitionPlan['a']}", resolver.resolve("#{partitionPlan['a']}"));
+    }
+
+    @Test
+    public void templatesSharedByJobCopies() {
+        final Job job = new Job("job");
+        final Job copy = JobFactory.cloneJob(job);
+        Assertions.assertSame(job.getPropertyTemplates(), copy.getPropertyTemplates());
+
+        copy.setRestartable("#{jobParameters['restartable']}");
+        final Properties jobParameters = new Properties();
+        jobParameters.setProperty("restartable", "false");
+        final PropertyResolver resolver = new PropertyResolver();
+        resolver.setJobParameters(jobParameters);
+        resolver.resolve(copy);
+        Assertions.assertEquals("false", copy.getRestartable());
+        Assertions.assertTrue(job.getPropertyTemplates().containsKey("#{jobParameters['restartable']}"));
+
+        //values obtained at runtime are not cached
+        Assertions.assertEquals(1, job.getPropertyTemplates().size());
+    }
+
+    /**
+     * Resolves random values, made of fragments of valid and invalid expressions, and checks that the results and
+     * exceptions are the same as with the string-based resolution that compiled templates replaced.
+     */
+    @Test
+    public void sameAsStringBasedResolution() {
+        final String[] fragments = {
+                "a", "b c", ";", "?:", "#{", "}", "[", "]", "'", "\"", "jobParameters", "['p1']",
+                "#{jobParameters['p1']}", "#{jobParameters[\"p2\"]}", "#{jobParameters['no']}",
+                "#{jobProperties['q1']}", "#{jobProperties['q2']}", "#{jobProperties['cycle']}",
+                "#{partitionPlan['r1']}", "#{partitionPlan['no']}", "#{unknown['x']}", "#{jobParameters['p1']",
+                "?:d;", "?:#{jobParameters['p1']};", "?:#{partitionPlan['r1']};", "?:#{jobProperties['no']}"
+        };
+        final Map<String, Properties> values = Map.of(
+                "jobParameters", properties("p1", "P1", "p2", "#{jobProperties['q1']}"),
+                "jobProperties", properties("q1", "Q1", "q2", "#{partitionPlan['r1']}?:x;y", "cycle", "a#{jobProperties['cycle']}"),
+                "partitionPlan", properties("r1", "#{jobParameters['p1']}"));
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 20000; i++) {
+            final StringBuilder sb = new StringBuilder();
+            for (int n = random.nextInt(8); n >= 0; n--) {
+                sb.append(fragments[random.nextInt(fragments.length)]);
+            }
+            final String raw = sb.toString();
+            for (final boolean resolvePartitionPlan : new boolean[]{false, true}) {
+                final PropertyResolver resolver = new PropertyResolver();
+                resolver.setJobParameters(values.get("jobParameters"));
+                final org.jberet.job.model.Properties jobProperties = new org.jberet.job.model.Properties();
+                values.get("jobProperties").forEach((k, v) -> jobProperties.add((String) k, (String) v));
+                resolver.pushJobProperties(jobProperties);
+                resolver.setPartitionPlanProperties(values.get("partitionPlan"));
+                resolver.setResolvePartitionPlanProperties(resolvePartitionPlan);
+                final StringResolver expected = new StringResolver(values, resolvePartitionPlan);
+
+                Assertions.assertEquals(result(() -> expected.resolve(raw)), result(() -> resolver.resolve(raw)),
+                        () -> raw + ", resolvePartitionPlanProperties=" + resolvePartitionPlan);
+            }
+        }
+    }
+
+    private static Properties properties(final String... nameValues) {
+        final Properties props = new Properties();
+        for (int i = 0; i < nameValues.length; i += 2) {
+            props.setProperty(nameValues[i], nameValues[i + 1]);
+        }
+        return props;
+    }
+
+    private static Object result(final Supplier<String> resolution) {
+        try {
+            return resolution.get();
+        } catch (final RuntimeException e) {
+            return e.getClass();
+        }
+    }
+
+    /**
+     * The string-based resolution of property values used before property templates, with property values looked up
+     * from maps.
+     */
+    private static final class StringResolver {
+        private final Map<String, Properties> values;
+        private final boolean resolvePartitionPlanProperties;
+
+        private StringResolver(final Map<String, Properties> values, final boolean resolvePartitionPlanProperties) {
+            this.values = values;
+            this.resolvePartitionPlanProperties = resolvePartitionPlanProperties;
+        }
+
+        String resolve(final String rawVale) {
+            if (rawVale.length() < PropertyTemplate.shortestTemplateLen || !rawVale.contains("#{")) {
+                return rawVale;
+            }
+            final StringBuilder sb = new StringBuilder(rawVale);
+            try {
+                resolve(sb, 0, true, null);
+            } catch (final BatchRuntimeException e) {
+                return null;
+            }
+            return sb.toString();
+        }
+
+        private void resolve(final StringBuilder sb, final int start, final boolean defaultAllowed,
+                             final LinkedList<String> referringExpressions) {
+            if (sb.length() - start < PropertyTemplate.shortestTemplateLen) {
+                return;
+            }
+            final int startExpression = sb.indexOf("#{", start);
+            if (startExpression < 0) {
+                return;
+            }
+            final int startPropCategory = startExpression + 2;
+            final int openBracket = sb.indexOf("[", startPropCategory);
+            if (openBracket < 0) {
+                throw new IllegalArgumentException(sb.toString());
+            }
+            final char startQuote = sb.charAt(openBracket + 1);
+            if (startQuote != '\'' && startQuote != '"') {
+                throw new IllegalArgumentException(sb.toString());
+            }
+            final String propCategory = sb.substring(startPropCategory, openBracket);
+            final int startVariableName = openBracket + 2;
+            final int endBracket = sb.indexOf("]", startVariableName + 1);
+            if (endBracket < 1) {
+                throw new IllegalArgumentException(sb.toString());
+            }
+            final char endQuote = sb.charAt(endBracket - 1);
+            if (endQuote != '\'' && endQuote != '"') {
+                throw new IllegalArgumentException(sb.toString());
+            }
+            int endExpression = endBracket + 1;
+            if (endExpression >= sb.length()) {
+                endExpression = sb.length() - 1;
+            }
+
+            int endCurrentPass = endExpression;
+            final String expression = sb.substring(startExpression, endExpression + 1);
+            if (referringExpressions != null && referringExpressions.contains(expression)) {
+                throw new BatchRuntimeException(referringExpressions.toString());
+            }
+            if (!resolvePartitionPlanProperties && propCategory.equals(PropertyResolver.partitionPlanToken)) {
+                resolve(sb, endCurrentPass + 1, true, null);
+                return;
+            }
+
+            final String variableName = sb.substring(startVariableName, endBracket - 1);
+            final Properties props = values.get(propCategory);
+            String val = props == null ? null : props.getProperty(variableName);
+            if (val != null) {
+                val = reresolve(expression, val, defaultAllowed, referringExpressions);
+            }
+
+            if (!defaultAllowed) {
+                endCurrentPass = replace(sb, startExpression, endExpression, val == null ? "" : val);
+            } else {
+                final int startDefaultMarker = endExpression + 1;
+                final int endDefaultMarker = startDefaultMarker + 1;
+                final String next2Chars = endDefaultMarker >= sb.length() ? null : sb.substring(startDefaultMarker, endDefaultMarker + 1);
+                final boolean hasDefault = "?:".equals(next2Chars);
+                int endDefaultExpressionMarker = sb.indexOf(";", endDefaultMarker + 1);
+                if (endDefaultExpressionMarker < 0) {
+                    endDefaultExpressionMarker = sb.length();
+                }
+                if (val != null) {
+                    endCurrentPass = replace(sb, startExpression, hasDefault ? endDefaultExpressionMarker : endExpression, val);
+                } else if (!hasDefault) {
+                    endCurrentPass = replace(sb, startExpression, endExpression, "");
+                } else {
+                    final StringBuilder defaultSb = new StringBuilder(sb.substring(endDefaultMarker + 1, endDefaultExpressionMarker));
+                    resolve(defaultSb, 0, false, null);
+                    endCurrentPass = replace(sb, startExpression, endDefaultExpressionMarker, defaultSb.toString());
+                }
+            }
+            resolve(sb, endCurrentPass + 1, true, null);
+        }
+
+        private String reresolve(final String expression, final String val, final boolean defaultAllowed,
+                                 LinkedList<String> referringExpressions) {
+            if (val.length() < PropertyTemplate.shortestTemplateLen || !val.contains("#{")) {
+                return val;
+            }
+            if (referringExpressions == null) {
+                referringExpressions = new LinkedList<String>();
+            }
+            referringExpressions.add(expression);
+            final StringBuilder sb = new StringBuilder(val);
+            try {
+                resolve(sb, 0, defaultAllowed, referringExpressions);
+            } catch (final BatchRuntimeException e) {
+                return null;
+            }
+            return sb.toString();
+        }
+
+        private static int replace(final StringBuilder sb, final int startExpression, final int endExpression, final String val) {
+            sb.replace(startExpression, endExpression + 1, val);
+            return startExpression - 1 + val.length();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.creation.ArchiveXmlLoader;
+import org.jberet.job.model.Job;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.tools.MetaInfBatchJobsJobXmlResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class InMemoryRepositoryRetentionTest {
+    private final ClassLoader classLoader = getClass().getClassLoader();
+    private InMemoryRepository repo;
+    private Job job;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        final Properties configProperties = new Properties();
+        configProperties.setProperty(InMemoryRepository.MAX_JOB_EXECUTIONS_PER_JOB_KEY, "2");
+        repo = InMemoryRepository.create(configProperties);
+        job = ArchiveXmlLoader.loadJobXml("chunk-parent", classLoader, new ArrayList<Job>(), new MetaInfBatchJobsJobXmlResolver());
+    }
+
+    @AfterEach
+    public void afterEach() {
+        repo.close();
+    }
+
+    @Test
+    public void maxJobExecutionsPerJob() throws Exception {
+        final JobInstanceImpl failedInstance = repo.createJobInstance(job, null, classLoader);
+        final JobExecutionImpl failed = createJobExecution(failedInstance, BatchStatus.FAILED);
+        final List<Long> completed = new ArrayList<Long>();
+        for (int i = 0; i < 4; i++) {
+            completed.add(0, createJobExecution(repo.createJobInstance(job, null, classLoader), BatchStatus.COMPLETED).getExecutionId());
+        }
+        final JobExecutionImpl running = repo.createJobExecution(repo.createJobInstance(job, null, classLoader), null);
+        running.setBatchStatus(BatchStatus.STARTED);
+
+        //the failed job execution may be restarted, and is kept along with the running one
+        repo.evictNow();
+        Assertions.assertEquals(List.of(running.getExecutionId(), completed.get(0), completed.get(1), failed.getExecutionId()),
+                repo.getJobExecutionsByJob(job.getId()));
+        Assertions.assertEquals(4, repo.getJobInstanceCount(job.getId()));
+        Assertions.assertNotNull(repo.getJobInstance(failedInstance.getInstanceId()));
+
+        //once abandoned, the failed job execution becomes evictable, and the oldest evictable one is evicted
+        failed.setBatchStatus(BatchStatus.ABANDONED);
+        repo.updateJobExecution(failed, false, false);
+        repo.evictNow();
+        Assertions.assertEquals(List.of(running.getExecutionId(), completed.get(0), failed.getExecutionId()),
+                repo.getJobExecutionsByJob(job.getId()));
+        Assertions.assertEquals(3, repo.getJobInstanceCount(job.getId()));
+    }
+
+    @Test
+    public void close() throws Exception {
+        repo.close();
+
+        //finished job executions are no longer evicted
+        final List<Long> completed = new ArrayList<Long>();
+        for (int i = 0; i < 3; i++) {
+            completed.add(0, createJobExecution(repo.createJobInstance(job, null, classLoader), BatchStatus.COMPLETED).getExecutionId());
+        }
+        Assertions.assertEquals(completed, repo.getJobExecutionsByJob(job.getId()));
+        Assertions.assertEquals(3, repo.getJobInstanceCount(job.getId()));
+        repo.close();
+    }
+
+    private JobExecutionImpl createJobExecution(final JobInstanceImpl jobInstance, final BatchStatus batchStatus) {
+        final JobExecutionImpl jobExecution = repo.createJobExecution(jobInstance, null);
+        jobExecution.setBatchStatus(batchStatus);
+        repo.updateJobExecution(jobExecution, true, false);
+        return jobExecution;
+    }
+}
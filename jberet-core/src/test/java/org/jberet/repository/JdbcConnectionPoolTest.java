@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcConnectionPoolTest {
+    private static final AtomicInteger dbCount = new AtomicInteger();
+
+    private JdbcConnectionPool pool;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        pool = new JdbcConnectionPool("jdbc:h2:mem:jberet-pool-" + dbCount.incrementAndGet() + ";DB_CLOSE_DELAY=-1",
+                new Properties(), 2, 4);
+        final Connection connection = pool.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE T (ID INTEGER)");
+        }
+        pool.release(connection);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        pool.close();
+    }
+
+    @Test
+    public void restoreStateOnRelease() throws Exception {
+        final Connection connection = pool.getConnection();
+        final int isolation = connection.getTransactionIsolation();
+        connection.setAutoCommit(false);
+        connection.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO T VALUES (1)");
+        }
+        pool.release(connection);
+
+        final Connection reused = pool.getConnection();
+        Assertions.assertSame(connection, reused);
+        Assertions.assertTrue(reused.getAutoCommit());
+        Assertions.assertEquals(isolation, reused.getTransactionIsolation());
+        Assertions.assertFalse(reused.isReadOnly());
+
+        //uncommitted work is rolled back
+        final PreparedStatement statement = pool.prepareStatement(reused, "SELECT COUNT(*) FROM T");
+        try (ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            Assertions.assertEquals(0, rs.getInt(1));
+        }
+        Assertions.assertTrue(pool.releaseStatement(statement));
+        pool.release(reused);
+    }
+
+    @Test
+    public void poolSizeOnlyLimitsIdleConnections() throws Exception {
+        //more connections than the pool size are opened without blocking
+        final Connection[] connections = new Connection[4];
+        for (int i = 0; i < connections.length; i++) {
+            connections[i] = pool.getConnection();
+        }
+        for (final Connection c : connections) {
+            pool.release(c);
+        }
+
+        //connections released after the pool size of them are idle are closed
+        Assertions.assertTrue(connections[2].isClosed());
+        Assertions.assertTrue(connections[3].isClosed());
+        Assertions.assertSame(connections[1], pool.getConnection());
+        Assertions.assertSame(connections[0], pool.getConnection());
+        pool.release(connections[0]);
+        pool.release(connections[1]);
+    }
+
+    @Test
+    public void evictBrokenConnection() throws Exception {
+        final Connection connection = pool.getConnection();
+        connection.close();
+        pool.release(connection);
+
+        final Connection other = pool.getConnection();
+        Assertions.assertNotSame(connection, other);
+        Assertions.assertFalse(other.isClosed());
+        pool.release(other);
+    }
+
+    @Test
+    public void close() throws Exception {
+        final Connection idle = pool.getConnection();
+        final Connection inUse = pool.getConnection();
+        pool.release(idle);
+
+        pool.close();
+        Assertions.assertTrue(idle.isClosed());
+        Assertions.assertFalse(inUse.isClosed());
+
+        //connections in use are closed when released, and no longer pooled
+        pool.release(inUse);
+        Assertions.assertTrue(inUse.isClosed());
+        final Connection connection = pool.getConnection();
+        pool.release(connection);
+        Assertions.assertTrue(connection.isClosed());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.batch.operations.BatchRuntimeException;
+import jakarta.batch.runtime.BatchStatus;
+
+import org.jberet.job.model.Job;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcRepositoryBatchSaveTest {
+    private static final int PARTITIONS = 50;
+    private static final AtomicInteger dbCount = new AtomicInteger();
+
+    private String dbUrl;
+    private JdbcRepository repo;
+    private JobExecutionImpl jobExecution;
+    private StepExecutionImpl stepExecution;
+    private final List<PartitionExecutionImpl> partitionExecutions = new ArrayList<PartitionExecutionImpl>();
+
+    @BeforeEach
+    public void beforeEach() {
+        dbUrl = "jdbc:h2:mem:jberet-batch-save-" + dbCount.incrementAndGet() + ";DB_CLOSE_DELAY=-1";
+        final Properties configProperties = new Properties();
+        configProperties.setProperty(JdbcRepository.DB_URL_KEY, dbUrl);
+        repo = JdbcRepository.create(configProperties);
+
+        final ClassLoader classLoader = getClass().getClassLoader();
+        jobExecution = repo.createJobExecution(repo.createJobInstance(new Job("batch-save-job"), null, classLoader), null);
+        stepExecution = repo.createStepExecution("step1");
+        stepExecution.setBatchStatus(BatchStatus.STARTED);
+        repo.addStepExecution(jobExecution, stepExecution);
+        for (int i = 0; i < PARTITIONS; i++) {
+            final PartitionExecutionImpl partitionExecution = new PartitionExecutionImpl(stepExecution);
+            partitionExecution.setPartitionId(i);
+            repo.addPartitionExecution(stepExecution, partitionExecution);
+            partitionExecutions.add(partitionExecution);
+        }
+    }
+
+    @Test
+    public void saveManyPartitions() throws Exception {
+        for (final PartitionExecutionImpl p : partitionExecutions) {
+            p.setBatchStatus(p.getPartitionId() % 2 == 0 ? BatchStatus.COMPLETED : BatchStatus.FAILED);
+            p.setPersistentUserData(p.getPartitionId());
+        }
+        repo.savePersistentData(jobExecution, partitionExecutions);
+
+        final List<String> batchStatuses = getBatchStatuses();
+        for (final PartitionExecutionImpl p : partitionExecutions) {
+            Assertions.assertEquals(p.getBatchStatus().name(), batchStatuses.get(p.getPartitionId()));
+            Assertions.assertFalse(p.isPersistentUserDataChanged());
+        }
+        Assertions.assertEquals(PARTITIONS, batchStatuses.size());
+    }
+
+    @Test
+    public void saveManyPartitionsWithFailure() throws Exception {
+        final int failing = PARTITIONS / 2;
+        for (final PartitionExecutionImpl p : partitionExecutions) {
+            p.setBatchStatus(BatchStatus.COMPLETED);
+            p.setPersistentUserData(p.getPartitionId());
+        }
+        //too long for the EXITSTATUS column, so that this update fails in the middle of the batch
+        partitionExecutions.get(failing).setExitStatus("x".repeat(1000));
+
+        Assertions.assertThrows(BatchRuntimeException.class,
+                () -> repo.savePersistentData(jobExecution, partitionExecutions));
+
+        //all other partitions are saved, and only the failed one is to be saved again
+        final List<String> batchStatuses = getBatchStatuses();
+        for (final PartitionExecutionImpl p : partitionExecutions) {
+            if (p.getPartitionId() == failing) {
+                Assertions.assertEquals(BatchStatus.STARTED.name(), batchStatuses.get(failing));
+                Assertions.assertTrue(p.isPersistentUserDataChanged());
+            } else {
+                Assertions.assertEquals(BatchStatus.COMPLETED.name(), batchStatuses.get(p.getPartitionId()));
+                Assertions.assertFalse(p.isPersistentUserDataChanged());
+            }
+        }
+
+        partitionExecutions.get(failing).setExitStatus(null);
+        repo.savePersistentData(jobExecution, partitionExecutions);
+        Assertions.assertEquals(BatchStatus.COMPLETED.name(), getBatchStatuses().get(failing));
+    }
+
+    /**
+     * Gets the batch status of each partition execution in the database, indexed by partition id.
+     */
+    private List<String> getBatchStatuses() throws Exception {
+        final List<String> batchStatuses = new ArrayList<String>();
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT BATCHSTATUS FROM PARTITION_EXECUTION WHERE STEPEXECUTIONID=? ORDER BY PARTITIONEXECUTIONID")) {
+            statement.setLong(1, stepExecution.getStepExecutionId());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    batchStatuses.add(rs.getString(1));
+                }
+            }
+        }
+        return batchStatuses;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import jakarta.batch.operations.BatchRuntimeException;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.StepExecution;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.jberet.job.model.Job;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcRepositoryGroupCommitTest {
+    private static final int STEPS = 5;
+    private static final AtomicInteger dbCount = new AtomicInteger();
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private String dbUrl;
+    private JdbcRepository repo;
+    private JobExecutionImpl jobExecution;
+    private final List<StepExecutionImpl> stepExecutions = new ArrayList<StepExecutionImpl>();
+
+    @BeforeEach
+    public void beforeEach() {
+        //long enough lock timeout for the first update to wait for the row locked by the test
+        dbUrl = "jdbc:h2:mem:jberet-group-commit-" + dbCount.incrementAndGet() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000";
+        final Properties configProperties = new Properties();
+        configProperties.setProperty(JdbcRepository.DB_URL_KEY, dbUrl);
+        configProperties.setProperty(JdbcRepository.BATCH_CHECKPOINT_UPDATES_KEY, "true");
+        init(new JdbcRepository(configProperties));
+    }
+
+    private void init(final JdbcRepository jdbcRepository) {
+        repo = jdbcRepository;
+        stepExecutions.clear();
+        final ClassLoader classLoader = getClass().getClassLoader();
+        jobExecution = repo.createJobExecution(repo.createJobInstance(new Job("group-commit-job"), null, classLoader), null);
+        for (int i = 0; i < STEPS; i++) {
+            final StepExecutionImpl stepExecution = repo.createStepExecution("step" + i);
+            stepExecution.setBatchStatus(BatchStatus.STARTED);
+            repo.addStepExecution(jobExecution, stepExecution);
+            stepExecutions.add(stepExecution);
+        }
+    }
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        executor.shutdownNow();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        repo.close();
+    }
+
+    @Test
+    public void coalesceConcurrentUpdates() throws Exception {
+        //the step execution being stopped is not updated, and only its caller gets update count 0
+        final StepExecutionImpl stopping = stepExecutions.get(2);
+        executeSql("UPDATE STEP_EXECUTION SET BATCHSTATUS='STOPPING' WHERE STEPEXECUTIONID=" + stopping.getStepExecutionId());
+
+        final List<Object> results = saveConcurrently();
+        Assertions.assertEquals(List.of(1, 1, 0, 1, 1), results);
+        for (final StepExecutionImpl e : stepExecutions) {
+            final boolean saved = e != stopping;
+            Assertions.assertEquals(saved ? e.getReaderCheckpointInfo() : null, getReaderCheckpointInfo(e));
+            Assertions.assertEquals(!saved, e.isReaderCheckpointInfoChanged());
+        }
+    }
+
+    @Test
+    public void failedUpdateInBatch() throws Exception {
+        //too long for the EXITSTATUS column, so that this update fails in the batch, and again individually
+        final StepExecutionImpl failing = stepExecutions.get(3);
+        failing.setExitStatus("x".repeat(1000));
+
+        final List<Object> results = saveConcurrently();
+        Assertions.assertEquals(1, results.get(0));
+        Assertions.assertEquals(1, results.get(1));
+        Assertions.assertEquals(1, results.get(2));
+        Assertions.assertInstanceOf(BatchRuntimeException.class, results.get(3));
+        Assertions.assertEquals(1, results.get(4));
+
+        //only the failed step execution is to be saved again
+        for (final StepExecutionImpl e : stepExecutions) {
+            Assertions.assertEquals(e == failing, e.isReaderCheckpointInfoChanged());
+        }
+        failing.setExitStatus(null);
+        Assertions.assertEquals(1, repo.savePersistentDataIfNotStopping(jobExecution, failing));
+        Assertions.assertEquals(failing.getReaderCheckpointInfo(), getReaderCheckpointInfo(failing));
+    }
+
+    @Test
+    public void ignoredWithDataSource() throws Exception {
+        repo.close();
+        final JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(dbUrl);
+        final Properties configProperties = new Properties();
+        configProperties.setProperty(JdbcRepository.BATCH_CHECKPOINT_UPDATES_KEY, "true");
+        init(new JdbcRepository(dataSource, configProperties));
+
+        try (Connection blocker = DriverManager.getConnection(dbUrl)) {
+            blocker.setAutoCommit(false);
+            lockRow(blocker, stepExecutions.get(0));
+            final Future<Integer> blocked = submitSave(stepExecutions.get(0));
+            awaitCondition(() -> countRows("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS WHERE BLOCKER_ID IS NOT NULL") == 1);
+
+            //executed on its own connection, without waiting for the blocked update
+            Assertions.assertEquals(1, repo.savePersistentDataIfNotStopping(jobExecution, stepExecutions.get(1)));
+            Assertions.assertEquals(0, repo.getPendingUpdateCount());
+            blocker.rollback();
+            Assertions.assertEquals(1, blocked.get(30, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Saves each step execution with {@code savePersistentDataIfNotStopping} on its own thread. While the update of
+     * the first step execution is blocked by a row lock, the updates of all other step executions are added to the
+     * pending updates, and are then executed together in one batch.
+     *
+     * @return the update count returned to, or the exception thrown in, each calling thread
+     */
+    private List<Object> saveConcurrently() throws Exception {
+        for (int i = 0; i < STEPS; i++) {
+            stepExecutions.get(i).setReaderCheckpointInfo(i + 100);
+        }
+        final List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        try (Connection blocker = DriverManager.getConnection(dbUrl)) {
+            blocker.setAutoCommit(false);
+            lockRow(blocker, stepExecutions.get(0));
+            futures.add(submitSave(stepExecutions.get(0)));
+            awaitCondition(() -> countRows("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS WHERE BLOCKER_ID IS NOT NULL") == 1);
+
+            for (int i = 1; i < STEPS; i++) {
+                futures.add(submitSave(stepExecutions.get(i)));
+            }
+            awaitCondition(() -> repo.getPendingUpdateCount() == STEPS - 1);
+            blocker.rollback();
+        }
+
+        final List<Object> results = new ArrayList<Object>();
+        for (final Future<Integer> f : futures) {
+            try {
+                results.add(f.get(30, TimeUnit.SECONDS));
+            } catch (final ExecutionException e) {
+                results.add(e.getCause());
+            }
+        }
+        Assertions.assertEquals(0, repo.getPendingUpdateCount());
+        return results;
+    }
+
+    private static void lockRow(final Connection connection, final StepExecutionImpl stepExecution) throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE STEP_EXECUTION SET EXITSTATUS=EXITSTATUS WHERE STEPEXECUTIONID=" +
+                    stepExecution.getStepExecutionId());
+        }
+    }
+
+    private Future<Integer> submitSave(final StepExecutionImpl stepExecution) {
+        return executor.submit(() -> repo.savePersistentDataIfNotStopping(jobExecution, stepExecution));
+    }
+
+    private static void awaitCondition(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 30000;
+        while (!condition.getAsBoolean()) {
+            Assertions.assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for updates");
+            Thread.sleep(10);
+        }
+    }
+
+    private Object getReaderCheckpointInfo(final StepExecutionImpl stepExecution) {
+        for (final StepExecution e : repo.selectStepExecutions(jobExecution.getExecutionId(), getClass().getClassLoader())) {
+            if (e.getStepExecutionId() == stepExecution.getStepExecutionId()) {
+                return ((StepExecutionImpl) e).getReaderCheckpointInfo();
+            }
+        }
+        throw new IllegalStateException(stepExecution.getStepName());
+    }
+
+    private void executeSql(final String sql) throws Exception {
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+    private int countRows(final String select) {
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             PreparedStatement statement = connection.prepareStatement(select);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        } catch (final Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcRepositoryIndexTest {
+    private static final String TABLE_PREFIX = "IX_";
+    private static final String INDEX_CREATED = "JBERET000040";
+    private static final String FAIL_TO_CREATE_INDEX = "JBERET000041";
+    private static final AtomicInteger dbCount = new AtomicInteger();
+
+    private final Logger logger = Logger.getLogger("org.jberet");
+    private final List<String> logMessages = new CopyOnWriteArrayList<String>();
+    private final Handler handler = new Handler() {
+        @Override
+        public void publish(final LogRecord record) {
+            logMessages.add(String.valueOf(record.getMessage()));
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private String dbUrl;
+    private List<String> indexes;
+
+    @BeforeEach
+    public void beforeEach() throws Exception {
+        dbUrl = "jdbc:h2:mem:jberet-index-" + dbCount.incrementAndGet() + ";DB_CLOSE_DELAY=-1";
+        createRepository(false).close();
+        indexes = secondaryIndexes();
+        Assertions.assertEquals(3, indexes.size(), indexes::toString);
+
+        //tables created by an earlier version, without the secondary indexes
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             Statement statement = connection.createStatement()) {
+            for (final String index : indexes) {
+                statement.execute("DROP INDEX " + index);
+            }
+        }
+        Assertions.assertEquals(List.of(), secondaryIndexes());
+        logger.addHandler(handler);
+    }
+
+    @AfterEach
+    public void afterEach() {
+        logger.removeHandler(handler);
+    }
+
+    @Test
+    public void createMissingIndexes() throws Exception {
+        createRepository(false).close();
+        Assertions.assertEquals(List.of(), secondaryIndexes());
+
+        createRepository(true).close();
+        Assertions.assertEquals(indexes, secondaryIndexes());
+        Assertions.assertEquals(3, countLogMessages(INDEX_CREATED));
+        Assertions.assertEquals(0, countLogMessages(FAIL_TO_CREATE_INDEX));
+
+        //existing indexes are not created again
+        logMessages.clear();
+        createRepository(true).close();
+        Assertions.assertEquals(indexes, secondaryIndexes());
+        Assertions.assertEquals(0, countLogMessages(INDEX_CREATED));
+        Assertions.assertEquals(0, countLogMessages(FAIL_TO_CREATE_INDEX));
+    }
+
+    @Test
+    public void createOneMissingIndex() throws Exception {
+        createRepository(true).close();
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP INDEX " + indexes.get(1));
+        }
+
+        logMessages.clear();
+        createRepository(true).close();
+        Assertions.assertEquals(indexes, secondaryIndexes());
+        Assertions.assertEquals(1, countLogMessages(INDEX_CREATED));
+    }
+
+    private JdbcRepository createRepository(final boolean createIndexes) {
+        final Properties configProperties = new Properties();
+        configProperties.setProperty(JdbcRepository.DB_URL_KEY, dbUrl);
+        configProperties.setProperty(JdbcRepository.DB_TABLE_PREFIX_KEY, TABLE_PREFIX);
+        configProperties.setProperty(JdbcRepository.DB_CREATE_INDEXES_KEY, String.valueOf(createIndexes));
+        return new JdbcRepository(configProperties);
+    }
+
+    /**
+     * Gets the names of the indexes of the job repository tables, other than primary key, unique and foreign key
+     * indexes, which are created along with the tables.
+     */
+    private List<String> secondaryIndexes() throws Exception {
+        final List<String> result = new ArrayList<String>();
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES " +
+                     "WHERE TABLE_NAME LIKE '" + TABLE_PREFIX + "%' AND INDEX_NAME LIKE '%\\_IX' ORDER BY INDEX_NAME")) {
+            while (rs.next()) {
+                result.add(rs.getString(1));
+            }
+        }
+        return result;
+    }
+
+    private long countLogMessages(final String messageId) {
+        return logMessages.stream().filter(m -> m.contains(messageId)).count();
+    }
+}
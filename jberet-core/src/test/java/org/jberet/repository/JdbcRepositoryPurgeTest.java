@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.repository;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.context.JobContext;
+
+import org.jberet.job.model.Job;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.runtime.JobInstanceImpl;
+import org.jberet.runtime.PartitionExecutionImpl;
+import org.jberet.runtime.StepExecutionImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JdbcRepositoryPurgeTest {
+    private static final String TABLE_PREFIX = "PURGE_";
+    private static final int PARTITIONS = 2;
+    private static final AtomicInteger dbCount = new AtomicInteger();
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+    private final Job job1 = new Job("purge-job-1");
+    private final Job job2 = new Job("purge-job-2");
+    private String dbUrl;
+    private JdbcRepository repo;
+
+    @BeforeEach
+    public void beforeEach() {
+        dbUrl = "jdbc:h2:mem:jberet-purge-" + dbCount.incrementAndGet() + ";DB_CLOSE_DELAY=-1";
+        final Properties configProperties = new Properties();
+        configProperties.setProperty(JdbcRepository.DB_URL_KEY, dbUrl);
+        configProperties.setProperty(JdbcRepository.DB_TABLE_PREFIX_KEY, TABLE_PREFIX);
+        repo = JdbcRepository.create(configProperties);
+    }
+
+    @Test
+    public void removeInChunks() throws Exception {
+        final List<Long> finished = new ArrayList<Long>();
+        for (int i = 0; i < 7; i++) {
+            finished.add(createJobExecution(job1, BatchStatus.COMPLETED));
+        }
+        final long running = createJobExecution(job1, BatchStatus.STARTED);
+
+        //7 job executions in chunks of 3, with IN lists of 3, 3 and 1 ids
+        final DefaultJobExecutionSelector selector = new DefaultJobExecutionSelector(true);
+        selector.jobExecutionIdFrom = finished.get(0);
+        Assertions.assertEquals(7, repo.removeJobExecutions(selector, 3));
+
+        Assertions.assertEquals(List.of(running), jobExecutionIds());
+        Assertions.assertEquals(1, countRows("SELECT COUNT(*) FROM STEP_EXECUTION"));
+        Assertions.assertEquals(PARTITIONS, countRows("SELECT COUNT(*) FROM PARTITION_EXECUTION"));
+        Assertions.assertEquals(1, countRows("SELECT COUNT(*) FROM STEP_EXECUTION WHERE JOBEXECUTIONID=" + running));
+        for (final Long id : finished) {
+            Assertions.assertNull(repo.getJobExecution(id));
+        }
+    }
+
+    @Test
+    public void selectorPrecedence() throws Exception {
+        final long completed1 = createJobExecution(job1, BatchStatus.COMPLETED);
+        final long failed1 = createJobExecution(job1, BatchStatus.FAILED);
+        final long started1 = createJobExecution(job1, BatchStatus.STARTED);
+        final long completed2 = createJobExecution(job2, BatchStatus.COMPLETED);
+        final long stopped2 = createJobExecution(job2, BatchStatus.STOPPED);
+        final long started2 = createJobExecution(job2, BatchStatus.STARTED);
+
+        //job execution ids precede all other criteria
+        DefaultJobExecutionSelector selector = new DefaultJobExecutionSelector(true);
+        selector.jobExecutionIds = Set.of(completed1, started1);
+        selector.batchStatuses = Set.of(BatchStatus.FAILED.name());
+        assertRemoved(selector, completed1);
+
+        //the number of recent job executions to keep precedes the id range
+        selector = new DefaultJobExecutionSelector(false);
+        selector.numberOfRecentJobExecutionsToExclude = 4;
+        selector.jobExecutionIdFrom = stopped2;
+        assertRemoved(selector, failed1);
+
+        //end time criteria apply to job executions with an end time, and batch statuses to the others
+        selector = new DefaultJobExecutionSelector(false);
+        selector.jobExecutionEndTimeFrom = new Date(System.currentTimeMillis() - 60000);
+        selector.jobExecutionEndTimeTo = new Date(System.currentTimeMillis() + 60000);
+        selector.batchStatuses = Set.of(BatchStatus.STARTED.name());
+        selector.jobExecutionsByJobNames = Set.of(job1.getId());
+        assertRemoved(selector, started1, completed2, stopped2, started2);
+    }
+
+    @Test
+    public void removeByJobNames() throws Exception {
+        final long completed1 = createJobExecution(job1, BatchStatus.COMPLETED);
+        final long started1 = createJobExecution(job1, BatchStatus.STARTED);
+        final long completed2 = createJobExecution(job2, BatchStatus.COMPLETED);
+
+        final DefaultJobExecutionSelector selector = new DefaultJobExecutionSelector(true);
+        selector.jobExecutionsByJobNames = Set.of(job1.getId());
+        assertRemoved(selector, completed1);
+        Assertions.assertEquals(List.of(started1, completed2), jobExecutionIds());
+    }
+
+    @Test
+    public void currentJobExecutionNotRemoved() throws Exception {
+        final long completed = createJobExecution(job1, BatchStatus.COMPLETED);
+        final long current = createJobExecution(job1, BatchStatus.STARTED);
+
+        final DefaultJobExecutionSelector selector = new DefaultJobExecutionSelector(false);
+        selector.batchStatuses = Set.of(BatchStatus.COMPLETED.name(), BatchStatus.STARTED.name());
+        selector.setJobContext((JobContext) Proxy.newProxyInstance(classLoader, new Class<?>[]{JobContext.class},
+                (proxy, method, args) -> method.getName().equals("getExecutionId") ? current : null));
+        Assertions.assertEquals(1, repo.removeJobExecutions(selector, JdbcRepository.MAX_PURGE_CHUNK_SIZE));
+        Assertions.assertEquals(List.of(current), jobExecutionIds());
+        Assertions.assertNull(repo.getJobExecution(completed));
+    }
+
+    /**
+     * Verifies that the expected job executions, and only them, are both selected by {@code selector}, and removed
+     * with it from the database.
+     */
+    private void assertRemoved(final DefaultJobExecutionSelector selector, final Long... expected) throws Exception {
+        final List<Long> before = jobExecutionIds();
+        final List<Long> selected = new ArrayList<Long>();
+        for (final Long id : before) {
+            if (selector.select(repo.getJobExecution(id), before)) {
+                selected.add(id);
+            }
+        }
+        Assertions.assertEquals(List.of(expected), selected);
+
+        Assertions.assertEquals(expected.length, repo.removeJobExecutions(selector, 2));
+        final List<Long> remaining = new ArrayList<Long>(before);
+        remaining.removeAll(selected);
+        Assertions.assertEquals(remaining, jobExecutionIds());
+        Assertions.assertEquals(remaining.size(), countRows("SELECT COUNT(*) FROM STEP_EXECUTION"));
+        Assertions.assertEquals(remaining.size() * PARTITIONS, countRows("SELECT COUNT(*) FROM PARTITION_EXECUTION"));
+    }
+
+    /**
+     * Creates a job execution with the given batch status, along with a partitioned step execution.
+     */
+    private long createJobExecution(final Job job, final BatchStatus batchStatus) {
+        final JobInstanceImpl jobInstance = repo.createJobInstance(job, null, classLoader);
+        final JobExecutionImpl jobExecution = repo.createJobExecution(jobInstance, null);
+        jobExecution.setBatchStatus(batchStatus);
+        repo.updateJobExecution(jobExecution, true, false);
+
+        final StepExecutionImpl stepExecution = repo.createStepExecution("step1");
+        stepExecution.setBatchStatus(batchStatus);
+        repo.addStepExecution(jobExecution, stepExecution);
+        for (int i = 0; i < PARTITIONS; i++) {
+            final PartitionExecutionImpl partitionExecution = new PartitionExecutionImpl(stepExecution);
+            partitionExecution.setPartitionId(i);
+            repo.addPartitionExecution(stepExecution, partitionExecution);
+        }
+        return jobExecution.getExecutionId();
+    }
+
+    private List<Long> jobExecutionIds() throws Exception {
+        final List<Long> ids = new ArrayList<Long>();
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT JOBEXECUTIONID FROM " + TABLE_PREFIX + "JOB_EXECUTION ORDER BY JOBEXECUTIONID");
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    private int countRows(final String select) throws Exception {
+        try (Connection connection = DriverManager.getConnection(dbUrl);
+             PreparedStatement statement = connection.prepareStatement(
+                     select.replaceAll("(STEP_EXECUTION|PARTITION_EXECUTION)", TABLE_PREFIX + "$1"));
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies how {@link AbstractStepExecution} detects changes of persistent user data, reader and writer checkpoint
+ * info since they were last saved to job repository.
+ */
+public class PersistentDataChangeTest {
+    @Test
+    public void notSaved() throws Exception {
+        final StepExecutionImpl stepExecution = new StepExecutionImpl("step1");
+        Assertions.assertTrue(stepExecution.isPersistentUserDataChanged());
+        Assertions.assertTrue(stepExecution.isReaderCheckpointInfoChanged());
+        Assertions.assertTrue(stepExecution.isWriterCheckpointInfoChanged());
+    }
+
+    @Test
+    public void unchangedAfterSaved() throws Exception {
+        final StepExecutionImpl stepExecution = new StepExecutionImpl("step1");
+        stepExecution.setPersistentUserData(new ArrayList<Integer>(Arrays.asList(1, 2, 3)));
+        stepExecution.setReaderCheckpointInfo(10);
+        stepExecution.setWriterCheckpointInfo(null);
+        stepExecution.markPersistentDataSaved();
+
+        Assertions.assertFalse(stepExecution.isPersistentUserDataChanged());
+        Assertions.assertFalse(stepExecution.isReaderCheckpointInfoChanged());
+        Assertions.assertFalse(stepExecution.isWriterCheckpointInfoChanged());
+
+        //equal checkpoint info set again is not a change
+        stepExecution.setReaderCheckpointInfo(10);
+        stepExecution.setWriterCheckpointInfo(null);
+        stepExecution.setPersistentUserData(new ArrayList<Integer>(Arrays.asList(1, 2, 3)));
+        Assertions.assertFalse(stepExecution.isPersistentUserDataChanged());
+        Assertions.assertFalse(stepExecution.isReaderCheckpointInfoChanged());
+        Assertions.assertFalse(stepExecution.isWriterCheckpointInfoChanged());
+    }
+
+    @Test
+    public void changedAfterSaved() throws Exception {
+        final PartitionExecutionImpl partitionExecution = new PartitionExecutionImpl(new StepExecutionImpl("step1"));
+        partitionExecution.setPersistentUserData(new ArrayList<Integer>(Arrays.asList(1, 2, 3)));
+        partitionExecution.setReaderCheckpointInfo(10);
+        partitionExecution.markPersistentDataSaved();
+
+        partitionExecution.setReaderCheckpointInfo(20);
+        Assertions.assertFalse(partitionExecution.isPersistentUserDataChanged());
+        Assertions.assertTrue(partitionExecution.isReaderCheckpointInfoChanged());
+        Assertions.assertFalse(partitionExecution.isWriterCheckpointInfoChanged());
+
+        partitionExecution.setPersistentUserData(new ArrayList<Integer>(Arrays.asList(1, 2, 3, 4)));
+        partitionExecution.setWriterCheckpointInfo("w");
+        Assertions.assertTrue(partitionExecution.isPersistentUserDataChanged());
+        Assertions.assertTrue(partitionExecution.isWriterCheckpointInfoChanged());
+
+        partitionExecution.markPersistentDataSaved();
+        Assertions.assertFalse(partitionExecution.isPersistentUserDataChanged());
+        Assertions.assertFalse(partitionExecution.isReaderCheckpointInfoChanged());
+        Assertions.assertFalse(partitionExecution.isWriterCheckpointInfoChanged());
+
+        partitionExecution.resetPersistentDataSaved();
+        Assertions.assertTrue(partitionExecution.isPersistentUserDataChanged());
+        Assertions.assertTrue(partitionExecution.isReaderCheckpointInfoChanged());
+        Assertions.assertTrue(partitionExecution.isWriterCheckpointInfoChanged());
+    }
+
+    @Test
+    public void arrayChangedInPlace() throws Exception {
+        final StepExecutionImpl stepExecution = new StepExecutionImpl("step1");
+        final long[] offsets = {1};
+        stepExecution.setReaderCheckpointInfo(offsets);
+        stepExecution.setWriterCheckpointInfo(new String[]{"a"});
+        stepExecution.markPersistentDataSaved();
+
+        //an array may have been changed in place, and is saved again
+        offsets[0] = 99;
+        stepExecution.setReaderCheckpointInfo(offsets);
+        Assertions.assertTrue(stepExecution.isReaderCheckpointInfoChanged());
+        Assertions.assertTrue(stepExecution.isWriterCheckpointInfoChanged());
+        Assertions.assertFalse(stepExecution.isPersistentUserDataChanged());
+    }
+}
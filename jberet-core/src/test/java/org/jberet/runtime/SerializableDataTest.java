@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.jberet.util.BatchUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SerializableDataTest {
+    @Test
+    public void serializedFormOfRawDataIsMemoized() {
+        final SerializableData data = SerializableData.of(100);
+        final byte[] serialized = data.getSerialized();
+        Assertions.assertSame(serialized, data.getSerialized());
+        Assertions.assertEquals(100, data.deserialize());
+    }
+
+    @Test
+    public void equalCheckpointReusesCurrentData() {
+        final SerializableData current = SerializableData.of(100L);
+        Assertions.assertSame(current, SerializableData.of(100L, current));
+        Assertions.assertNotSame(current, SerializableData.of(100, current));
+        Assertions.assertNotSame(current, SerializableData.of(101L, current));
+
+        final SerializableData nullData = SerializableData.of(null);
+        Assertions.assertSame(nullData, SerializableData.of(null, nullData));
+        Assertions.assertNotSame(nullData, SerializableData.of("", nullData));
+
+        final SerializableData bytes = SerializableData.of(new byte[]{1, 2});
+        Assertions.assertSame(bytes, SerializableData.of(new byte[]{1, 2}, bytes));
+
+        //mutable data may have been changed in place, so it is always serialized again
+        final ArrayList<Integer> list = new ArrayList<Integer>(Arrays.asList(1, 2));
+        final SerializableData listData = SerializableData.of(list);
+        list.add(3);
+        final SerializableData newListData = SerializableData.of(list, listData);
+        Assertions.assertNotSame(listData, newListData);
+        Assertions.assertEquals(list, newListData.deserialize());
+    }
+
+    @Test
+    public void arrayChangedInPlaceIsSerializedAgain() throws Exception {
+        final long[] offsets = {1};
+        final SerializableData data = SerializableData.of(offsets);
+        Assertions.assertArrayEquals(new long[]{1}, (long[]) BatchUtil.bytesToSerializableObject(data.getSerialized(), null));
+
+        offsets[0] = 99;
+        final SerializableData newData = SerializableData.of(offsets, data);
+        Assertions.assertNotSame(data, newData);
+        Assertions.assertArrayEquals(new long[]{99}, (long[]) BatchUtil.bytesToSerializableObject(newData.getSerialized(), null));
+        Assertions.assertArrayEquals(new long[]{99}, (long[]) BatchUtil.bytesToSerializableObject(data.getSerialized(), null));
+
+        final StepExecutionImpl stepExecution = new StepExecutionImpl("step1");
+        stepExecution.setReaderCheckpointInfo(offsets);
+        stepExecution.getReaderCheckpointInfoSerialized();
+        offsets[0] = 100;
+        stepExecution.setReaderCheckpointInfo(offsets);
+        Assertions.assertArrayEquals(new long[]{100},
+                (long[]) BatchUtil.bytesToSerializableObject(stepExecution.getReaderCheckpointInfoSerialized(), null));
+    }
+
+    @Test
+    public void stepExecutionKeepsUnchangedCheckpoint() {
+        final StepExecutionImpl stepExecution = new StepExecutionImpl("step1");
+        stepExecution.setReaderCheckpointInfo(10);
+        final byte[] serialized = stepExecution.getReaderCheckpointInfoSerialized();
+        stepExecution.setReaderCheckpointInfo(10);
+        Assertions.assertSame(serialized, stepExecution.getReaderCheckpointInfoSerialized());
+    }
+
+    @Test
+    public void objectToBytesReusesBufferSafely() throws Exception {
+        final ArrayList<String> small = new ArrayList<String>(Arrays.asList("a", "b"));
+        final byte[] large = new byte[100 * 1024];
+        large[large.length - 1] = 7;
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(small, BatchUtil.bytesToSerializableObject(BatchUtil.objectToBytes(small), null));
+            Assertions.assertArrayEquals(large,
+                    (byte[]) BatchUtil.bytesToSerializableObject(BatchUtil.objectToBytes(large), null));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.metric;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import jakarta.batch.runtime.Metric;
+
+import org.jberet.util.BatchUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class StepMetricsTest {
+    @Test
+    public void incrementAndAdd() {
+        final StepMetrics stepMetrics = new StepMetrics();
+        stepMetrics.increment(Metric.MetricType.READ_COUNT, 1);
+        stepMetrics.increment(Metric.MetricType.READ_COUNT, 2);
+        stepMetrics.set(Metric.MetricType.COMMIT_COUNT, 5);
+
+        final StepMetrics partitionMetrics = new StepMetrics();
+        partitionMetrics.increment(Metric.MetricType.READ_COUNT, 10);
+        partitionMetrics.increment(Metric.MetricType.FILTER_COUNT, 1);
+        stepMetrics.addStepMetrics(partitionMetrics);
+
+        Assertions.assertEquals(13, stepMetrics.get(Metric.MetricType.READ_COUNT));
+        Assertions.assertEquals(5, stepMetrics.get(Metric.MetricType.COMMIT_COUNT));
+        Assertions.assertEquals(1, stepMetrics.get(Metric.MetricType.FILTER_COUNT));
+        Assertions.assertEquals(0, stepMetrics.get(Metric.MetricType.WRITE_COUNT));
+
+        final Metric[] metrics = stepMetrics.getMetrics();
+        Assertions.assertEquals(Metric.MetricType.values().length, metrics.length);
+        for (final Metric m : metrics) {
+            Assertions.assertEquals(stepMetrics.get(m.getType()), m.getValue());
+        }
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        final StepMetrics stepMetrics = new StepMetrics();
+        stepMetrics.increment(Metric.MetricType.WRITE_COUNT, 7);
+        stepMetrics.increment(Metric.MetricType.ROLLBACK_COUNT, 1);
+
+        final StepMetrics copy = (StepMetrics) BatchUtil.bytesToSerializableObject(
+                BatchUtil.objectToBytes(stepMetrics), StepMetrics.class.getClassLoader());
+        Assertions.assertArrayEquals(stepMetrics.getValues(), copy.getValues());
+        copy.increment(Metric.MetricType.WRITE_COUNT, 1);
+        Assertions.assertEquals(8, copy.get(Metric.MetricType.WRITE_COUNT));
+    }
+
+    @Test
+    public void consistentSnapshot() throws Exception {
+        final StepMetrics stepMetrics = new StepMetrics();
+        final StepMetrics chunk = new StepMetrics();
+        chunk.set(Metric.MetricType.READ_COUNT, 1);
+        chunk.set(Metric.MetricType.WRITE_COUNT, 1);
+
+        final AtomicBoolean done = new AtomicBoolean();
+        final Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200000; i++) {
+                stepMetrics.addStepMetrics(chunk);
+            }
+            done.set(true);
+        });
+        writer.start();
+        while (!done.get()) {
+            final long[] values = stepMetrics.getValues();
+            Assertions.assertEquals(values[Metric.MetricType.READ_COUNT.ordinal()],
+                    values[Metric.MetricType.WRITE_COUNT.ordinal()]);
+        }
+        writer.join();
+        Assertions.assertEquals(200000, stepMetrics.get(Metric.MetricType.WRITE_COUNT));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.batch.api.chunk.AbstractItemReader;
+import jakarta.batch.api.chunk.AbstractItemWriter;
+import jakarta.batch.api.chunk.ItemProcessor;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.inject.Inject;
+import jakarta.transaction.TransactionManager;
+
+import org.jberet.creation.ArtifactCreationContext;
+import org.jberet.operations.JobOperatorImpl;
+import org.jberet.repository.InMemoryRepository;
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.spi.ArtifactFactory;
+import org.jberet.spi.BatchEnvironment;
+import org.jberet.spi.JobTask;
+import org.jberet.spi.JobXmlResolver;
+import org.jberet.tools.MetaInfBatchJobsJobXmlResolver;
+import org.jberet.tx.LocalTransactionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ChunkHelperTaskTest {
+    private static final int ITEMS = 40;
+
+    /**
+     * Context class loader of the job thread, which is expected in helper threads as well.
+     */
+    static final ClassLoader jobClassLoader = new URLClassLoader(new URL[0], ChunkHelperTaskTest.class.getClassLoader());
+
+    static final Queue<String> failures = new ConcurrentLinkedQueue<String>();
+    static final Set<Thread> processorThreads = new CopyOnWriteArraySet<Thread>();
+    static final Set<Thread> writerThreads = new CopyOnWriteArraySet<Thread>();
+    static final AtomicInteger written = new AtomicInteger();
+
+    /**
+     * Whether the reader and writer wait for each other, so that an item is read while the first chunk is written
+     */
+    static volatile boolean awaitOverlap;
+    static volatile CountDownLatch writeStarted;
+    static volatile CountDownLatch readDuringWrite;
+    static volatile boolean overlapped;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        executor.shutdownNow();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void parallelProcessing() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("processor.threads", "4");
+        runJob(params);
+        processorThreads.removeAll(writerThreads);
+        Assertions.assertFalse(processorThreads.isEmpty(), "No item processed by helper tasks");
+    }
+
+    @Test
+    public void pipelined() throws Exception {
+        final Properties params = new Properties();
+        params.setProperty("pipelined", "true");
+        awaitOverlap = true;
+        try {
+            runJob(params);
+        } finally {
+            awaitOverlap = false;
+        }
+        Assertions.assertTrue(overlapped, "No item read while the first chunk was written");
+
+        //items are read and processed by the read-ahead task only
+        processorThreads.retainAll(writerThreads);
+        Assertions.assertEquals(Set.of(), processorThreads);
+    }
+
+    private void runJob(final Properties params) throws Exception {
+        writeStarted = new CountDownLatch(1);
+        readDuringWrite = new CountDownLatch(1);
+        overlapped = false;
+        failures.clear();
+        processorThreads.clear();
+        writerThreads.clear();
+        written.set(0);
+
+        final Thread testThread = Thread.currentThread();
+        final JobOperatorImpl operator = new JobOperatorImpl(new TestBatchEnvironment() {
+            @Override
+            public void submitTask(final JobTask task) {
+                //helper threads start with no context class loader, and get the one of the job thread
+                final ClassLoader cl = Thread.currentThread() == testThread ? jobClassLoader : null;
+                executor.execute(() -> {
+                    Thread.currentThread().setContextClassLoader(cl);
+                    task.run();
+                });
+            }
+        });
+        final long id = operator.start("chunk-helper-context", params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) operator.getJobExecution(id);
+        jobExecution.awaitTermination(30, TimeUnit.SECONDS);
+        Assertions.assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        Assertions.assertEquals(ITEMS, written.get());
+        Assertions.assertEquals(List.of(), List.copyOf(failures));
+    }
+
+    public static final class Reader extends AbstractItemReader {
+        @Inject
+        StepContext stepContext;
+
+        private int count;
+
+        @Override
+        public Object readItem() throws Exception {
+            checkContext(stepContext, "read", count);
+            if (awaitOverlap && count == 10) {
+                //the first item of the second chunk is read once the first chunk is being written
+                if (writeStarted.await(10, TimeUnit.SECONDS)) {
+                    readDuringWrite.countDown();
+                }
+            }
+            return count++ < ITEMS ? count : null;
+        }
+    }
+
+    public static final class Processor implements ItemProcessor {
+        @Inject
+        StepContext stepContext;
+
+        @Override
+        public Object processItem(final Object item) throws Exception {
+            processorThreads.add(Thread.currentThread());
+            checkContext(stepContext, "process", item);
+            //let helper tasks claim some of the items
+            Thread.sleep(5);
+            return item;
+        }
+    }
+
+    public static final class Writer extends AbstractItemWriter {
+        @Override
+        public void writeItems(final List<Object> items) throws Exception {
+            writerThreads.add(Thread.currentThread());
+            if (awaitOverlap && writeStarted.getCount() > 0) {
+                writeStarted.countDown();
+                overlapped = readDuringWrite.await(10, TimeUnit.SECONDS);
+            }
+            written.addAndGet(items.size());
+        }
+    }
+
+    private static void checkContext(final StepContext stepContext, final String action, final Object item) {
+        if (ArtifactCreationContext.getCurrentArtifactCreationContext().getStepContext() != stepContext) {
+            failures.add("No step context to " + action + " item " + item + " in " + Thread.currentThread());
+        }
+        if (Thread.currentThread().getContextClassLoader() != jobClassLoader) {
+            failures.add("No context class loader to " + action + " item " + item + " in " + Thread.currentThread());
+        }
+    }
+
+    private abstract class TestBatchEnvironment implements BatchEnvironment {
+        private final JobRepository jobRepository = InMemoryRepository.create();
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return ChunkHelperTaskTest.class.getClassLoader();
+        }
+
+        @Override
+        public ArtifactFactory getArtifactFactory() {
+            return new ArtifactFactory() {
+                @Override
+                public Object create(final String ref, final Class<?> cls, final ClassLoader classLoader) {
+                    return null;
+                }
+
+                @Override
+                public void destroy(final Object instance) {
+                }
+
+                @Override
+                public Class<?> getArtifactClass(final String ref, final ClassLoader classLoader) {
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public TransactionManager getTransactionManager() {
+            return LocalTransactionManager.getInstance();
+        }
+
+        @Override
+        public JobRepository getJobRepository() {
+            return jobRepository;
+        }
+
+        @Override
+        public JobXmlResolver getJobXmlResolver() {
+            return new MetaInfBatchJobsJobXmlResolver();
+        }
+
+        @Override
+        public Properties getBatchConfigurationProperties() {
+            return new Properties();
+        }
+
+        @Override
+        public String getApplicationName() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.runtime.runner;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import jakarta.batch.api.chunk.AbstractItemReader;
+import jakarta.batch.api.chunk.AbstractItemWriter;
+import jakarta.batch.api.partition.AbstractPartitionAnalyzer;
+import jakarta.batch.api.partition.PartitionCollector;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.transaction.TransactionManager;
+
+import org.jberet.operations.JobOperatorImpl;
+import org.jberet.repository.InMemoryRepository;
+import org.jberet.repository.JobRepository;
+import org.jberet.runtime.JobExecutionImpl;
+import org.jberet.spi.ArtifactFactory;
+import org.jberet.spi.BatchEnvironment;
+import org.jberet.spi.CoalescingPartitionAnalyzer;
+import org.jberet.spi.JobTask;
+import org.jberet.spi.JobXmlResolver;
+import org.jberet.tools.MetaInfBatchJobsJobXmlResolver;
+import org.jberet.tx.LocalTransactionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PartitionCollectorTest {
+    private static final int PARTITIONS = 4;
+    private static final int ITEMS = 50;
+
+    static volatile CountDownLatch closedReaders;
+    static final AtomicInteger collected = new AtomicInteger();
+    static final AtomicInteger analyzed = new AtomicInteger();
+    static final AtomicInteger coalesced = new AtomicInteger();
+    static final AtomicInteger analyzedStatuses = new AtomicInteger();
+
+    /**
+     * Counted down by the collector after the first analyzer call, so that collector data pile up in the queue.
+     */
+    static volatile CountDownLatch moreCollected;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void afterEach() throws Exception {
+        executor.shutdownNow();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void analyzerFailureDoesNotBlockPartitions() throws Exception {
+        reset();
+        final JobExecutionImpl jobExecution = runJob(FailingAnalyzer.class, "1");
+        Assertions.assertEquals(BatchStatus.FAILED, jobExecution.getBatchStatus());
+
+        //partitions still reporting collector data to the full queue must finish
+        Assertions.assertTrue(closedReaders.await(10, TimeUnit.SECONDS), "Partitions not finished");
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS), "Partition threads not finished");
+    }
+
+    @Test
+    public void coalescingAnalyzer() throws Exception {
+        reset();
+        final JobExecutionImpl jobExecution = runJob(SummingAnalyzer.class, "");
+        Assertions.assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+
+        //all collector data are analyzed once, some of them combined
+        Assertions.assertEquals(collected.get(), analyzed.get());
+        Assertions.assertTrue(coalesced.get() > 0, "Collector data not coalesced");
+        Assertions.assertEquals(PARTITIONS, analyzedStatuses.get());
+    }
+
+    private static void reset() {
+        closedReaders = new CountDownLatch(PARTITIONS);
+        moreCollected = new CountDownLatch(PARTITIONS);
+        collected.set(0);
+        analyzed.set(0);
+        coalesced.set(0);
+        analyzedStatuses.set(0);
+    }
+
+    private JobExecutionImpl runJob(final Class<?> analyzer, final String capacity) throws Exception {
+        final JobOperatorImpl operator = new JobOperatorImpl(new TestBatchEnvironment());
+        final Properties params = new Properties();
+        params.setProperty("analyzer", analyzer.getName());
+        params.setProperty("capacity", capacity);
+        final long id = operator.start("partition-collector", params);
+        final JobExecutionImpl jobExecution = (JobExecutionImpl) operator.getJobExecution(id);
+        jobExecution.awaitTermination(30, TimeUnit.SECONDS);
+        return jobExecution;
+    }
+
+    public static final class Reader extends AbstractItemReader {
+        private int count;
+
+        @Override
+        public Object readItem() {
+            return count++ < ITEMS ? count : null;
+        }
+
+        @Override
+        public void close() {
+            closedReaders.countDown();
+        }
+    }
+
+    public static final class Writer extends AbstractItemWriter {
+        @Override
+        public void writeItems(final List<Object> items) {
+        }
+    }
+
+    public static final class Collector implements PartitionCollector {
+        @Override
+        public Serializable collectPartitionData() {
+            if (analyzed.get() > 0) {
+                moreCollected.countDown();
+            }
+            collected.incrementAndGet();
+            return 1;
+        }
+    }
+
+    public static final class FailingAnalyzer extends AbstractPartitionAnalyzer {
+        @Override
+        public void analyzeCollectorData(final Serializable data) {
+            throw new IllegalStateException("Analyzer failure");
+        }
+    }
+
+    public static final class SummingAnalyzer extends AbstractPartitionAnalyzer implements CoalescingPartitionAnalyzer {
+        @Override
+        public void analyzeCollectorData(final Serializable data) throws Exception {
+            if (analyzed.getAndAdd((Integer) data) == 0) {
+                //let other collector data arrive together
+                moreCollected.await(10, TimeUnit.SECONDS);
+            }
+        }
+
+        @Override
+        public void analyzeStatus(final BatchStatus batchStatus, final String exitStatus) {
+            analyzedStatuses.incrementAndGet();
+        }
+
+        @Override
+        public Serializable coalesceCollectorData(final List<Serializable> collectorData) {
+            coalesced.incrementAndGet();
+            int sum = 0;
+            for (final Serializable data : collectorData) {
+                sum += (Integer) data;
+            }
+            return sum;
+        }
+    }
+
+    private final class TestBatchEnvironment implements BatchEnvironment {
+        private final JobRepository jobRepository = InMemoryRepository.create();
+
+        @Override
+        public ClassLoader getClassLoader() {
+            return PartitionCollectorTest.class.getClassLoader();
+        }
+
+        @Override
+        public ArtifactFactory getArtifactFactory() {
+            return new ArtifactFactory() {
+                @Override
+                public Object create(final String ref, final Class<?> cls, final ClassLoader classLoader) {
+                    return null;
+                }
+
+                @Override
+                public void destroy(final Object instance) {
+                }
+
+                @Override
+                public Class<?> getArtifactClass(final String ref, final ClassLoader classLoader) {
+                    return null;
+                }
+            };
+        }
+
+        @Override
+        public void submitTask(final JobTask task) {
+            executor.execute(task);
+        }
+
+        @Override
+        public TransactionManager getTransactionManager() {
+            return LocalTransactionManager.getInstance();
+        }
+
+        @Override
+        public JobRepository getJobRepository() {
+            return jobRepository;
+        }
+
+        @Override
+        public JobXmlResolver getJobXmlResolver() {
+            return new MetaInfBatchJobsJobXmlResolver();
+        }
+
+        @Override
+        public Properties getBatchConfigurationProperties() {
+            return new Properties();
+        }
+
+        @Override
+        public String getApplicationName() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JobExecutorTest {
+    /**
+     * Delegate executor that keeps submitted tasks until they are run by the test.
+     */
+    private final Deque<Runnable> started = new ArrayDeque<Runnable>();
+
+    private final List<String> runOrder = new ArrayList<String>();
+
+    @Test
+    public void tasksWaitForPermits() {
+        final JobExecutor executor = newJobExecutor(2, new FifoJobTaskScheduler());
+        executor.execute(task("a1", 1, 0));
+        executor.execute(task("a2", 1, 0));
+        executor.execute(task("a3", 1, 0));
+        Assertions.assertEquals(2, started.size());
+
+        runNext();
+        Assertions.assertEquals(2, started.size());
+        runNext();
+        runNext();
+        Assertions.assertEquals(List.of("a1", "a2", "a3"), runOrder);
+        Assertions.assertTrue(started.isEmpty());
+    }
+
+    @Test
+    public void tasksRequiringRemainingPermitsNeverUseAllPermits() {
+        final JobExecutor executor = newJobExecutor(3, new FifoJobTaskScheduler());
+        executor.execute(task("job1", 1, 2));
+        executor.execute(task("job2", 2, 2));
+        executor.execute(task("job3", 3, 2));
+        //only 2 jobs may run at the same time, so that their partitions can run
+        Assertions.assertEquals(2, started.size());
+        executor.execute(task("p1", 1, 0));
+        Assertions.assertEquals(3, started.size());
+
+        runNext();
+        Assertions.assertEquals(3, started.size());
+        runNext();
+        runNext();
+        runNext();
+        Assertions.assertEquals(List.of("job1", "job2", "p1", "job3"), runOrder);
+    }
+
+    @Test
+    public void fairShareSchedulerInterleavesJobExecutions() {
+        final JobExecutor executor = newJobExecutor(1, new FairShareJobTaskScheduler());
+        for (int i = 1; i <= 4; i++) {
+            executor.execute(task("a" + i, 1, 0));
+        }
+        executor.execute(task("b1", 2, 0));
+        executor.execute(task("b2", 2, 0));
+        while (!started.isEmpty()) {
+            runNext();
+        }
+        Assertions.assertEquals(List.of("a1", "a2", "b1", "a3", "b2", "a4"), runOrder);
+    }
+
+    @Test
+    public void fairShareSchedulerHonorsPriorityAndWeight() {
+        final FairShareJobTaskScheduler scheduler = new FairShareJobTaskScheduler();
+        for (int i = 1; i <= 6; i++) {
+            scheduler.add(task("a" + i, 1, 0, 0, 2));
+        }
+        for (int i = 1; i <= 3; i++) {
+            scheduler.add(task("b" + i, 2, 0, 0, 1));
+        }
+        scheduler.add(task("c1", 3, 0, 1, 1));
+
+        final List<String> order = new ArrayList<String>();
+        JobTask next;
+        while ((next = scheduler.poll(Integer.MAX_VALUE)) != null) {
+            order.add(next.toString());
+        }
+        Assertions.assertEquals(List.of("c1", "a1", "b1", "a2", "a3", "b2", "a4", "a5", "b3", "a6"), order);
+    }
+
+    @Test
+    public void schedulerSkipsTasksRequiringMorePermits() {
+        final FairShareJobTaskScheduler scheduler = new FairShareJobTaskScheduler();
+        scheduler.add(task("job2", 2, 2));
+        scheduler.add(task("p1", 1, 0));
+        Assertions.assertEquals("p1", scheduler.poll(1).toString());
+        Assertions.assertNull(scheduler.poll(1));
+        Assertions.assertEquals("job2", scheduler.poll(2).toString());
+    }
+
+    private void runNext() {
+        started.poll().run();
+    }
+
+    private JobExecutor newJobExecutor(final int maxPoolSize, final JobTaskScheduler scheduler) {
+        return new JobExecutor(new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                started.add(command);
+            }
+        }, scheduler) {
+            @Override
+            protected int getMaximumPoolSize() {
+                return maxPoolSize;
+            }
+        };
+    }
+
+    private JobTask task(final String name, final long jobExecutionId, final int requiredRemainingPermits) {
+        return task(name, jobExecutionId, requiredRemainingPermits, 0, 1);
+    }
+
+    private JobTask task(final String name, final long jobExecutionId, final int requiredRemainingPermits,
+                         final int priority, final int weight) {
+        return new JobTask() {
+            @Override
+            public int getRequiredRemainingPermits() {
+                return requiredRemainingPermits;
+            }
+
+            @Override
+            public long getJobExecutionId() {
+                return jobExecutionId;
+            }
+
+            @Override
+            public int getSchedulingPriority() {
+                return priority;
+            }
+
+            @Override
+            public int getSchedulingWeight() {
+                return weight;
+            }
+
+            @Override
+            public void run() {
+                runOrder.add(name);
+            }
+
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.spi;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import jakarta.batch.runtime.StepExecution;
+import jakarta.batch.runtime.context.StepContext;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PartitionSchedulingPolicyTest {
+    @Test
+    public void inOrder() {
+        final PartitionSchedulingPolicy policy = new InOrderPartitionSchedulingPolicy();
+        policy.init(stepContext(null), partitions("5", null, "9"), 2);
+        Assertions.assertEquals(List.of(0, 1, 2), startAll(policy, 3));
+        Assertions.assertEquals(2, policy.getThreads());
+    }
+
+    @Test
+    public void largestFirst() {
+        final PartitionSchedulingPolicy policy = new LargestFirstPartitionSchedulingPolicy();
+        policy.init(stepContext(null), partitions("5", null, "9", "invalid", "5", "100"), 2);
+        Assertions.assertEquals(List.of(5, 2, 0, 4, 1, 3), startAll(policy, 6));
+    }
+
+    @Test
+    public void adaptiveThreadsStayWithinBounds() {
+        final Properties stepProperties = new Properties();
+        stepProperties.setProperty(PropertyKey.PARTITION_MAX_THREADS, "3");
+        final PartitionSchedulingPolicy policy = new AdaptivePartitionSchedulingPolicy();
+        policy.init(stepContext(stepProperties), partitions(new String[20]), 2);
+        Assertions.assertEquals(2, policy.getThreads());
+
+        final StepExecution partitionExecution = stepExecution();
+        for (int i = 0; i < 20; i++) {
+            policy.partitionEnded(partitionExecution);
+            Assertions.assertTrue(policy.getThreads() >= 1 && policy.getThreads() <= 3,
+                    "Threads: " + policy.getThreads());
+        }
+    }
+
+    @Test
+    public void adaptiveThreadsDefaultToPartitionPlan() {
+        final PartitionSchedulingPolicy policy = new AdaptivePartitionSchedulingPolicy();
+        policy.init(stepContext(null), partitions(new String[4]), 4);
+        Assertions.assertEquals(4, policy.getThreads());
+        final StepExecution partitionExecution = stepExecution();
+        for (int i = 0; i < 4; i++) {
+            policy.partitionEnded(partitionExecution);
+        }
+        Assertions.assertEquals(3, policy.getThreads());
+    }
+
+    private static List<Integer> startAll(final PartitionSchedulingPolicy policy, final int numOfPartitions) {
+        final List<Integer> started = new ArrayList<Integer>();
+        for (int i = 0; i < numOfPartitions; i++) {
+            started.add(policy.nextPartition());
+        }
+        return started;
+    }
+
+    private static List<Properties> partitions(final String... sizes) {
+        final List<Properties> partitions = new ArrayList<Properties>();
+        for (final String size : sizes) {
+            if (size == null) {
+                partitions.add(null);
+            } else {
+                final Properties props = new Properties();
+                props.setProperty(PropertyKey.PARTITION_SIZE, size);
+                partitions.add(props);
+            }
+        }
+        return partitions;
+    }
+
+    private static StepContext stepContext(final Properties stepProperties) {
+        return (StepContext) Proxy.newProxyInstance(StepContext.class.getClassLoader(), new Class<?>[]{StepContext.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getProperties")) {
+                        return stepProperties;
+                    }
+                    if (method.getName().equals("getStepName")) {
+                        return "step1";
+                    }
+                    return null;
+                });
+    }
+
+    private static StepExecution stepExecution() {
+        return (StepExecution) Proxy.newProxyInstance(StepExecution.class.getClassLoader(), new Class<?>[]{StepExecution.class},
+                (proxy, method, args) -> null);
+    }
+}
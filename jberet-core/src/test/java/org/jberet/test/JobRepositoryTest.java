@@ -13,6 +13,8 @@ package org.jberet.test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Properties;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.JobInstance;
 import javax.transaction.xa.XAResource;
 
 import jakarta.transaction.HeuristicMixedException;
@@ -198,4 +200,59 @@ public class JobRepositoryTest {
         Assertions.assertEquals(1, jobExecutions.size());
     }
 
+
+    @Test
+    public void getJobInstancesAndExecutionsByPage() throws Exception {
+        final String jobId = "chunk-parent";
+        final Job job = ArchiveXmlLoader.loadJobXml(jobId, this.getClass().getClassLoader(), new ArrayList<Job>(), new MetaInfBatchJobsJobXmlResolver());
+        repo.addJob(new ApplicationAndJobName(null, jobId), job);
+        final List<Long> jobInstanceIds = new ArrayList<Long>();
+        final List<Long> jobExecutionIds = new ArrayList<Long>();
+        for (int i = 0; i < 5; i++) {
+            JobInstanceImpl jobInstance = repo.createJobInstance(job, null, this.getClass().getClassLoader());
+            JobExecutionImpl jobExecution = repo.createJobExecution(jobInstance, null);
+            jobInstanceIds.add(0, jobInstance.getInstanceId());
+            jobExecutionIds.add(0, jobExecution.getExecutionId());
+        }
+
+        final List<JobInstance> page = repo.getJobInstances(jobId, 1, 2);
+        Assertions.assertEquals(2, page.size());
+        Assertions.assertEquals(jobInstanceIds.get(1).longValue(), page.get(0).getInstanceId());
+        Assertions.assertEquals(jobInstanceIds.get(2).longValue(), page.get(1).getInstanceId());
+        Assertions.assertEquals(1, repo.getJobInstances(jobId, 4, 10).size());
+        Assertions.assertTrue(repo.getJobInstances(jobId, 5, 10).isEmpty());
+
+        Assertions.assertEquals(jobExecutionIds.subList(3, 5), repo.getJobExecutionsByJob(jobId, 3, 10));
+        Assertions.assertEquals(jobExecutionIds.subList(0, 2), repo.getJobExecutionsByJob(jobId, 0, 2));
+    }
+
+    @Test
+    public void inMemoryRepositoryIndexes() throws Exception {
+        final JobRepository repo = InMemoryRepository.create();
+        final ClassLoader classLoader = this.getClass().getClassLoader();
+        final Job job1 = ArchiveXmlLoader.loadJobXml("chunk-parent", classLoader, new ArrayList<Job>(), new MetaInfBatchJobsJobXmlResolver());
+        final Job job2 = ArchiveXmlLoader.loadJobXml("exception-class-filter", classLoader, new ArrayList<Job>(), new MetaInfBatchJobsJobXmlResolver());
+        final JobInstanceImpl instance1 = repo.createJobInstance(job1, null, classLoader);
+        final JobExecutionImpl execution1 = repo.createJobExecution(instance1, null);
+        final JobInstanceImpl instance2 = repo.createJobInstance(job2, null, classLoader);
+        final JobExecutionImpl execution2 = repo.createJobExecution(instance2, null);
+        final JobExecutionImpl execution3 = repo.createJobExecution(instance1, null);
+
+        Assertions.assertEquals(1, repo.getJobInstanceCount(job1.getId()));
+        Assertions.assertEquals(List.of(execution3.getExecutionId(), execution1.getExecutionId()), repo.getJobExecutionsByJob(job1.getId()));
+        Assertions.assertEquals(2, repo.getJobInstances("*").size());
+        Assertions.assertEquals(instance2.getInstanceId(), repo.getJobInstances("*").get(0).getInstanceId());
+
+        execution1.setBatchStatus(BatchStatus.STARTED);
+        execution3.setBatchStatus(BatchStatus.COMPLETED);
+        repo.updateJobExecution(execution3, false, false);
+        Assertions.assertEquals(List.of(execution1.getExecutionId()), repo.getRunningExecutions(job1.getId()));
+
+        repo.removeJob(job1.getId());
+        Assertions.assertEquals(0, repo.getJobInstanceCount(job1.getId()));
+        Assertions.assertTrue(repo.getJobExecutionsByJob(job1.getId()).isEmpty());
+        Assertions.assertTrue(repo.getRunningExecutions(job1.getId()).isEmpty());
+        Assertions.assertNull(repo.getJobExecution(execution1.getExecutionId()));
+        Assertions.assertEquals(List.of(execution2.getExecutionId()), repo.getJobExecutionsByJob(job2.getId()));
+    }
 }
@@ -261,6 +261,23 @@ public class PurgeBatchlet implements Batchlet {
     @BatchProperty
     protected Set<String> purgeJobsByNames;
 
+    /**
+     * Specifies the maximum number of job executions removed in one transaction from jdbc job repository.
+     * If this property is present, job executions selected by the other batch properties in this class
+     * are removed from the database tables with set-based sql statements, in chunks of this size, instead
+     * of being selected one by one. The job execution running this batchlet is never removed this way.
+     * Valid values are from 1 to {@value org.jberet.repository.JdbcRepository#MAX_PURGE_CHUNK_SIZE}.
+     * <p>
+     * This property is only applicable for jdbc job repository, and is ignored when
+     * {@link #jobExecutionSelector} is specified.
+     *
+     * @see JdbcRepository#removeJobExecutions(DefaultJobExecutionSelector, int)
+     * @since 3.2.0
+     */
+    @Inject
+    @BatchProperty
+    protected Integer purgeChunkSize;
+
     @Override
     public String process() throws Exception {
         final JobContextImpl jobContextImpl = (JobContextImpl) jobContext;
@@ -278,6 +295,7 @@ public class PurgeBatchlet implements Batchlet {
             }
         } else {
             final JobExecutionSelector selector;
+            JdbcRepository jdbcRepository = null;
             if (jobExecutionSelector != null) { //use the custom selector configured by the application
                 selector = (JobExecutionSelector) jobExecutionSelector.getDeclaredConstructor().newInstance();
             } else {
@@ -293,10 +311,18 @@ public class PurgeBatchlet implements Batchlet {
                 selector1.exitStatuses = exitStatuses;
                 selector1.jobExecutionsByJobNames = jobExecutionsByJobNames;
                 selector = selector1;
+                if (purgeChunkSize != null) {
+                    jdbcRepository = getJdbcRepository(jobRepository);
+                }
             }
             selector.setJobContext(jobContext);
             selector.setStepContext(stepContext);
-            jobRepository.removeJobExecutions(selector);
+            if (jdbcRepository != null) {
+                //remove matching rows in chunks with set-based sql, instead of selecting each job execution
+                jdbcRepository.removeJobExecutions((DefaultJobExecutionSelector) selector, purgeChunkSize);
+            } else {
+                jobRepository.removeJobExecutions(selector);
+            }
         }
 
         if (sql != null) {
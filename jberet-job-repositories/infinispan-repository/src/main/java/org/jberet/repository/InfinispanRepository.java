@@ -17,6 +17,7 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Properties;
 import java.util.stream.Collectors;
 
@@ -137,6 +138,22 @@ public final class InfinispanRepository extends AbstractRepository {
         return result;
     }
 
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        final List<JobInstance> result = new ArrayList<JobInstance>();
+        final long largestJobInstanceId = sequenceCache.get(TableColumns.JOB_INSTANCE_ID_SEQ);
+
+        final boolean selectAll = jobName == null || jobName.equals("*");
+        int skipped = 0;
+        for (long i = largestJobInstanceId; i > 0 && result.size() < count; i--) {
+            final JobInstanceImpl e = jobInstanceCache.get(i);
+            if (e != null && (selectAll || jobName.equals(e.getJobName())) && skipped++ >= start) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
     @Override
     public int getJobInstanceCount(final String jobName) {
         int count = 0;
@@ -316,6 +333,59 @@ public final class InfinispanRepository extends AbstractRepository {
         return stream.collect(Collectors.toList());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Job executions are found from the job instances of the job, as in {@link #getJobInstances(String, int, int)},
+     * keeping only the {@code start + count} most recent job execution ids, instead of streaming all job executions
+     * of all jobs. Since a restart of an older job instance may be more recent than the job executions of newer job
+     * instances, all job instances of the job are still visited.
+     */
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final int start, final int count) {
+        final int skip = Math.max(start, 0);
+        if (count <= 0) {
+            return new ArrayList<Long>();
+        }
+        final long keep = (long) skip + count;
+        final PriorityQueue<Long> mostRecent = new PriorityQueue<Long>();
+        final long largestJobInstanceId = sequenceCache.get(TableColumns.JOB_INSTANCE_ID_SEQ);
+
+        for (long i = largestJobInstanceId; i > 0; i--) {
+            final JobInstanceImpl e = jobInstanceCache.get(i);
+            if (e != null && jobName.equals(e.getJobName())) {
+                final List<JobExecution> jobExecutions = e.getJobExecutions();
+                if (jobExecutions.isEmpty()) {
+                    //job executions are not kept with this job instance, e.g., when it is loaded from a cache store
+                    return selectJobExecutionsByJob(jobName, skip, count);
+                }
+                for (final JobExecution jobExecution : jobExecutions) {
+                    //removed job executions are still listed in their job instance
+                    final long id = jobExecution.getExecutionId();
+                    if ((mostRecent.size() < keep || id > mostRecent.peek()) && jobExecutionCache.containsKey(id)) {
+                        mostRecent.add(id);
+                        if (mostRecent.size() > keep) {
+                            mostRecent.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        final List<Long> result = new ArrayList<Long>(mostRecent);
+        result.sort(Comparator.reverseOrder());
+        return skip >= result.size() ? new ArrayList<Long>() : new ArrayList<Long>(result.subList(skip, result.size()));
+    }
+
+    private List<Long> selectJobExecutionsByJob(final String jobName, final int start, final int count) {
+        return jobExecutionCache.values().stream().filter(e -> e.getJobName().equals(jobName))
+                .map(JobExecution::getExecutionId)
+                .sorted(Comparator.reverseOrder())
+                .skip(start)
+                .limit(count)
+                .collect(Collectors.toList());
+    }
+
     @Override
     void insertJobInstance(final JobInstanceImpl jobInstance) {
         final long jobInstanceId = getNextIdFor(TableColumns.JOB_INSTANCE_ID_SEQ);
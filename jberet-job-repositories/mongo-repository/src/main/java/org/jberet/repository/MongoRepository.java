@@ -111,13 +111,34 @@ public final class MongoRepository extends AbstractPersistentRepository {
 
     @Override
     public List<JobInstance> getJobInstances(final String jobName) {
-        final List<JobInstance> result = new ArrayList<JobInstance>();
         final boolean selectAll = jobName == null || jobName.equals("*");
         final FindIterable<DBObject> findIterable = selectAll ?
                 db.getCollection(TableColumns.JOB_INSTANCE, DBObject.class).find() :
                 db.getCollection(TableColumns.JOB_INSTANCE, DBObject.class).find(new BasicDBObject(TableColumns.JOBNAME, jobName)).sort(
                         new BasicDBObject(TableColumns.JOBINSTANCEID, -1));
+        return toJobInstances(findIterable, jobName, selectAll);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The query skips and limits the job instances in the database, so only the requested job instances are loaded.
+     */
+    @Override
+    public List<JobInstance> getJobInstances(final String jobName, final int start, final int count) {
+        final boolean selectAll = jobName == null || jobName.equals("*");
+        final MongoCollection<DBObject> collection = db.getCollection(TableColumns.JOB_INSTANCE, DBObject.class);
+        final FindIterable<DBObject> findIterable = (selectAll ? collection.find() :
+                collection.find(new BasicDBObject(TableColumns.JOBNAME, jobName)))
+                .sort(new BasicDBObject(TableColumns.JOBINSTANCEID, -1))
+                .skip(Math.max(start, 0))
+                .limit(Math.max(count, 0));
+        return count > 0 ? toJobInstances(findIterable, jobName, selectAll) : new ArrayList<JobInstance>();
+    }
 
+    private List<JobInstance> toJobInstances(final FindIterable<DBObject> findIterable,
+                                             final String jobName, final boolean selectAll) {
+        final List<JobInstance> result = new ArrayList<JobInstance>();
         final MongoCursor<DBObject> cursor = findIterable.iterator();
         while (cursor.hasNext()) {
             final DBObject next = cursor.next();
@@ -350,6 +371,41 @@ public final class MongoRepository extends AbstractPersistentRepository {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the ids of the job instances of the job are loaded, and the query of job executions skips and limits
+     * them in the database.
+     */
+    @Override
+    public List<Long> getJobExecutionsByJob(final String jobName, final int start, final int count) {
+        final List<Long> result = new ArrayList<Long>();
+        if (count <= 0) {
+            return result;
+        }
+        final BasicDBList jobInstanceIds = new BasicDBList();
+        final MongoCursor<DBObject> instanceCursor = db.getCollection(TableColumns.JOB_INSTANCE, DBObject.class)
+                .find(new BasicDBObject(TableColumns.JOBNAME, jobName))
+                .projection(new BasicDBObject(TableColumns.JOBINSTANCEID, 1)).iterator();
+        while (instanceCursor.hasNext()) {
+            jobInstanceIds.add(instanceCursor.next().get(TableColumns.JOBINSTANCEID));
+        }
+        if (jobInstanceIds.isEmpty()) {
+            return result;
+        }
+
+        final MongoCursor<DBObject> cursor = db.getCollection(TableColumns.JOB_EXECUTION, DBObject.class)
+                .find(new BasicDBObject(TableColumns.JOBINSTANCEID, new BasicDBObject("$in", jobInstanceIds)))
+                .projection(new BasicDBObject(TableColumns.JOBEXECUTIONID, 1))
+                .sort(new BasicDBObject(TableColumns.JOBEXECUTIONID, -1))
+                .skip(Math.max(start, 0))
+                .limit(count).iterator();
+        while (cursor.hasNext()) {
+            result.add((Long) cursor.next().get(TableColumns.JOBEXECUTIONID));
+        }
+        return result;
+    }
+
     @Override
     void insertStepExecution(final StepExecutionImpl stepExecution, final JobExecutionImpl jobExecution) {
         final Long nextId = incrementAndGetSequence(TableColumns.STEPEXECUTIONID);
@@ -364,27 +420,44 @@ public final class MongoRepository extends AbstractPersistentRepository {
 
     @Override
     public void updateStepExecution(final StepExecution stepExecution) {
-        final StepExecutionImpl stepExecutionImpl = (StepExecutionImpl) stepExecution;
+        updateStepExecution0((StepExecutionImpl) stepExecution, false);
+    }
+
+    /**
+     * Updates the step execution in job repository.
+     *
+     * @param stepExecution the step execution to update
+     * @param changedDataOnly if true, persistent user data, reader and writer checkpoint info are updated only if
+     *                        they have changed since last saved
+     */
+    private void updateStepExecution0(final StepExecutionImpl stepExecution, final boolean changedDataOnly) {
         try {
             final DBObject update = new BasicDBObject(TableColumns.ENDTIME, stepExecution.getEndTime());
             update.put(TableColumns.BATCHSTATUS, stepExecution.getBatchStatus().name());
             update.put(TableColumns.EXITSTATUS, stepExecution.getExitStatus());
-            update.put(TableColumns.EXECUTIONEXCEPTION, TableColumns.formatException(stepExecutionImpl.getException()));
-            update.put(TableColumns.PERSISTENTUSERDATA, stepExecutionImpl.getPersistentUserDataSerialized());
-            update.put(TableColumns.READCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_COUNT));
-            update.put(TableColumns.WRITECOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_COUNT));
-            update.put(TableColumns.COMMITCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.COMMIT_COUNT));
-            update.put(TableColumns.ROLLBACKCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.ROLLBACK_COUNT));
-            update.put(TableColumns.READSKIPCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.READ_SKIP_COUNT));
-            update.put(TableColumns.PROCESSSKIPCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.PROCESS_SKIP_COUNT));
-            update.put(TableColumns.FILTERCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.FILTER_COUNT));
-            update.put(TableColumns.WRITESKIPCOUNT, stepExecutionImpl.getStepMetrics().get(Metric.MetricType.WRITE_SKIP_COUNT));
-            update.put(TableColumns.READERCHECKPOINTINFO, stepExecutionImpl.getReaderCheckpointInfoSerialized());
-            update.put(TableColumns.WRITERCHECKPOINTINFO, stepExecutionImpl.getWriterCheckpointInfoSerialized());
+            update.put(TableColumns.EXECUTIONEXCEPTION, TableColumns.formatException(stepExecution.getException()));
+            if (!changedDataOnly || stepExecution.isPersistentUserDataChanged()) {
+                update.put(TableColumns.PERSISTENTUSERDATA, stepExecution.getPersistentUserDataSerialized());
+            }
+            update.put(TableColumns.READCOUNT, stepExecution.getStepMetrics().get(Metric.MetricType.READ_COUNT));
+            update.put(TableColumns.WRITECOUNT, stepExecution.getStepMetrics().get(Metric.MetricType.WRITE_COUNT));
+            update.put(TableColumns.COMMITCOUNT, stepExecution.getStepMetrics().get(Metric.MetricType.COMMIT_COUNT));
+            update.put(TableColumns.ROLLBACKCOUNT, stepExecution.getStepMetrics().get(Metric.MetricType.ROLLBACK_COUNT));
+            update.put(TableColumns.READSKIPCOUNT, stepExecution.getStepMetrics().get(Metric.MetricType.READ_SKIP_COUNT));
+            update.put(TableColumns.PROCESSSKIPCOUNT, stepExecution.getStepMetrics().get(Metric.MetricType.PROCESS_SKIP_COUNT));
+            update.put(TableColumns.FILTERCOUNT, stepExecution.getStepMetrics().get(Metric.MetricType.FILTER_COUNT));
+            update.put(TableColumns.WRITESKIPCOUNT, stepExecution.getStepMetrics().get(Metric.MetricType.WRITE_SKIP_COUNT));
+            if (!changedDataOnly || stepExecution.isReaderCheckpointInfoChanged()) {
+                update.put(TableColumns.READERCHECKPOINTINFO, stepExecution.getReaderCheckpointInfoSerialized());
+            }
+            if (!changedDataOnly || stepExecution.isWriterCheckpointInfoChanged()) {
+                update.put(TableColumns.WRITERCHECKPOINTINFO, stepExecution.getWriterCheckpointInfoSerialized());
+            }
 
             db.getCollection(TableColumns.STEP_EXECUTION, DBObject.class).updateOne(
                     new BasicDBObject(TableColumns.STEPEXECUTIONID, stepExecution.getStepExecutionId()),
                     new BasicDBObject("$set", update));
+            stepExecution.markPersistentDataSaved();
 
         } catch (final Exception e) {
             throw BatchMessages.MESSAGES.failToRunQuery(e, "updateStepExecution");
@@ -398,7 +471,7 @@ public final class MongoRepository extends AbstractPersistentRepository {
         super.savePersistentData(jobExecution, stepOrPartitionExecution);
         if (stepOrPartitionExecution instanceof StepExecutionImpl) {
             //stepExecution is for the main step, and should map to the STEP_EXECUTIOIN table
-            updateStepExecution(stepOrPartitionExecution);
+            updateStepExecution0((StepExecutionImpl) stepOrPartitionExecution, true);
         } else {
             //stepExecutionId is for a partition execution, and should map to the PARTITION_EXECUTION table
             //need to update PARTITION_EXECUTION
@@ -411,11 +484,19 @@ public final class MongoRepository extends AbstractPersistentRepository {
                 final DBObject update = new BasicDBObject(TableColumns.BATCHSTATUS, partitionExecution.getBatchStatus().name());
                 update.put(TableColumns.EXITSTATUS, partitionExecution.getExitStatus());
                 update.put(TableColumns.EXECUTIONEXCEPTION, TableColumns.formatException(partitionExecution.getException()));
-                update.put(TableColumns.PERSISTENTUSERDATA, partitionExecution.getPersistentUserDataSerialized());
-                update.put(TableColumns.READERCHECKPOINTINFO, partitionExecution.getReaderCheckpointInfoSerialized());
-                update.put(TableColumns.WRITERCHECKPOINTINFO, partitionExecution.getWriterCheckpointInfoSerialized());
+                //only set persistent user data, reader and writer checkpoint info that have changed since last saved
+                if (partitionExecution.isPersistentUserDataChanged()) {
+                    update.put(TableColumns.PERSISTENTUSERDATA, partitionExecution.getPersistentUserDataSerialized());
+                }
+                if (partitionExecution.isReaderCheckpointInfoChanged()) {
+                    update.put(TableColumns.READERCHECKPOINTINFO, partitionExecution.getReaderCheckpointInfoSerialized());
+                }
+                if (partitionExecution.isWriterCheckpointInfoChanged()) {
+                    update.put(TableColumns.WRITERCHECKPOINTINFO, partitionExecution.getWriterCheckpointInfoSerialized());
+                }
 
                 db.getCollection(TableColumns.PARTITION_EXECUTION, DBObject.class).updateOne(query, new BasicDBObject("$set", update));
+                partitionExecution.markPersistentDataSaved();
             } catch (final Exception e) {
                 throw BatchMessages.MESSAGES.failToRunQuery(e, "savePersistentData");
             }
@@ -33,8 +33,11 @@ import org.jberet.se._private.SEBatchLogger;
 import org.jberet.se._private.SEBatchMessages;
 import org.jberet.spi.ArtifactFactory;
 import org.jberet.spi.BatchEnvironment;
+import org.jberet.spi.FairShareJobTaskScheduler;
+import org.jberet.spi.FifoJobTaskScheduler;
 import org.jberet.spi.JobExecutor;
 import org.jberet.spi.JobTask;
+import org.jberet.spi.JobTaskScheduler;
 import org.jberet.spi.JobXmlResolver;
 import org.jberet.tools.ChainedJobXmlResolver;
 import org.jberet.tools.MetaInfBatchJobsJobXmlResolver;
@@ -63,6 +66,11 @@ public final class BatchSEEnvironment implements BatchEnvironment {
     private final JobXmlResolver jobXmlResolver;
     private final JobExecutor executor;
 
+    /**
+     * Shared by all job executions, so that resolved batch artifacts are cached across job executions.
+     */
+    private volatile SEArtifactFactory artifactFactory;
+
     private static final String PROP_PATTERN_STR = "\\$\\{([0-9a-zA-Z_\\-]+)(:([0-9a-zA-Z_\\-;:=/.]*))?\\}";
 
     private static final Pattern PROP_PATTERN = Pattern.compile(PROP_PATTERN_STR);
@@ -71,6 +79,7 @@ public final class BatchSEEnvironment implements BatchEnvironment {
     static final String THREAD_POOL_TYPE_CACHED = "Cached";
     static final String THREAD_POOL_TYPE_FIXED = "Fixed";
     static final String THREAD_POOL_TYPE_CONFIGURED = "Configured";
+    static final String THREAD_POOL_TYPE_VIRTUAL = "Virtual";
 
     static final String THREAD_POOL_CORE_SIZE = "thread-pool-core-size";
     static final String THREAD_POOL_MAX_SIZE = "thread-pool-max-size";
@@ -80,6 +89,12 @@ public final class BatchSEEnvironment implements BatchEnvironment {
     static final String THREAD_POOL_PRESTART_ALL_CORE_THREADS = "thread-pool-prestart-all-core-threads";
     static final String THREAD_POOL_REJECTION_POLICY = "thread-pool-rejection-policy";
     static final String THREAD_FACTORY = "thread-factory";
+    static final String THREAD_POOL_MAX_CONCURRENCY = "thread-pool-max-concurrency";
+
+    static final String TASK_SCHEDULER = "task-scheduler";
+    static final String TASK_SCHEDULER_FIFO = "Fifo";
+    static final String TASK_SCHEDULER_FAIR_SHARE = "FairShare";
+    static final String TASK_SCHEDULER_FAIR_SHARE_BY_APPLICATION = "FairShareByApplication";
 
     static final String DB_URL_KEY = "db-url";
     static final String DB_USER_KEY = "db-user";
@@ -118,13 +133,25 @@ public final class BatchSEEnvironment implements BatchEnvironment {
         }
         this.tm = LocalTransactionManager.getInstance();
 
-        final ThreadPoolExecutor threadPoolExecutor = createThreadPoolExecutor();
-        executor = new JobExecutor(threadPoolExecutor) {
-            @Override
-            protected int getMaximumPoolSize() {
-                return threadPoolExecutor.getMaximumPoolSize();
-            }
-        };
+        final String threadPoolType = configProperties.getProperty(THREAD_POOL_TYPE);
+        final JobTaskScheduler taskScheduler = createJobTaskScheduler();
+        if (threadPoolType != null && threadPoolType.trim().equalsIgnoreCase(THREAD_POOL_TYPE_VIRTUAL)) {
+            final VirtualThreadExecutor virtualThreadExecutor = createVirtualThreadExecutor();
+            executor = new JobExecutor(virtualThreadExecutor, taskScheduler) {
+                @Override
+                protected int getMaximumPoolSize() {
+                    return virtualThreadExecutor.getMaxConcurrency();
+                }
+            };
+        } else {
+            final ThreadPoolExecutor threadPoolExecutor = createThreadPoolExecutor();
+            executor = new JobExecutor(threadPoolExecutor, taskScheduler) {
+                @Override
+                protected int getMaximumPoolSize() {
+                    return threadPoolExecutor.getMaximumPoolSize();
+                }
+            };
+        }
         final ServiceLoader<JobXmlResolver> userJobXmlResolvers = ServiceLoader.load(JobXmlResolver.class, getClassLoader());
         this.jobXmlResolver = new ChainedJobXmlResolver(userJobXmlResolvers, DEFAULT_JOB_XML_RESOLVERS);
     }
@@ -170,7 +197,16 @@ public final class BatchSEEnvironment implements BatchEnvironment {
 
     @Override
     public ArtifactFactory getArtifactFactory() {
-        return new SEArtifactFactory();
+        SEArtifactFactory factory = artifactFactory;
+        if (factory == null) {
+            synchronized (this) {
+                factory = artifactFactory;
+                if (factory == null) {
+                    artifactFactory = factory = new SEArtifactFactory();
+                }
+            }
+        }
+        return factory;
     }
 
     @Override
@@ -203,18 +239,71 @@ public final class BatchSEEnvironment implements BatchEnvironment {
         return null;
     }
 
-    ThreadPoolExecutor createThreadPoolExecutor() {
-        String threadPoolType = configProperties.getProperty(THREAD_POOL_TYPE);
-        final String threadFactoryProp = configProperties.getProperty(THREAD_FACTORY);
-        final ThreadFactory threadFactory;
-        if (threadFactoryProp != null && !threadFactoryProp.isEmpty()) {
+    /**
+     * Creates the scheduler deciding the order in which tasks waiting for a thread are run, from
+     * {@value #TASK_SCHEDULER} property: {@value #TASK_SCHEDULER_FIFO} (the default),
+     * {@value #TASK_SCHEDULER_FAIR_SHARE}, {@value #TASK_SCHEDULER_FAIR_SHARE_BY_APPLICATION}, or the fully-qualified
+     * name of a class implementing {@code JobTaskScheduler}.
+     *
+     * @return the job task scheduler
+     */
+    JobTaskScheduler createJobTaskScheduler() {
+        final String schedulerProp = configProperties.getProperty(TASK_SCHEDULER);
+        if (schedulerProp == null || schedulerProp.isEmpty() || schedulerProp.trim().equalsIgnoreCase(TASK_SCHEDULER_FIFO)) {
+            return new FifoJobTaskScheduler();
+        }
+        final String scheduler = schedulerProp.trim();
+        if (scheduler.equalsIgnoreCase(TASK_SCHEDULER_FAIR_SHARE)) {
+            return new FairShareJobTaskScheduler(false);
+        }
+        if (scheduler.equalsIgnoreCase(TASK_SCHEDULER_FAIR_SHARE_BY_APPLICATION)) {
+            return new FairShareJobTaskScheduler(true);
+        }
+        try {
+            final Class<?> schedulerClass = getClassLoader().loadClass(scheduler);
+            return (JobTaskScheduler) schedulerClass.getDeclaredConstructor().newInstance();
+        } catch (final Exception e) {
+            throw SEBatchMessages.MESSAGES.failToGetConfigProperty(TASK_SCHEDULER, schedulerProp, e);
+        }
+    }
+
+    /**
+     * Creates the executor for {@value #THREAD_POOL_TYPE_VIRTUAL} thread-pool type, which runs each task on a new
+     * virtual thread, or on a new thread from the configured thread factory. The number of tasks running at the same
+     * time can be limited with {@value #THREAD_POOL_MAX_CONCURRENCY}, e.g., to protect the resources used by jobs;
+     * it is not limited by default.
+     *
+     * @return the executor running each task on a new thread
+     */
+    VirtualThreadExecutor createVirtualThreadExecutor() {
+        ThreadFactory threadFactory = createConfiguredThreadFactory();
+        if (threadFactory == null) {
             try {
-                final Class<?> threadFactoryClass = getClassLoader().loadClass(threadFactoryProp.trim());
-                threadFactory = (ThreadFactory) threadFactoryClass.getDeclaredConstructor().newInstance();
+                threadFactory = VirtualThreadExecutor.newVirtualThreadFactory();
             } catch (final Exception e) {
-                throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_FACTORY, threadFactoryProp, e);
+                throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_POOL_TYPE, THREAD_POOL_TYPE_VIRTUAL, e);
             }
-        } else {
+        }
+
+        final String maxConcurrencyProp = configProperties.getProperty(THREAD_POOL_MAX_CONCURRENCY);
+        int maxConcurrency = JobExecutor.UNBOUNDED;
+        if (maxConcurrencyProp != null && !maxConcurrencyProp.isEmpty()) {
+            try {
+                maxConcurrency = Integer.parseInt(maxConcurrencyProp.trim());
+            } catch (final Exception e) {
+                throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_POOL_MAX_CONCURRENCY, maxConcurrencyProp, e);
+            }
+            if (maxConcurrency <= 0) {
+                throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_POOL_MAX_CONCURRENCY, maxConcurrencyProp, null);
+            }
+        }
+        return new VirtualThreadExecutor(threadFactory, maxConcurrency);
+    }
+
+    ThreadPoolExecutor createThreadPoolExecutor() {
+        String threadPoolType = configProperties.getProperty(THREAD_POOL_TYPE);
+        ThreadFactory threadFactory = createConfiguredThreadFactory();
+        if (threadFactory == null) {
             threadFactory = new BatchThreadFactory();
         }
 
@@ -298,4 +387,17 @@ public final class BatchSEEnvironment implements BatchEnvironment {
 
         throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_POOL_TYPE, threadPoolType, null);
     }
+
+    private ThreadFactory createConfiguredThreadFactory() {
+        final String threadFactoryProp = configProperties.getProperty(THREAD_FACTORY);
+        if (threadFactoryProp != null && !threadFactoryProp.isEmpty()) {
+            try {
+                final Class<?> threadFactoryClass = getClassLoader().loadClass(threadFactoryProp.trim());
+                return (ThreadFactory) threadFactoryClass.getDeclaredConstructor().newInstance();
+            } catch (final Exception e) {
+                throw SEBatchMessages.MESSAGES.failToGetConfigProperty(THREAD_FACTORY, threadFactoryProp, e);
+            }
+        }
+        return null;
+    }
 }
\ No newline at end of file
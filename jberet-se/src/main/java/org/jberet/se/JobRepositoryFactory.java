@@ -12,6 +12,7 @@ package org.jberet.se;
 
 import java.util.Properties;
 
+import org.jberet._private.BatchLogger;
 import org.jberet.repository.InMemoryRepository;
 import org.jberet.repository.InfinispanRepository;
 import org.jberet.repository.JdbcRepository;
@@ -43,10 +44,11 @@ class JobRepositoryFactory {
         }
         JobRepository jobRepository;
         synchronized (INSTANCE) {
-            jobRepository = INSTANCE.jobRepository;
+            final JobRepository previous = jobRepository = INSTANCE.jobRepository;
             if (repositoryType == null || repositoryType.equalsIgnoreCase(BatchSEEnvironment.REPOSITORY_TYPE_IN_MEMORY)) {
                 if (!(jobRepository instanceof InMemoryRepository)) {
-                    jobRepository = INSTANCE.jobRepository = InMemoryRepository.getInstance();
+                    jobRepository = INSTANCE.jobRepository = InMemoryRepository.hasRetentionPolicy(configProperties) ?
+                            InMemoryRepository.create(configProperties) : InMemoryRepository.getInstance();
                 }
             } else if (repositoryType.isEmpty() || repositoryType.equalsIgnoreCase(BatchSEEnvironment.REPOSITORY_TYPE_JDBC)) {
                 if (!(jobRepository instanceof JdbcRepository)) {
@@ -63,7 +65,25 @@ class JobRepositoryFactory {
             } else {
                 throw SEBatchMessages.MESSAGES.unrecognizedJobRepositoryType(repositoryType);
             }
+            if (previous != jobRepository) {
+                close(previous);
+            }
         }
         return jobRepository;
     }
+
+    /**
+     * Closes a job repository that is no longer used, releasing resources such as pooled connections.
+     *
+     * @param jobRepository the job repository to close, may be null
+     */
+    private static void close(final JobRepository jobRepository) {
+        if (jobRepository instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) jobRepository).close();
+            } catch (final Exception e) {
+                BatchLogger.LOGGER.failToClose(e, JobRepository.class, jobRepository);
+            }
+        }
+    }
 }
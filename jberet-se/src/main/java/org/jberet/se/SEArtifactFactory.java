@@ -36,13 +36,13 @@ public final class SEArtifactFactory extends AbstractArtifactFactory {
 
     @Override
     public Class<?> getArtifactClass(final String ref, final ClassLoader classLoader) {
-        final Bean<?> bean = findBean(ref, beanManager, classLoader);
+        final Bean<?> bean = findCachedBean(ref, beanManager, classLoader);
         return bean == null ? null : bean.getBeanClass();
     }
 
     @Override
     public Object create(final String ref, final Class<?> cls, final ClassLoader classLoader) throws Exception {
-        final Bean<?> bean = findBean(ref, beanManager, classLoader);
+        final Bean<?> bean = findCachedBean(ref, beanManager, classLoader);
         return bean == null ? null : beanManager.getReference(bean, bean.getBeanClass(), beanManager.createCreationalContext(bean));
     }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se;
+
+import java.lang.reflect.Method;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jberet.se._private.SEBatchLogger;
+import org.jberet.spi.JobExecutor;
+
+/**
+ * An executor that runs each task on a new thread, typically a virtual thread, optionally limiting the number of
+ * tasks running at the same time. Tasks submitted while the limit is reached are queued, and run in submission order
+ * as running tasks complete.
+ *
+ * @since 3.2.0
+ */
+final class VirtualThreadExecutor implements Executor {
+    private static final String namePrefix = "jberet-virtual-";
+
+    private final ThreadFactory threadFactory;
+
+    /**
+     * Maximum number of tasks running at the same time, or {@link JobExecutor#UNBOUNDED} if not limited.
+     */
+    private final int maxConcurrency;
+
+    private final Deque<Runnable> queuedTasks = new ConcurrentLinkedDeque<Runnable>();
+
+    private final AtomicInteger running = new AtomicInteger();
+
+    /**
+     * Creates a new executor.
+     *
+     * @param threadFactory  the thread factory to create a thread for each task
+     * @param maxConcurrency maximum number of tasks running at the same time, or {@link JobExecutor#UNBOUNDED}
+     */
+    VirtualThreadExecutor(final ThreadFactory threadFactory, final int maxConcurrency) {
+        this.threadFactory = threadFactory;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the maximum number of tasks running at the same time.
+     *
+     * @return the maximum number of tasks running at the same time, or {@link JobExecutor#UNBOUNDED} if not limited
+     */
+    int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * If a thread cannot be created or started, the exception is thrown and {@code task} is not run, so that the
+     * caller can release any resources acquired for it. Other queued tasks remain queued.
+     */
+    @Override
+    public void execute(final Runnable task) {
+        if (maxConcurrency == JobExecutor.UNBOUNDED) {
+            threadFactory.newThread(task).start();
+            return;
+        }
+        queuedTasks.add(task);
+        try {
+            startNext();
+        } catch (final RuntimeException | Error e) {
+            queuedTasks.removeLastOccurrence(task);
+            throw e;
+        }
+    }
+
+    /**
+     * Starts queued tasks while the number of running tasks is below {@link #maxConcurrency}. If a thread cannot be
+     * created or started, the task is put back at the head of the queue and the exception is thrown.
+     */
+    private void startNext() {
+        for (;;) {
+            final int n = running.get();
+            if (n >= maxConcurrency || queuedTasks.isEmpty()) {
+                return;
+            }
+            if (running.compareAndSet(n, n + 1)) {
+                final Runnable task = queuedTasks.poll();
+                if (task == null) {
+                    running.decrementAndGet();
+                    continue;
+                }
+                try {
+                    threadFactory.newThread(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                task.run();
+                            } finally {
+                                running.decrementAndGet();
+                                try {
+                                    startNext();
+                                } catch (final RuntimeException | Error e) {
+                                    SEBatchLogger.LOGGER.failToStartQueuedTask(e);
+                                }
+                            }
+                        }
+                    }).start();
+                } catch (final RuntimeException | Error e) {
+                    queuedTasks.offerFirst(task);
+                    running.decrementAndGet();
+                    throw e;
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Creates a thread factory for virtual threads.
+     *
+     * @return a thread factory for virtual threads
+     * @throws ReflectiveOperationException if virtual threads are not supported by the current Java runtime
+     */
+    static ThreadFactory newVirtualThreadFactory() throws ReflectiveOperationException {
+        //virtual threads are available since Java 21, and this module is compiled for Java 17
+        final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        final Method name = builderClass.getMethod("name", String.class, long.class);
+        final Method factory = builderClass.getMethod("factory");
+        return (ThreadFactory) factory.invoke(name.invoke(builder, namePrefix, 1L));
+    }
+}
@@ -11,6 +11,7 @@
 package org.jberet.se._private;
 
 import org.jboss.logging.Logger;
+import org.jboss.logging.annotations.Cause;
 import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.MessageLogger;
@@ -34,4 +35,8 @@ public interface SEBatchLogger {
     @LogMessage(level = Logger.Level.ERROR)
     void usage(String[] args);
 
+    @Message(id = 50502, value = "Failed to start a thread for the next queued task, which remains queued until another task is submitted or completes.")
+    @LogMessage(level = Logger.Level.WARN)
+    void failToStartQueuedTask(@Cause Throwable cause);
+
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.se;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jberet.spi.JobExecutor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadExecutorTest {
+    private static final ThreadFactory threadFactory = new BatchThreadFactory();
+
+    @Test
+    public void concurrencyIsLimited() throws Exception {
+        final int maxConcurrency = 3;
+        final int taskCount = 20;
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(threadFactory, maxConcurrency);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch done = new CountDownLatch(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    final int n = running.incrementAndGet();
+                    maxRunning.accumulateAndGet(n, Math::max);
+                    try {
+                        Thread.sleep(5);
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(maxRunning.get() <= maxConcurrency, "Max running tasks: " + maxRunning.get());
+    }
+
+    @Test
+    public void unboundedExecutorRunsAllTasksAtOnce() throws Exception {
+        final int taskCount = 10;
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(threadFactory, JobExecutor.UNBOUNDED);
+        final CountDownLatch started = new CountDownLatch(taskCount);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        for (int i = 0; i < taskCount; i++) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+        Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    public void taskRejectedWhenThreadFailsToStart() throws Exception {
+        final FailingThreadFactory failingThreadFactory = new FailingThreadFactory();
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(failingThreadFactory, 1);
+        final List<String> ran = new CopyOnWriteArrayList<String>();
+
+        failingThreadFactory.fail = true;
+        Assertions.assertThrows(IllegalStateException.class, () -> executor.execute(() -> ran.add("rejected")));
+
+        //the rejected task is not queued, or it would run before the next one
+        failingThreadFactory.fail = false;
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            ran.add("next");
+            done.countDown();
+        });
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        failingThreadFactory.joinAll();
+        Assertions.assertEquals(List.of("next"), ran);
+    }
+
+    @Test
+    public void queuedTaskKeptWhenThreadFailsToStart() throws Exception {
+        final FailingThreadFactory failingThreadFactory = new FailingThreadFactory();
+        final VirtualThreadExecutor executor = new VirtualThreadExecutor(failingThreadFactory, 1);
+        final List<String> ran = new CopyOnWriteArrayList<String>();
+        final CountDownLatch release = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            ran.add("running");
+        });
+        executor.execute(() -> ran.add("queued"));
+
+        //the completing task fails to start a thread for the queued task, without throwing from its thread
+        failingThreadFactory.fail = true;
+        release.countDown();
+        failingThreadFactory.joinAll();
+        Assertions.assertEquals(List.of("running"), ran);
+        Assertions.assertEquals(List.of(), failingThreadFactory.uncaught);
+
+        //the queued task still runs, before any task submitted later
+        failingThreadFactory.fail = false;
+        final CountDownLatch done = new CountDownLatch(1);
+        executor.execute(() -> {
+            ran.add("next");
+            done.countDown();
+        });
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+        failingThreadFactory.joinAll();
+        Assertions.assertEquals(List.of("running", "queued", "next"), ran);
+    }
+
+    private static final class FailingThreadFactory implements ThreadFactory {
+        private final List<Thread> threads = new CopyOnWriteArrayList<Thread>();
+        private final List<Throwable> uncaught = new CopyOnWriteArrayList<Throwable>();
+        private volatile boolean fail;
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            if (fail) {
+                throw new IllegalStateException("Failed to create thread");
+            }
+            final Thread thread = new Thread(r);
+            thread.setUncaughtExceptionHandler((t, e) -> uncaught.add(e));
+            threads.add(thread);
+            return thread;
+        }
+
+        private void joinAll() throws InterruptedException {
+            for (final Thread thread : threads) {
+                thread.join(10000);
+                Assertions.assertFalse(thread.isAlive());
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.testapps.chunkskipretry;
+
+import jakarta.batch.api.listener.AbstractStepListener;
+import jakarta.batch.runtime.context.StepContext;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Step listener setting the step exit status to the number of items counted by {@link StepItemCounter}.
+ */
+@Named
+public class StepItemCountListener extends AbstractStepListener {
+    @Inject
+    private StepContext stepContext;
+
+    @Inject
+    private StepItemCounter stepItemCounter;
+
+    @Override
+    public void afterStep() throws Exception {
+        stepContext.setExitStatus(String.valueOf(stepItemCounter.getCount()));
+    }
+}
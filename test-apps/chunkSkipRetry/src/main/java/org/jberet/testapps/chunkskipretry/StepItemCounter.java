@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.testapps.chunkskipretry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jberet.cdi.StepScoped;
+
+/**
+ * Step-scoped bean counting items processed in a step, which may be called from threads other than the step thread.
+ */
+@StepScoped
+public class StepItemCounter {
+    private final AtomicInteger count = new AtomicInteger();
+
+    public void increment() {
+        count.incrementAndGet();
+    }
+
+    public int getCount() {
+        return count.get();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.testapps.chunkskipretry;
+
+import jakarta.batch.api.chunk.ItemProcessor;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+
+/**
+ * Item processor calling a step-scoped bean for each item, which requires the step context on the processing thread.
+ */
+@Named
+public class StepScopedItemProcessor implements ItemProcessor {
+    @Inject
+    private StepItemCounter stepItemCounter;
+
+    @Override
+    public Object processItem(final Object item) throws Exception {
+        stepItemCounter.increment();
+        return item;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.testapps.chunkskipretry;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.Metric;
+
+import org.jberet.testapps.common.AbstractIT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests to verify concurrent item processing within a chunk, enabled with step property
+ * {@code jberet.chunk.processor.threads}. Outputs should be written in read order, and processing failures should
+ * be skipped the same way as in regular chunk processing.
+ */
+public class ChunkParallelProcessingIT extends AbstractIT {
+    protected int dataCount = 30;
+    protected static final String chunkParallelProcessingXml = "chunkParallelProcessing.xml";
+    protected static final String chunkStepScopedXml = "chunkStepScoped.xml";
+
+    @BeforeEach
+    public void before() throws Exception {
+        super.before();
+        params.setProperty("data.count", String.valueOf(dataCount));
+    }
+
+    @AfterEach
+    public void after() {
+        params.clear();
+    }
+
+    @Test
+    public void parallelProcessing() throws Exception {
+        final ArrayList<List<Integer>> expected = new ArrayList<List<Integer>>();
+        expected.add(asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        expected.add(asList(10, 11, 12, 13, 14, 15, 16, 17, 18, 19));
+        expected.add(asList(20, 21, 22, 23, 24, 25, 26, 27, 28, 29));
+
+        runTest(chunkParallelProcessingXml, expected);
+        verifyMetric(Metric.MetricType.READ_COUNT, 30);
+        verifyMetric(Metric.MetricType.WRITE_COUNT, 30);
+        verifyMetric(Metric.MetricType.FILTER_COUNT, 0);
+        verifyMetric(Metric.MetricType.COMMIT_COUNT, 4);
+        verifyMetric(Metric.MetricType.ROLLBACK_COUNT, 0);
+    }
+
+    @Test
+    public void parallelProcessingSkipProcess5() throws Exception {
+        params.setProperty("processor.fail.on.values", "5");
+        final ArrayList<List<Integer>> expected = new ArrayList<List<Integer>>();
+
+        expected.add(asList(0, 1, 2, 3, 4, 6, 7, 8, 9));  //skip 5
+        expected.add(asList(10, 11, 12, 13, 14, 15, 16, 17, 18, 19));
+        expected.add(asList(20, 21, 22, 23, 24, 25, 26, 27, 28, 29));
+
+        runTest(chunkParallelProcessingXml, expected);
+        verifyMetric(Metric.MetricType.READ_COUNT, 30);
+        verifyMetric(Metric.MetricType.WRITE_COUNT, 29);
+        verifyMetric(Metric.MetricType.PROCESS_SKIP_COUNT, 1);
+        verifyMetric(Metric.MetricType.COMMIT_COUNT, 4);
+        verifyMetric(Metric.MetricType.ROLLBACK_COUNT, 0);
+    }
+
+    @Test
+    public void parallelProcessingSkipProcess5With2Threads() throws Exception {
+        params.setProperty("processor.fail.on.values", "5");
+        params.setProperty("processor.threads", "2");
+        final ArrayList<List<Integer>> expected = new ArrayList<List<Integer>>();
+
+        expected.add(asList(0, 1, 2, 3, 4, 6, 7, 8, 9));  //skip 5
+        expected.add(asList(10, 11, 12, 13, 14, 15, 16, 17, 18, 19));
+        expected.add(asList(20, 21, 22, 23, 24, 25, 26, 27, 28, 29));
+
+        runTest(chunkParallelProcessingXml, expected);
+        verifyMetric(Metric.MetricType.PROCESS_SKIP_COUNT, 1);
+        verifyMetric(Metric.MetricType.COMMIT_COUNT, 4);
+    }
+
+    @Test
+    public void parallelProcessingStepScoped() throws Exception {
+        //the processor calls a step-scoped bean from helper threads
+        params.setProperty("processor.threads", "4");
+        startJob(chunkStepScopedXml);
+        awaitTermination();
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        assertEquals(String.valueOf(dataCount), stepExecution0.getExitStatus());
+        verifyMetric(Metric.MetricType.WRITE_COUNT, dataCount);
+    }
+
+    private void runTest(final String jobXml, final ArrayList<List<Integer>> expected) throws Exception {
+        startJob(jobXml);
+        awaitTermination();
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        assertEquals(expected, stepExecution0.getPersistentUserData());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Red Hat, Inc. and/or its affiliates.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+
+package org.jberet.testapps.chunkskipretry;
+
+import java.util.ArrayList;
+import java.util.List;
+import jakarta.batch.runtime.BatchStatus;
+import jakarta.batch.runtime.Metric;
+
+import org.jberet.testapps.common.AbstractIT;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests to verify pipelined chunk processing, enabled with step property {@code jberet.chunk.pipelined}.
+ * <p>
+ * When a failure happens in pipelined mode, the step falls back to regular chunk processing from the last
+ * checkpoint, so tests with failures use {@code repeat.failure} to make the same item fail again after the fallback.
+ */
+public class ChunkPipelinedIT extends AbstractIT {
+    protected int dataCount = 30;
+    protected static final String chunkPipelinedXml = "chunkPipelined.xml";
+
+    @BeforeEach
+    public void before() throws Exception {
+        super.before();
+        params.setProperty("data.count", String.valueOf(dataCount));
+    }
+
+    @AfterEach
+    public void after() {
+        params.clear();
+    }
+
+    @Test
+    public void pipelined() throws Exception {
+        runTest(chunkPipelinedXml, noFailureExpected());
+        verifyMetric(Metric.MetricType.READ_COUNT, 30);
+        verifyMetric(Metric.MetricType.WRITE_COUNT, 30);
+        verifyMetric(Metric.MetricType.COMMIT_COUNT, 4);
+        verifyMetric(Metric.MetricType.ROLLBACK_COUNT, 0);
+    }
+
+    @Test
+    public void pipelinedDepth3() throws Exception {
+        params.setProperty("pipeline.depth", "3");
+        params.setProperty("writer.sleep.time", "100");
+        runTest(chunkPipelinedXml, noFailureExpected());
+        verifyMetric(Metric.MetricType.READ_COUNT, 30);
+        verifyMetric(Metric.MetricType.WRITE_COUNT, 30);
+        verifyMetric(Metric.MetricType.COMMIT_COUNT, 4);
+        verifyMetric(Metric.MetricType.ROLLBACK_COUNT, 0);
+    }
+
+    @Test
+    public void pipelinedSkipRead5() throws Exception {
+        params.setProperty("reader.fail.on.values", "5");
+        params.setProperty("repeat.failure", "true");
+        final ArrayList<List<Integer>> expected = new ArrayList<List<Integer>>();
+
+        expected.add(asList(0, 1, 2, 3, 4, 6, 7, 8, 9, 10));  //skip 5
+        expected.add(asList(11, 12, 13, 14, 15, 16, 17, 18, 19, 20));
+        expected.add(asList(21, 22, 23, 24, 25, 26, 27, 28, 29));
+
+        runTest(chunkPipelinedXml, expected);
+        verifyMetric(Metric.MetricType.READ_COUNT, 29);
+        verifyMetric(Metric.MetricType.COMMIT_COUNT, 3);
+        verifyMetric(Metric.MetricType.READ_SKIP_COUNT, 1);
+        verifyMetric(Metric.MetricType.PROCESS_SKIP_COUNT, 0);
+        verifyMetric(Metric.MetricType.WRITE_SKIP_COUNT, 0);
+        verifyMetric(Metric.MetricType.ROLLBACK_COUNT, 0);
+    }
+
+    @Test
+    public void pipelinedSkipWrite15() throws Exception {
+        params.setProperty("writer.fail.on.values", "15");
+        params.setProperty("repeat.failure", "true");
+        final ArrayList<List<Integer>> expected = new ArrayList<List<Integer>>();
+
+        expected.add(asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        //skip the chunk containing 15
+        expected.add(asList(20, 21, 22, 23, 24, 25, 26, 27, 28, 29));
+
+        runTest(chunkPipelinedXml, expected);
+        //items of the rolled back pipelined chunk are counted only once, when re-read after the fallback
+        verifyMetric(Metric.MetricType.READ_COUNT, 30);
+        verifyMetric(Metric.MetricType.FILTER_COUNT, 0);
+        verifyMetric(Metric.MetricType.WRITE_COUNT, 20);
+        verifyMetric(Metric.MetricType.COMMIT_COUNT, 3);
+        verifyMetric(Metric.MetricType.READ_SKIP_COUNT, 0);
+        verifyMetric(Metric.MetricType.PROCESS_SKIP_COUNT, 0);
+        verifyMetric(Metric.MetricType.WRITE_SKIP_COUNT, 1);
+
+        //the failed pipelined write of the 2nd chunk was rolled back before falling back to regular mode
+        verifyMetric(Metric.MetricType.ROLLBACK_COUNT, 1);
+    }
+
+    @Test
+    public void pipelinedStepScoped() throws Exception {
+        //the processor calls a step-scoped bean from the read-ahead thread
+        params.setProperty("pipelined", "true");
+        startJob(ChunkParallelProcessingIT.chunkStepScopedXml);
+        awaitTermination();
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        assertEquals(String.valueOf(dataCount), stepExecution0.getExitStatus());
+        assertEquals(noFailureExpected(), stepExecution0.getPersistentUserData());
+        verifyMetric(Metric.MetricType.WRITE_COUNT, dataCount);
+    }
+
+    private static ArrayList<List<Integer>> noFailureExpected() {
+        final ArrayList<List<Integer>> expected = new ArrayList<List<Integer>>();
+        expected.add(asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+        expected.add(asList(10, 11, 12, 13, 14, 15, 16, 17, 18, 19));
+        expected.add(asList(20, 21, 22, 23, 24, 25, 26, 27, 28, 29));
+        return expected;
+    }
+
+    private void runTest(final String jobXml, final ArrayList<List<Integer>> expected) throws Exception {
+        startJob(jobXml);
+        awaitTermination();
+        assertEquals(BatchStatus.COMPLETED, jobExecution.getBatchStatus());
+        assertEquals(expected, stepExecution0.getPersistentUserData());
+    }
+}